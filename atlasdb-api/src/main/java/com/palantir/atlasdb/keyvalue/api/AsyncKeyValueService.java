@@ -16,9 +16,12 @@
 
 package com.palantir.atlasdb.keyvalue.api;
 
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.palantir.atlasdb.metrics.Timed;
 import com.palantir.common.annotation.Idempotent;
+import com.palantir.util.paging.TokenBackedBasicResultsPage;
 import java.util.Map;
 
 public interface AsyncKeyValueService extends AutoCloseable {
@@ -36,6 +39,81 @@ public interface AsyncKeyValueService extends AutoCloseable {
     @Timed
     ListenableFuture<Map<Cell, Value>> getAsync(TableReference tableRef, Map<Cell, Long> timestampByCell);
 
+    /**
+     * Asynchronous counterpart of {@link KeyValueService#getRows}. By default, explicitly selected columns are read
+     * with {@link #getAsync}, and requests for all columns fail with {@link UnsupportedOperationException}.
+     *
+     * @param tableRef the name of the table to retrieve values from.
+     * @param rows set containing the rows to retrieve values for.
+     * @param columnSelection specifies the set of columns to fetch.
+     * @param timestamp specifies the maximum timestamp (exclusive) at which to retrieve each rows's value.
+     * @return listenable future containing map of retrieved values.
+     */
+    @Idempotent
+    @Timed
+    default ListenableFuture<Map<Cell, Value>> getRowsAsync(
+            TableReference tableRef, Iterable<byte[]> rows, ColumnSelection columnSelection, long timestamp) {
+        if (columnSelection.allColumnsSelected()) {
+            return unsupported("getRowsAsync for all columns");
+        }
+        return getAsync(tableRef, Maps.asMap(columnSelection.asCellsForRows(rows), _cell -> timestamp));
+    }
+
+    /**
+     * Asynchronous counterpart of the first batch of
+     * {@link KeyValueService#getRowsColumnRange(TableReference, Iterable, BatchColumnRangeSelection, long)}: for each
+     * row, the values of up to batch hint columns from the start of the column range. A row with fewer values than
+     * the batch hint has no more values in the range; otherwise, the next batch starts after its last column returned.
+     * By default, the returned future fails with {@link UnsupportedOperationException}.
+     *
+     * @param tableRef the name of the table to retrieve values from.
+     * @param rows set containing the rows to retrieve values for.
+     * @param batchColumnRangeSelection specifies the column range and the per-row batch size to fetch.
+     * @param timestamp specifies the maximum timestamp (exclusive) at which to retrieve each rows's value.
+     * @return listenable future containing map of retrieved values.
+     */
+    @Idempotent
+    @Timed
+    default ListenableFuture<Map<Cell, Value>> getFirstBatchForRowsColumnRangeAsync(
+            TableReference tableRef,
+            Iterable<byte[]> rows,
+            BatchColumnRangeSelection batchColumnRangeSelection,
+            long timestamp) {
+        return unsupported("getFirstBatchForRowsColumnRangeAsync");
+    }
+
+    /**
+     * Asynchronous counterpart of {@link KeyValueService#getFirstBatchForRanges} for a single range. Implementations
+     * may reject reverse ranges. By default, the returned future fails with {@link UnsupportedOperationException}.
+     *
+     * @param tableRef the name of the table to retrieve values from.
+     * @param rangeRequest the range to load; its batch hint dictates the size of the page.
+     * @param timestamp specifies the maximum timestamp (exclusive) at which to retrieve each row's value.
+     * @return listenable future containing the first page of results for the range.
+     */
+    @Idempotent
+    @Timed
+    default ListenableFuture<TokenBackedBasicResultsPage<RowResult<Value>, byte[]>> getFirstBatchForRangeAsync(
+            TableReference tableRef, RangeRequest rangeRequest, long timestamp) {
+        return unsupported("getFirstBatchForRangeAsync");
+    }
+
+    /**
+     * Asynchronous counterpart of {@link KeyValueService#multiPut}. As there, writes are not atomic across cells, and
+     * some may have been made even if the returned future fails. By default, the returned future fails with
+     * {@link UnsupportedOperationException}.
+     *
+     * @param valuesByTable map containing the key-value entries to put by table.
+     * @param timestamp must be non-negative and not equal to {@link Long#MAX_VALUE}
+     * @return listenable future that completes once all values have been written.
+     */
+    @Idempotent
+    @Timed
+    default ListenableFuture<Void> multiPutAsync(
+            Map<TableReference, ? extends Map<Cell, byte[]>> valuesByTable, long timestamp) {
+        return unsupported("multiPutAsync");
+    }
+
     @Override
     void close();
 
@@ -54,4 +132,9 @@ public interface AsyncKeyValueService extends AutoCloseable {
     default boolean isValid() {
         return true;
     }
+
+    private static <T> ListenableFuture<T> unsupported(String operation) {
+        return Futures.immediateFailedFuture(
+                new UnsupportedOperationException(operation + " is not supported by this key-value service"));
+    }
 }
@@ -15,7 +15,11 @@
  */
 package com.palantir.atlasdb.keyvalue.api;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterators;
 import com.google.common.collect.Multimap;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.google.errorprone.annotations.MustBeClosed;
 import com.palantir.atlasdb.metrics.Timed;
 import com.palantir.atlasdb.transaction.api.TransactionManager;
@@ -28,6 +32,7 @@ import com.palantir.processors.DoDelegate;
 import com.palantir.util.paging.BasicResultsPage;
 import com.palantir.util.paging.TokenBackedBasicResultsPage;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -712,6 +717,59 @@ public interface KeyValueService extends AutoCloseable, AsyncKeyValueService {
         return true;
     }
 
+    /**
+     * Wraps {@link #getRows} in an immediate future, for key-value services that cannot read rows asynchronously.
+     */
+    @DoDelegate
+    @Override
+    default ListenableFuture<Map<Cell, Value>> getRowsAsync(
+            TableReference tableRef, Iterable<byte[]> rows, ColumnSelection columnSelection, long timestamp) {
+        return Futures.immediateFuture(getRows(tableRef, rows, columnSelection, timestamp));
+    }
+
+    /**
+     * Wraps the first batch of each row's
+     * {@link #getRowsColumnRange(TableReference, Iterable, BatchColumnRangeSelection, long)} iterator in an immediate
+     * future, for key-value services that cannot read column ranges asynchronously.
+     */
+    @DoDelegate
+    @Override
+    default ListenableFuture<Map<Cell, Value>> getFirstBatchForRowsColumnRangeAsync(
+            TableReference tableRef,
+            Iterable<byte[]> rows,
+            BatchColumnRangeSelection batchColumnRangeSelection,
+            long timestamp) {
+        Map<Cell, Value> result = new HashMap<>();
+        getRowsColumnRange(tableRef, rows, batchColumnRangeSelection, timestamp)
+                .values()
+                .forEach(columns -> Iterators.limit(columns, batchColumnRangeSelection.getBatchHint())
+                        .forEachRemaining(entry -> result.put(entry.getKey(), entry.getValue())));
+        return Futures.immediateFuture(result);
+    }
+
+    /**
+     * Wraps {@link #getFirstBatchForRanges} in an immediate future, for key-value services that cannot read ranges
+     * asynchronously.
+     */
+    @DoDelegate
+    @Override
+    default ListenableFuture<TokenBackedBasicResultsPage<RowResult<Value>, byte[]>> getFirstBatchForRangeAsync(
+            TableReference tableRef, RangeRequest rangeRequest, long timestamp) {
+        return Futures.immediateFuture(getFirstBatchForRanges(tableRef, ImmutableList.of(rangeRequest), timestamp)
+                .get(rangeRequest));
+    }
+
+    /**
+     * Wraps {@link #multiPut} in an immediate future, for key-value services that cannot write asynchronously.
+     */
+    @DoDelegate
+    @Override
+    default ListenableFuture<Void> multiPutAsync(
+            Map<TableReference, ? extends Map<Cell, byte[]>> valuesByTable, long timestamp) {
+        multiPut(valuesByTable, timestamp);
+        return Futures.immediateVoidFuture();
+    }
+
     @DoDelegate
     default boolean sweepsEntriesInStrictlyNonDecreasingFashion() {
         // This is in general True, but we're setting to false to start rollout only for C* of stopping to check for
@@ -0,0 +1,148 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.autobatch;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import com.lmax.disruptor.EventHandler;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Decides where batches end, instead of ending a batch whenever the ring buffer is drained.
+ *
+ * Two adjustments are made, both driven by exponentially weighted averages of how long batches take to process and
+ * of the time between arriving requests:
+ * <ul>
+ *     <li>Batch size is capped, and the cap follows additive-increase/multiplicative-decrease: a batch that takes
+ *     longer than the target latency halves the cap, and a batch that fills the cap within the target latency
+ *     raises it by one. This stops batches from growing without bound under load.</li>
+ *     <li>When the ring buffer is drained but requests have recently been arriving faster than batches are processed,
+ *     the batch is held back for a short while (at most a quarter of the recent batch latency, and at most the
+ *     configured maximum linger) in case more requests arrive. At low load requests arrive too rarely for this to
+ *     help, so every request is processed as soon as it arrives.</li>
+ * </ul>
+ *
+ * This handler must wrap the handler that records batch sizes, so that the recorded sizes are those of the batches
+ * that are actually processed.
+ */
+@NotThreadSafe // Disruptor runs the batching function on just one thread.
+final class AdaptiveBatchingEventHandler<T, R> implements EventHandler<BatchElement<T, R>> {
+    private static final double SMOOTHING_FACTOR = 0.2;
+    private static final int LINGER_FRACTION_OF_BATCH_LATENCY = 4;
+    private static final long LINGER_POLL_INTERVAL_NANOS = TimeUnit.MICROSECONDS.toNanos(20);
+
+    private final EventHandler<BatchElement<T, R>> delegate;
+    private final LongSupplier ringBufferCursor;
+    private final Ticker ticker;
+    private final int minBatchSize;
+    private final int maxBatchSize;
+    private final long targetBatchLatencyNanos;
+    private final long maxLingerNanos;
+
+    private int batchSizeLimit;
+    private int pendingCount = 0;
+    private double batchLatencyNanos = Double.NaN;
+    private double interArrivalNanos = Double.NaN;
+    private long lastFlushNanos;
+
+    AdaptiveBatchingEventHandler(
+            EventHandler<BatchElement<T, R>> delegate,
+            AdaptiveBatchingParameters parameters,
+            int bufferSize,
+            LongSupplier ringBufferCursor,
+            Ticker ticker) {
+        this.delegate = delegate;
+        this.ringBufferCursor = ringBufferCursor;
+        this.ticker = ticker;
+        this.maxBatchSize = parameters.maxBatchSize().orElse(bufferSize);
+        this.minBatchSize = Math.min(parameters.minBatchSize(), maxBatchSize);
+        this.targetBatchLatencyNanos = parameters.targetBatchLatency().toNanos();
+        this.maxLingerNanos = parameters.maxLinger().toNanos();
+        this.batchSizeLimit = maxBatchSize;
+        this.lastFlushNanos = ticker.read();
+    }
+
+    @Override
+    public void onEvent(BatchElement<T, R> event, long sequence, boolean endOfBatch) throws Exception {
+        pendingCount++;
+        boolean flush = pendingCount >= batchSizeLimit || (endOfBatch && !lingerForMoreEvents(sequence));
+        if (!flush) {
+            delegate.onEvent(event, sequence, false);
+            return;
+        }
+
+        long startNanos = ticker.read();
+        try {
+            delegate.onEvent(event, sequence, true);
+        } finally {
+            recordFlush(startNanos, ticker.read());
+        }
+    }
+
+    @VisibleForTesting
+    int batchSizeLimit() {
+        return batchSizeLimit;
+    }
+
+    @VisibleForTesting
+    long lingerNanos() {
+        long lingerNanos =
+                Math.min(maxLingerNanos, (long) (batchLatencyNanos / LINGER_FRACTION_OF_BATCH_LATENCY));
+        // both averages are NaN until the first batch has been processed, and we then do not linger
+        return interArrivalNanos < lingerNanos ? lingerNanos : 0;
+    }
+
+    /**
+     * Waits for up to {@link #lingerNanos()} for an event after {@code sequence} to be added to the ring buffer, and
+     * returns whether one was.
+     */
+    private boolean lingerForMoreEvents(long sequence) {
+        long lingerNanos = lingerNanos();
+        if (lingerNanos <= 0) {
+            return false;
+        }
+        long deadline = ticker.read() + lingerNanos;
+        while (ringBufferCursor.getAsLong() <= sequence) {
+            if (ticker.read() - deadline >= 0) {
+                return false;
+            }
+            LockSupport.parkNanos(LINGER_POLL_INTERVAL_NANOS);
+        }
+        return true;
+    }
+
+    private void recordFlush(long startNanos, long endNanos) {
+        long latencyNanos = endNanos - startNanos;
+        batchLatencyNanos = smooth(batchLatencyNanos, latencyNanos);
+        interArrivalNanos = smooth(interArrivalNanos, (endNanos - lastFlushNanos) / (double) pendingCount);
+        lastFlushNanos = endNanos;
+
+        if (latencyNanos > targetBatchLatencyNanos) {
+            batchSizeLimit = Math.max(minBatchSize, batchSizeLimit / 2);
+        } else if (pendingCount >= batchSizeLimit) {
+            batchSizeLimit = Math.min(maxBatchSize, batchSizeLimit + 1);
+        }
+        pendingCount = 0;
+    }
+
+    private static double smooth(double average, double sample) {
+        return Double.isNaN(average) ? sample : average + SMOOTHING_FACTOR * (sample - average);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.autobatch;
+
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import java.time.Duration;
+import java.util.OptionalInt;
+import org.immutables.value.Value;
+
+/**
+ * Bounds for adaptive batching; see {@link AdaptiveBatchingEventHandler}.
+ */
+@Value.Immutable
+public interface AdaptiveBatchingParameters {
+    /**
+     * The longest a partial batch may be held back in the hope that more requests arrive. The autobatcher only holds
+     * batches back when requests are arriving faster than this.
+     */
+    @Value.Default
+    default Duration maxLinger() {
+        return Duration.ofMillis(1);
+    }
+
+    /**
+     * Batches that take longer than this to process halve the batch size limit.
+     */
+    @Value.Default
+    default Duration targetBatchLatency() {
+        return Duration.ofMillis(50);
+    }
+
+    @Value.Default
+    default int minBatchSize() {
+        return 1;
+    }
+
+    /**
+     * Defaults to the autobatcher's buffer size.
+     */
+    OptionalInt maxBatchSize();
+
+    @Value.Check
+    default void check() {
+        Preconditions.checkArgument(
+                !maxLinger().isNegative(), "Maximum linger must not be negative", SafeArg.of("maxLinger", maxLinger()));
+        Preconditions.checkArgument(
+                !targetBatchLatency().isNegative() && !targetBatchLatency().isZero(),
+                "Target batch latency must be positive",
+                SafeArg.of("targetBatchLatency", targetBatchLatency()));
+        Preconditions.checkArgument(
+                minBatchSize() > 0, "Minimum batch size must be positive", SafeArg.of("minBatchSize", minBatchSize()));
+        maxBatchSize()
+                .ifPresent(maxBatchSize -> Preconditions.checkArgument(
+                        maxBatchSize >= minBatchSize(),
+                        "Maximum batch size must be at least the minimum batch size",
+                        SafeArg.of("minBatchSize", minBatchSize()),
+                        SafeArg.of("maxBatchSize", maxBatchSize)));
+    }
+
+    static AdaptiveBatchingParameters defaults() {
+        return ImmutableAdaptiveBatchingParameters.builder().build();
+    }
+}
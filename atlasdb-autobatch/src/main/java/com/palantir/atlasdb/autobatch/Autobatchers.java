@@ -16,6 +16,7 @@
 
 package com.palantir.atlasdb.autobatch;
 
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.util.concurrent.SimpleTimeLimiter;
 import com.google.common.util.concurrent.TimeLimiter;
@@ -35,6 +36,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
@@ -48,6 +50,9 @@ public final class Autobatchers {
 
     private static final int DEFAULT_BUFFER_SIZE = 4096;
 
+    private static final Supplier<Executor> SHARED_HANDLER_EXECUTOR =
+            Suppliers.memoize(() -> PTExecutors.newCachedThreadPoolWithoutSpan("autobatcher.shared"));
+
     /**
      * When invoking an {@link DisruptorAutobatcher autobatcher}, an argument needs to be supplied. In the case of
      * {@link CoalescingRequestSupplier}, this means we need to pass in a placeholder value.
@@ -170,6 +175,8 @@ public final class Autobatchers {
         private Optional<Duration> batchFunctionTimeout = Optional.empty();
         private Optional<TimeoutHandler> timeoutHandler = Optional.empty();
         private Optional<WaitStrategy> waitStrategy = Optional.empty();
+        private Optional<AdaptiveBatchingParameters> adaptiveBatching = Optional.empty();
+        private Optional<Executor> handlerExecutor = Optional.empty();
 
         @Nullable
         private String purpose;
@@ -203,6 +210,49 @@ public final class Autobatchers {
             return this;
         }
 
+        /**
+         * Sizes batches, and holds back partial batches under load, based on observed batch latency and request
+         * arrival rate rather than ending every batch when the buffer is drained. Off by default: batches are then
+         * ended whenever the buffer drains, as before.
+         *
+         * This is best suited to batch functions whose latency tracks batch size. A slowdown that is unrelated to batch
+         * size (e.g. a leader election behind the batch function) will shrink batches while it lasts, and each held
+         * back batch may wait up to {@link AdaptiveBatchingParameters#maxLinger()} for further requests.
+         */
+        public AutobatcherBuilder<I, O> adaptiveBatching(AdaptiveBatchingParameters parameters) {
+            this.adaptiveBatching = Optional.of(parameters);
+            return this;
+        }
+
+        public AutobatcherBuilder<I, O> adaptiveBatching() {
+            return adaptiveBatching(AdaptiveBatchingParameters.defaults());
+        }
+
+        /**
+         * Runs the batching handler on the given executor rather than on a thread dedicated to this autobatcher, so
+         * that an idle autobatcher holds no thread. Many autobatchers may share one executor, which could for
+         * example start a virtual thread per task. Each autobatcher runs at most one batch at a time, and processes
+         * requests in the order they were submitted.
+         */
+        public AutobatcherBuilder<I, O> handlerExecutor(Executor executor) {
+            this.handlerExecutor = Optional.of(executor);
+            return this;
+        }
+
+        /**
+         * Runs the batching handler on a cached thread pool shared by all autobatchers that use this option.
+         *
+         * The pool does not cap its thread count itself. Each autobatcher has at most one batch queued or running on
+         * it at a time, so it uses at most one thread per autobatcher that has requests pending, and no threads for
+         * idle autobatchers. A fixed cap is deliberately avoided: a batch function that blocks on another autobatcher
+         * sharing the pool could otherwise wait forever for a thread.
+         *
+         * @see #handlerExecutor(Executor)
+         */
+        public AutobatcherBuilder<I, O> sharedHandlerExecutor() {
+            return handlerExecutor(SHARED_HANDLER_EXECUTOR.get());
+        }
+
         public AutobatcherBuilder<I, O> batchFunctionTimeout(Duration duration) {
             this.batchFunctionTimeout = Optional.of(duration);
             return this;
@@ -215,6 +265,9 @@ public final class Autobatchers {
 
         public DisruptorAutobatcher<I, O> build() {
             Preconditions.checkArgument(purpose != null, "purpose must be provided");
+            Preconditions.checkArgument(
+                    handlerExecutor.isEmpty() || waitStrategy.isEmpty(),
+                    "wait strategies only apply to autobatchers with a dedicated handler thread");
 
             ImmutableEventHandlerParameters.Builder parametersBuilder = ImmutableEventHandlerParameters.builder();
             bufferSize.ifPresent(parametersBuilder::batchSize);
@@ -239,13 +292,20 @@ public final class Autobatchers {
             EventHandler<BatchElement<I, O>> profiledHandler =
                     new ProfilingEventHandler<>(tracingHandler, purpose, safeTags.buildOrThrow());
 
+            Runnable closingCallback = () -> timeoutOrchestrationContext.ifPresent(
+                    context -> context.exclusiveExecutor().shutdown());
+
+            if (handlerExecutor.isPresent()) {
+                return DisruptorAutobatcher.createOnExecutor(
+                        profiledHandler,
+                        parameters.batchSize(),
+                        purpose,
+                        handlerExecutor.get(),
+                        adaptiveBatching,
+                        closingCallback);
+            }
             return DisruptorAutobatcher.create(
-                    profiledHandler,
-                    parameters.batchSize(),
-                    purpose,
-                    waitStrategy,
-                    () -> timeoutOrchestrationContext.ifPresent(
-                            context -> context.exclusiveExecutor().shutdown()));
+                    profiledHandler, parameters.batchSize(), purpose, waitStrategy, adaptiveBatching, closingCallback);
         }
     }
 
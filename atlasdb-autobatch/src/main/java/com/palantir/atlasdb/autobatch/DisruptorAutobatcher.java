@@ -40,9 +40,11 @@ import java.io.Closeable;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
 import javax.annotation.Nullable;
 
 /**
@@ -70,20 +72,17 @@ public final class DisruptorAutobatcher<T, R>
         return new NamedThreadFactory("autobatcher." + safeLoggablePurpose, true);
     }
 
-    private final Disruptor<DisruptorBatchElement<T, R>> disruptor;
-    private final RingBuffer<DisruptorBatchElement<T, R>> buffer;
+    private final EventQueue<T, R> eventQueue;
     private final AutobatcherTelemetryComponents telemetryComponents;
     private final Runnable closingCallback;
 
     private volatile boolean closed = false;
 
     DisruptorAutobatcher(
-            Disruptor<DisruptorBatchElement<T, R>> disruptor,
-            RingBuffer<DisruptorBatchElement<T, R>> buffer,
+            EventQueue<T, R> eventQueue,
             AutobatcherTelemetryComponents telemetryComponents,
             Runnable closingCallback) {
-        this.disruptor = disruptor;
-        this.buffer = buffer;
+        this.eventQueue = eventQueue;
         this.telemetryComponents = telemetryComponents;
         this.closingCallback = closingCallback;
     }
@@ -95,10 +94,7 @@ public final class DisruptorAutobatcher<T, R>
         }
 
         DisruptorFuture<R> result = new DisruptorFuture<R>(telemetryComponents);
-        buffer.publishEvent((refresh, sequence) -> {
-            refresh.result = result;
-            refresh.argument = argument;
-        });
+        eventQueue.publish(argument, result);
         return result;
     }
 
@@ -106,16 +102,52 @@ public final class DisruptorAutobatcher<T, R>
     public void close() {
         closed = true;
         try {
-            disruptor.shutdown(10, TimeUnit.SECONDS);
+            eventQueue.shutdown(10, TimeUnit.SECONDS);
         } catch (TimeoutException e) {
             log.warn(
-                    "Disruptor took more than 10 seconds to shutdown. "
+                    "Autobatcher took more than 10 seconds to shutdown. "
                             + "Ensure that handlers aren't uninterruptibly blocking and ensure that they are closed.",
                     e);
         }
         closingCallback.run();
     }
 
+    /**
+     * Holds published requests until the batching handler takes them.
+     */
+    interface EventQueue<T, R> {
+        void publish(T argument, DisruptorFuture<R> result);
+
+        /**
+         * Waits for all published requests to be handled, and stops handling requests.
+         */
+        void shutdown(long timeout, TimeUnit unit) throws TimeoutException;
+    }
+
+    private static final class DisruptorEventQueue<T, R> implements EventQueue<T, R> {
+        private final Disruptor<DisruptorBatchElement<T, R>> disruptor;
+        private final RingBuffer<DisruptorBatchElement<T, R>> buffer;
+
+        private DisruptorEventQueue(
+                Disruptor<DisruptorBatchElement<T, R>> disruptor, RingBuffer<DisruptorBatchElement<T, R>> buffer) {
+            this.disruptor = disruptor;
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void publish(T argument, DisruptorFuture<R> result) {
+            buffer.publishEvent((refresh, sequence) -> {
+                refresh.result = result;
+                refresh.argument = argument;
+            });
+        }
+
+        @Override
+        public void shutdown(long timeout, TimeUnit unit) throws TimeoutException {
+            disruptor.shutdown(timeout, unit);
+        }
+    }
+
     private static final class DisruptorBatchElement<T, R> {
         private T argument;
         private DisruptorFuture<R> result;
@@ -198,6 +230,7 @@ public final class DisruptorAutobatcher<T, R>
             int bufferSize,
             String safeLoggablePurpose,
             Optional<WaitStrategy> waitStrategy,
+            Optional<AdaptiveBatchingParameters> adaptiveBatching,
             Runnable closingCallback) {
         Disruptor<DisruptorBatchElement<T, R>> disruptor = new Disruptor<>(
                 DisruptorBatchElement::new,
@@ -205,13 +238,49 @@ public final class DisruptorAutobatcher<T, R>
                 threadFactory(safeLoggablePurpose),
                 ProducerType.MULTI,
                 waitStrategy.orElseGet(BlockingWaitStrategy::new));
+        RingBuffer<DisruptorBatchElement<T, R>> ringBuffer = disruptor.getRingBuffer();
+        EventHandler<BatchElement<T, R>> batchingHandler =
+                withAdaptiveBatching(eventHandler, adaptiveBatching, bufferSize, ringBuffer::getCursor);
         disruptor.handleEventsWith(
-                (event, sequence, endOfBatch) -> eventHandler.onEvent(event.consume(), sequence, endOfBatch));
+                (event, sequence, endOfBatch) -> batchingHandler.onEvent(event.consume(), sequence, endOfBatch));
         disruptor.start();
         return new DisruptorAutobatcher<>(
-                disruptor,
-                disruptor.getRingBuffer(),
+                new DisruptorEventQueue<>(disruptor, ringBuffer),
                 AutobatcherTelemetryComponents.create(safeLoggablePurpose, SharedTaggedMetricRegistries.getSingleton()),
                 closingCallback);
     }
+
+    /**
+     * Creates an autobatcher whose handler runs on {@code executor}, rather than on a thread of its own.
+     *
+     * @see ExecutorEventQueue
+     */
+    static <T, R> DisruptorAutobatcher<T, R> createOnExecutor(
+            EventHandler<BatchElement<T, R>> eventHandler,
+            int bufferSize,
+            String safeLoggablePurpose,
+            Executor executor,
+            Optional<AdaptiveBatchingParameters> adaptiveBatching,
+            Runnable closingCallback) {
+        ExecutorEventQueue<T, R> eventQueue = new ExecutorEventQueue<>(
+                bufferSize,
+                safeLoggablePurpose,
+                executor,
+                cursor -> withAdaptiveBatching(eventHandler, adaptiveBatching, bufferSize, cursor));
+        return new DisruptorAutobatcher<>(
+                eventQueue,
+                AutobatcherTelemetryComponents.create(safeLoggablePurpose, SharedTaggedMetricRegistries.getSingleton()),
+                closingCallback);
+    }
+
+    private static <T, R> EventHandler<BatchElement<T, R>> withAdaptiveBatching(
+            EventHandler<BatchElement<T, R>> eventHandler,
+            Optional<AdaptiveBatchingParameters> adaptiveBatching,
+            int bufferSize,
+            LongSupplier cursor) {
+        return adaptiveBatching
+                .<EventHandler<BatchElement<T, R>>>map(parameters -> new AdaptiveBatchingEventHandler<>(
+                        eventHandler, parameters, bufferSize, cursor, Ticker.systemTicker()))
+                .orElse(eventHandler);
+    }
 }
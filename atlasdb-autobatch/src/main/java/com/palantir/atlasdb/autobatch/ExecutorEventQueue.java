@@ -0,0 +1,133 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.autobatch;
+
+import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.TimeoutException;
+import com.palantir.atlasdb.autobatch.DisruptorAutobatcher.DisruptorFuture;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.logger.SafeLogger;
+import com.palantir.logsafe.logger.SafeLoggerFactory;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Queues requests for an autobatcher whose handler runs on an executor that may be shared with other autobatchers,
+ * instead of on a thread of its own. An idle autobatcher therefore holds no thread at all.
+ *
+ * Publishing a request schedules a drain task on the executor unless one is already scheduled, so each autobatcher
+ * has at most one task queued or running however many requests arrive. The task hands queued requests to the
+ * handler in the order they were queued, one batch per run, and then reschedules itself if more requests are waiting,
+ * so that other autobatchers on the same executor get a turn. The handler is only ever invoked by one thread at a
+ * time, as it would be on a disruptor.
+ */
+final class ExecutorEventQueue<T, R> implements DisruptorAutobatcher.EventQueue<T, R> {
+    private static final SafeLogger log = SafeLoggerFactory.get(ExecutorEventQueue.class);
+
+    private static final long SHUTDOWN_POLL_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Queue<BatchElement<T, R>> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private final int maxBatchSize;
+    private final String safeLoggablePurpose;
+    private final Executor executor;
+    private final EventHandler<BatchElement<T, R>> handler;
+
+    // Only accessed by the drain task; scheduling it through drainScheduled orders successive runs.
+    private long nextSequence = 0;
+
+    /**
+     * @param handlerFactory creates the handler, given the sequence number of the most recently published request
+     */
+    ExecutorEventQueue(
+            int maxBatchSize,
+            String safeLoggablePurpose,
+            Executor executor,
+            Function<LongSupplier, EventHandler<BatchElement<T, R>>> handlerFactory) {
+        this.maxBatchSize = maxBatchSize;
+        this.safeLoggablePurpose = safeLoggablePurpose;
+        this.executor = executor;
+        this.handler = handlerFactory.apply(() -> published.get() - 1);
+    }
+
+    @Override
+    public void publish(T argument, DisruptorFuture<R> result) {
+        queue.add(BatchElement.of(argument, result));
+        published.incrementAndGet();
+        scheduleDrain();
+    }
+
+    @Override
+    public void shutdown(long timeout, TimeUnit unit) throws TimeoutException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!queue.isEmpty() || drainScheduled.get()) {
+            if (System.nanoTime() - deadline >= 0) {
+                throw TimeoutException.INSTANCE;
+            }
+            LockSupport.parkNanos(SHUTDOWN_POLL_INTERVAL_NANOS);
+        }
+    }
+
+    private void scheduleDrain() {
+        if (drainScheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                drainScheduled.set(false);
+                throw e;
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            handleOneBatch();
+        } catch (Throwable t) {
+            log.warn(
+                    "Autobatcher handler threw an exception",
+                    SafeArg.of("safeLoggablePurpose", safeLoggablePurpose),
+                    t);
+        } finally {
+            drainScheduled.set(false);
+            // requests published since our last poll may have seen the task as still scheduled
+            if (!queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+
+    private void handleOneBatch() throws Exception {
+        BatchElement<T, R> element = queue.poll();
+        for (int batchSize = 1; element != null; batchSize++) {
+            boolean endOfBatch = batchSize >= maxBatchSize || queue.isEmpty();
+            handler.onEvent(element, nextSequence++, endOfBatch);
+            if (endOfBatch) {
+                return;
+            }
+            element = queue.poll();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.autobatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.lmax.disruptor.EventHandler;
+import com.palantir.atlasdb.autobatch.DisruptorAutobatcher.DisruptorFuture;
+import com.palantir.tritium.metrics.registry.DefaultTaggedMetricRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+public class AdaptiveBatchingEventHandlerTest {
+    private static final int BUFFER_SIZE = 64;
+    private static final AdaptiveBatchingParameters PARAMETERS = ImmutableAdaptiveBatchingParameters.builder()
+            .maxLinger(Duration.ofMillis(1))
+            .targetBatchLatency(Duration.ofMillis(10))
+            .build();
+
+    private final FakeTicker ticker = new FakeTicker();
+    private final AtomicLong cursor = new AtomicLong(-1);
+    private final List<Integer> flushedBatchSizes = new ArrayList<>();
+
+    private long flushLatencyNanos = 0;
+    private int eventsSinceFlush = 0;
+    private long nextSequence = 0;
+
+    private final EventHandler<BatchElement<Integer, Integer>> recordingHandler = (event, sequence, endOfBatch) -> {
+        eventsSinceFlush++;
+        if (endOfBatch) {
+            ticker.advance(flushLatencyNanos, TimeUnit.NANOSECONDS);
+            flushedBatchSizes.add(eventsSinceFlush);
+            eventsSinceFlush = 0;
+        }
+    };
+
+    @Test
+    public void endsBatchesWhenBufferIsDrainedAtLowLoad() throws Exception {
+        AdaptiveBatchingEventHandler<Integer, Integer> handler = createHandler(PARAMETERS);
+
+        for (int i = 0; i < 3; i++) {
+            ticker.advance(1, TimeUnit.SECONDS);
+            publishAndHandle(handler, 1);
+        }
+
+        assertThat(flushedBatchSizes).containsExactly(1, 1, 1);
+        assertThat(handler.lingerNanos()).isZero();
+    }
+
+    @Test
+    public void capsBatchSize() throws Exception {
+        AdaptiveBatchingEventHandler<Integer, Integer> handler = createHandler(
+                ImmutableAdaptiveBatchingParameters.copyOf(PARAMETERS).withMaxBatchSize(3));
+
+        publishAndHandle(handler, 7);
+
+        assertThat(flushedBatchSizes).containsExactly(3, 3, 1);
+    }
+
+    @Test
+    public void halvesBatchSizeLimitWhenBatchesAreSlowAndGrowsItAgainWhenTheyAreFast() throws Exception {
+        AdaptiveBatchingEventHandler<Integer, Integer> handler = createHandler(PARAMETERS);
+
+        flushLatencyNanos = Duration.ofMillis(20).toNanos();
+        publishAndHandle(handler, 1);
+        publishAndHandle(handler, 1);
+        assertThat(handler.batchSizeLimit()).isEqualTo(BUFFER_SIZE / 4);
+
+        flushLatencyNanos = 0;
+        publishAndHandle(handler, BUFFER_SIZE / 4);
+        assertThat(handler.batchSizeLimit()).isEqualTo(BUFFER_SIZE / 4 + 1);
+    }
+
+    @Test
+    public void doesNotShrinkBelowMinimumBatchSize() throws Exception {
+        AdaptiveBatchingEventHandler<Integer, Integer> handler = createHandler(
+                ImmutableAdaptiveBatchingParameters.copyOf(PARAMETERS).withMinBatchSize(20));
+
+        flushLatencyNanos = Duration.ofMillis(20).toNanos();
+        for (int i = 0; i < 5; i++) {
+            publishAndHandle(handler, 1);
+        }
+
+        assertThat(handler.batchSizeLimit()).isEqualTo(20);
+    }
+
+    @Test
+    public void holdsBackBatchUnderLoadUntilMoreEventsArrive() throws Exception {
+        AdaptiveBatchingEventHandler<Integer, Integer> handler = createHandler(PARAMETERS);
+        establishHighArrivalRate(handler);
+        assertThat(handler.lingerNanos()).isPositive();
+
+        // another event is already in the ring buffer behind this one
+        cursor.set(nextSequence + 1);
+        handler.onEvent(element(), nextSequence++, true);
+        assertThat(flushedBatchSizes).hasSize(1);
+
+        handler.onEvent(element(), nextSequence++, false);
+        assertThat(flushedBatchSizes).hasSize(1);
+    }
+
+    @Test
+    public void flushesHeldBackBatchOnceLingerExpires() throws Exception {
+        AdaptiveBatchingEventHandler<Integer, Integer> handler = new AdaptiveBatchingEventHandler<>(
+                recordingHandler,
+                PARAMETERS,
+                BUFFER_SIZE,
+                () -> {
+                    ticker.advance(50, TimeUnit.MICROSECONDS);
+                    return cursor.get();
+                },
+                ticker);
+        establishHighArrivalRate(handler);
+        long lingerNanos = handler.lingerNanos();
+        assertThat(lingerNanos).isPositive();
+
+        long start = ticker.read();
+        publishAndHandle(handler, 1);
+
+        assertThat(flushedBatchSizes).containsExactly(10, 1);
+        assertThat(ticker.read() - start).isGreaterThanOrEqualTo(lingerNanos);
+    }
+
+    /**
+     * Processes one batch of ten events that arrive a microsecond apart and take 400 microseconds to process.
+     */
+    private void establishHighArrivalRate(AdaptiveBatchingEventHandler<Integer, Integer> handler) throws Exception {
+        flushLatencyNanos = TimeUnit.MICROSECONDS.toNanos(400);
+        for (int i = 0; i < 10; i++) {
+            ticker.advance(1, TimeUnit.MICROSECONDS);
+            cursor.set(nextSequence);
+            handler.onEvent(element(), nextSequence++, i == 9);
+        }
+        assertThat(flushedBatchSizes).containsExactly(10);
+    }
+
+    private void publishAndHandle(AdaptiveBatchingEventHandler<Integer, Integer> handler, int events)
+            throws Exception {
+        long lastSequence = nextSequence + events - 1;
+        cursor.set(lastSequence);
+        for (; nextSequence <= lastSequence; nextSequence++) {
+            handler.onEvent(element(), nextSequence, nextSequence == lastSequence);
+        }
+    }
+
+    private AdaptiveBatchingEventHandler<Integer, Integer> createHandler(AdaptiveBatchingParameters parameters) {
+        return new AdaptiveBatchingEventHandler<>(recordingHandler, parameters, BUFFER_SIZE, cursor::get, ticker);
+    }
+
+    private static BatchElement<Integer, Integer> element() {
+        return BatchElement.of(
+                1,
+                new DisruptorFuture<>(
+                        AutobatcherTelemetryComponents.create("adaptive-batching", new DefaultTaggedMetricRegistry())));
+    }
+}
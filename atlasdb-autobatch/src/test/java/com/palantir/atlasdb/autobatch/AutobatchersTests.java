@@ -16,17 +16,26 @@
 
 package com.palantir.atlasdb.autobatch;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.Uninterruptibles;
 import com.palantir.logsafe.exceptions.SafeIllegalStateException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 
 public class AutobatchersTests {
@@ -91,4 +100,41 @@ public class AutobatchersTests {
         // Without timeouts, this operation would never succeed!
         assertThatCode(secondResponse::get).doesNotThrowAnyException();
     }
+
+    @Test
+    public void autobatchersSharingAnExecutorProcessRequestsInOrder() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<List<Integer>> processed = new ArrayList<>();
+            List<DisruptorAutobatcher<Integer, Integer>> autobatchers = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                List<Integer> processedByThisAutobatcher = Collections.synchronizedList(new ArrayList<>());
+                processed.add(processedByThisAutobatcher);
+                autobatchers.add(Autobatchers.<Integer, Integer>independent(batch -> batch.forEach(element -> {
+                            processedByThisAutobatcher.add(element.argument());
+                            element.result().set(element.argument() * 2);
+                        }))
+                        .safeLoggablePurpose("testing")
+                        .handlerExecutor(executor)
+                        .build());
+            }
+
+            List<ListenableFuture<Integer>> responses = new ArrayList<>();
+            for (int request = 0; request < 100; request++) {
+                for (DisruptorAutobatcher<Integer, Integer> autobatcher : autobatchers) {
+                    responses.add(autobatcher.apply(request));
+                }
+            }
+
+            List<Integer> results = Futures.allAsList(responses).get();
+            for (int i = 0; i < results.size(); i++) {
+                assertThat(results.get(i)).isEqualTo(2 * (i / autobatchers.size()));
+            }
+            List<Integer> expectedOrder = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+            assertThat(processed).allSatisfy(requests -> assertThat(requests).isEqualTo(expectedOrder));
+            autobatchers.forEach(DisruptorAutobatcher::close);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
@@ -0,0 +1,236 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.autobatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.TimeoutException;
+import com.palantir.atlasdb.autobatch.DisruptorAutobatcher.DisruptorFuture;
+import com.palantir.tritium.metrics.registry.DefaultTaggedMetricRegistry;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public final class ExecutorEventQueueTest {
+    private static final String SAFE_LOGGABLE_PURPOSE = "test-purpose";
+
+    private final ManualExecutor manualExecutor = new ManualExecutor();
+    private final List<Integer> handled = Collections.synchronizedList(new ArrayList<>());
+    private final List<Boolean> endOfBatchFlags = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    public void handsRequestsToHandlerInPublishOrder() {
+        ExecutorEventQueue<Integer, Integer> queue = createQueue(100, manualExecutor, this::record);
+        IntStream.range(0, 10).forEach(request -> queue.publish(request, newFuture()));
+
+        manualExecutor.runAll();
+
+        assertThat(handled).containsExactlyElementsOf(range(10));
+    }
+
+    @Test
+    public void passesIncreasingSequenceNumbersToHandler() {
+        List<Long> sequences = new ArrayList<>();
+        ExecutorEventQueue<Integer, Integer> queue =
+                createQueue(2, manualExecutor, (element, sequence, endOfBatch) -> sequences.add(sequence));
+        IntStream.range(0, 5).forEach(request -> queue.publish(request, newFuture()));
+
+        manualExecutor.runAll();
+
+        assertThat(sequences).containsExactly(0L, 1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    public void schedulesAtMostOneDrainTaskAtATime() {
+        ExecutorEventQueue<Integer, Integer> queue = createQueue(100, manualExecutor, this::record);
+        IntStream.range(0, 10).forEach(request -> queue.publish(request, newFuture()));
+
+        assertThat(manualExecutor.pendingTasks()).isEqualTo(1);
+    }
+
+    @Test
+    public void handlesOneBatchPerTaskAndReschedulesForTheRest() {
+        ExecutorEventQueue<Integer, Integer> queue = createQueue(2, manualExecutor, this::record);
+        IntStream.range(0, 5).forEach(request -> queue.publish(request, newFuture()));
+
+        manualExecutor.runNext();
+        assertThat(handled).containsExactly(0, 1);
+        assertThat(endOfBatchFlags).containsExactly(false, true);
+        assertThat(manualExecutor.pendingTasks()).isEqualTo(1);
+
+        manualExecutor.runAll();
+        assertThat(handled).containsExactlyElementsOf(range(5));
+        assertThat(endOfBatchFlags).containsExactly(false, true, false, true, true);
+    }
+
+    @Test
+    public void handlerExceptionDoesNotStopLaterBatches() {
+        ExecutorEventQueue<Integer, Integer> queue = createQueue(1, manualExecutor, (element, sequence, endOfBatch) -> {
+            if (element.argument() == 0) {
+                throw new RuntimeException("boom");
+            }
+            record(element, sequence, endOfBatch);
+        });
+        IntStream.range(0, 3).forEach(request -> queue.publish(request, newFuture()));
+
+        manualExecutor.runAll();
+
+        assertThat(handled).containsExactly(1, 2);
+    }
+
+    @Test
+    public void requestPublishedWhileDrainIsRunningIsNotLost() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch firstRequestHandled = new CountDownLatch(1);
+            CountDownLatch secondRequestPublished = new CountDownLatch(1);
+            CountDownLatch secondRequestHandled = new CountDownLatch(1);
+            ExecutorEventQueue<Integer, Integer> queue = createQueue(1, executor, (element, sequence, endOfBatch) -> {
+                if (element.argument() == 0) {
+                    firstRequestHandled.countDown();
+                    secondRequestPublished.await();
+                } else {
+                    secondRequestHandled.countDown();
+                }
+            });
+
+            queue.publish(0, newFuture());
+            firstRequestHandled.await();
+            queue.publish(1, newFuture());
+            secondRequestPublished.countDown();
+
+            assertThat(secondRequestHandled.await(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void handlerIsNeverInvokedConcurrentlyAndNoRequestIsLost() throws Exception {
+        int numPublishers = 8;
+        int requestsPerPublisher = 5_000;
+        ExecutorService handlerExecutor = Executors.newFixedThreadPool(4);
+        ExecutorService publishers = Executors.newFixedThreadPool(numPublishers);
+        try {
+            AtomicInteger concurrentInvocations = new AtomicInteger();
+            AtomicInteger violations = new AtomicInteger();
+            CountDownLatch allHandled = new CountDownLatch(numPublishers * requestsPerPublisher);
+            ExecutorEventQueue<Integer, Integer> queue =
+                    createQueue(16, handlerExecutor, (element, sequence, endOfBatch) -> {
+                        if (concurrentInvocations.incrementAndGet() != 1) {
+                            violations.incrementAndGet();
+                        }
+                        concurrentInvocations.decrementAndGet();
+                        allHandled.countDown();
+                    });
+
+            List<Future<?>> futures = new ArrayList<>();
+            for (int publisher = 0; publisher < numPublishers; publisher++) {
+                futures.add(publishers.submit(() -> {
+                    for (int request = 0; request < requestsPerPublisher; request++) {
+                        queue.publish(request, newFuture());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+
+            assertThat(allHandled.await(1, TimeUnit.MINUTES)).isTrue();
+            assertThat(violations).hasValue(0);
+        } finally {
+            publishers.shutdownNow();
+            handlerExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shutdownReturnsImmediatelyWhenIdle() {
+        ExecutorEventQueue<Integer, Integer> queue = createQueue(100, manualExecutor, this::record);
+
+        assertThatCode(() -> queue.shutdown(0, TimeUnit.MILLISECONDS)).doesNotThrowAnyException();
+    }
+
+    @Test
+    public void shutdownWaitsForQueuedRequestsToBeHandled() {
+        ExecutorEventQueue<Integer, Integer> queue = createQueue(100, manualExecutor, this::record);
+        queue.publish(0, newFuture());
+
+        assertThatThrownBy(() -> queue.shutdown(10, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+
+        manualExecutor.runAll();
+        assertThatCode(() -> queue.shutdown(0, TimeUnit.MILLISECONDS)).doesNotThrowAnyException();
+        assertThat(handled).containsExactly(0);
+    }
+
+    private void record(BatchElement<Integer, Integer> element, long sequence, boolean endOfBatch) {
+        handled.add(element.argument());
+        endOfBatchFlags.add(endOfBatch);
+    }
+
+    private static ExecutorEventQueue<Integer, Integer> createQueue(
+            int maxBatchSize, Executor executor, EventHandler<BatchElement<Integer, Integer>> handler) {
+        return new ExecutorEventQueue<>(maxBatchSize, SAFE_LOGGABLE_PURPOSE, executor, ignored -> handler);
+    }
+
+    private static DisruptorFuture<Integer> newFuture() {
+        return new DisruptorFuture<>(
+                AutobatcherTelemetryComponents.create(SAFE_LOGGABLE_PURPOSE, new DefaultTaggedMetricRegistry()));
+    }
+
+    private static List<Integer> range(int endExclusive) {
+        return IntStream.range(0, endExclusive).boxed().collect(Collectors.toList());
+    }
+
+    private static final class ManualExecutor implements Executor {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        int pendingTasks() {
+            return tasks.size();
+        }
+
+        void runNext() {
+            tasks.remove().run();
+        }
+
+        void runAll() {
+            while (!tasks.isEmpty()) {
+                runNext();
+            }
+        }
+    }
+}
@@ -47,11 +47,14 @@ import com.palantir.atlasdb.cassandra.ImmutableCassandraKeyValueServiceRuntimeCo
 import com.palantir.atlasdb.containers.CassandraResource;
 import com.palantir.atlasdb.encoding.PtBytes;
 import com.palantir.atlasdb.futures.AtlasFutures;
+import com.palantir.atlasdb.keyvalue.api.BatchColumnRangeSelection;
 import com.palantir.atlasdb.keyvalue.api.Cell;
 import com.palantir.atlasdb.keyvalue.api.ColumnSelection;
 import com.palantir.atlasdb.keyvalue.api.KeyValueService;
 import com.palantir.atlasdb.keyvalue.api.MultiCheckAndSetException;
 import com.palantir.atlasdb.keyvalue.api.MultiCheckAndSetRequest;
+import com.palantir.atlasdb.keyvalue.api.RangeRequest;
+import com.palantir.atlasdb.keyvalue.api.RowResult;
 import com.palantir.atlasdb.keyvalue.api.TableReference;
 import com.palantir.atlasdb.keyvalue.api.TimestampRangeDelete;
 import com.palantir.atlasdb.keyvalue.api.Value;
@@ -75,6 +78,7 @@ import com.palantir.logsafe.exceptions.SafeIllegalStateException;
 import com.palantir.logsafe.logger.SafeLogger;
 import com.palantir.refreshable.Refreshable;
 import com.palantir.timelock.paxos.InMemoryTimelockClassExtension;
+import com.palantir.util.paging.TokenBackedBasicResultsPage;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -363,6 +367,105 @@ public abstract class AbstractCassandraKeyValueServiceIntegrationTest extends Ab
         assertThat(result).containsExactlyInAnyOrderEntriesOf(tableValues);
     }
 
+    @Test
+    public void testGetRowsAsync_matchesGetRowsForAllAndExplicitColumns() {
+        TableReference tableReference = createTableWithVersionedRows(2);
+        List<byte[]> rows = ImmutableList.of(row(1), row(2), row(3));
+        ColumnSelection explicitColumns = ColumnSelection.create(ImmutableList.of(column(2), column(4), column(6)));
+
+        for (ColumnSelection columnSelection : ImmutableList.of(ColumnSelection.all(), explicitColumns)) {
+            Map<Cell, Value> asyncResult = AtlasFutures.getUnchecked(
+                    keyValueService.getRowsAsync(tableReference, rows, columnSelection, 3L));
+            assertThat(asyncResult)
+                    .containsExactlyInAnyOrderEntriesOf(
+                            keyValueService.getRows(tableReference, rows, columnSelection, 3L));
+        }
+    }
+
+    @Test
+    public void testGetFirstBatchForRowsColumnRangeAsync_returnsVisibleValuesWithinRangeAndBatchHint() {
+        TableReference tableReference = createTableWithVersionedRows(2);
+        BatchColumnRangeSelection columnRange = BatchColumnRangeSelection.create(column(2), column(5), 2);
+
+        Map<Cell, Value> result = AtlasFutures.getUnchecked(keyValueService.getFirstBatchForRowsColumnRangeAsync(
+                tableReference, ImmutableList.of(row(1), row(2), row(3)), columnRange, 3L));
+
+        assertThat(result)
+                .containsOnly(
+                        entry(Cell.create(row(1), column(2)), Value.create(val(1, 2), 2L)),
+                        entry(Cell.create(row(1), column(3)), Value.create(val(1, 3), 2L)),
+                        entry(Cell.create(row(2), column(2)), Value.create(val(2, 2), 2L)),
+                        entry(Cell.create(row(2), column(3)), Value.create(val(2, 3), 2L)));
+    }
+
+    @Test
+    public void testGetFirstBatchForRangeAsync_readsFromStartRowUpToEndRowExclusive() {
+        TableReference tableReference = createTableWithVersionedRows(4);
+        RangeRequest range = RangeRequest.builder()
+                .startRowInclusive(row(2))
+                .endRowExclusive(row(4))
+                .batchHint(10)
+                .build();
+
+        TokenBackedBasicResultsPage<RowResult<Value>, byte[]> page =
+                AtlasFutures.getUnchecked(keyValueService.getFirstBatchForRangeAsync(tableReference, range, 3L));
+
+        assertThat(page.getResults()).extracting(RowResult::getRowName).containsExactly(row(2), row(3));
+        assertThat(page.moreResultsAvailable()).isFalse();
+        assertPageMatchesGetFirstBatchForRanges(tableReference, range, page);
+    }
+
+    @Test
+    public void testGetFirstBatchForRangeAsync_readsFromFirstRowForEmptyStartRowAndStopsAtBatchHint() {
+        TableReference tableReference = createTableWithVersionedRows(4);
+        RangeRequest range = RangeRequest.builder().batchHint(3).build();
+
+        TokenBackedBasicResultsPage<RowResult<Value>, byte[]> page =
+                AtlasFutures.getUnchecked(keyValueService.getFirstBatchForRangeAsync(tableReference, range, 3L));
+
+        assertThat(page.getResults()).extracting(RowResult::getRowName).containsExactly(row(1), row(2), row(3));
+        assertThat(page.getResults().get(0).getColumns())
+                .containsEntry(column(1), Value.create(val(1, 1), 2L))
+                .hasSize(5);
+        assertThat(page.moreResultsAvailable()).isTrue();
+        assertPageMatchesGetFirstBatchForRanges(tableReference, range, page);
+    }
+
+    @Test
+    public void testGetFirstBatchForRangeAsync_startRowIsInclusive() {
+        TableReference tableReference = createTableWithVersionedRows(4);
+        RangeRequest range = RangeRequest.builder().startRowInclusive(row(3)).batchHint(10).build();
+
+        TokenBackedBasicResultsPage<RowResult<Value>, byte[]> page =
+                AtlasFutures.getUnchecked(keyValueService.getFirstBatchForRangeAsync(tableReference, range, 3L));
+
+        assertThat(page.getResults()).extracting(RowResult::getRowName).containsExactly(row(3), row(4));
+        assertThat(page.moreResultsAvailable()).isFalse();
+        assertPageMatchesGetFirstBatchForRanges(tableReference, range, page);
+    }
+
+    @Test
+    public void testMultiPutAsync_writesAreReadableThroughThrift() {
+        TableReference tableReference =
+                TableReference.createFromFullyQualifiedName("test." + RandomStringUtils.randomAlphanumeric(16));
+        keyValueService.createTable(tableReference, AtlasDbConstants.GENERIC_TABLE_METADATA);
+        Map<Cell, byte[]> values = new HashMap<>();
+        for (int row = 1; row <= 3; row++) {
+            for (int col = 1; col <= 3; col++) {
+                values.put(Cell.create(row(row), column(col)), val(row, col));
+            }
+        }
+
+        AtlasFutures.getUnchecked(keyValueService.multiPutAsync(ImmutableMap.of(tableReference, values), 5L));
+
+        Map<Cell, Value> result = keyValueService.get(
+                tableReference, KeyedStream.stream(values).map(_value -> 6L).collectToMap());
+        assertThat(result)
+                .containsExactlyInAnyOrderEntriesOf(KeyedStream.stream(values)
+                        .map(value -> Value.create(value, 5L))
+                        .collectToMap());
+    }
+
     @Test
     public void rangeTombstonesWrittenAtFreshTimestamp() throws Exception {
         TableReference tableReference =
@@ -719,6 +822,36 @@ public abstract class AbstractCassandraKeyValueServiceIntegrationTest extends Ab
         assertThat(result).containsExactlyInAnyOrderEntriesOf(expectedValues);
     }
 
+    /**
+     * Rows 1 and 2 hold columns 1 to 5, each written at timestamps 1 to 3; row 3 is left empty.
+     */
+    private void assertPageMatchesGetFirstBatchForRanges(
+            TableReference tableReference,
+            RangeRequest range,
+            TokenBackedBasicResultsPage<RowResult<Value>, byte[]> page) {
+        TokenBackedBasicResultsPage<RowResult<Value>, byte[]> thriftPage = keyValueService
+                .getFirstBatchForRanges(tableReference, ImmutableList.of(range), 3L)
+                .get(range);
+        assertThat(page.getResults()).containsExactlyElementsOf(thriftPage.getResults());
+    }
+
+    private TableReference createTableWithVersionedRows(int numRows) {
+        TableReference tableReference =
+                TableReference.createFromFullyQualifiedName("test." + RandomStringUtils.randomAlphanumeric(16));
+        keyValueService.createTable(tableReference, AtlasDbConstants.GENERIC_TABLE_METADATA);
+
+        ImmutableListMultimap.Builder<Cell, Value> tableValues = ImmutableListMultimap.builder();
+        for (int row = 1; row <= numRows; row++) {
+            for (int col = 1; col <= 5; col++) {
+                for (long timestamp = 1L; timestamp <= 3L; timestamp++) {
+                    tableValues.put(Cell.create(row(row), column(col)), Value.create(val(row, col), timestamp));
+                }
+            }
+        }
+        keyValueService.putWithTimestamps(tableReference, tableValues.build());
+        return tableReference;
+    }
+
     private static CassandraKeyValueService createKvs(
             CassandraKeyValueServiceConfig config,
             Refreshable<CassandraKeyValueServiceRuntimeConfig> runtimeConfig,
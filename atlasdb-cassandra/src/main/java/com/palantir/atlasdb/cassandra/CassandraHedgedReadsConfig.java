@@ -0,0 +1,76 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.cassandra;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.palantir.conjure.java.api.config.service.HumanReadableDuration;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import java.util.Optional;
+import org.immutables.value.Value;
+
+/**
+ * Controls hedged reads: if a batch of a read has not returned from its host after a delay, the same batch is also
+ * sent to another replica that owns all of its rows, and whichever answers first is used.
+ *
+ * Hedging trades extra load for lower tail latency when a single node is slow, so the number of hedged requests is
+ * capped at a proportion of all hedgeable requests.
+ */
+@JsonSerialize(as = ImmutableCassandraHedgedReadsConfig.class)
+@JsonDeserialize(as = ImmutableCassandraHedgedReadsConfig.class)
+@Value.Immutable
+public abstract class CassandraHedgedReadsConfig {
+    @Value.Default
+    public boolean enabled() {
+        return false;
+    }
+
+    /**
+     * How long to wait for a host before hedging. If absent, the delay for each host is its recent latency
+     * estimate, which tracks peaks in latency and so sits towards the top of its latency distribution.
+     */
+    public abstract Optional<HumanReadableDuration> delay();
+
+    /**
+     * Lower bound on the delay, so that hosts that have not been measured yet are not hedged immediately.
+     */
+    @Value.Default
+    public HumanReadableDuration minimumDelay() {
+        return HumanReadableDuration.milliseconds(5);
+    }
+
+    /**
+     * The most hedged requests that may be sent, as a proportion of requests that could have been hedged.
+     */
+    @Value.Default
+    public double maxHedgedProportion() {
+        return 0.05;
+    }
+
+    @Value.Check
+    protected void check() {
+        Preconditions.checkArgument(
+                maxHedgedProportion() >= 0 && maxHedgedProportion() <= 1,
+                "maxHedgedProportion must be between 0 and 1 inclusive",
+                SafeArg.of("maxHedgedProportion", maxHedgedProportion()));
+    }
+
+    static CassandraHedgedReadsConfig defaultConfig() {
+        return ImmutableCassandraHedgedReadsConfig.builder().build();
+    }
+}
@@ -154,6 +154,16 @@ public interface CassandraKeyValueServiceConfig extends KeyValueServiceConfig {
         return 1.0;
     }
 
+    /**
+     * If true, hosts are chosen by their recent latency as well as their number of open requests, so that a host that
+     * is slow but not failing is sent fewer requests. Otherwise hosts are chosen by open requests alone. This applies
+     * after blacklisted hosts are excluded and {@link #localHostWeighting()} is taken into account.
+     */
+    @Value.Default
+    default boolean latencyAwareHostSelection() {
+        return false;
+    }
+
     /**
      * This sets the number of times a node needs to be detected as absent from the Cassandra ring before its client
      * pool is removed. Configuring this may be useful for nodes operating in environments where IPs change frequently.
@@ -104,6 +104,14 @@ public abstract class CassandraKeyValueServiceRuntimeConfig implements KeyValueS
         return CassandraCellLoadingConfig.defaultConfig();
     }
 
+    /**
+     * Controls sending slow read batches to a second replica; see {@link CassandraHedgedReadsConfig}.
+     */
+    @Value.Default
+    public CassandraHedgedReadsConfig hedgedReads() {
+        return CassandraHedgedReadsConfig.defaultConfig();
+    }
+
     /**
      * The number of threads Sweep uses to read values from Cassandra.
      * Each thread fetches values from a distinct row.
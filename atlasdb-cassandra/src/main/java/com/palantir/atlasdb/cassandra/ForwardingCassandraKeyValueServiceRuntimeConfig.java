@@ -56,6 +56,11 @@ abstract class ForwardingCassandraKeyValueServiceRuntimeConfig extends Cassandra
         return delegate().cellLoadingConfig();
     }
 
+    @Override
+    public CassandraHedgedReadsConfig hedgedReads() {
+        return delegate().hedgedReads();
+    }
+
     @Override
     public Integer sweepReadThreads() {
         return delegate().sweepReadThreads();
@@ -15,6 +15,8 @@
  */
 package com.palantir.atlasdb.keyvalue.cassandra;
 
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.RangeMap;
 import com.palantir.atlasdb.keyvalue.cassandra.pool.CassandraServer;
 import com.palantir.common.base.FunctionCheckedException;
 import com.palantir.processors.AutoDelegate;
@@ -38,5 +40,10 @@ public interface CassandraClientPool {
 
     Map<CassandraServer, CassandraClientPoolingContainer> getCurrentPools();
 
+    /**
+     * The replicas of each token range, as of the last refresh of the ring. Empty if the ring has not been loaded.
+     */
+    RangeMap<LightweightOppToken, ImmutableSet<CassandraServer>> getTokenMap();
+
     void shutdown();
 }
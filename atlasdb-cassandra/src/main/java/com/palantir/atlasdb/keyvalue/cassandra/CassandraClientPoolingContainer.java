@@ -24,6 +24,7 @@ import com.palantir.atlasdb.keyvalue.cassandra.CassandraClientFactory.CassandraC
 import com.palantir.atlasdb.keyvalue.cassandra.pool.CassandraClientPoolHostLevelMetric;
 import com.palantir.atlasdb.keyvalue.cassandra.pool.CassandraClientPoolMetrics;
 import com.palantir.atlasdb.keyvalue.cassandra.pool.CassandraServer;
+import com.palantir.atlasdb.keyvalue.cassandra.pool.PeakEwmaLatency;
 import com.palantir.atlasdb.util.MetricsManager;
 import com.palantir.common.base.FunctionCheckedException;
 import com.palantir.common.pooling.PoolingContainer;
@@ -68,6 +69,7 @@ public class CassandraClientPoolingContainer implements PoolingContainer<Cassand
     private final MetricsManager metricsManager;
     private final AtomicLong count = new AtomicLong();
     private final AtomicInteger openRequests = new AtomicInteger();
+    private final PeakEwmaLatency latency = PeakEwmaLatency.create();
     private final GenericObjectPool<CassandraClient> clientPool;
     private final int poolNumber;
     private final CassandraClientPoolMetrics poolMetrics;
@@ -103,6 +105,14 @@ public class CassandraClientPoolingContainer implements PoolingContainer<Cassand
         return openRequests.get();
     }
 
+    /**
+     * Decaying estimate of the latency of {@link #runWithPooledResource(FunctionCheckedException)}; see
+     * {@link PeakEwmaLatency}.
+     */
+    public double getLatencyEstimateNanos() {
+        return latency.getEstimateNanos();
+    }
+
     // returns negative if not available; only expected use is debugging
     public int getActiveCheckouts() {
         return clientPool.getNumActive();
@@ -124,10 +134,14 @@ public class CassandraClientPoolingContainer implements PoolingContainer<Cassand
             newThreadName += " started at " + Instant.now();
         }
         ThreadNames.setThreadName(Thread.currentThread(), newThreadName);
+        long startNanos = System.nanoTime();
         try {
             openRequests.getAndIncrement();
-            return runWithGoodResource(fn);
+            V result = runWithGoodResource(fn);
+            latency.recordSuccess(System.nanoTime() - startNanos);
+            return result;
         } catch (Throwable t) {
+            latency.recordFailure(System.nanoTime() - startNanos);
             log.warn("Error occurred talking to host '{}'", SafeArg.of("host", cassandraServer), t);
             if (t instanceof NoSuchElementException && t.getMessage().contains("Pool exhausted")) {
                 log.warn(
@@ -362,6 +376,9 @@ public class CassandraClientPoolingContainer implements PoolingContainer<Cassand
         registerPoolMetric(CassandraClientPoolHostLevelMetric.CREATED, pool::getCreatedCount);
         registerPoolMetric(CassandraClientPoolHostLevelMetric.DESTROYED_BY_EVICTOR, pool::getDestroyedByEvictorCount);
         registerPoolMetric(CassandraClientPoolHostLevelMetric.DESTROYED, pool::getDestroyedCount);
+        registerPoolMetric(
+                CassandraClientPoolHostLevelMetric.LATENCY_ESTIMATE_MICROS,
+                () -> TimeUnit.NANOSECONDS.toMicros((long) latency.getEstimateNanos()));
     }
 
     private void registerPoolMetric(CassandraClientPoolHostLevelMetric metric, Gauge<Long> gauge) {
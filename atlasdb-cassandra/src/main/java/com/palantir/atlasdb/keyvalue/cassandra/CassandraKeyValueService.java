@@ -15,7 +15,13 @@
  */
 package com.palantir.atlasdb.keyvalue.cassandra;
 
+import com.google.errorprone.annotations.MustBeClosed;
 import com.palantir.atlasdb.keyvalue.api.KeyValueService;
+import com.palantir.atlasdb.keyvalue.api.RangeRequest;
+import com.palantir.atlasdb.keyvalue.api.RowResult;
+import com.palantir.atlasdb.keyvalue.api.TableReference;
+import com.palantir.atlasdb.keyvalue.api.Value;
+import com.palantir.common.base.ClosableIterator;
 import com.palantir.processors.AutoDelegate;
 
 @AutoDelegate
@@ -26,6 +32,16 @@ public interface CassandraKeyValueService extends KeyValueService {
 
     CassandraClientPool getClientPool();
 
+    /**
+     * Like {@link #getRange}, but splits the range by token ownership and scans the parts in parallel, each from a
+     * replica that owns it. Reverse ranges are not supported.
+     * <p>
+     * Remember to close the returned iterator, which stops the scans of any parts not yet read.
+     */
+    @MustBeClosed
+    ClosableIterator<RowResult<Value>> getRangeInParallel(
+            TableReference tableRef, RangeRequest rangeRequest, long timestamp, ParallelRangeScanOptions options);
+
     @Override
     boolean isInitialized();
 }
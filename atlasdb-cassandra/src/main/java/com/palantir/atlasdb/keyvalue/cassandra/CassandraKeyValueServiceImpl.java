@@ -48,6 +48,7 @@ import com.palantir.atlasdb.cassandra.CassandraMutationTimestampProvider;
 import com.palantir.atlasdb.cassandra.CassandraMutationTimestampProviders;
 import com.palantir.atlasdb.cassandra.CassandraServersConfigs.CassandraServersConfig;
 import com.palantir.atlasdb.encoding.PtBytes;
+import com.palantir.atlasdb.futures.AtlasFutures;
 import com.palantir.atlasdb.keyvalue.api.AsyncKeyValueService;
 import com.palantir.atlasdb.keyvalue.api.BatchColumnRangeSelection;
 import com.palantir.atlasdb.keyvalue.api.CandidateCellForSweeping;
@@ -230,6 +231,7 @@ public class CassandraKeyValueServiceImpl extends AbstractKeyValueService implem
 
     private final TracingQueryRunner queryRunner;
     private final WrappingQueryRunner wrappingQueryRunner;
+    private final HedgedReadRunner hedgedReadRunner;
     private final CellLoader cellLoader;
     private final AsyncKeyValueService asyncKeyValueService;
     private final RangeLoader rangeLoader;
@@ -453,7 +455,10 @@ public class CassandraKeyValueServiceImpl extends AbstractKeyValueService implem
         this.wrappingQueryRunner = new WrappingQueryRunner(queryRunner);
         this.cassandraTables = new CassandraTables(clientPool, config);
         this.taskRunner = new TaskRunner(executor);
-        this.cellLoader = CellLoader.create(clientPool, wrappingQueryRunner, taskRunner, runtimeConfig);
+        this.hedgedReadRunner =
+                HedgedReadRunner.create(clientPool, () -> runtimeConfig.get().hedgedReads(), metricsManager);
+        this.cellLoader =
+                CellLoader.create(clientPool, wrappingQueryRunner, taskRunner, hedgedReadRunner, runtimeConfig);
         this.rangeLoader = new RangeLoader(clientPool, queryRunner, readConsistencyProvider, extractorFactory);
         this.cellValuePutter = new CellValuePutter(
                 runtimeConfig,
@@ -699,8 +704,9 @@ public class CassandraKeyValueServiceImpl extends AbstractKeyValueService implem
     private Map<ByteBuffer, List<ColumnOrSuperColumn>> getForKeyPredicates(
             final CassandraServer host, final TableReference tableRef, List<KeyPredicate> query, final long startTs)
             throws Exception {
-        return clientPool.runWithRetryOnServer(
+        return hedgedReadRunner.run(
                 host,
+                Lists.transform(query, KeyPredicate::getKey),
                 new FunctionCheckedException<CassandraClient, Map<ByteBuffer, List<ColumnOrSuperColumn>>, Exception>() {
                     @Override
                     public Map<ByteBuffer, List<ColumnOrSuperColumn>> apply(CassandraClient client) throws Exception {
@@ -1331,6 +1337,13 @@ public class CassandraKeyValueServiceImpl extends AbstractKeyValueService implem
         return rangeLoader.getRange(tableRef, rangeRequest, timestamp);
     }
 
+    @Override
+    @Idempotent
+    public ClosableIterator<RowResult<Value>> getRangeInParallel(
+            TableReference tableRef, RangeRequest rangeRequest, long timestamp, ParallelRangeScanOptions options) {
+        return rangeLoader.getRangeInParallel(tableRef, rangeRequest, timestamp, options);
+    }
+
     /**
      * Gets timestamp values from the key-value store. For each row, this returns all associated
      * timestamps &lt; given_ts.
@@ -1776,6 +1789,7 @@ public class CassandraKeyValueServiceImpl extends AbstractKeyValueService implem
     public void close() {
         clientPool.shutdown();
         asyncKeyValueService.close();
+        hedgedReadRunner.close();
         super.close();
     }
 
@@ -2117,27 +2131,103 @@ public class CassandraKeyValueServiceImpl extends AbstractKeyValueService implem
             log.info("Attempted get with no specified cells", LoggingArgs.tableRef(tableRef));
             return Futures.immediateFuture(ImmutableMap.of());
         }
+        return runOverCqlIfValid(
+                "get",
+                () -> asyncKeyValueService.getAsync(tableRef, timestampByCell),
+                () -> this.get(tableRef, timestampByCell));
+    }
+
+    @Override
+    public ListenableFuture<Map<Cell, Value>> getRowsAsync(
+            TableReference tableRef, Iterable<byte[]> rows, ColumnSelection columnSelection, long timestamp) {
+        if (Iterables.isEmpty(rows)) {
+            return Futures.immediateFuture(ImmutableMap.of());
+        }
+        return runOverCqlIfValid(
+                "getRows",
+                () -> asyncKeyValueService.getRowsAsync(tableRef, rows, columnSelection, timestamp),
+                () -> this.getRows(tableRef, rows, columnSelection, timestamp));
+    }
+
+    @Override
+    public ListenableFuture<Map<Cell, Value>> getFirstBatchForRowsColumnRangeAsync(
+            TableReference tableRef,
+            Iterable<byte[]> rows,
+            BatchColumnRangeSelection batchColumnRangeSelection,
+            long timestamp) {
+        if (Iterables.isEmpty(rows)) {
+            return Futures.immediateFuture(ImmutableMap.of());
+        }
+        return runOverCqlIfValid(
+                "getFirstBatchForRowsColumnRange",
+                () -> asyncKeyValueService.getFirstBatchForRowsColumnRangeAsync(
+                        tableRef, rows, batchColumnRangeSelection, timestamp),
+                () -> AtlasFutures.getUnchecked(CassandraKeyValueService.super.getFirstBatchForRowsColumnRangeAsync(
+                        tableRef, rows, batchColumnRangeSelection, timestamp)));
+    }
+
+    /**
+     * Reverse ranges are always loaded over Thrift, as CQL can only scan tokens in ascending order.
+     */
+    @Override
+    public ListenableFuture<TokenBackedBasicResultsPage<RowResult<Value>, byte[]>> getFirstBatchForRangeAsync(
+            TableReference tableRef, RangeRequest rangeRequest, long timestamp) {
+        Supplier<TokenBackedBasicResultsPage<RowResult<Value>, byte[]>> syncCall =
+                () -> this.getFirstBatchForRanges(tableRef, ImmutableList.of(rangeRequest), timestamp)
+                        .get(rangeRequest);
+        if (rangeRequest.isReverse()) {
+            return Futures.immediateFuture(syncCall.get());
+        }
+        return runOverCqlIfValid(
+                "getFirstBatchForRange",
+                () -> asyncKeyValueService.getFirstBatchForRangeAsync(tableRef, rangeRequest, timestamp),
+                syncCall);
+    }
+
+    @Override
+    public ListenableFuture<Void> multiPutAsync(
+            Map<TableReference, ? extends Map<Cell, byte[]>> valuesByTable, long timestamp) {
+        if (valuesByTable.values().stream().allMatch(Map::isEmpty)) {
+            return Futures.immediateVoidFuture();
+        }
+        return runOverCqlIfValid(
+                "multiPut",
+                () -> asyncKeyValueService.multiPutAsync(valuesByTable, timestamp),
+                () -> {
+                    this.multiPut(valuesByTable, timestamp);
+                    return null;
+                });
+    }
+
+    /**
+     * Runs an operation over CQL if the CQL client is valid, and otherwise runs it synchronously over Thrift. If the
+     * CQL client is closed while the operation is running, it is rerun over Thrift, which is safe as all the
+     * operations run like this are idempotent.
+     */
+    private <T> ListenableFuture<T> runOverCqlIfValid(
+            String operation, Supplier<ListenableFuture<T>> asyncCall, Supplier<T> syncCall) {
         if (asyncKeyValueService.isValid()) {
             try {
                 return Futures.catching(
-                        asyncKeyValueService.getAsync(tableRef, timestampByCell),
+                        asyncCall.get(),
                         IllegalStateException.class,
                         e -> {
                             log.warn(
-                                    "CQL Client closed during getAsync. Delegating to synchronous get. This should be"
-                                            + " very rare, and only happen once after the Cassandra Server list has"
-                                            + " changed.",
+                                    "CQL Client closed during an asynchronous operation. Delegating to the synchronous"
+                                            + " operation. This should be very rare, and only happen once after the"
+                                            + " Cassandra Server list has changed.",
+                                    SafeArg.of("operation", operation),
                                     e);
-                            return this.get(tableRef, timestampByCell);
+                            return syncCall.get();
                         },
                         executor);
             } catch (IllegalStateException | DriverInternalError e) {
                 // If the container is closed, or we've reloaded into an invalid ThrowingCqlClient, after testing for
                 // validity
-                return Futures.immediateFuture(this.get(tableRef, timestampByCell));
+                return Futures.immediateFuture(syncCall.get());
             }
         } else {
-            return Futures.immediateFuture(this.get(tableRef, timestampByCell));
+            return Futures.immediateFuture(syncCall.get());
         }
     }
 
@@ -17,6 +17,7 @@ package com.palantir.atlasdb.keyvalue.cassandra;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Multimap;
 import com.google.common.primitives.UnsignedBytes;
@@ -56,16 +57,19 @@ final class CellLoader {
     private final CassandraClientPool clientPool;
     private final WrappingQueryRunner queryRunner;
     private final TaskRunner taskRunner;
+    private final HedgedReadRunner hedgedReadRunner;
     private final CellLoadingBatcher batcher;
 
     private CellLoader(
             CassandraClientPool clientPool,
             WrappingQueryRunner queryRunner,
             TaskRunner taskRunner,
+            HedgedReadRunner hedgedReadRunner,
             CellLoadingBatcher batcher) {
         this.clientPool = clientPool;
         this.queryRunner = queryRunner;
         this.taskRunner = taskRunner;
+        this.hedgedReadRunner = hedgedReadRunner;
         this.batcher = batcher;
     }
 
@@ -73,10 +77,11 @@ final class CellLoader {
             CassandraClientPool clientPool,
             WrappingQueryRunner queryRunner,
             TaskRunner taskRunner,
+            HedgedReadRunner hedgedReadRunner,
             Supplier<CassandraKeyValueServiceRuntimeConfig> configSupplier) {
         CellLoadingBatcher batcher = new CellLoadingBatcher(
                 () -> configSupplier.get().cellLoadingConfig(), CellLoader::logRebatchingWarnMessage);
-        return new CellLoader(clientPool, queryRunner, taskRunner, batcher);
+        return new CellLoader(clientPool, queryRunner, taskRunner, hedgedReadRunner, batcher);
     }
 
     Multimap<Cell, Long> getAllTimestamps(
@@ -168,10 +173,12 @@ final class CellLoader {
         String threadNameSuffix = " cells from " + tableRef + " on " + cassandraServer.cassandraHostName()
                 + " via proxy " + CassandraLogHelper.host(cassandraServer.proxy());
         for (final List<Cell> partition : batches) {
-            Callable<Void> multiGetCallable = () -> clientPool.runWithRetryOnServer(
-                    cassandraServer, new FunctionCheckedException<CassandraClient, Void, Exception>() {
+            List<byte[]> rows = Lists.transform(partition, Cell::getRowName);
+            FunctionCheckedException<CassandraClient, Map<ByteBuffer, List<ColumnOrSuperColumn>>, Exception>
+                    multiGet = new FunctionCheckedException<>() {
                         @Override
-                        public Void apply(CassandraClient client) throws Exception {
+                        public Map<ByteBuffer, List<ColumnOrSuperColumn>> apply(CassandraClient client)
+                                throws Exception {
                             List<KeyPredicate> query = translatePartitionToKeyPredicates(partition, startTs, loadAllTs);
 
                             if (log.isTraceEnabled()) {
@@ -186,10 +193,7 @@ final class CellLoader {
 
                             Map<ByteBuffer, List<List<ColumnOrSuperColumn>>> results = queryRunner.multiget_multislice(
                                     kvsMethodName, client, tableRef, query, consistency);
-                            Map<ByteBuffer, List<ColumnOrSuperColumn>> aggregatedResults =
-                                    Maps.transformValues(results, CellLoader::flattenReadOnlyLists);
-                            visitor.visit(aggregatedResults);
-                            return null;
+                            return Maps.transformValues(results, CellLoader::flattenReadOnlyLists);
                         }
 
                         @Override
@@ -197,7 +201,12 @@ final class CellLoader {
                             return "multiget_multislice(" + cassandraServer.cassandraHostName() + ", " + colFam + ", "
                                     + partition.size() + " cells)";
                         }
-                    });
+                    };
+            // visit outside the read, which may run on two hosts if it is hedged
+            Callable<Void> multiGetCallable = () -> {
+                visitor.visit(hedgedReadRunner.run(cassandraServer, rows, multiGet));
+                return null;
+            };
             tasks.add(AnnotatedCallable.wrapWithThreadName(
                     AnnotationType.PREPEND,
                     "Atlas loadWithTs " + partition.size() + threadNameSuffix,
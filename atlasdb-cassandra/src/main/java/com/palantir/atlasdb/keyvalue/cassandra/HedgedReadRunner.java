@@ -0,0 +1,294 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.cassandra;
+
+import com.codahale.metrics.Meter;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.RangeMap;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import com.palantir.atlasdb.cassandra.CassandraHedgedReadsConfig;
+import com.palantir.atlasdb.keyvalue.cassandra.pool.CassandraServer;
+import com.palantir.atlasdb.util.MetricsManager;
+import com.palantir.common.base.FunctionCheckedException;
+import com.palantir.common.concurrent.PTExecutors;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import javax.annotation.concurrent.GuardedBy;
+
+/**
+ * Runs reads on the host that owns their rows, as {@link CassandraClientPool#runWithRetryOnServer} does, but when
+ * hedged reads are enabled and the host has not answered within the hedging delay, also sends the read to another
+ * replica that owns all of the rows and returns whichever answer arrives first. The read is failed only if both fail,
+ * with the failure from the original host.
+ *
+ * Hedged reads are paid for from a budget that every read tops up by the configured proportion, so that hedging
+ * cannot increase load by more than that proportion. The slower of the two requests is left to finish rather than
+ * interrupted, as interrupting a Thrift call breaks its connection.
+ *
+ * A read that blocks its caller cannot be answered by its hedge, so a read that may be hedged runs on a bounded pool,
+ * with a thread held back for its hedge. Every other read, including every read when the budget is empty or the pool
+ * is busy, runs on the calling thread.
+ *
+ * Since a read may run twice, the function passed in must not have side effects.
+ */
+final class HedgedReadRunner implements AutoCloseable {
+    private static final int MAX_HEDGING_THREADS = 16;
+
+    private final CassandraClientPool clientPool;
+    private final Supplier<CassandraHedgedReadsConfig> config;
+    private final ListeningExecutorService executor;
+    private final Semaphore availableThreads;
+    private final Budget budget = new Budget();
+    private final Meter hedgedReads;
+    private final Meter hedgedReadWins;
+
+    @VisibleForTesting
+    HedgedReadRunner(
+            CassandraClientPool clientPool,
+            Supplier<CassandraHedgedReadsConfig> config,
+            ListeningExecutorService executor,
+            int maxThreads,
+            MetricsManager metricsManager) {
+        this.clientPool = clientPool;
+        this.config = config;
+        this.executor = executor;
+        this.availableThreads = new Semaphore(maxThreads);
+        this.hedgedReads = metricsManager.registerOrGetMeter(HedgedReadRunner.class, "hedgedReads");
+        this.hedgedReadWins = metricsManager.registerOrGetMeter(HedgedReadRunner.class, "hedgedReadWins");
+    }
+
+    static HedgedReadRunner create(
+            CassandraClientPool clientPool,
+            Supplier<CassandraHedgedReadsConfig> config,
+            MetricsManager metricsManager) {
+        return new HedgedReadRunner(
+                clientPool,
+                config,
+                MoreExecutors.listeningDecorator(
+                        PTExecutors.newFixedThreadPool(MAX_HEDGING_THREADS, "Atlas Cassandra hedged reads")),
+                MAX_HEDGING_THREADS,
+                metricsManager);
+    }
+
+    /**
+     * @param rows the rows the read touches, used to find replicas that can serve the read in place of {@code host}
+     */
+    <V> V run(CassandraServer host, Collection<byte[]> rows, FunctionCheckedException<CassandraClient, V, Exception> fn)
+            throws Exception {
+        CassandraHedgedReadsConfig currentConfig = config.get();
+        if (!currentConfig.enabled()) {
+            return clientPool.runWithRetryOnServer(host, fn);
+        }
+        budget.deposit(currentConfig.maxHedgedProportion());
+
+        Optional<CassandraServer> replica = budget.hasBalance() ? getReplicaForHedging(host, rows) : Optional.empty();
+        // one thread for the primary and one for the hedge
+        if (replica.isEmpty() || !availableThreads.tryAcquire(2)) {
+            return clientPool.runWithRetryOnServer(host, fn);
+        }
+
+        ListenableFuture<V> primary;
+        ListenableFuture<V> hedge;
+        boolean hedgeSent = false;
+        try {
+            primary = submit(() -> clientPool.runWithRetryOnServer(host, fn));
+            try {
+                return getUnwrapped(primary, getHedgingDelayNanos(currentConfig, host));
+            } catch (TimeoutException e) {
+                // fall through to hedging
+            }
+            if (!budget.tryWithdraw()) {
+                return getUnwrapped(primary);
+            }
+            hedgedReads.mark();
+            hedgeSent = true;
+            hedge = submit(() -> clientPool.runOnCassandraServer(replica.get(), fn));
+        } finally {
+            if (!hedgeSent) {
+                availableThreads.release();
+            }
+        }
+        hedge.addListener(
+                () -> {
+                    if (!primary.isDone() && isSuccessful(hedge)) {
+                        hedgedReadWins.mark();
+                    }
+                },
+                MoreExecutors.directExecutor());
+        return getUnwrapped(firstSuccessful(primary, hedge));
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Runs the task on the pool, on a thread already taken from {@link #availableThreads}.
+     */
+    private <V> ListenableFuture<V> submit(Callable<V> task) {
+        ListenableFuture<V> future;
+        try {
+            future = executor.submit(task);
+        } catch (RuntimeException e) {
+            availableThreads.release();
+            throw e;
+        }
+        future.addListener(availableThreads::release, MoreExecutors.directExecutor());
+        return future;
+    }
+
+    private long getHedgingDelayNanos(CassandraHedgedReadsConfig currentConfig, CassandraServer host) {
+        long minimumDelayNanos = currentConfig.minimumDelay().toJavaDuration().toNanos();
+        if (currentConfig.delay().isPresent()) {
+            return Math.max(minimumDelayNanos, currentConfig.delay().get().toJavaDuration().toNanos());
+        }
+        CassandraClientPoolingContainer pool = clientPool.getCurrentPools().get(host);
+        long estimateNanos = pool == null ? 0 : (long) pool.getLatencyEstimateNanos();
+        return Math.max(minimumDelayNanos, estimateNanos);
+    }
+
+    /**
+     * Of the hosts other than {@code host} that own all of {@code rows}, the one with the lowest latency estimate.
+     */
+    @VisibleForTesting
+    Optional<CassandraServer> getReplicaForHedging(CassandraServer host, Collection<byte[]> rows) {
+        RangeMap<LightweightOppToken, ImmutableSet<CassandraServer>> tokenMap = clientPool.getTokenMap();
+        Set<CassandraServer> replicas = null;
+        for (byte[] row : rows) {
+            ImmutableSet<CassandraServer> owners = tokenMap.get(new LightweightOppToken(row));
+            if (owners == null) {
+                return Optional.empty();
+            }
+            if (replicas == null) {
+                replicas = new HashSet<>(owners);
+            } else {
+                replicas.retainAll(owners);
+            }
+        }
+        if (replicas == null) {
+            return Optional.empty();
+        }
+        Map<CassandraServer, CassandraClientPoolingContainer> pools = clientPool.getCurrentPools();
+        return replicas.stream()
+                .filter(replica -> !replica.equals(host))
+                .map(pools::get)
+                .filter(Objects::nonNull)
+                .min(Comparator.comparingDouble(CassandraClientPoolingContainer::getLatencyEstimateNanos))
+                .map(CassandraClientPoolingContainer::getCassandraServer);
+    }
+
+    /**
+     * Completes with the result of whichever future succeeds first, or with the failure of {@code primary} if both
+     * fail.
+     */
+    private static <V> ListenableFuture<V> firstSuccessful(ListenableFuture<V> primary, ListenableFuture<V> hedge) {
+        SettableFuture<V> result = SettableFuture.create();
+        AtomicInteger pendingFailures = new AtomicInteger(2);
+        for (ListenableFuture<V> future : ImmutableList.of(primary, hedge)) {
+            future.addListener(
+                    () -> {
+                        if (isSuccessful(future)) {
+                            result.set(Futures.getUnchecked(future));
+                        } else if (pendingFailures.decrementAndGet() == 0) {
+                            result.setFuture(primary);
+                        }
+                    },
+                    MoreExecutors.directExecutor());
+        }
+        return result;
+    }
+
+    private static boolean isSuccessful(ListenableFuture<?> future) {
+        try {
+            Futures.getDone(future);
+            return true;
+        } catch (ExecutionException | CancellationException e) {
+            return false;
+        }
+    }
+
+    private static <V> V getUnwrapped(ListenableFuture<V> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static <V> V getUnwrapped(ListenableFuture<V> future, long timeoutNanos) throws Exception {
+        try {
+            return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static Exception unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return cause instanceof Exception ? (Exception) cause : e;
+    }
+
+    /**
+     * Token bucket of hedged requests. The balance is capped so that a long run of fast reads cannot be followed by
+     * a burst of hedges.
+     */
+    private static final class Budget {
+        private static final double MAX_BALANCE = 10;
+
+        @GuardedBy("this")
+        private double balance = 0;
+
+        synchronized void deposit(double amount) {
+            balance = Math.min(MAX_BALANCE, balance + amount);
+        }
+
+        synchronized boolean hasBalance() {
+            return balance >= 1;
+        }
+
+        synchronized boolean tryWithdraw() {
+            if (balance < 1) {
+                return false;
+            }
+            balance -= 1;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.cassandra;
+
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import org.immutables.value.Value;
+
+/**
+ * How {@link CassandraKeyValueService#getRangeInParallel} scans a range.
+ */
+@Value.Immutable
+public interface ParallelRangeScanOptions {
+    /**
+     * The number of token ranges scanned at once, each of which has at most one request in flight.
+     */
+    @Value.Default
+    default int parallelism() {
+        return 4;
+    }
+
+    /**
+     * Whether rows are returned in row order. If not, rows are returned in the order they are loaded, which keeps
+     * every token range scan busy rather than only those just ahead of the caller.
+     */
+    @Value.Default
+    default boolean ordered() {
+        return true;
+    }
+
+    @Value.Check
+    default void check() {
+        Preconditions.checkArgument(
+                parallelism() > 0, "Parallelism must be positive", SafeArg.of("parallelism", parallelism()));
+    }
+
+    static ParallelRangeScanOptions defaults() {
+        return ImmutableParallelRangeScanOptions.builder().build();
+    }
+}
@@ -24,18 +24,24 @@ import com.palantir.atlasdb.keyvalue.api.TableReference;
 import com.palantir.atlasdb.keyvalue.api.Value;
 import com.palantir.atlasdb.keyvalue.cassandra.paging.CassandraRangePagingIterable;
 import com.palantir.atlasdb.keyvalue.cassandra.paging.ColumnGetter;
+import com.palantir.atlasdb.keyvalue.cassandra.paging.ParallelRangeScanIterator;
 import com.palantir.atlasdb.keyvalue.cassandra.paging.RowGetter;
 import com.palantir.atlasdb.keyvalue.cassandra.paging.ThriftColumnGetter;
 import com.palantir.atlasdb.keyvalue.cassandra.thrift.SlicePredicates;
 import com.palantir.common.base.ClosableIterator;
 import com.palantir.common.base.ClosableIterators;
+import com.palantir.logsafe.Preconditions;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import org.apache.cassandra.thrift.SlicePredicate;
 
 public class RangeLoader {
+    private static final int DEFAULT_BATCH_SIZE = 100;
+
     private final CassandraClientPool clientPool;
     private final TracingQueryRunner queryRunner;
     private final ReadConsistencyProvider readConsistencyProvider;
@@ -56,25 +62,60 @@ public class RangeLoader {
         return getRangeWithPageCreator(tableRef, rangeRequest, ts, () -> extractorFactory.apply(new HashMap<>()));
     }
 
+    /**
+     * Splits the range at the boundaries of the token ranges of the ring, and scans the parts in parallel. The pages
+     * of each part are loaded from replicas of that part, as for {@link #getRange}.
+     */
+    public ClosableIterator<RowResult<Value>> getRangeInParallel(
+            TableReference tableRef, RangeRequest rangeRequest, long ts, ParallelRangeScanOptions options) {
+        Preconditions.checkArgument(!rangeRequest.isReverse(), "Parallel range scans do not support reverse ranges");
+        if (rangeRequest.isEmptyRange()) {
+            return ClosableIterators.wrapWithEmptyClose(
+                    ImmutableList.<RowResult<Value>>of().iterator());
+        }
+
+        SlicePredicate predicate = getSlicePredicate(rangeRequest, ts);
+        RowGetter rowGetter = getRowGetter(tableRef);
+        ColumnGetter columnGetter = new ThriftColumnGetter();
+        List<CassandraRangePagingIterable<Value>> parts =
+                TokenRangeSplitter.split(rangeRequest, clientPool.getTokenMap()).stream()
+                        .map(part -> new CassandraRangePagingIterable<>(
+                                rowGetter,
+                                predicate,
+                                columnGetter,
+                                part,
+                                () -> extractorFactory.apply(new HashMap<>()),
+                                ts))
+                        .collect(Collectors.toList());
+        int batchSize = rangeRequest.getBatchHint() == null ? DEFAULT_BATCH_SIZE : rangeRequest.getBatchHint();
+
+        return new ParallelRangeScanIterator<>(parts, options.parallelism(), options.ordered(), batchSize);
+    }
+
     private <T> ClosableIterator<RowResult<T>> getRangeWithPageCreator(
             TableReference tableRef,
             RangeRequest rangeRequest,
             long startTs,
             Supplier<ResultsExtractor<T>> resultsExtractor) {
-        SlicePredicate predicate;
+        SlicePredicate predicate = getSlicePredicate(rangeRequest, startTs);
+        RowGetter rowGetter = getRowGetter(tableRef);
+        ColumnGetter columnGetter = new ThriftColumnGetter();
+
+        return getRangeWithPageCreator(rowGetter, predicate, columnGetter, rangeRequest, resultsExtractor, startTs);
+    }
+
+    private static SlicePredicate getSlicePredicate(RangeRequest rangeRequest, long startTs) {
         if (rangeRequest.getColumnNames().size() == 1) {
             byte[] colName = rangeRequest.getColumnNames().iterator().next();
-            predicate = SlicePredicates.latestVersionForColumn(colName, startTs);
-        } else {
-            // TODO(nziebart): optimize fetching multiple columns by performing a parallel range request for
-            // each column. note that if no columns are specified, it's a special case that means all columns
-            predicate = SlicePredicates.create(SlicePredicates.Range.ALL, SlicePredicates.Limit.NO_LIMIT);
+            return SlicePredicates.latestVersionForColumn(colName, startTs);
         }
-        RowGetter rowGetter =
-                new RowGetter(clientPool, queryRunner, readConsistencyProvider.getConsistency(tableRef), tableRef);
-        ColumnGetter columnGetter = new ThriftColumnGetter();
+        // TODO(nziebart): optimize fetching multiple columns by performing a parallel range request for
+        // each column. note that if no columns are specified, it's a special case that means all columns
+        return SlicePredicates.create(SlicePredicates.Range.ALL, SlicePredicates.Limit.NO_LIMIT);
+    }
 
-        return getRangeWithPageCreator(rowGetter, predicate, columnGetter, rangeRequest, resultsExtractor, startTs);
+    private RowGetter getRowGetter(TableReference tableRef) {
+        return new RowGetter(clientPool, queryRunner, readConsistencyProvider.getConsistency(tableRef), tableRef);
     }
 
     private <T> ClosableIterator<RowResult<T>> getRangeWithPageCreator(
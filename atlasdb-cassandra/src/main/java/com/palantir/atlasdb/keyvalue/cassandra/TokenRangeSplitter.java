@@ -0,0 +1,84 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.cassandra;
+
+import com.google.common.collect.BoundType;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Range;
+import com.google.common.collect.RangeMap;
+import com.palantir.atlasdb.keyvalue.api.RangeRequest;
+import com.palantir.atlasdb.keyvalue.api.RangeRequests;
+import com.palantir.atlasdb.keyvalue.cassandra.pool.CassandraServer;
+import java.util.List;
+
+/**
+ * Splits a range request at the boundaries of the token ranges of the ring. AtlasDB uses the byte ordered
+ * partitioner, so a row's token is its name, and each split is owned by a single set of replicas.
+ */
+final class TokenRangeSplitter {
+    private TokenRangeSplitter() {
+        // utility
+    }
+
+    /**
+     * Returns the non-empty parts of the range in the token ranges of the ring, in row order. If the ring is not
+     * known, the whole range is returned as the only split.
+     */
+    static List<RangeRequest> split(
+            RangeRequest rangeRequest, RangeMap<LightweightOppToken, ImmutableSet<CassandraServer>> tokenMap) {
+        if (tokenMap.asMapOfRanges().isEmpty()) {
+            return ImmutableList.of(rangeRequest);
+        }
+        Range<LightweightOppToken> requestedRange = toTokenRange(rangeRequest);
+        ImmutableList.Builder<RangeRequest> splits = ImmutableList.builder();
+        for (Range<LightweightOppToken> tokenRange : tokenMap.asMapOfRanges().keySet()) {
+            if (tokenRange.isConnected(requestedRange)) {
+                Range<LightweightOppToken> split = tokenRange.intersection(requestedRange);
+                if (!split.isEmpty()) {
+                    splits.add(toRangeRequest(rangeRequest, split));
+                }
+            }
+        }
+        return splits.build();
+    }
+
+    private static Range<LightweightOppToken> toTokenRange(RangeRequest rangeRequest) {
+        byte[] start = rangeRequest.getStartInclusive();
+        byte[] end = rangeRequest.getEndExclusive();
+        if (start.length == 0) {
+            return end.length == 0 ? Range.all() : Range.lessThan(new LightweightOppToken(end));
+        }
+        return end.length == 0
+                ? Range.atLeast(new LightweightOppToken(start))
+                : Range.closedOpen(new LightweightOppToken(start), new LightweightOppToken(end));
+    }
+
+    private static RangeRequest toRangeRequest(RangeRequest rangeRequest, Range<LightweightOppToken> split) {
+        byte[] start = new byte[0];
+        if (split.hasLowerBound()) {
+            byte[] lower = split.lowerEndpoint().bytes;
+            start = split.lowerBoundType() == BoundType.CLOSED ? lower : RangeRequests.nextLexicographicName(lower);
+        }
+        byte[] end = new byte[0];
+        if (split.hasUpperBound()) {
+            byte[] upper = split.upperEndpoint().bytes;
+            end = split.upperBoundType() == BoundType.OPEN ? upper : RangeRequests.nextLexicographicName(upper);
+        }
+        return rangeRequest.getBuilder().startRowInclusive(start).endRowExclusive(end).build();
+    }
+}
@@ -16,30 +16,56 @@
 
 package com.palantir.atlasdb.keyvalue.cassandra.async;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
 import com.palantir.atlasdb.cassandra.ReloadingCloseableContainer;
 import com.palantir.atlasdb.futures.FuturesCombiner;
 import com.palantir.atlasdb.keyvalue.api.AsyncKeyValueService;
+import com.palantir.atlasdb.keyvalue.api.BatchColumnRangeSelection;
 import com.palantir.atlasdb.keyvalue.api.Cell;
+import com.palantir.atlasdb.keyvalue.api.ColumnSelection;
+import com.palantir.atlasdb.keyvalue.api.RangeRequest;
+import com.palantir.atlasdb.keyvalue.api.RowResult;
 import com.palantir.atlasdb.keyvalue.api.TableReference;
 import com.palantir.atlasdb.keyvalue.api.Value;
 import com.palantir.atlasdb.keyvalue.cassandra.async.queries.CqlQueryContext;
 import com.palantir.atlasdb.keyvalue.cassandra.async.queries.GetQuerySpec;
 import com.palantir.atlasdb.keyvalue.cassandra.async.queries.GetQuerySpec.GetQueryParameters;
+import com.palantir.atlasdb.keyvalue.cassandra.async.queries.GetRangeQuerySpec;
+import com.palantir.atlasdb.keyvalue.cassandra.async.queries.GetRowQuerySpec;
+import com.palantir.atlasdb.keyvalue.cassandra.async.queries.GetRowQuerySpec.GetRowQueryParameters;
 import com.palantir.atlasdb.keyvalue.cassandra.async.queries.ImmutableCqlQueryContext;
 import com.palantir.atlasdb.keyvalue.cassandra.async.queries.ImmutableGetQueryParameters;
+import com.palantir.atlasdb.keyvalue.cassandra.async.queries.ImmutableGetRangeQueryParameters;
+import com.palantir.atlasdb.keyvalue.cassandra.async.queries.ImmutableGetRowQueryParameters;
+import com.palantir.atlasdb.keyvalue.cassandra.async.queries.ImmutablePutQueryParameters;
+import com.palantir.atlasdb.keyvalue.cassandra.async.queries.PutQuerySpec;
 import com.palantir.atlasdb.logging.LoggingArgs;
 import com.palantir.common.streams.KeyedStream;
 import com.palantir.logsafe.SafeArg;
 import com.palantir.logsafe.exceptions.SafeIllegalStateException;
 import com.palantir.logsafe.logger.SafeLogger;
 import com.palantir.logsafe.logger.SafeLoggerFactory;
+import com.palantir.util.paging.TokenBackedBasicResultsPage;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 public final class CassandraAsyncKeyValueService implements AsyncKeyValueService {
     private static final SafeLogger log = SafeLoggerFactory.get(CassandraAsyncKeyValueService.class);
 
+    @VisibleForTesting
+    static final int MAX_CONCURRENT_PUTS_PER_CALL = 64;
+
     private final String keyspace;
     private final ReloadingCloseableContainer<CqlClient> cqlClientContainer;
     private final FuturesCombiner futuresCombiner;
@@ -77,10 +103,7 @@ public final class CassandraAsyncKeyValueService implements AsyncKeyValueService
     }
 
     private ListenableFuture<Optional<Value>> getCellAsync(TableReference tableReference, Cell cell, long timestamp) {
-        CqlQueryContext queryContext = ImmutableCqlQueryContext.builder()
-                .tableReference(tableReference)
-                .keyspace(keyspace)
-                .build();
+        CqlQueryContext queryContext = queryContext(tableReference);
         GetQueryParameters getQueryParameters = ImmutableGetQueryParameters.builder()
                 .cell(cell)
                 .humanReadableTimestamp(timestamp)
@@ -89,6 +112,130 @@ public final class CassandraAsyncKeyValueService implements AsyncKeyValueService
         return cqlClientContainer.get().executeQuery(new GetQuerySpec(queryContext, getQueryParameters));
     }
 
+    /**
+     * Explicitly selected columns are read one cell at a time, as for {@link #getAsync}, so that only the visible
+     * version of each cell is read. Otherwise one query is issued per row, which scans all versions of the row and
+     * keeps the visible version of each column.
+     */
+    @Override
+    public ListenableFuture<Map<Cell, Value>> getRowsAsync(
+            TableReference tableRef, Iterable<byte[]> rows, ColumnSelection columnSelection, long timestamp) {
+        if (!columnSelection.allColumnsSelected()) {
+            Map<Cell, Long> timestampByCell = new HashMap<>();
+            columnSelection.asCellsForRows(rows).forEach(cell -> timestampByCell.put(cell, timestamp));
+            return getAsync(tableRef, timestampByCell);
+        }
+
+        if (log.isTraceEnabled()) {
+            log.trace("Getting rows using CQL.", LoggingArgs.tableRef(tableRef));
+        }
+        return getRowsAsync(tableRef, rows, row -> ImmutableGetRowQueryParameters.builder()
+                .row(row)
+                .columnSelection(columnSelection)
+                .humanReadableTimestamp(timestamp)
+                .build());
+    }
+
+    /**
+     * Issues one query per row, each of which reads from the start of the column range and stops once it has found
+     * the visible versions of batch hint columns, or has reached the end of the range.
+     */
+    @Override
+    public ListenableFuture<Map<Cell, Value>> getFirstBatchForRowsColumnRangeAsync(
+            TableReference tableRef,
+            Iterable<byte[]> rows,
+            BatchColumnRangeSelection batchColumnRangeSelection,
+            long timestamp) {
+        if (log.isTraceEnabled()) {
+            log.trace(
+                    "Getting rows column range using CQL.",
+                    SafeArg.of("batchHint", batchColumnRangeSelection.getBatchHint()),
+                    LoggingArgs.tableRef(tableRef));
+        }
+        return getRowsAsync(tableRef, rows, row -> ImmutableGetRowQueryParameters.builder()
+                .row(row)
+                .columnSelection(ColumnSelection.all())
+                .humanReadableTimestamp(timestamp)
+                .startColumn(batchColumnRangeSelection.getStartCol())
+                .endColumn(batchColumnRangeSelection.getEndCol())
+                .maxColumns(batchColumnRangeSelection.getBatchHint())
+                .build());
+    }
+
+    private ListenableFuture<Map<Cell, Value>> getRowsAsync(
+            TableReference tableRef, Iterable<byte[]> rows, Function<byte[], GetRowQueryParameters> parameters) {
+        CqlQueryContext queryContext = queryContext(tableRef);
+        CqlClient cqlClient = cqlClientContainer.get();
+        List<ListenableFuture<Map<Cell, Value>>> rowFutures = new ArrayList<>();
+        for (byte[] row : rows) {
+            rowFutures.add(cqlClient.executeQuery(new GetRowQuerySpec(queryContext, parameters.apply(row))));
+        }
+
+        return Futures.transform(
+                Futures.allAsList(rowFutures),
+                rowResults -> {
+                    Map<Cell, Value> result = new HashMap<>();
+                    rowResults.forEach(result::putAll);
+                    return result;
+                },
+                MoreExecutors.directExecutor());
+    }
+
+    @Override
+    public ListenableFuture<TokenBackedBasicResultsPage<RowResult<Value>, byte[]>> getFirstBatchForRangeAsync(
+            TableReference tableRef, RangeRequest rangeRequest, long timestamp) {
+        if (log.isTraceEnabled()) {
+            log.trace(
+                    "Getting range using CQL.",
+                    SafeArg.of("batchHint", rangeRequest.getBatchHint()),
+                    LoggingArgs.tableRef(tableRef));
+        }
+
+        return cqlClientContainer
+                .get()
+                .executeQuery(new GetRangeQuerySpec(
+                        queryContext(tableRef),
+                        ImmutableGetRangeQueryParameters.builder()
+                                .rangeRequest(rangeRequest)
+                                .humanReadableTimestamp(timestamp)
+                                .build()));
+    }
+
+    /**
+     * Writes each cell with its own statement; statements are routed to a replica of their row by the driver's token
+     * aware load balancing, so there is no coordinator fan-out as there would be for a batch spanning rows. At most
+     * {@link #MAX_CONCURRENT_PUTS_PER_CALL} statements of a call are in flight at once.
+     */
+    @Override
+    public ListenableFuture<Void> multiPutAsync(
+            Map<TableReference, ? extends Map<Cell, byte[]>> valuesByTable, long timestamp) {
+        CqlClient cqlClient = cqlClientContainer.get();
+        List<PutQuerySpec> puts = new ArrayList<>();
+        valuesByTable.forEach((tableRef, values) -> {
+            if (log.isTraceEnabled()) {
+                log.trace(
+                        "Putting cells using CQL.", SafeArg.of("cells", values.size()), LoggingArgs.tableRef(tableRef));
+            }
+            CqlQueryContext queryContext = queryContext(tableRef);
+            values.forEach((cell, value) -> puts.add(new PutQuerySpec(
+                    queryContext,
+                    ImmutablePutQueryParameters.builder()
+                            .cell(cell)
+                            .value(value == null ? new byte[0] : value)
+                            .humanReadableTimestamp(timestamp)
+                            .build())));
+        });
+
+        return new PutWindow(cqlClient, puts.iterator()).start();
+    }
+
+    private CqlQueryContext queryContext(TableReference tableReference) {
+        return ImmutableCqlQueryContext.builder()
+                .tableReference(tableReference)
+                .keyspace(keyspace)
+                .build();
+    }
+
     @Override
     public void close() {
         try {
@@ -99,6 +246,60 @@ public final class CassandraAsyncKeyValueService implements AsyncKeyValueService
         futuresCombiner.close();
     }
 
+    /**
+     * Keeps at most {@link #MAX_CONCURRENT_PUTS_PER_CALL} puts in flight, issuing the next as each completes, so that a
+     * large multiPut cannot flood the driver's request queues. The first failed put fails the whole write, and no
+     * further puts are issued.
+     */
+    private static final class PutWindow implements FutureCallback<Void> {
+        private final CqlClient cqlClient;
+        private final Iterator<PutQuerySpec> puts;
+        private final SettableFuture<Void> result = SettableFuture.create();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        // Only one thread issues puts at a time; completions that arrive meanwhile leave the issuing to it.
+        private final AtomicInteger pendingIssues = new AtomicInteger();
+
+        private PutWindow(CqlClient cqlClient, Iterator<PutQuerySpec> puts) {
+            this.cqlClient = cqlClient;
+            this.puts = puts;
+        }
+
+        private ListenableFuture<Void> start() {
+            issuePuts();
+            return result;
+        }
+
+        @Override
+        public void onSuccess(Void _unused) {
+            inFlight.decrementAndGet();
+            issuePuts();
+        }
+
+        @Override
+        public void onFailure(Throwable throwable) {
+            result.setException(throwable);
+        }
+
+        private void issuePuts() {
+            if (pendingIssues.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                while (!result.isDone() && inFlight.get() < MAX_CONCURRENT_PUTS_PER_CALL && puts.hasNext()) {
+                    inFlight.incrementAndGet();
+                    try {
+                        Futures.addCallback(cqlClient.executeQuery(puts.next()), this, MoreExecutors.directExecutor());
+                    } catch (RuntimeException e) {
+                        result.setException(e);
+                    }
+                }
+                if (!puts.hasNext() && inFlight.get() == 0) {
+                    result.set(null);
+                }
+            } while (pendingIssues.decrementAndGet() != 0);
+        }
+    }
+
     @Override
     public boolean isValid() {
         try {
@@ -139,7 +139,7 @@ public final class CqlClientImpl implements CqlClient {
                     Streams.stream(resultSet).limit(resultSet.getAvailableWithoutFetching()));
 
             boolean wasLastPage = resultSet.getExecutionInfo().getPagingState() == null;
-            if (wasLastPage) {
+            if (wasLastPage || rowStreamAccumulator.isDone()) {
                 return Futures.immediateFuture(rowStreamAccumulator.result());
             } else {
                 ListenableFuture<ResultSet> future = resultSet.fetchMoreResults();
@@ -0,0 +1,213 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.cassandra.async.queries;
+
+import com.datastax.driver.core.ConsistencyLevel;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.utils.Bytes;
+import com.palantir.atlasdb.keyvalue.api.ColumnSelection;
+import com.palantir.atlasdb.keyvalue.api.RangeRequest;
+import com.palantir.atlasdb.keyvalue.api.RangeRequests;
+import com.palantir.atlasdb.keyvalue.api.RowResult;
+import com.palantir.atlasdb.keyvalue.api.Value;
+import com.palantir.atlasdb.keyvalue.impl.AbstractKeyValueService;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.util.paging.SimpleTokenBackedResultsPage;
+import com.palantir.util.paging.TokenBackedBasicResultsPage;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Reads the first page of a forward range of rows. AtlasDB keyspaces use the byte ordered partitioner, so token order
+ * is row order and a single token restriction returns the rows from the start of the range onwards, in order. The end
+ * of the range and the page size are enforced as rows arrive, and no further pages are fetched once either is reached.
+ */
+@SuppressWarnings("InlineFormatString") // complex query string, makes more sense to keep extracted as a constant
+public final class GetRangeQuerySpec implements CqlQuerySpec<TokenBackedBasicResultsPage<RowResult<Value>, byte[]>> {
+
+    private static final String QUERY_FORMAT = "SELECT key, column1, column2, value FROM \"%s\".\"%s\" "
+            + "WHERE token(key) >= token(:startRow);";
+
+    private final CqlQueryContext cqlQueryContext;
+    private final GetRangeQueryParameters getRangeQueryParameters;
+    private final GetRangeQueryAccumulator getRangeQueryAccumulator;
+
+    public GetRangeQuerySpec(CqlQueryContext cqlQueryContext, GetRangeQueryParameters getRangeQueryParameters) {
+        this.cqlQueryContext = cqlQueryContext;
+        this.getRangeQueryParameters = getRangeQueryParameters;
+        this.getRangeQueryAccumulator = new GetRangeQueryAccumulator(getRangeQueryParameters);
+    }
+
+    @Override
+    public CqlQueryContext cqlQueryContext() {
+        return cqlQueryContext;
+    }
+
+    @Override
+    public String formatQueryString() {
+        return String.format(
+                QUERY_FORMAT,
+                cqlQueryContext().keyspace(),
+                AbstractKeyValueService.internalTableName(cqlQueryContext().tableReference()));
+    }
+
+    @Override
+    public QueryType queryType() {
+        return QueryType.GET_RANGE;
+    }
+
+    @Override
+    public Statement makeExecutableStatement(PreparedStatement preparedStatement) {
+        return preparedStatement
+                .bind()
+                .setBytes(
+                        "startRow",
+                        ByteBuffer.wrap(getRangeQueryParameters.rangeRequest().getStartInclusive())
+                                .asReadOnlyBuffer());
+    }
+
+    @Override
+    public ConsistencyLevel queryConsistency() {
+        return ConsistencyLevel.LOCAL_QUORUM;
+    }
+
+    @Override
+    public RowStreamAccumulator<TokenBackedBasicResultsPage<RowResult<Value>, byte[]>> rowStreamAccumulator() {
+        return getRangeQueryAccumulator;
+    }
+
+    @org.immutables.value.Value.Immutable
+    public interface GetRangeQueryParameters {
+        RangeRequest rangeRequest();
+
+        long humanReadableTimestamp();
+
+        /**
+         * As for {@code getFirstBatchForRanges}, a range request without a batch hint gets just its first row.
+         */
+        default int maxRows() {
+            Integer batchHint = rangeRequest().getBatchHint();
+            return batchHint == null ? 1 : batchHint;
+        }
+
+        @org.immutables.value.Value.Check
+        default void check() {
+            Preconditions.checkArgument(!rangeRequest().isReverse(), "Reverse range scans are not supported");
+            Preconditions.checkArgument(maxRows() > 0, "Batch hint must be positive");
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        GetRangeQuerySpec that = (GetRangeQuerySpec) other;
+        return cqlQueryContext.equals(that.cqlQueryContext)
+                && getRangeQueryParameters.equals(that.getRangeQueryParameters);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(cqlQueryContext, getRangeQueryParameters);
+    }
+
+    /**
+     * Rows count towards the page size whether or not they have a visible cell, so that the work done for one page is
+     * bounded; as documented on {@code getFirstBatchForRanges}, a page may therefore be empty yet have more results.
+     */
+    private static final class GetRangeQueryAccumulator
+            implements RowStreamAccumulator<TokenBackedBasicResultsPage<RowResult<Value>, byte[]>> {
+        private final RangeRequest rangeRequest;
+        private final ColumnSelection columnSelection;
+        private final long timestamp;
+        private final int maxRows;
+        private final List<RowResult<Value>> rowResults = new ArrayList<>();
+
+        private int rowsSeen = 0;
+        private byte[] currentRow = null;
+        private VisibleColumnsCollector currentColumns = null;
+        private byte[] nextPageStart = null;
+        private volatile boolean done = false;
+
+        private GetRangeQueryAccumulator(GetRangeQueryParameters parameters) {
+            this.rangeRequest = parameters.rangeRequest();
+            this.columnSelection = RangeRequests.extractColumnSelection(rangeRequest);
+            this.timestamp = parameters.humanReadableTimestamp();
+            this.maxRows = parameters.maxRows();
+        }
+
+        @Override
+        public void accumulateRowStream(Stream<Row> rowStream) {
+            Iterator<Row> rows = rowStream.iterator();
+            while (!done && rows.hasNext()) {
+                accept(rows.next());
+            }
+        }
+
+        @Override
+        public boolean isDone() {
+            return done;
+        }
+
+        @Override
+        public TokenBackedBasicResultsPage<RowResult<Value>, byte[]> result() {
+            finishCurrentRow();
+            if (nextPageStart != null) {
+                return SimpleTokenBackedResultsPage.create(nextPageStart, rowResults, true);
+            }
+            return SimpleTokenBackedResultsPage.create(rangeRequest.getEndExclusive(), rowResults, false);
+        }
+
+        private void accept(Row cqlRow) {
+            byte[] row = Bytes.getArray(cqlRow.getBytes(0));
+            if (!Arrays.equals(row, currentRow)) {
+                finishCurrentRow();
+                if (!rangeRequest.inRange(row)) {
+                    done = true;
+                    return;
+                }
+                if (rowsSeen == maxRows) {
+                    nextPageStart = row;
+                    done = true;
+                    return;
+                }
+                rowsSeen++;
+                currentRow = row;
+                currentColumns = new VisibleColumnsCollector(columnSelection, timestamp);
+            }
+            currentColumns.accept(cqlRow, 1);
+        }
+
+        private void finishCurrentRow() {
+            if (currentRow != null && !currentColumns.isEmpty()) {
+                rowResults.add(RowResult.create(currentRow, currentColumns.columns()));
+            }
+            currentRow = null;
+        }
+    }
+}
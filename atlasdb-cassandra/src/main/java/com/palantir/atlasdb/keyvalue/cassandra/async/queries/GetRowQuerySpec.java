@@ -0,0 +1,213 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.cassandra.async.queries;
+
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.ConsistencyLevel;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.utils.Bytes;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.primitives.UnsignedBytes;
+import com.palantir.atlasdb.keyvalue.api.Cell;
+import com.palantir.atlasdb.keyvalue.api.ColumnSelection;
+import com.palantir.atlasdb.keyvalue.api.Value;
+import com.palantir.atlasdb.keyvalue.impl.AbstractKeyValueService;
+import com.palantir.logsafe.Preconditions;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Reads the latest visible version of the columns of one row, optionally only from a start column onwards. CQL only
+ * allows restricting {@code column2} once {@code column1} is fixed, so every version of the columns read is scanned and
+ * the visible version of each is picked out as pages arrive; only those are held in memory. Reading stops, and no
+ * further pages are fetched, once the end column or the maximum number of visible columns is reached.
+ */
+@SuppressWarnings("InlineFormatString") // complex query string, makes more sense to keep extracted as a constant
+public final class GetRowQuerySpec implements CqlQuerySpec<Map<Cell, Value>> {
+
+    private static final String QUERY_FORMAT = "SELECT column1, column2, value FROM \"%s\".\"%s\" WHERE key = :row;";
+    private static final String FROM_COLUMN_QUERY_FORMAT = "SELECT column1, column2, value FROM \"%s\".\"%s\" "
+            + "WHERE key = :row AND column1 >= :startColumn;";
+
+    private final CqlQueryContext cqlQueryContext;
+    private final GetRowQueryParameters getRowQueryParameters;
+    private final GetRowQueryAccumulator getRowQueryAccumulator;
+
+    public GetRowQuerySpec(CqlQueryContext cqlQueryContext, GetRowQueryParameters getRowQueryParameters) {
+        this.cqlQueryContext = cqlQueryContext;
+        this.getRowQueryParameters = getRowQueryParameters;
+        this.getRowQueryAccumulator = new GetRowQueryAccumulator(getRowQueryParameters);
+    }
+
+    @Override
+    public CqlQueryContext cqlQueryContext() {
+        return cqlQueryContext;
+    }
+
+    @Override
+    public String formatQueryString() {
+        return String.format(
+                readsFromStartColumn() ? FROM_COLUMN_QUERY_FORMAT : QUERY_FORMAT,
+                cqlQueryContext().keyspace(),
+                AbstractKeyValueService.internalTableName(cqlQueryContext().tableReference()));
+    }
+
+    @Override
+    public QueryType queryType() {
+        return readsFromStartColumn() ? QueryType.GET_ROW_FROM_COLUMN : QueryType.GET_ROW;
+    }
+
+    @Override
+    public Statement makeExecutableStatement(PreparedStatement preparedStatement) {
+        BoundStatement statement = preparedStatement
+                .bind()
+                .setBytes("row", ByteBuffer.wrap(getRowQueryParameters.row()).asReadOnlyBuffer());
+        if (readsFromStartColumn()) {
+            statement.setBytes(
+                    "startColumn", ByteBuffer.wrap(getRowQueryParameters.startColumn()).asReadOnlyBuffer());
+        }
+        return statement;
+    }
+
+    @Override
+    public ConsistencyLevel queryConsistency() {
+        return ConsistencyLevel.LOCAL_QUORUM;
+    }
+
+    @Override
+    public RowStreamAccumulator<Map<Cell, Value>> rowStreamAccumulator() {
+        return getRowQueryAccumulator;
+    }
+
+    @org.immutables.value.Value.Immutable
+    public interface GetRowQueryParameters {
+        byte[] row();
+
+        ColumnSelection columnSelection();
+
+        long humanReadableTimestamp();
+
+        /**
+         * First column to read, inclusive; empty to read from the first column of the row.
+         */
+        @org.immutables.value.Value.Default
+        default byte[] startColumn() {
+            return new byte[0];
+        }
+
+        /**
+         * Column to stop reading at, exclusive; empty to read to the last column of the row.
+         */
+        @org.immutables.value.Value.Default
+        default byte[] endColumn() {
+            return new byte[0];
+        }
+
+        /**
+         * Maximum number of visible columns to read.
+         */
+        @org.immutables.value.Value.Default
+        default int maxColumns() {
+            return Integer.MAX_VALUE;
+        }
+
+        @org.immutables.value.Value.Check
+        default void check() {
+            Preconditions.checkArgument(maxColumns() > 0, "Maximum number of columns must be positive");
+        }
+    }
+
+    private boolean readsFromStartColumn() {
+        return getRowQueryParameters.startColumn().length > 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        GetRowQuerySpec that = (GetRowQuerySpec) other;
+        return cqlQueryContext.equals(that.cqlQueryContext)
+                && getRowQueryParameters.equals(that.getRowQueryParameters);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(cqlQueryContext, getRowQueryParameters);
+    }
+
+    private static final class GetRowQueryAccumulator implements RowStreamAccumulator<Map<Cell, Value>> {
+        private final byte[] row;
+        private final byte[] endColumn;
+        private final int maxColumns;
+        private final VisibleColumnsCollector collector;
+
+        private volatile boolean done = false;
+
+        private GetRowQueryAccumulator(GetRowQueryParameters parameters) {
+            this.row = parameters.row();
+            this.endColumn = parameters.endColumn();
+            this.maxColumns = parameters.maxColumns();
+            this.collector =
+                    new VisibleColumnsCollector(parameters.columnSelection(), parameters.humanReadableTimestamp());
+        }
+
+        @Override
+        public void accumulateRowStream(Stream<Row> rowStream) {
+            Iterator<Row> rows = rowStream.iterator();
+            while (!done && rows.hasNext()) {
+                accept(rows.next());
+            }
+        }
+
+        @Override
+        public boolean isDone() {
+            return done;
+        }
+
+        @Override
+        public Map<Cell, Value> result() {
+            ImmutableMap.Builder<Cell, Value> result =
+                    ImmutableMap.builderWithExpectedSize(collector.columns().size());
+            collector.columns().forEach((column, value) -> result.put(Cell.create(row, column), value));
+            return result.buildOrThrow();
+        }
+
+        private void accept(Row cqlRow) {
+            if (isAtOrPastEndColumn(cqlRow)) {
+                done = true;
+                return;
+            }
+            collector.accept(cqlRow, 0);
+            done = collector.columns().size() >= maxColumns;
+        }
+
+        private boolean isAtOrPastEndColumn(Row cqlRow) {
+            return endColumn.length > 0
+                    && UnsignedBytes.lexicographicalComparator().compare(Bytes.getArray(cqlRow.getBytes(0)), endColumn)
+                            >= 0;
+        }
+    }
+}
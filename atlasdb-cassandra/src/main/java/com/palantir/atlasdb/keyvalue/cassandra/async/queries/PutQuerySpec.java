@@ -0,0 +1,133 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.cassandra.async.queries;
+
+import com.datastax.driver.core.ConsistencyLevel;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Statement;
+import com.palantir.atlasdb.keyvalue.api.Cell;
+import com.palantir.atlasdb.keyvalue.impl.AbstractKeyValueService;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+@SuppressWarnings("InlineFormatString") // complex query string, makes more sense to keep extracted as a constant
+public final class PutQuerySpec implements CqlQuerySpec<Void> {
+
+    /**
+     * Writes one version of one cell, exactly as the Thrift write path does: the timestamp is stored as its bitwise
+     * complement so that newer versions sort first, and the Cassandra write timestamp is the AtlasDB timestamp.
+     */
+    private static final String QUERY_FORMAT = "INSERT INTO \"%s\".\"%s\" (key, column1, column2, value) "
+            + "VALUES (:row, :column, :timestamp, :value) "
+            + "USING TIMESTAMP :cassandraTimestamp;";
+
+    private static final RowStreamAccumulator<Void> NO_RESULT_ACCUMULATOR = new RowStreamAccumulator<>() {
+        @Override
+        public void accumulateRowStream(Stream<Row> rowStream) {
+            // writes return no rows
+        }
+
+        @Override
+        public Void result() {
+            return null;
+        }
+    };
+
+    private final CqlQueryContext cqlQueryContext;
+    private final PutQueryParameters putQueryParameters;
+
+    public PutQuerySpec(CqlQueryContext cqlQueryContext, PutQueryParameters putQueryParameters) {
+        this.cqlQueryContext = cqlQueryContext;
+        this.putQueryParameters = putQueryParameters;
+    }
+
+    @Override
+    public CqlQueryContext cqlQueryContext() {
+        return cqlQueryContext;
+    }
+
+    @Override
+    public String formatQueryString() {
+        return String.format(
+                QUERY_FORMAT,
+                cqlQueryContext().keyspace(),
+                AbstractKeyValueService.internalTableName(cqlQueryContext().tableReference()));
+    }
+
+    @Override
+    public QueryType queryType() {
+        return QueryType.PUT;
+    }
+
+    @Override
+    public Statement makeExecutableStatement(PreparedStatement preparedStatement) {
+        return preparedStatement
+                .bind()
+                .setBytes("row", toReadOnlyByteBuffer(putQueryParameters.cell().getRowName()))
+                .setBytes(
+                        "column", toReadOnlyByteBuffer(putQueryParameters.cell().getColumnName()))
+                .setLong("timestamp", putQueryParameters.queryTimestamp())
+                .setBytes("value", toReadOnlyByteBuffer(putQueryParameters.value()))
+                .setLong("cassandraTimestamp", putQueryParameters.humanReadableTimestamp());
+    }
+
+    private static ByteBuffer toReadOnlyByteBuffer(byte[] bytes) {
+        return ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+    }
+
+    @Override
+    public ConsistencyLevel queryConsistency() {
+        return ConsistencyLevel.EACH_QUORUM;
+    }
+
+    @Override
+    public RowStreamAccumulator<Void> rowStreamAccumulator() {
+        return NO_RESULT_ACCUMULATOR;
+    }
+
+    @org.immutables.value.Value.Immutable
+    public interface PutQueryParameters {
+        Cell cell();
+
+        byte[] value();
+
+        long humanReadableTimestamp();
+
+        default long queryTimestamp() {
+            return ~humanReadableTimestamp();
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        PutQuerySpec that = (PutQuerySpec) other;
+        return cqlQueryContext.equals(that.cqlQueryContext) && putQueryParameters.equals(that.putQueryParameters);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(cqlQueryContext, putQueryParameters);
+    }
+}
@@ -17,5 +17,9 @@
 package com.palantir.atlasdb.keyvalue.cassandra.async.queries;
 
 public enum QueryType {
-    GET
+    GET,
+    GET_ROW,
+    GET_ROW_FROM_COLUMN,
+    GET_RANGE,
+    PUT
 }
@@ -44,4 +44,14 @@ public interface RowStreamAccumulator<R> {
      * @return accumulated result
      */
     R result();
+
+    /**
+     * Whether the accumulator has all the rows it needs. Once this returns true, no further pages of the query are
+     * fetched and {@code result} is called straight away.
+     *
+     * @return true iff no more rows should be fetched
+     */
+    default boolean isDone() {
+        return false;
+    }
 }
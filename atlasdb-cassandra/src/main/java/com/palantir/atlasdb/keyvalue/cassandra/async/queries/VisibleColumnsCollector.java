@@ -0,0 +1,67 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.cassandra.async.queries;
+
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.utils.Bytes;
+import com.google.common.primitives.UnsignedBytes;
+import com.palantir.atlasdb.keyvalue.api.ColumnSelection;
+import com.palantir.atlasdb.keyvalue.api.Value;
+import java.util.Arrays;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Collects the latest version visible at a timestamp of each selected column of one row. Rows must be given in
+ * clustering order: by column, and then by stored timestamp, which as the bitwise complement of the real timestamp
+ * puts the newest version of each column first.
+ */
+final class VisibleColumnsCollector {
+    private final ColumnSelection columnSelection;
+    private final long queryTimestamp;
+    private final SortedMap<byte[], Value> columns = new TreeMap<>(UnsignedBytes.lexicographicalComparator());
+
+    private byte[] lastCollectedColumn = null;
+
+    VisibleColumnsCollector(ColumnSelection columnSelection, long humanReadableTimestamp) {
+        this.columnSelection = columnSelection;
+        this.queryTimestamp = ~humanReadableTimestamp;
+    }
+
+    /**
+     * @param row a row whose column1, column2 and value are at the given index and the two following it
+     */
+    void accept(Row row, int columnIndex) {
+        byte[] column = Bytes.getArray(row.getBytes(columnIndex));
+        if (Arrays.equals(column, lastCollectedColumn) || !columnSelection.contains(column)) {
+            return;
+        }
+        long storedTimestamp = row.getLong(columnIndex + 1);
+        if (storedTimestamp > queryTimestamp) {
+            columns.put(column, Value.create(Bytes.getArray(row.getBytes(columnIndex + 2)), ~storedTimestamp));
+            lastCollectedColumn = column;
+        }
+    }
+
+    boolean isEmpty() {
+        return columns.isEmpty();
+    }
+
+    SortedMap<byte[], Value> columns() {
+        return columns;
+    }
+}
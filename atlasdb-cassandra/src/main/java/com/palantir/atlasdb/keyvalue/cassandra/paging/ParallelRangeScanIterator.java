@@ -0,0 +1,234 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.cassandra.paging;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.ImmutableList;
+import com.palantir.atlasdb.keyvalue.api.RowResult;
+import com.palantir.common.base.ClosableIterator;
+import com.palantir.common.base.Throwables;
+import com.palantir.common.concurrent.PTExecutors;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Scans several parts of a range at once, and returns their rows either in the order of the parts or as they are
+ * loaded.
+ *
+ * At most {@code parallelism} parts are scanned at once, and parts are started in order. Each part loads its rows one
+ * batch at a time on a pool shared by all scans, and stops loading while it has {@link #QUEUED_BATCHES_PER_PART}
+ * batches waiting for the caller, so a scan that gets ahead of the caller holds neither a thread nor more than a few
+ * batches. The caller resumes the part as it takes its batches. When rows are returned in order, each part has a
+ * queue of its own, and the part the caller is reading from is always among those being scanned. Otherwise all parts
+ * share a queue.
+ */
+public final class ParallelRangeScanIterator<T> extends AbstractIterator<RowResult<T>>
+        implements ClosableIterator<RowResult<T>> {
+    private static final int QUEUED_BATCHES_PER_PART = 2;
+    private static final int MAX_SCAN_THREADS = 16;
+    private static final Executor sharedExecutor =
+            PTExecutors.newFixedThreadPool(MAX_SCAN_THREADS, "Atlas Cassandra parallel range scan");
+
+    private final Executor executor;
+    private final int batchSize;
+    private final boolean ordered;
+    private final List<PartScan> scans;
+    private final List<BlockingQueue<Batch<T>>> queues;
+
+    private Iterator<RowResult<T>> currentBatch = ImmutableList.<RowResult<T>>of().iterator();
+    private int partsFinished = 0;
+    private int partsStarted = 0; // guarded by this
+    private volatile boolean closed = false;
+
+    public ParallelRangeScanIterator(
+            List<? extends Iterable<RowResult<T>>> parts, int parallelism, boolean ordered, int batchSize) {
+        this(parts, parallelism, ordered, batchSize, sharedExecutor);
+    }
+
+    @VisibleForTesting
+    ParallelRangeScanIterator(
+            List<? extends Iterable<RowResult<T>>> parts,
+            int parallelism,
+            boolean ordered,
+            int batchSize,
+            Executor executor) {
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.ordered = ordered;
+        this.queues = new ArrayList<>();
+        // the queues are bounded by each part pausing once it has enough batches queued
+        for (int i = 0; i < (ordered ? parts.size() : 1); i++) {
+            queues.add(new LinkedBlockingQueue<>());
+        }
+        this.scans = new ArrayList<>(parts.size());
+        for (int i = 0; i < parts.size(); i++) {
+            scans.add(new PartScan(parts.get(i), queueFor(i)));
+        }
+        for (int i = 0; i < parallelism; i++) {
+            startNextPart();
+        }
+    }
+
+    @Override
+    protected RowResult<T> computeNext() {
+        while (!currentBatch.hasNext()) {
+            if (partsFinished == scans.size()) {
+                close();
+                return endOfData();
+            }
+            Batch<T> batch = take(queueFor(partsFinished));
+            if (batch.failure != null) {
+                close();
+                throw Throwables.throwUncheckedException(batch.failure);
+            }
+            if (batch.rows == null) {
+                partsFinished++;
+            } else {
+                batch.source.batchTaken();
+                currentBatch = batch.rows.iterator();
+            }
+        }
+        return currentBatch.next();
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            queues.forEach(BlockingQueue::clear);
+        }
+    }
+
+    private BlockingQueue<Batch<T>> queueFor(int part) {
+        return ordered ? queues.get(part) : queues.get(0);
+    }
+
+    private void startNextPart() {
+        PartScan scan;
+        synchronized (this) {
+            if (partsStarted == scans.size()) {
+                return;
+            }
+            scan = scans.get(partsStarted++);
+        }
+        schedule(scan);
+    }
+
+    private void schedule(PartScan scan) {
+        if (!closed) {
+            executor.execute(scan);
+        }
+    }
+
+    private Batch<T> take(BlockingQueue<Batch<T>> queue) {
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            close();
+            Thread.currentThread().interrupt();
+            throw Throwables.throwUncheckedException(e);
+        }
+    }
+
+    /**
+     * Loads one batch of a part each time it runs, and schedules itself again unless the part is done or has enough
+     * batches queued. Only one run of a part is ever scheduled at a time.
+     */
+    private final class PartScan implements Runnable {
+        private final Iterable<RowResult<T>> part;
+        private final BlockingQueue<Batch<T>> queue;
+
+        private Iterator<RowResult<T>> iterator;
+        private int queuedBatches = 0; // guarded by ParallelRangeScanIterator.this
+        private boolean paused = false; // guarded by ParallelRangeScanIterator.this
+
+        private PartScan(Iterable<RowResult<T>> part, BlockingQueue<Batch<T>> queue) {
+            this.part = part;
+            this.queue = queue;
+        }
+
+        @Override
+        public void run() {
+            if (closed) {
+                return;
+            }
+            Batch<T> batch = loadBatch();
+            boolean partDone = batch.rows == null;
+            boolean runAgain;
+            synchronized (ParallelRangeScanIterator.this) {
+                if (!partDone) {
+                    queuedBatches++;
+                }
+                queue.add(batch);
+                paused = !partDone && queuedBatches >= QUEUED_BATCHES_PER_PART;
+                runAgain = !partDone && !paused;
+            }
+            if (partDone) {
+                startNextPart();
+            } else if (runAgain) {
+                schedule(this);
+            }
+        }
+
+        private void batchTaken() {
+            boolean resume;
+            synchronized (ParallelRangeScanIterator.this) {
+                queuedBatches--;
+                resume = paused;
+                paused = false;
+            }
+            if (resume) {
+                schedule(this);
+            }
+        }
+
+        private Batch<T> loadBatch() {
+            try {
+                if (iterator == null) {
+                    iterator = part.iterator();
+                }
+                List<RowResult<T>> rows = new ArrayList<>(batchSize);
+                while (!closed && rows.size() < batchSize && iterator.hasNext()) {
+                    rows.add(iterator.next());
+                }
+                return rows.isEmpty() ? new Batch<>(this, null, null) : new Batch<>(this, rows, null);
+            } catch (Throwable t) {
+                return new Batch<>(this, null, t);
+            }
+        }
+    }
+
+    /**
+     * A batch of rows, the end of a part if there are no rows, or the failure of a part.
+     */
+    private static final class Batch<T> {
+        private final ParallelRangeScanIterator<T>.PartScan source;
+        private final List<RowResult<T>> rows;
+        private final Throwable failure;
+
+        private Batch(ParallelRangeScanIterator<T>.PartScan source, List<RowResult<T>> rows, Throwable failure) {
+            this.source = source;
+            this.rows = rows;
+            this.failure = failure;
+        }
+    }
+}
@@ -423,6 +423,9 @@ public class CassandraService implements AutoCloseable {
         if (matchingPools.isEmpty()) {
             return Optional.empty();
         }
+        if (config.latencyAwareHostSelection()) {
+            return Optional.of(LatencyAwareServers.create(matchingPools.values()).getRandomServer());
+        }
         return Optional.of(WeightedServers.create(matchingPools).getRandomServer());
     }
 
@@ -0,0 +1,68 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.cassandra.pool;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.palantir.atlasdb.keyvalue.cassandra.CassandraClientPoolingContainer;
+import com.palantir.logsafe.Preconditions;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Picks a host by the power of two choices: of two hosts picked at random, the one with the lower expected cost of a
+ * request, which is its latency estimate scaled by its number of open requests, is chosen. Comparing only two hosts
+ * keeps a host that has just become the cheapest from being sent every request before its estimate catches up.
+ */
+public final class LatencyAwareServers {
+    private final List<CassandraClientPoolingContainer> pools;
+
+    private LatencyAwareServers(List<CassandraClientPoolingContainer> pools) {
+        this.pools = pools;
+    }
+
+    public static LatencyAwareServers create(Collection<CassandraClientPoolingContainer> pools) {
+        Preconditions.checkArgument(!pools.isEmpty(), "pools should be non-empty");
+        return new LatencyAwareServers(ImmutableList.copyOf(pools));
+    }
+
+    public CassandraServer getRandomServer() {
+        if (pools.size() == 1) {
+            return pools.get(0).getCassandraServer();
+        }
+        int first = ThreadLocalRandom.current().nextInt(pools.size());
+        // pick a different second host by skipping over the first
+        int second = (first + 1 + ThreadLocalRandom.current().nextInt(pools.size() - 1)) % pools.size();
+        return getCheaperServer(first, second);
+    }
+
+    @VisibleForTesting
+    CassandraServer getCheaperServer(int first, int second) {
+        CassandraClientPoolingContainer firstPool = pools.get(first);
+        CassandraClientPoolingContainer secondPool = pools.get(second);
+        return cost(firstPool) <= cost(secondPool) ? firstPool.getCassandraServer() : secondPool.getCassandraServer();
+    }
+
+    /**
+     * The latency estimate of a host with no completed requests is zero, so such a host is preferred until it has
+     * been measured.
+     */
+    private static double cost(CassandraClientPoolingContainer pool) {
+        return (pool.getLatencyEstimateNanos() + 1) * (Math.max(pool.getOpenRequests(), 0) + 1);
+    }
+}
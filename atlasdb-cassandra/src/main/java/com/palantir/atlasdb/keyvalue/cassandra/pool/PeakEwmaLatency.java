@@ -0,0 +1,83 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.cassandra.pool;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import java.time.Duration;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A peak-sensitive, exponentially weighted moving average of the latency of requests to a host.
+ * <p>
+ * A request slower than the estimate replaces it straight away, so a host that stalls, for example in a GC pause, is
+ * avoided from its first slow request; faster requests pull the estimate down gradually. The weight of the old
+ * estimate depends on the time since it was last updated rather than on the number of requests, and the estimate
+ * decays towards zero while no requests complete, so that a host that has been avoided is tried again.
+ * <p>
+ * Failed requests only ever raise the estimate, so that a host failing fast is not mistaken for a fast host; the
+ * blacklist is what keeps requests away from such hosts.
+ */
+@ThreadSafe
+public final class PeakEwmaLatency {
+    private static final double DECAY_TIME_NANOS = Duration.ofSeconds(10).toNanos();
+
+    private final Ticker ticker;
+
+    private double estimateNanos = 0;
+    private long lastUpdateNanos;
+
+    @VisibleForTesting
+    PeakEwmaLatency(Ticker ticker) {
+        this.ticker = ticker;
+        this.lastUpdateNanos = ticker.read();
+    }
+
+    public static PeakEwmaLatency create() {
+        return new PeakEwmaLatency(Ticker.systemTicker());
+    }
+
+    public synchronized void recordSuccess(long latencyNanos) {
+        long now = ticker.read();
+        if (latencyNanos > estimateNanos) {
+            estimateNanos = latencyNanos;
+        } else {
+            double weight = Math.exp(-(now - lastUpdateNanos) / DECAY_TIME_NANOS);
+            estimateNanos = estimateNanos * weight + latencyNanos * (1 - weight);
+        }
+        lastUpdateNanos = now;
+    }
+
+    public synchronized void recordFailure(long latencyNanos) {
+        long now = ticker.read();
+        if (latencyNanos > decayedEstimate(now)) {
+            estimateNanos = latencyNanos;
+            lastUpdateNanos = now;
+        }
+    }
+
+    /**
+     * The current estimate, which is zero until a request has completed.
+     */
+    public synchronized double getEstimateNanos() {
+        return decayedEstimate(ticker.read());
+    }
+
+    private double decayedEstimate(long now) {
+        return estimateNanos * Math.exp(-(now - lastUpdateNanos) / DECAY_TIME_NANOS);
+    }
+}
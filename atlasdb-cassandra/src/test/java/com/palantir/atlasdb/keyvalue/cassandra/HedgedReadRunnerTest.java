@@ -0,0 +1,206 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.cassandra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableRangeMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Range;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.palantir.atlasdb.cassandra.CassandraHedgedReadsConfig;
+import com.palantir.atlasdb.cassandra.ImmutableCassandraHedgedReadsConfig;
+import com.palantir.atlasdb.encoding.PtBytes;
+import com.palantir.atlasdb.keyvalue.cassandra.pool.CassandraServer;
+import com.palantir.atlasdb.util.MetricsManagers;
+import com.palantir.common.base.FunctionCheckedException;
+import com.palantir.conjure.java.api.config.service.HumanReadableDuration;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class HedgedReadRunnerTest {
+    private static final CassandraServer SERVER_1 = CassandraServer.of(InetSocketAddress.createUnresolved("1", 1));
+    private static final CassandraServer SERVER_2 = CassandraServer.of(InetSocketAddress.createUnresolved("2", 2));
+    private static final CassandraServer SERVER_3 = CassandraServer.of(InetSocketAddress.createUnresolved("3", 3));
+    private static final byte[] ROW_A = PtBytes.toBytes("a");
+    private static final byte[] ROW_M = PtBytes.toBytes("m");
+    private static final List<byte[]> ROWS = ImmutableList.of(ROW_A);
+    private static final FunctionCheckedException<CassandraClient, String, Exception> READ = client -> "unused";
+    private static final int MAX_THREADS = 4;
+
+    private static final CassandraHedgedReadsConfig HEDGE_EVERY_READ = ImmutableCassandraHedgedReadsConfig.builder()
+            .enabled(true)
+            .delay(HumanReadableDuration.milliseconds(1))
+            .minimumDelay(HumanReadableDuration.milliseconds(1))
+            .maxHedgedProportion(1.0)
+            .build();
+
+    private final CassandraClientPool clientPool = mock(CassandraClientPool.class);
+    private final CountDownLatch primaryReleased = new CountDownLatch(1);
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    private CassandraHedgedReadsConfig config = HEDGE_EVERY_READ;
+    private HedgedReadRunner runner;
+
+    @BeforeEach
+    public void setUp() {
+        // rows before "m" are owned by servers 1 and 2, and the rest by servers 2 and 3
+        when(clientPool.getTokenMap())
+                .thenReturn(ImmutableRangeMap.<LightweightOppToken, ImmutableSet<CassandraServer>>builder()
+                        .put(Range.lessThan(new LightweightOppToken(ROW_M)), ImmutableSet.of(SERVER_1, SERVER_2))
+                        .put(Range.atLeast(new LightweightOppToken(ROW_M)), ImmutableSet.of(SERVER_2, SERVER_3))
+                        .build());
+        when(clientPool.getCurrentPools())
+                .thenReturn(ImmutableMap.of(
+                        SERVER_1, mockPool(SERVER_1, 1_000),
+                        SERVER_2, mockPool(SERVER_2, 2_000),
+                        SERVER_3, mockPool(SERVER_3, 500)));
+        runner = createRunner(MAX_THREADS);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        primaryReleased.countDown();
+        runner.close();
+    }
+
+    @Test
+    public void readsOnlyFromOwnHostWhenDisabled() throws Exception {
+        config = CassandraHedgedReadsConfig.defaultConfig();
+        when(clientPool.runWithRetryOnServer(eq(SERVER_1), any())).thenReturn("primary");
+
+        assertThat(runner.run(SERVER_1, ROWS, READ)).isEqualTo("primary");
+        verify(clientPool, never()).runOnCassandraServer(any(), any());
+    }
+
+    @Test
+    public void returnsPrimaryResultWhenItAnswersBeforeDelay() throws Exception {
+        config = ImmutableCassandraHedgedReadsConfig.copyOf(HEDGE_EVERY_READ)
+                .withDelay(HumanReadableDuration.minutes(1));
+        when(clientPool.runWithRetryOnServer(eq(SERVER_1), any())).thenReturn("primary");
+
+        assertThat(runner.run(SERVER_1, ROWS, READ)).isEqualTo("primary");
+        verify(clientPool, never()).runOnCassandraServer(any(), any());
+    }
+
+    @Test
+    public void returnsHedgedResultWhenPrimaryIsSlow() throws Exception {
+        when(clientPool.runWithRetryOnServer(eq(SERVER_1), any())).thenAnswer(invocation -> {
+            primaryReleased.await();
+            return "primary";
+        });
+        when(clientPool.runOnCassandraServer(eq(SERVER_2), any())).thenReturn("hedge");
+
+        assertThat(runner.run(SERVER_1, ROWS, READ)).isEqualTo("hedge");
+    }
+
+    @Test
+    public void waitsForPrimaryWhenBudgetIsExhausted() throws Exception {
+        config = ImmutableCassandraHedgedReadsConfig.copyOf(HEDGE_EVERY_READ).withMaxHedgedProportion(0.0);
+        when(clientPool.runWithRetryOnServer(eq(SERVER_1), any())).thenAnswer(invocation -> {
+            Thread.sleep(50);
+            return "primary";
+        });
+
+        assertThat(runner.run(SERVER_1, ROWS, READ)).isEqualTo("primary");
+        verify(clientPool, never()).runOnCassandraServer(any(), any());
+    }
+
+    @Test
+    public void runsReadOnCallingThreadWhenBudgetIsExhausted() throws Exception {
+        config = ImmutableCassandraHedgedReadsConfig.copyOf(HEDGE_EVERY_READ).withMaxHedgedProportion(0.0);
+        when(clientPool.runWithRetryOnServer(eq(SERVER_1), any()))
+                .thenAnswer(invocation -> Thread.currentThread().getName());
+
+        assertThat(runner.run(SERVER_1, ROWS, READ)).isEqualTo(Thread.currentThread().getName());
+    }
+
+    @Test
+    public void runsReadOnCallingThreadWhenNoThreadIsLeftForHedge() throws Exception {
+        runner.close();
+        runner = createRunner(1);
+        when(clientPool.runWithRetryOnServer(eq(SERVER_1), any()))
+                .thenAnswer(invocation -> Thread.currentThread().getName());
+
+        assertThat(runner.run(SERVER_1, ROWS, READ)).isEqualTo(Thread.currentThread().getName());
+        verify(clientPool, never()).runOnCassandraServer(any(), any());
+    }
+
+    @Test
+    public void returnsPrimaryResultWhenHedgeFails() throws Exception {
+        when(clientPool.runWithRetryOnServer(eq(SERVER_1), any())).thenAnswer(invocation -> {
+            Thread.sleep(50);
+            return "primary";
+        });
+        when(clientPool.runOnCassandraServer(eq(SERVER_2), any())).thenThrow(new IllegalStateException("hedge"));
+
+        assertThat(runner.run(SERVER_1, ROWS, READ)).isEqualTo("primary");
+    }
+
+    @Test
+    public void throwsPrimaryFailureWhenBothFail() throws Exception {
+        when(clientPool.runWithRetryOnServer(eq(SERVER_1), any())).thenAnswer(invocation -> {
+            Thread.sleep(50);
+            throw new IllegalStateException("primary");
+        });
+        when(clientPool.runOnCassandraServer(eq(SERVER_2), any())).thenThrow(new IllegalStateException("hedge"));
+
+        assertThatThrownBy(() -> runner.run(SERVER_1, ROWS, READ))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("primary");
+    }
+
+    @Test
+    public void hedgesToFastestOtherReplicaOwningAllRows() {
+        assertThat(runner.getReplicaForHedging(SERVER_2, ImmutableList.of(ROW_A))).contains(SERVER_1);
+        assertThat(runner.getReplicaForHedging(SERVER_1, ImmutableList.of(ROW_M))).contains(SERVER_3);
+        assertThat(runner.getReplicaForHedging(SERVER_3, ImmutableList.of(ROW_M))).contains(SERVER_2);
+        assertThat(runner.getReplicaForHedging(SERVER_1, ImmutableList.of(ROW_A, ROW_M))).contains(SERVER_2);
+        assertThat(runner.getReplicaForHedging(SERVER_2, ImmutableList.of(ROW_A, ROW_M))).isEmpty();
+    }
+
+    private HedgedReadRunner createRunner(int maxThreads) {
+        return new HedgedReadRunner(
+                clientPool,
+                () -> config,
+                MoreExecutors.listeningDecorator(executor),
+                maxThreads,
+                MetricsManagers.createForTests());
+    }
+
+    private static CassandraClientPoolingContainer mockPool(CassandraServer server, double latencyEstimateNanos) {
+        CassandraClientPoolingContainer pool = mock(CassandraClientPoolingContainer.class);
+        when(pool.getCassandraServer()).thenReturn(server);
+        when(pool.getLatencyEstimateNanos()).thenReturn(latencyEstimateNanos);
+        return pool;
+    }
+}
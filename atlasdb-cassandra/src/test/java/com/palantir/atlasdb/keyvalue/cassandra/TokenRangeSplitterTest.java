@@ -0,0 +1,87 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.cassandra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableRangeMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Range;
+import com.google.common.collect.RangeMap;
+import com.palantir.atlasdb.encoding.PtBytes;
+import com.palantir.atlasdb.keyvalue.api.RangeRequest;
+import com.palantir.atlasdb.keyvalue.cassandra.pool.CassandraServer;
+import java.net.InetSocketAddress;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class TokenRangeSplitterTest {
+    private static final CassandraServer SERVER_1 =
+            CassandraServer.of(InetSocketAddress.createUnresolved("1.0.0.0", 5000));
+    private static final CassandraServer SERVER_2 =
+            CassandraServer.of(InetSocketAddress.createUnresolved("2.0.0.0", 5000));
+    private static final LightweightOppToken TOKEN_1 = new LightweightOppToken(new byte[] {0x40});
+    private static final LightweightOppToken TOKEN_2 = new LightweightOppToken(new byte[] {(byte) 0x80});
+    private static final RangeMap<LightweightOppToken, ImmutableSet<CassandraServer>> TOKEN_MAP =
+            ImmutableRangeMap.<LightweightOppToken, ImmutableSet<CassandraServer>>builder()
+                    .put(Range.atMost(TOKEN_1), ImmutableSet.of(SERVER_1))
+                    .put(Range.openClosed(TOKEN_1, TOKEN_2), ImmutableSet.of(SERVER_2))
+                    .put(Range.greaterThan(TOKEN_2), ImmutableSet.of(SERVER_1))
+                    .build();
+
+    @Test
+    public void splitsFullRangeAtTokenRangeBoundaries() {
+        List<RangeRequest> splits = TokenRangeSplitter.split(RangeRequest.all(), TOKEN_MAP);
+
+        assertThat(splits).hasSize(3);
+        assertSplit(splits.get(0), new byte[0], new byte[] {0x40, 0});
+        assertSplit(splits.get(1), new byte[] {0x40, 0}, new byte[] {(byte) 0x80, 0});
+        assertSplit(splits.get(2), new byte[] {(byte) 0x80, 0}, new byte[0]);
+    }
+
+    @Test
+    public void onlyReturnsPartsOfTokenRangesWithinRequestedRange() {
+        RangeRequest rangeRequest = RangeRequest.builder()
+                .startRowInclusive(new byte[] {0x50})
+                .endRowExclusive(new byte[] {(byte) 0x90})
+                .retainColumns(List.of(PtBytes.toBytes("col")))
+                .batchHint(7)
+                .build();
+
+        List<RangeRequest> splits = TokenRangeSplitter.split(rangeRequest, TOKEN_MAP);
+
+        assertThat(splits).hasSize(2);
+        assertSplit(splits.get(0), new byte[] {0x50}, new byte[] {(byte) 0x80, 0});
+        assertSplit(splits.get(1), new byte[] {(byte) 0x80, 0}, new byte[] {(byte) 0x90});
+        assertThat(splits).allSatisfy(split -> {
+            assertThat(split.getBatchHint()).isEqualTo(7);
+            assertThat(split.getColumnNames()).containsExactly(PtBytes.toBytes("col"));
+        });
+    }
+
+    @Test
+    public void returnsWholeRangeIfRingIsUnknown() {
+        RangeRequest rangeRequest = RangeRequest.builder().startRowInclusive(new byte[] {0x50}).build();
+
+        assertThat(TokenRangeSplitter.split(rangeRequest, ImmutableRangeMap.of())).containsExactly(rangeRequest);
+    }
+
+    private static void assertSplit(RangeRequest split, byte[] startInclusive, byte[] endExclusive) {
+        assertThat(split.getStartInclusive()).isEqualTo(startInclusive);
+        assertThat(split.getEndExclusive()).isEqualTo(endExclusive);
+    }
+}
@@ -17,24 +17,40 @@
 package com.palantir.atlasdb.keyvalue.cassandra.async;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
 import com.palantir.atlasdb.cassandra.ReloadingCloseableContainerImpl;
 import com.palantir.atlasdb.encoding.PtBytes;
 import com.palantir.atlasdb.futures.AtlasFutures;
 import com.palantir.atlasdb.keyvalue.api.AsyncKeyValueService;
+import com.palantir.atlasdb.keyvalue.api.BatchColumnRangeSelection;
 import com.palantir.atlasdb.keyvalue.api.Cell;
+import com.palantir.atlasdb.keyvalue.api.ColumnSelection;
 import com.palantir.atlasdb.keyvalue.api.Namespace;
 import com.palantir.atlasdb.keyvalue.api.TableReference;
 import com.palantir.atlasdb.keyvalue.api.Value;
 import com.palantir.atlasdb.keyvalue.cassandra.async.queries.CqlQueryContext;
 import com.palantir.atlasdb.keyvalue.cassandra.async.queries.GetQuerySpec;
+import com.palantir.atlasdb.keyvalue.cassandra.async.queries.GetRowQuerySpec;
 import com.palantir.atlasdb.keyvalue.cassandra.async.queries.ImmutableCqlQueryContext;
 import com.palantir.atlasdb.keyvalue.cassandra.async.queries.ImmutableGetQueryParameters;
+import com.palantir.atlasdb.keyvalue.cassandra.async.queries.ImmutableGetRowQueryParameters;
+import com.palantir.atlasdb.keyvalue.cassandra.async.queries.ImmutablePutQueryParameters;
+import com.palantir.atlasdb.keyvalue.cassandra.async.queries.PutQuerySpec;
 import com.palantir.common.random.RandomBytes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ThreadLocalRandom;
@@ -116,6 +132,131 @@ public class CassandraAsyncKeyValueServiceTests {
         assertThat(result).containsOnlyKeys(VISIBLE_CELL_1, VISIBLE_CELL_2);
     }
 
+    @Test
+    public void testGetRowsMergesResultsOfEachRow() throws Exception {
+        prepareCqlClientContainerInvocation();
+        byte[] otherRow = PtBytes.toBytes(400);
+        Cell otherRowCell = Cell.create(otherRow, PtBytes.toBytes(200));
+        setUpRow(VISIBLE_CELL_1.getRowName(), ImmutableMap.of(VISIBLE_CELL_1, Value.create(PtBytes.toBytes(1), 10L)));
+        setUpRow(otherRow, ImmutableMap.of(otherRowCell, Value.create(PtBytes.toBytes(2), 10L)));
+
+        Map<Cell, Value> result = asyncKeyValueService
+                .getRowsAsync(TABLE, List.of(VISIBLE_CELL_1.getRowName(), otherRow), ColumnSelection.all(), TIMESTAMP)
+                .get();
+
+        assertThat(result).containsOnlyKeys(VISIBLE_CELL_1, otherRowCell);
+    }
+
+    @Test
+    public void testGetRowsWithExplicitColumnsReadsEachSelectedCell() throws Exception {
+        prepareCqlClientContainerInvocation();
+        setUpVisibleCells(VISIBLE_CELL_1);
+        setUpNonVisibleCells(NON_VISIBLE_CELL);
+
+        ColumnSelection columns =
+                ColumnSelection.create(List.of(VISIBLE_CELL_1.getColumnName(), NON_VISIBLE_CELL.getColumnName()));
+        Map<Cell, Value> result = asyncKeyValueService
+                .getRowsAsync(TABLE, List.of(VISIBLE_CELL_1.getRowName()), columns, TIMESTAMP)
+                .get();
+
+        assertThat(result).containsOnlyKeys(VISIBLE_CELL_1);
+        verify(cqlClient, never()).executeQuery(any(GetRowQuerySpec.class));
+    }
+
+    @Test
+    public void testGetFirstBatchForRowsColumnRangeBoundsEachRowQuery() throws Exception {
+        prepareCqlClientContainerInvocation();
+        byte[] startColumn = VISIBLE_CELL_1.getColumnName();
+        byte[] endColumn = PtBytes.toBytes(400);
+        when(cqlClient.executeQuery(new GetRowQuerySpec(
+                        CQL_QUERY_CONTEXT,
+                        ImmutableGetRowQueryParameters.builder()
+                                .row(VISIBLE_CELL_1.getRowName())
+                                .columnSelection(ColumnSelection.all())
+                                .humanReadableTimestamp(TIMESTAMP)
+                                .startColumn(startColumn)
+                                .endColumn(endColumn)
+                                .maxColumns(2)
+                                .build())))
+                .thenReturn(Futures.immediateFuture(ImmutableMap.of(
+                        VISIBLE_CELL_1, Value.create(PtBytes.toBytes(1), 10L),
+                        VISIBLE_CELL_2, Value.create(PtBytes.toBytes(2), 10L))));
+
+        Map<Cell, Value> result = asyncKeyValueService
+                .getFirstBatchForRowsColumnRangeAsync(
+                        TABLE,
+                        List.of(VISIBLE_CELL_1.getRowName()),
+                        BatchColumnRangeSelection.create(startColumn, endColumn, 2),
+                        TIMESTAMP)
+                .get();
+
+        assertThat(result).containsOnlyKeys(VISIBLE_CELL_1, VISIBLE_CELL_2);
+    }
+
+    @Test
+    public void testMultiPutWritesEachCell() throws Exception {
+        prepareCqlClientContainerInvocation();
+        when(cqlClient.executeQuery(any(PutQuerySpec.class))).thenReturn(Futures.immediateFuture(null));
+
+        asyncKeyValueService
+                .multiPutAsync(
+                        ImmutableMap.of(
+                                TABLE,
+                                ImmutableMap.of(
+                                        VISIBLE_CELL_1, PtBytes.toBytes(1),
+                                        VISIBLE_CELL_2, PtBytes.toBytes(2))),
+                        TIMESTAMP)
+                .get();
+
+        verify(cqlClient).executeQuery(buildPutQuerySpec(VISIBLE_CELL_1, PtBytes.toBytes(1)));
+        verify(cqlClient).executeQuery(buildPutQuerySpec(VISIBLE_CELL_2, PtBytes.toBytes(2)));
+        verify(cqlClient, times(2)).executeQuery(any(PutQuerySpec.class));
+    }
+
+    @Test
+    public void testMultiPutKeepsBoundedNumberOfPutsInFlight() {
+        prepareCqlClientContainerInvocation();
+        List<SettableFuture<Void>> puts = new ArrayList<>();
+        when(cqlClient.executeQuery(any(PutQuerySpec.class))).thenAnswer(_invocation -> {
+            SettableFuture<Void> put = SettableFuture.create();
+            puts.add(put);
+            return put;
+        });
+        int numCells = CassandraAsyncKeyValueService.MAX_CONCURRENT_PUTS_PER_CALL + 3;
+
+        ListenableFuture<Void> result = asyncKeyValueService.multiPutAsync(createValues(numCells), TIMESTAMP);
+        assertThat(puts).hasSize(CassandraAsyncKeyValueService.MAX_CONCURRENT_PUTS_PER_CALL);
+
+        puts.get(0).set(null);
+        assertThat(puts).hasSize(CassandraAsyncKeyValueService.MAX_CONCURRENT_PUTS_PER_CALL + 1);
+
+        for (int i = 1; i < numCells; i++) {
+            puts.get(i).set(null);
+        }
+        assertThat(puts).hasSize(numCells);
+        assertThat(result).isDone();
+    }
+
+    @Test
+    public void testMultiPutStopsIssuingPutsOnceOneFails() {
+        prepareCqlClientContainerInvocation();
+        List<SettableFuture<Void>> puts = new ArrayList<>();
+        when(cqlClient.executeQuery(any(PutQuerySpec.class))).thenAnswer(_invocation -> {
+            SettableFuture<Void> put = SettableFuture.create();
+            puts.add(put);
+            return put;
+        });
+        RuntimeException failure = new RuntimeException("boom");
+
+        ListenableFuture<Void> result = asyncKeyValueService.multiPutAsync(
+                createValues(CassandraAsyncKeyValueService.MAX_CONCURRENT_PUTS_PER_CALL + 3), TIMESTAMP);
+        puts.get(0).setException(failure);
+        puts.get(1).set(null);
+
+        assertThat(puts).hasSize(CassandraAsyncKeyValueService.MAX_CONCURRENT_PUTS_PER_CALL);
+        assertThatThrownBy(result::get).hasCause(failure);
+    }
+
     @Test
     public void testIsValidFalseWhenClientContainerClose() {
         when(cqlClientContainer.isClosed()).thenReturn(true);
@@ -153,6 +294,35 @@ public class CassandraAsyncKeyValueServiceTests {
         }
     }
 
+    private void setUpRow(byte[] row, Map<Cell, Value> values) {
+        when(cqlClient.executeQuery(new GetRowQuerySpec(
+                        CQL_QUERY_CONTEXT,
+                        ImmutableGetRowQueryParameters.builder()
+                                .row(row)
+                                .columnSelection(ColumnSelection.all())
+                                .humanReadableTimestamp(TIMESTAMP)
+                                .build())))
+                .thenReturn(Futures.immediateFuture(values));
+    }
+
+    private static Map<TableReference, Map<Cell, byte[]>> createValues(int numCells) {
+        Map<Cell, byte[]> values = new HashMap<>();
+        for (int i = 0; i < numCells; i++) {
+            values.put(Cell.create(PtBytes.toBytes(i), PtBytes.toBytes(i)), PtBytes.toBytes(i));
+        }
+        return ImmutableMap.of(TABLE, values);
+    }
+
+    private static PutQuerySpec buildPutQuerySpec(Cell cell, byte[] value) {
+        return new PutQuerySpec(
+                CQL_QUERY_CONTEXT,
+                ImmutablePutQueryParameters.builder()
+                        .cell(cell)
+                        .value(value)
+                        .humanReadableTimestamp(TIMESTAMP)
+                        .build());
+    }
+
     private static GetQuerySpec buildGetQuerySpec(GetQuerySpec.GetQueryParameters getQueryParameters) {
         return new GetQuerySpec(CQL_QUERY_CONTEXT, getQueryParameters);
     }
@@ -0,0 +1,125 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.cassandra.async.queries;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.datastax.driver.core.Row;
+import com.palantir.atlasdb.encoding.PtBytes;
+import com.palantir.atlasdb.keyvalue.api.Namespace;
+import com.palantir.atlasdb.keyvalue.api.RangeRequest;
+import com.palantir.atlasdb.keyvalue.api.RowResult;
+import com.palantir.atlasdb.keyvalue.api.TableReference;
+import com.palantir.atlasdb.keyvalue.api.Value;
+import com.palantir.util.paging.TokenBackedBasicResultsPage;
+import java.nio.ByteBuffer;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+public class GetRangeQuerySpecTest {
+    private static final CqlQueryContext CQL_QUERY_CONTEXT = ImmutableCqlQueryContext.builder()
+            .keyspace("test")
+            .tableReference(TableReference.create(Namespace.DEFAULT_NAMESPACE, "foo"))
+            .build();
+    private static final long TIMESTAMP = 20L;
+    private static final byte[] ROW_1 = PtBytes.toBytes("row1");
+    private static final byte[] ROW_2 = PtBytes.toBytes("row2");
+    private static final byte[] ROW_3 = PtBytes.toBytes("row3");
+    private static final byte[] COLUMN_1 = PtBytes.toBytes("col1");
+    private static final byte[] COLUMN_2 = PtBytes.toBytes("col2");
+
+    @Test
+    public void keepsLatestVisibleVersionOfEachColumn() {
+        RowStreamAccumulator<TokenBackedBasicResultsPage<RowResult<Value>, byte[]>> accumulator =
+                accumulator(RangeRequest.all().withBatchHint(10));
+
+        accumulator.accumulateRowStream(Stream.of(
+                row(ROW_1, COLUMN_1, 30L),
+                row(ROW_1, COLUMN_1, 15L),
+                row(ROW_1, COLUMN_1, 10L),
+                row(ROW_1, COLUMN_2, 5L)));
+        TokenBackedBasicResultsPage<RowResult<Value>, byte[]> page = accumulator.result();
+
+        assertThat(page.moreResultsAvailable()).isFalse();
+        assertThat(page.getResults()).hasSize(1);
+        RowResult<Value> rowResult = page.getResults().get(0);
+        assertThat(rowResult.getColumns().get(COLUMN_1).getTimestamp()).isEqualTo(15L);
+        assertThat(rowResult.getColumns().get(COLUMN_2).getTimestamp()).isEqualTo(5L);
+    }
+
+    @Test
+    public void skipsRowsWithoutVisibleCells() {
+        RowStreamAccumulator<TokenBackedBasicResultsPage<RowResult<Value>, byte[]>> accumulator =
+                accumulator(RangeRequest.all().withBatchHint(10));
+
+        accumulator.accumulateRowStream(Stream.of(row(ROW_1, COLUMN_1, 30L), row(ROW_2, COLUMN_1, 10L)));
+
+        assertThat(accumulator.result().getResults()).extracting(RowResult::getRowName).containsExactly(ROW_2);
+    }
+
+    @Test
+    public void stopsAtBatchHintAcrossPages() {
+        RowStreamAccumulator<TokenBackedBasicResultsPage<RowResult<Value>, byte[]>> accumulator =
+                accumulator(RangeRequest.all().withBatchHint(2));
+
+        accumulator.accumulateRowStream(Stream.of(row(ROW_1, COLUMN_1, 10L), row(ROW_2, COLUMN_1, 10L)));
+        assertThat(accumulator.isDone()).isFalse();
+        accumulator.accumulateRowStream(Stream.of(row(ROW_2, COLUMN_2, 10L), row(ROW_3, COLUMN_1, 10L)));
+        assertThat(accumulator.isDone()).isTrue();
+
+        TokenBackedBasicResultsPage<RowResult<Value>, byte[]> page = accumulator.result();
+        assertThat(page.moreResultsAvailable()).isTrue();
+        assertThat(page.getTokenForNextPage()).isEqualTo(ROW_3);
+        assertThat(page.getResults()).hasSize(2);
+        assertThat(page.getResults().get(1).getColumns()).containsOnlyKeys(COLUMN_1, COLUMN_2);
+    }
+
+    @Test
+    public void stopsAtEndOfRange() {
+        RowStreamAccumulator<TokenBackedBasicResultsPage<RowResult<Value>, byte[]>> accumulator = accumulator(
+                RangeRequest.builder().endRowExclusive(ROW_2).batchHint(10).build());
+
+        accumulator.accumulateRowStream(Stream.of(row(ROW_1, COLUMN_1, 10L), row(ROW_2, COLUMN_1, 10L)));
+
+        assertThat(accumulator.isDone()).isTrue();
+        TokenBackedBasicResultsPage<RowResult<Value>, byte[]> page = accumulator.result();
+        assertThat(page.moreResultsAvailable()).isFalse();
+        assertThat(page.getResults()).extracting(RowResult::getRowName).containsExactly(ROW_1);
+    }
+
+    private static RowStreamAccumulator<TokenBackedBasicResultsPage<RowResult<Value>, byte[]>> accumulator(
+            RangeRequest rangeRequest) {
+        return new GetRangeQuerySpec(
+                        CQL_QUERY_CONTEXT,
+                        ImmutableGetRangeQueryParameters.builder()
+                                .rangeRequest(rangeRequest)
+                                .humanReadableTimestamp(TIMESTAMP)
+                                .build())
+                .rowStreamAccumulator();
+    }
+
+    private static Row row(byte[] rowName, byte[] column, long timestamp) {
+        Row row = mock(Row.class);
+        when(row.getBytes(0)).thenReturn(ByteBuffer.wrap(rowName));
+        when(row.getBytes(1)).thenReturn(ByteBuffer.wrap(column));
+        when(row.getLong(2)).thenReturn(~timestamp);
+        when(row.getBytes(3)).thenReturn(ByteBuffer.wrap(PtBytes.toBytes(timestamp)));
+        return row;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.cassandra.async.queries;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.datastax.driver.core.Row;
+import com.palantir.atlasdb.encoding.PtBytes;
+import com.palantir.atlasdb.keyvalue.api.Cell;
+import com.palantir.atlasdb.keyvalue.api.ColumnSelection;
+import com.palantir.atlasdb.keyvalue.api.Namespace;
+import com.palantir.atlasdb.keyvalue.api.TableReference;
+import com.palantir.atlasdb.keyvalue.api.Value;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+public class GetRowQuerySpecTest {
+    private static final CqlQueryContext CQL_QUERY_CONTEXT = ImmutableCqlQueryContext.builder()
+            .keyspace("test")
+            .tableReference(TableReference.create(Namespace.DEFAULT_NAMESPACE, "foo"))
+            .build();
+    private static final long TIMESTAMP = 20L;
+    private static final byte[] ROW = PtBytes.toBytes("row");
+    private static final byte[] COLUMN_1 = PtBytes.toBytes("col1");
+    private static final byte[] COLUMN_2 = PtBytes.toBytes("col2");
+    private static final byte[] COLUMN_3 = PtBytes.toBytes("col3");
+
+    @Test
+    public void keepsLatestVisibleVersionOfEachColumn() {
+        RowStreamAccumulator<Map<Cell, Value>> accumulator = accumulator(parameters());
+
+        accumulator.accumulateRowStream(Stream.of(
+                row(COLUMN_1, 30L), row(COLUMN_1, 15L), row(COLUMN_1, 10L), row(COLUMN_2, 25L), row(COLUMN_3, 5L)));
+
+        assertThat(accumulator.isDone()).isFalse();
+        Map<Cell, Value> result = accumulator.result();
+        assertThat(result).containsOnlyKeys(Cell.create(ROW, COLUMN_1), Cell.create(ROW, COLUMN_3));
+        assertThat(result.get(Cell.create(ROW, COLUMN_1)).getTimestamp()).isEqualTo(15L);
+    }
+
+    @Test
+    public void stopsAtMaxColumnsAcrossPages() {
+        RowStreamAccumulator<Map<Cell, Value>> accumulator = accumulator(parameters().maxColumns(2));
+
+        accumulator.accumulateRowStream(Stream.of(row(COLUMN_1, 10L), row(COLUMN_2, 30L)));
+        assertThat(accumulator.isDone()).isFalse();
+        accumulator.accumulateRowStream(Stream.of(row(COLUMN_2, 10L), row(COLUMN_3, 10L)));
+        assertThat(accumulator.isDone()).isTrue();
+
+        assertThat(accumulator.result()).containsOnlyKeys(Cell.create(ROW, COLUMN_1), Cell.create(ROW, COLUMN_2));
+    }
+
+    @Test
+    public void stopsAtEndColumn() {
+        RowStreamAccumulator<Map<Cell, Value>> accumulator = accumulator(parameters().endColumn(COLUMN_2));
+
+        accumulator.accumulateRowStream(Stream.of(row(COLUMN_1, 10L), row(COLUMN_2, 10L), row(COLUMN_3, 10L)));
+
+        assertThat(accumulator.isDone()).isTrue();
+        assertThat(accumulator.result()).containsOnlyKeys(Cell.create(ROW, COLUMN_1));
+    }
+
+    @Test
+    public void restrictsQueryToStartColumnOnlyWhenOneIsGiven() {
+        GetRowQuerySpec wholeRow = new GetRowQuerySpec(CQL_QUERY_CONTEXT, parameters().build());
+        GetRowQuerySpec fromColumn =
+                new GetRowQuerySpec(CQL_QUERY_CONTEXT, parameters().startColumn(COLUMN_2).build());
+
+        assertThat(wholeRow.queryType()).isEqualTo(QueryType.GET_ROW);
+        assertThat(wholeRow.formatQueryString()).doesNotContain("column1 >=");
+        assertThat(fromColumn.queryType()).isEqualTo(QueryType.GET_ROW_FROM_COLUMN);
+        assertThat(fromColumn.formatQueryString()).contains("column1 >= :startColumn");
+    }
+
+    private static ImmutableGetRowQueryParameters.Builder parameters() {
+        return ImmutableGetRowQueryParameters.builder()
+                .row(ROW)
+                .columnSelection(ColumnSelection.all())
+                .humanReadableTimestamp(TIMESTAMP);
+    }
+
+    private static RowStreamAccumulator<Map<Cell, Value>> accumulator(
+            ImmutableGetRowQueryParameters.Builder parameters) {
+        return new GetRowQuerySpec(CQL_QUERY_CONTEXT, parameters.build()).rowStreamAccumulator();
+    }
+
+    private static Row row(byte[] column, long timestamp) {
+        Row row = mock(Row.class);
+        when(row.getBytes(0)).thenReturn(ByteBuffer.wrap(column));
+        when(row.getLong(1)).thenReturn(~timestamp);
+        when(row.getBytes(2)).thenReturn(ByteBuffer.wrap(PtBytes.toBytes(timestamp)));
+        return row;
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.cassandra.paging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.Iterators;
+import com.google.common.primitives.Ints;
+import com.google.common.primitives.UnsignedBytes;
+import com.palantir.atlasdb.keyvalue.api.RowResult;
+import com.palantir.atlasdb.keyvalue.api.Value;
+import com.palantir.common.base.ClosableIterator;
+import com.palantir.common.concurrent.PTExecutors;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public class ParallelRangeScanIteratorTest {
+    private static final int ROWS_PER_PART = 25;
+    private static final int PARTS = 8;
+    private static final List<Integer> ALL_ROWS =
+            IntStream.range(0, ROWS_PER_PART * PARTS).boxed().collect(Collectors.toList());
+
+    @Test
+    public void returnsRowsInOrderOfParts() {
+        try (ClosableIterator<RowResult<Value>> iterator = new ParallelRangeScanIterator<>(parts(), 3, true, 4)) {
+            assertThat(rowNumbers(iterator)).isEqualTo(ALL_ROWS);
+        }
+    }
+
+    @Test
+    public void returnsAllRowsWhenUnordered() {
+        try (ClosableIterator<RowResult<Value>> iterator = new ParallelRangeScanIterator<>(parts(), 3, false, 4)) {
+            assertThat(rowNumbers(iterator)).containsExactlyInAnyOrderElementsOf(ALL_ROWS);
+        }
+    }
+
+    @Test
+    public void returnsNothingForNoParts() {
+        try (ClosableIterator<RowResult<Value>> iterator =
+                new ParallelRangeScanIterator<Value>(ImmutableList.of(), 3, true, 4)) {
+            assertThat(iterator.hasNext()).isFalse();
+        }
+    }
+
+    @Test
+    public void rethrowsFailureOfPart() {
+        List<Iterable<RowResult<Value>>> parts = ImmutableList.of(part(0), () -> {
+            throw new IllegalStateException("scan failed");
+        });
+
+        try (ClosableIterator<RowResult<Value>> iterator = new ParallelRangeScanIterator<>(parts, 2, true, 4)) {
+            assertThatThrownBy(() -> Iterators.size(iterator))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("scan failed");
+        }
+    }
+
+    @Test
+    public void rethrowsErrorOfPart() {
+        List<Iterable<RowResult<Value>>> parts = ImmutableList.of(part(0), () -> {
+            throw new AssertionError("scan failed");
+        });
+
+        try (ClosableIterator<RowResult<Value>> iterator = new ParallelRangeScanIterator<>(parts, 2, false, 4)) {
+            assertThatThrownBy(() -> Iterators.size(iterator))
+                    .isInstanceOf(AssertionError.class)
+                    .hasMessage("scan failed");
+        }
+    }
+
+    @Test
+    public void scanAheadOfCallerDoesNotHoldThreadOfSharedPool() {
+        ExecutorService executor = PTExecutors.newSingleThreadExecutor();
+        try (ClosableIterator<RowResult<Value>> stalled =
+                        new ParallelRangeScanIterator<>(parts(), 3, true, 4, executor);
+                ClosableIterator<RowResult<Value>> other =
+                        new ParallelRangeScanIterator<>(parts(), 3, true, 4, executor)) {
+            assertThat(stalled.next().getRowName()).isEqualTo(Ints.toByteArray(0));
+            assertThat(rowNumbers(other)).isEqualTo(ALL_ROWS);
+            assertThat(rowNumbers(stalled)).isEqualTo(ALL_ROWS.subList(1, ALL_ROWS.size()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void loadsAtMostTwoBatchesAheadOfCallerPerPart() {
+        AtomicInteger rowsLoaded = new AtomicInteger();
+        List<Iterable<RowResult<Value>>> parts = ImmutableList.of(
+                () -> Iterators.transform(part(0).iterator(), row -> {
+                    rowsLoaded.incrementAndGet();
+                    return row;
+                }));
+        ManualExecutor executor = new ManualExecutor();
+
+        try (ClosableIterator<RowResult<Value>> iterator =
+                new ParallelRangeScanIterator<>(parts, 1, true, 4, executor)) {
+            executor.runAll();
+            assertThat(rowsLoaded).hasValue(8);
+
+            assertThat(iterator.next().getRowName()).isEqualTo(Ints.toByteArray(0));
+            executor.runAll();
+            assertThat(rowsLoaded).hasValue(12);
+        }
+    }
+
+    @Test
+    public void stopsLoadingOnceClosed() {
+        AtomicInteger partsScanned = new AtomicInteger();
+        List<Iterable<RowResult<Value>>> parts = ImmutableList.of(() -> {
+            partsScanned.incrementAndGet();
+            return part(0).iterator();
+        });
+        ManualExecutor executor = new ManualExecutor();
+        ClosableIterator<RowResult<Value>> iterator = new ParallelRangeScanIterator<>(parts, 1, true, 4, executor);
+
+        iterator.close();
+        executor.runAll();
+
+        assertThat(partsScanned).hasValue(0);
+    }
+
+    private static List<Iterable<RowResult<Value>>> parts() {
+        return IntStream.range(0, PARTS).mapToObj(ParallelRangeScanIteratorTest::part).collect(Collectors.toList());
+    }
+
+    private static Iterable<RowResult<Value>> part(int part) {
+        return () -> IntStream.range(part * ROWS_PER_PART, (part + 1) * ROWS_PER_PART)
+                .mapToObj(ParallelRangeScanIteratorTest::row)
+                .iterator();
+    }
+
+    private static RowResult<Value> row(int rowNumber) {
+        return RowResult.create(
+                Ints.toByteArray(rowNumber),
+                ImmutableSortedMap.<byte[], Value>orderedBy(UnsignedBytes.lexicographicalComparator())
+                        .put(new byte[] {1}, Value.create(new byte[] {1}, 1L))
+                        .build());
+    }
+
+    private static List<Integer> rowNumbers(ClosableIterator<RowResult<Value>> iterator) {
+        return iterator.stream().map(row -> Ints.fromByteArray(row.getRowName())).collect(Collectors.toList());
+    }
+
+    private static final class ManualExecutor implements Executor {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        private void runAll() {
+            while (!tasks.isEmpty()) {
+                tasks.remove().run();
+            }
+        }
+    }
+}
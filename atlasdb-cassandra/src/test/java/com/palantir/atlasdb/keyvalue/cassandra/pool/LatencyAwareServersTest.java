@@ -0,0 +1,105 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.cassandra.pool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.collect.ImmutableList;
+import com.palantir.atlasdb.keyvalue.cassandra.CassandraClientPoolingContainer;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class LatencyAwareServersTest {
+    private static final CassandraServer SERVER_ONE = CassandraServer.of(InetSocketAddress.createUnresolved("1", 1));
+    private static final CassandraServer SERVER_TWO = CassandraServer.of(InetSocketAddress.createUnresolved("2", 2));
+
+    @Test
+    public void prefersLowerLatencyWhenOpenRequestsAreEqual() {
+        LatencyAwareServers servers = LatencyAwareServers.create(ImmutableList.of(
+                createMockClientPoolingContainer(SERVER_ONE, Duration.ofMillis(10), 3),
+                createMockClientPoolingContainer(SERVER_TWO, Duration.ofMillis(1), 3)));
+
+        assertThat(servers.getCheaperServer(0, 1)).isEqualTo(SERVER_TWO);
+        assertThat(servers.getCheaperServer(1, 0)).isEqualTo(SERVER_TWO);
+    }
+
+    @Test
+    public void prefersFewerOpenRequestsWhenLatencyIsEqual() {
+        LatencyAwareServers servers = LatencyAwareServers.create(ImmutableList.of(
+                createMockClientPoolingContainer(SERVER_ONE, Duration.ofMillis(1), 0),
+                createMockClientPoolingContainer(SERVER_TWO, Duration.ofMillis(1), 5)));
+
+        assertThat(servers.getCheaperServer(0, 1)).isEqualTo(SERVER_ONE);
+        assertThat(servers.getCheaperServer(1, 0)).isEqualTo(SERVER_ONE);
+    }
+
+    @Test
+    public void weighsLatencyAgainstOpenRequests() {
+        LatencyAwareServers servers = LatencyAwareServers.create(ImmutableList.of(
+                createMockClientPoolingContainer(SERVER_ONE, Duration.ofMillis(1), 10),
+                createMockClientPoolingContainer(SERVER_TWO, Duration.ofMillis(5), 0)));
+
+        assertThat(servers.getCheaperServer(0, 1)).isEqualTo(SERVER_TWO);
+    }
+
+    @Test
+    public void prefersUnmeasuredHost() {
+        LatencyAwareServers servers = LatencyAwareServers.create(ImmutableList.of(
+                createMockClientPoolingContainer(SERVER_ONE, Duration.ofMillis(1), 0),
+                createMockClientPoolingContainer(SERVER_TWO, Duration.ZERO, 0)));
+
+        assertThat(servers.getCheaperServer(0, 1)).isEqualTo(SERVER_TWO);
+    }
+
+    @Test
+    public void returnsOnlyServer() {
+        LatencyAwareServers servers = LatencyAwareServers.create(
+                ImmutableList.of(createMockClientPoolingContainer(SERVER_ONE, Duration.ofMillis(1), 0)));
+
+        assertThat(servers.getRandomServer()).isEqualTo(SERVER_ONE);
+    }
+
+    @Test
+    public void comparesBothOfTwoServers() {
+        LatencyAwareServers servers = LatencyAwareServers.create(ImmutableList.of(
+                createMockClientPoolingContainer(SERVER_ONE, Duration.ofMillis(1), 0),
+                createMockClientPoolingContainer(SERVER_TWO, Duration.ofMillis(10), 0)));
+
+        // with two hosts both are always compared, so the faster one is always chosen
+        for (int i = 0; i < 20; i++) {
+            assertThat(servers.getRandomServer()).isEqualTo(SERVER_ONE);
+        }
+    }
+
+    @Test
+    public void throwsOnEmptyPools() {
+        assertThatThrownBy(() -> LatencyAwareServers.create(ImmutableList.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static CassandraClientPoolingContainer createMockClientPoolingContainer(
+            CassandraServer server, Duration latency, int openRequests) {
+        CassandraClientPoolingContainer mock = Mockito.mock(CassandraClientPoolingContainer.class);
+        Mockito.when(mock.getCassandraServer()).thenReturn(server);
+        Mockito.when(mock.getLatencyEstimateNanos()).thenReturn((double) latency.toNanos());
+        Mockito.when(mock.getOpenRequests()).thenReturn(openRequests);
+        return mock;
+    }
+}
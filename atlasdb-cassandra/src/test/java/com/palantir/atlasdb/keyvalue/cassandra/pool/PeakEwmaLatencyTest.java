@@ -0,0 +1,89 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.cassandra.pool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.google.common.base.Ticker;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+public class PeakEwmaLatencyTest {
+    private static final long SLOW = Duration.ofMillis(10).toNanos();
+    private static final long FAST = Duration.ofMillis(1).toNanos();
+
+    private final AtomicLong time = new AtomicLong();
+    private final PeakEwmaLatency latency = new PeakEwmaLatency(new Ticker() {
+        @Override
+        public long read() {
+            return time.get();
+        }
+    });
+
+    @Test
+    public void estimateIsZeroBeforeAnyRequestCompletes() {
+        assertThat(latency.getEstimateNanos()).isZero();
+    }
+
+    @Test
+    public void slowRequestRaisesEstimateImmediately() {
+        latency.recordSuccess(FAST);
+        latency.recordSuccess(SLOW);
+        assertThat(latency.getEstimateNanos()).isEqualTo(SLOW);
+    }
+
+    @Test
+    public void fastRequestsLowerEstimateGradually() {
+        latency.recordSuccess(SLOW);
+        advance(Duration.ofSeconds(1));
+        latency.recordSuccess(FAST);
+
+        double estimate = latency.getEstimateNanos();
+        assertThat(estimate).isGreaterThan(FAST).isLessThan(SLOW);
+
+        advance(Duration.ofSeconds(1));
+        latency.recordSuccess(FAST);
+        assertThat(latency.getEstimateNanos()).isGreaterThan(FAST).isLessThan(estimate);
+    }
+
+    @Test
+    public void estimateDecaysWhileNoRequestsComplete() {
+        latency.recordSuccess(SLOW);
+        advance(Duration.ofSeconds(10));
+        assertThat(latency.getEstimateNanos()).isCloseTo(SLOW * Math.exp(-1), within(1.0));
+    }
+
+    @Test
+    public void fastFailureDoesNotLowerEstimate() {
+        latency.recordSuccess(SLOW);
+        latency.recordFailure(FAST);
+        assertThat(latency.getEstimateNanos()).isEqualTo(SLOW);
+    }
+
+    @Test
+    public void slowFailureRaisesEstimate() {
+        latency.recordSuccess(FAST);
+        latency.recordFailure(SLOW);
+        assertThat(latency.getEstimateNanos()).isEqualTo(SLOW);
+    }
+
+    private void advance(Duration duration) {
+        time.addAndGet(duration.toNanos());
+    }
+}
@@ -0,0 +1,361 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.cache;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.math.IntMath;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.LongSupplier;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+
+/**
+ * A {@link TimestampCache} that stores start and commit timestamps as primitive longs in open-addressing hash tables,
+ * rather than as boxed entries in a Caffeine cache. Each cached transaction costs two longs and a reference bit, and
+ * neither reads nor writes allocate (beyond boxing the returned commit timestamp, which the interface requires).
+ *
+ * The cache is split into a fixed number of segments, each a linear-probing table guarded by a {@link StampedLock}.
+ * Reads are optimistic and do not take the lock unless a concurrent write invalidates them. Writes take the segment's
+ * write lock. Once a segment is full, entries are evicted by CLOCK (second chance): each read sets the entry's
+ * reference bit, and the clock hand clears reference bits until it finds an entry that has not been read since the
+ * last sweep.
+ *
+ * Start timestamps are strictly positive, so zero is used as the empty slot marker; non-positive start timestamps
+ * are never cached.
+ */
+public final class OpenAddressingTimestampCache implements TimestampCache {
+    private static final int DEFAULT_SEGMENT_COUNT = 16;
+    private static final int MAXIMUM_SEGMENT_COUNT = 1 << 16;
+    private static final long EMPTY = 0L;
+    private static final long NOT_PRESENT = Long.MIN_VALUE;
+    private static final int MINIMUM_SEGMENT_CAPACITY = 16;
+
+    private final LongSupplier size;
+    private final Segment[] segments;
+    private final int segmentShift;
+    private final Counter hits;
+    private final Counter misses;
+
+    public OpenAddressingTimestampCache(MetricRegistry metricRegistry, LongSupplier size) {
+        this(metricRegistry, size, DEFAULT_SEGMENT_COUNT);
+    }
+
+    @VisibleForTesting
+    OpenAddressingTimestampCache(MetricRegistry metricRegistry, LongSupplier size, int segmentCount) {
+        Preconditions.checkArgument(
+                segmentCount > 0 && segmentCount <= MAXIMUM_SEGMENT_COUNT && Integer.bitCount(segmentCount) == 1,
+                "Segment count must be a power of two no larger than the maximum",
+                SafeArg.of("segmentCount", segmentCount),
+                SafeArg.of("maximum", MAXIMUM_SEGMENT_COUNT));
+        this.size = size;
+        this.segments = new Segment[segmentCount];
+        this.segmentShift = Long.SIZE - Integer.numberOfTrailingZeros(segmentCount);
+        long segmentLimit = segmentLimit(segmentCount);
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(segmentLimit);
+        }
+
+        String metricPrefix = MetricRegistry.name(TimestampCache.class, "openAddressingStartToCommitTimestamp");
+        this.hits = metricRegistry.counter(MetricRegistry.name(metricPrefix, "hits"));
+        this.misses = metricRegistry.counter(MetricRegistry.name(metricPrefix, "misses"));
+        metricRegistry.gauge(
+                MetricRegistry.name(metricPrefix, "estimatedSize"), () -> (Gauge<Long>) this::estimatedSize);
+    }
+
+    public static TimestampCache createForTests() {
+        return new OpenAddressingTimestampCache(new MetricRegistry(), () -> 1000L);
+    }
+
+    @Override
+    @Nullable
+    public Long getCommitTimestampIfPresent(Long startTimestamp) {
+        long start = startTimestamp;
+        if (start <= EMPTY) {
+            misses.inc();
+            return null;
+        }
+        long hash = hash(start);
+        long commitTimestamp = segmentFor(hash).get(start, hash);
+        if (commitTimestamp == NOT_PRESENT) {
+            misses.inc();
+            return null;
+        }
+        hits.inc();
+        return commitTimestamp;
+    }
+
+    @Override
+    public void putAlreadyCommittedTransaction(Long startTimestamp, Long commitTimestamp) {
+        long start = startTimestamp;
+        if (start <= EMPTY) {
+            return;
+        }
+        long hash = hash(start);
+        segmentFor(hash).put(start, commitTimestamp, hash, segmentLimit(segments.length));
+    }
+
+    @Override
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    @VisibleForTesting
+    long estimatedSize() {
+        long total = 0;
+        for (Segment segment : segments) {
+            total += segment.size();
+        }
+        return total;
+    }
+
+    private Segment segmentFor(long hash) {
+        return segments.length == 1 ? segments[0] : segments[(int) (hash >>> segmentShift)];
+    }
+
+    private long segmentLimit(int segmentCount) {
+        return Math.max(1, size.getAsLong() / segmentCount);
+    }
+
+    /**
+     * Start timestamps are roughly sequential, so we need a full avalanche before using the low bits as a slot index
+     * and the high bits as a segment index. This is the finalisation step of MurmurHash3.
+     */
+    private static long hash(long key) {
+        long hash = key;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static final class Table {
+        private final long[] keys;
+        private final long[] values;
+        private final boolean[] referenced;
+        private final int mask;
+
+        private Table(int capacity) {
+            this.keys = new long[capacity];
+            this.values = new long[capacity];
+            this.referenced = new boolean[capacity];
+            this.mask = capacity - 1;
+        }
+
+        private int capacity() {
+            return keys.length;
+        }
+    }
+
+    private static final class Segment {
+        private final StampedLock lock = new StampedLock();
+
+        private volatile Table table;
+
+        @GuardedBy("lock")
+        private int size;
+
+        @GuardedBy("lock")
+        private int clockHand;
+
+        private Segment(long limit) {
+            this.table = new Table(capacityFor(limit));
+        }
+
+        private long get(long key, long hash) {
+            long stamp = lock.tryOptimisticRead();
+            if (stamp != 0) {
+                Table current = table;
+                int slot = find(current, key, hash);
+                long value = slot < 0 ? NOT_PRESENT : current.values[slot];
+                if (lock.validate(stamp)) {
+                    if (slot >= 0) {
+                        // Racy, but benign: at worst a concurrent eviction misses one reference.
+                        current.referenced[slot] = true;
+                    }
+                    return value;
+                }
+            }
+
+            stamp = lock.readLock();
+            try {
+                Table current = table;
+                int slot = find(current, key, hash);
+                if (slot < 0) {
+                    return NOT_PRESENT;
+                }
+                current.referenced[slot] = true;
+                return current.values[slot];
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        private void put(long key, long value, long hash, long limit) {
+            long stamp = lock.writeLock();
+            try {
+                ensureCapacity(limit);
+                Table current = table;
+                int slot = find(current, key, hash);
+                if (slot >= 0) {
+                    current.values[slot] = value;
+                    return;
+                }
+                while (size >= limit) {
+                    evictOne(current);
+                }
+                insert(current, key, value, hash);
+                size++;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        private void clear() {
+            long stamp = lock.writeLock();
+            try {
+                Table current = table;
+                Arrays.fill(current.keys, EMPTY);
+                Arrays.fill(current.referenced, false);
+                size = 0;
+                clockHand = 0;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        private int size() {
+            long stamp = lock.readLock();
+            try {
+                return size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        /**
+         * Returns the slot holding {@code key}, or -1 if it is absent. Safe to call on a table that is being
+         * concurrently modified: the probe is bounded by the table's capacity, and the caller validates the result.
+         */
+        private static int find(Table current, long key, long hash) {
+            int slot = (int) hash & current.mask;
+            for (int probes = 0; probes < current.capacity(); probes++) {
+                long candidate = current.keys[slot];
+                if (candidate == key) {
+                    return slot;
+                }
+                if (candidate == EMPTY) {
+                    return -1;
+                }
+                slot = (slot + 1) & current.mask;
+            }
+            return -1;
+        }
+
+        @GuardedBy("lock")
+        private static void insert(Table current, long key, long value, long hash) {
+            int slot = (int) hash & current.mask;
+            while (current.keys[slot] != EMPTY) {
+                slot = (slot + 1) & current.mask;
+            }
+            current.values[slot] = value;
+            current.referenced[slot] = false;
+            current.keys[slot] = key;
+        }
+
+        @GuardedBy("lock")
+        private void evictOne(Table current) {
+            while (true) {
+                int slot = clockHand;
+                clockHand = (clockHand + 1) & current.mask;
+                if (current.keys[slot] == EMPTY) {
+                    continue;
+                }
+                if (current.referenced[slot]) {
+                    current.referenced[slot] = false;
+                    continue;
+                }
+                removeAt(current, slot);
+                size--;
+                return;
+            }
+        }
+
+        /**
+         * Backward-shift deletion: entries after the removed slot that would no longer be reachable from their home
+         * slot are moved back, so that the table never needs tombstones.
+         */
+        @GuardedBy("lock")
+        private static void removeAt(Table current, int removed) {
+            int hole = removed;
+            int slot = removed;
+            while (true) {
+                slot = (slot + 1) & current.mask;
+                long key = current.keys[slot];
+                if (key == EMPTY) {
+                    break;
+                }
+                int home = (int) hash(key) & current.mask;
+                boolean homeBetweenHoleAndSlot =
+                        hole <= slot ? (hole < home && home <= slot) : (hole < home || home <= slot);
+                if (!homeBetweenHoleAndSlot) {
+                    current.keys[hole] = key;
+                    current.values[hole] = current.values[slot];
+                    current.referenced[hole] = current.referenced[slot];
+                    hole = slot;
+                }
+            }
+            current.keys[hole] = EMPTY;
+            current.referenced[hole] = false;
+        }
+
+        @GuardedBy("lock")
+        private void ensureCapacity(long limit) {
+            Table current = table;
+            int required = capacityFor(limit);
+            if (required <= current.capacity()) {
+                return;
+            }
+            Table resized = new Table(required);
+            for (int i = 0; i < current.capacity(); i++) {
+                long key = current.keys[i];
+                if (key != EMPTY) {
+                    insert(resized, key, current.values[i], hash(key));
+                }
+            }
+            clockHand = 0;
+            table = resized;
+        }
+
+        /**
+         * Tables are kept at most half full, so that probe sequences stay short.
+         */
+        private static int capacityFor(long limit) {
+            long desired = Math.max(MINIMUM_SEGMENT_CAPACITY, 2 * limit);
+            return IntMath.ceilingPowerOfTwo((int) Math.min(desired, 1 << 30));
+        }
+    }
+}
@@ -17,11 +17,31 @@ package com.palantir.atlasdb.compress;
 
 import com.palantir.atlasdb.table.description.ColumnValueDescription.Compression;
 import com.palantir.common.base.Throwables;
+import com.palantir.logsafe.SafeArg;
 import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
 import org.xerial.snappy.Snappy;
 
 public final class CompressionUtils {
+    /**
+     * LZ4-compressed values are prefixed with this magic and the big-endian uncompressed length, so that they can be
+     * told apart from values written before a table switched to LZ4. No valid Snappy buffer starts with these bytes:
+     * after the two-byte length varint 0xA7 0x4C, Snappy requires a literal, but 0x5A is a copy tag.
+     */
+    private static final int LZ4_MAGIC = 0xA74C5A34;
+
+    private static final int LZ4_HEADER_SIZE = 2 * Integer.BYTES;
+
+    private static final LZ4Compressor LZ4_COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+    // values are read back from the key value service, so they are decompressed without trusting their header
+    private static final LZ4SafeDecompressor LZ4_DECOMPRESSOR = LZ4Factory.fastestInstance().safeDecompressor();
+
     private CompressionUtils() {
         // empty
     }
@@ -29,6 +49,8 @@ public final class CompressionUtils {
     public static byte[] compress(byte[] bytes, Compression compressionType) {
         if (compressionType == Compression.SNAPPY) {
             return compressWithSnappy(bytes);
+        } else if (compressionType == Compression.LZ4) {
+            return compressWithLz4(bytes);
         } else if (compressionType == Compression.NONE) {
             return bytes;
         } else {
@@ -39,6 +61,8 @@ public final class CompressionUtils {
     public static byte[] decompress(byte[] bytes, Compression compressionType) {
         if (compressionType == Compression.SNAPPY) {
             return decompressWithSnappy(bytes);
+        } else if (compressionType == Compression.LZ4) {
+            return decompressWithLz4(bytes);
         } else if (compressionType == Compression.NONE) {
             return bytes;
         } else {
@@ -46,6 +70,40 @@ public final class CompressionUtils {
         }
     }
 
+    /**
+     * Compresses the remaining bytes of {@code buffer}, without changing its position. LZ4 works directly against
+     * heap or direct buffers; Snappy only avoids copying the input if it is backed by an accessible array.
+     * For {@link Compression#NONE} the returned buffer shares its content with {@code buffer}.
+     */
+    public static ByteBuffer compress(ByteBuffer buffer, Compression compressionType) {
+        if (compressionType == Compression.SNAPPY) {
+            return compressWithSnappy(buffer);
+        } else if (compressionType == Compression.LZ4) {
+            return compressWithLz4(buffer);
+        } else if (compressionType == Compression.NONE) {
+            return buffer.slice();
+        } else {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Decompresses the remaining bytes of {@code buffer}, without changing its position.
+     *
+     * @see #compress(ByteBuffer, Compression)
+     */
+    public static ByteBuffer decompress(ByteBuffer buffer, Compression compressionType) {
+        if (compressionType == Compression.SNAPPY) {
+            return decompressWithSnappy(buffer);
+        } else if (compressionType == Compression.LZ4) {
+            return decompressWithLz4(buffer);
+        } else if (compressionType == Compression.NONE) {
+            return buffer.slice();
+        } else {
+            throw new UnsupportedOperationException();
+        }
+    }
+
     public static byte[] compressWithSnappy(byte[] bytes) {
         try {
             return Snappy.compress(bytes);
@@ -64,4 +122,115 @@ public final class CompressionUtils {
             throw Throwables.throwUncheckedException(e);
         }
     }
+
+    public static byte[] compressWithLz4(byte[] bytes) {
+        return toArray(compressWithLz4(ByteBuffer.wrap(bytes)));
+    }
+
+    /**
+     * Decompresses values written by {@link #compressWithLz4(byte[])}. Values without the LZ4 header are assumed to
+     * have been written before the table was switched to LZ4, and are decompressed with Snappy.
+     */
+    public static byte[] decompressWithLz4(byte[] bytes) {
+        return toArray(decompressWithLz4(ByteBuffer.wrap(bytes)));
+    }
+
+    private static ByteBuffer compressWithLz4(ByteBuffer buffer) {
+        int length = buffer.remaining();
+        ByteBuffer compressed = ByteBuffer.allocate(LZ4_HEADER_SIZE + LZ4_COMPRESSOR.maxCompressedLength(length))
+                .order(ByteOrder.BIG_ENDIAN);
+        compressed.putInt(LZ4_MAGIC).putInt(length);
+        int compressedLength = LZ4_COMPRESSOR.compress(
+                buffer,
+                buffer.position(),
+                length,
+                compressed,
+                LZ4_HEADER_SIZE,
+                compressed.capacity() - LZ4_HEADER_SIZE);
+        compressed.position(0).limit(LZ4_HEADER_SIZE + compressedLength);
+        return compressed;
+    }
+
+    private static ByteBuffer decompressWithLz4(ByteBuffer buffer) {
+        if (!hasLz4Header(buffer)) {
+            return decompressWithSnappy(buffer);
+        }
+        int uncompressedLength = buffer.duplicate().getInt(buffer.position() + Integer.BYTES);
+        if (uncompressedLength < 0) {
+            throw new SafeIllegalArgumentException(
+                    "Cannot decompress these bytes using LZ4",
+                    SafeArg.of("uncompressedLength", uncompressedLength));
+        }
+        ByteBuffer decompressed = ByteBuffer.allocate(uncompressedLength);
+        int decompressedLength;
+        try {
+            decompressedLength = LZ4_DECOMPRESSOR.decompress(
+                    buffer,
+                    buffer.position() + LZ4_HEADER_SIZE,
+                    buffer.remaining() - LZ4_HEADER_SIZE,
+                    decompressed,
+                    0,
+                    uncompressedLength);
+        } catch (LZ4Exception e) {
+            throw new SafeIllegalArgumentException("Cannot decompress these bytes using LZ4", e);
+        }
+        if (decompressedLength != uncompressedLength) {
+            throw new SafeIllegalArgumentException(
+                    "Cannot decompress these bytes using LZ4",
+                    SafeArg.of("uncompressedLength", uncompressedLength),
+                    SafeArg.of("decompressedLength", decompressedLength));
+        }
+        return decompressed;
+    }
+
+    private static boolean hasLz4Header(ByteBuffer buffer) {
+        return buffer.remaining() >= LZ4_HEADER_SIZE
+                && buffer.duplicate().order(ByteOrder.BIG_ENDIAN).getInt(buffer.position()) == LZ4_MAGIC;
+    }
+
+    private static ByteBuffer compressWithSnappy(ByteBuffer buffer) {
+        if (!buffer.hasArray()) {
+            return ByteBuffer.wrap(compressWithSnappy(toArray(buffer)));
+        }
+        try {
+            int offset = buffer.arrayOffset() + buffer.position();
+            byte[] compressed = new byte[Snappy.maxCompressedLength(buffer.remaining())];
+            int compressedLength = Snappy.compress(buffer.array(), offset, buffer.remaining(), compressed, 0);
+            return ByteBuffer.wrap(compressed, 0, compressedLength);
+        } catch (IOException e) {
+            throw Throwables.throwUncheckedException(e);
+        }
+    }
+
+    private static ByteBuffer decompressWithSnappy(ByteBuffer buffer) {
+        if (!buffer.hasArray()) {
+            return ByteBuffer.wrap(decompressWithSnappy(toArray(buffer)));
+        }
+        try {
+            byte[] array = buffer.array();
+            int offset = buffer.arrayOffset() + buffer.position();
+            int length = buffer.remaining();
+            if (!Snappy.isValidCompressedBuffer(array, offset, length)) {
+                throw new SafeIllegalArgumentException("Cannot decompress these bytes using Snappy");
+            }
+            byte[] decompressed = new byte[Snappy.uncompressedLength(array, offset, length)];
+            Snappy.uncompress(array, offset, length, decompressed, 0);
+            return ByteBuffer.wrap(decompressed);
+        } catch (IOException e) {
+            throw Throwables.throwUncheckedException(e);
+        }
+    }
+
+    private static byte[] toArray(ByteBuffer buffer) {
+        ByteBuffer duplicate = buffer.duplicate();
+        if (duplicate.hasArray()
+                && duplicate.arrayOffset() == 0
+                && duplicate.position() == 0
+                && duplicate.remaining() == duplicate.array().length) {
+            return duplicate.array();
+        }
+        byte[] bytes = new byte[duplicate.remaining()];
+        duplicate.get(bytes);
+        return bytes;
+    }
 }
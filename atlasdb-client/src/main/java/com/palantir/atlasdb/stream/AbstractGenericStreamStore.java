@@ -26,6 +26,7 @@ import com.palantir.atlasdb.transaction.api.Transaction;
 import com.palantir.atlasdb.transaction.api.TransactionManager;
 import com.palantir.common.base.Throwables;
 import com.palantir.common.compression.StreamCompression;
+import com.palantir.common.concurrent.PTExecutors;
 import com.palantir.logsafe.SafeArg;
 import com.palantir.logsafe.UnsafeArg;
 import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
@@ -42,20 +43,35 @@ import java.io.OutputStream;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.CheckForNull;
 
 public abstract class AbstractGenericStreamStore<T> implements GenericStreamStore<T> {
     protected static final SafeLogger log = SafeLoggerFactory.get(AbstractGenericStreamStore.class);
 
+    private static final int MAX_READ_AHEAD_THREADS = 16;
+    private static final ExecutorService readAheadExecutor =
+            PTExecutors.newFixedThreadPool(MAX_READ_AHEAD_THREADS, "stream-store-read-ahead");
+
     @CheckForNull
     protected final TransactionManager txnMgr;
 
     private final StreamCompression compression;
+    private final Supplier<StreamStorePersistenceConfiguration> persistenceConfiguration;
 
     protected AbstractGenericStreamStore(TransactionManager txManager, StreamCompression compression) {
+        this(txManager, compression, () -> StreamStorePersistenceConfigurations.DEFAULT_CONFIG);
+    }
+
+    protected AbstractGenericStreamStore(
+            TransactionManager txManager,
+            StreamCompression compression,
+            Supplier<StreamStorePersistenceConfiguration> persistenceConfiguration) {
         this.txnMgr = txManager;
         this.compression = compression;
+        this.persistenceConfiguration = persistenceConfiguration;
     }
 
     private long getNumberOfBlocksFromMetadata(StreamMetadata metadata) {
@@ -144,6 +160,11 @@ public abstract class AbstractGenericStreamStore<T> implements GenericStreamStor
             }
         };
 
+        int readAheadBatches = getNumberOfBatchesToReadAhead(blocksInMemory);
+        if (readAheadBatches > 0 && txnMgr != null) {
+            return makePrefetchingStream(parent, pageRefresher, totalBlocks, blocksInMemory, readAheadBatches);
+        }
+
         try {
             return BlockConsumingInputStream.create(pageRefresher, totalBlocks, blocksInMemory);
         } catch (IOException e) {
@@ -151,6 +172,30 @@ public abstract class AbstractGenericStreamStore<T> implements GenericStreamStor
         }
     }
 
+    /**
+     * While the parent transaction is still open, batches are read through it one at a time on the calling thread, as
+     * the non-prefetching stream does, since a transaction cannot be read from concurrently with its commit. Once the
+     * parent has committed or aborted, batches are fetched ahead of the reader on {@link #readAheadExecutor}, each in
+     * its own read-only transaction.
+     */
+    private static InputStream makePrefetchingStream(
+            Transaction parent, BlockGetter blockGetter, long totalBlocks, int blocksInMemory, int readAheadBatches) {
+        return PrefetchingBlockInputStream.create(
+                blockGetter,
+                totalBlocks,
+                blocksInMemory,
+                readAheadBatches,
+                readAheadExecutor,
+                () -> !parent.isUncommitted());
+    }
+
+    private int getNumberOfBatchesToReadAhead(int blocksInMemory) {
+        StreamStorePersistenceConfiguration config = persistenceConfiguration.get();
+        long batchSizeInBytes = (long) blocksInMemory * BLOCK_SIZE_IN_BYTES;
+        long batchesWithinMemoryLimit = config.maxReadAheadBytes() / batchSizeInBytes;
+        return (int) Math.min(config.readAheadBatches(), batchesWithinMemoryLimit);
+    }
+
     protected int getNumberOfBlocksThatFitInMemory() {
         int inMemoryThreshold = (int) getInMemoryThreshold(); // safe; actually defined as an int in generated code.
         int blocksInMemory = inMemoryThreshold / BLOCK_SIZE_IN_BYTES;
@@ -31,6 +31,7 @@ import com.palantir.atlasdb.transaction.api.TransactionTask;
 import com.palantir.atlasdb.transaction.impl.TxTask;
 import com.palantir.common.base.Throwables;
 import com.palantir.common.compression.StreamCompression;
+import com.palantir.common.concurrent.PTExecutors;
 import com.palantir.common.streams.KeyedStream;
 import com.palantir.logsafe.SafeArg;
 import com.palantir.util.Pair;
@@ -40,11 +41,17 @@ import java.io.InputStream;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
 
 public abstract class AbstractPersistentStreamStore extends AbstractGenericStreamStore<Long>
         implements PersistentStreamStore {
+    private static final int MAX_BLOCK_WRITE_THREADS = 16;
+    private static final ExecutorService blockWriteExecutor =
+            PTExecutors.newFixedThreadPool(MAX_BLOCK_WRITE_THREADS, "stream-store-block-writer");
+
+    private final Supplier<StreamStorePersistenceConfiguration> persistenceConfiguration;
     private final StreamStoreBackoffStrategy backoffStrategy;
     private final StreamCompression compression;
 
@@ -56,8 +63,9 @@ public abstract class AbstractPersistentStreamStore extends AbstractGenericStrea
             TransactionManager txManager,
             StreamCompression compression,
             Supplier<StreamStorePersistenceConfiguration> persistenceConfiguration) {
-        super(txManager, compression);
+        super(txManager, compression, persistenceConfiguration);
         this.compression = compression;
+        this.persistenceConfiguration = persistenceConfiguration;
         this.backoffStrategy = StandardPeriodicBackoffStrategy.create(persistenceConfiguration);
     }
 
@@ -202,6 +210,14 @@ public abstract class AbstractPersistentStreamStore extends AbstractGenericStrea
     }
 
     private void storeBlocksFromStream(@Nullable Transaction tx, long id, InputStream stream) throws IOException {
+        StreamStorePersistenceConfiguration config = persistenceConfiguration.get();
+        if (!streamOperationIsTransactional(tx)
+                && (config.blocksPerWriteTransaction() > 1 || config.maxConcurrentWriteTransactions() > 1)) {
+            storeBlocksFromStreamPipelined(
+                    id, stream, config.blocksPerWriteTransaction(), config.maxConcurrentWriteTransactions());
+            return;
+        }
+
         long blockNumber = 0;
 
         while (true) {
@@ -226,6 +242,46 @@ public abstract class AbstractPersistentStreamStore extends AbstractGenericStrea
         }
     }
 
+    /**
+     * Reads, hashes and compresses the stream on the calling thread, as the hash and compression are defined over the
+     * stream as a whole, but writes batches of blocks in concurrent transactions. Each block is still written exactly
+     * once under its usual block number, so the stored stream is the same as if it had been written sequentially.
+     * Batches of all stores share {@link #blockWriteExecutor}, so concurrent large writes queue for its threads rather
+     * than each adding {@code maxConcurrentTransactions} threads of their own.
+     */
+    private void storeBlocksFromStreamPipelined(
+            long id, InputStream stream, int blocksPerTransaction, int maxConcurrentTransactions) throws IOException {
+        com.palantir.logsafe.Preconditions.checkNotNull(txnMgr, "Transaction manager must not be null");
+        PipelinedBlockWriter.BatchWriter batchWriter = (firstBlockNumber, blocks) ->
+                txnMgr.runTaskThrowOnConflict((TransactionTask<Void, RuntimeException>) t1 -> {
+                    for (int i = 0; i < blocks.size(); i++) {
+                        storeBlock(t1, id, firstBlockNumber + i, blocks.get(i));
+                    }
+                    return null;
+                });
+
+        try (PipelinedBlockWriter writer = new PipelinedBlockWriter(
+                batchWriter, blocksPerTransaction, maxConcurrentTransactions, blockWriteExecutor)) {
+            long blockNumber = 0;
+            while (true) {
+                byte[] bytesToStore = new byte[BLOCK_SIZE_IN_BYTES];
+                int length = ByteStreams.read(stream, bytesToStore, 0, BLOCK_SIZE_IN_BYTES);
+                if (length == 0) {
+                    break;
+                }
+                if (length < BLOCK_SIZE_IN_BYTES) {
+                    // This is the last block.
+                    writer.write(PtBytes.head(bytesToStore, length));
+                    break;
+                }
+                writer.write(bytesToStore);
+                blockNumber++;
+                backoffStrategy.accept(blockNumber);
+            }
+            writer.finish();
+        }
+    }
+
     private boolean streamOperationIsTransactional(@Nullable Transaction tx) {
         // TODO (jkong): I'm using tx == null as a proxy for whether the entire operation should be done
         // transactionally or not (null implies nontransactional).
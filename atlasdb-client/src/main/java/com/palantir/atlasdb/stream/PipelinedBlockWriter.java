@@ -0,0 +1,155 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.stream;
+
+import com.palantir.common.base.Throwables;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Groups consecutive stream blocks into batches and hands each batch to a {@link BatchWriter} on {@code executor},
+ * keeping at most {@code maxConcurrentBatches} batches in flight. Once that many batches are in flight,
+ * {@link #write(byte[])} blocks until one of them completes, so a fast producer cannot queue up unbounded memory.
+ *
+ * The first failed batch fails the whole write: it is rethrown from the next call to {@link #write(byte[])} or
+ * {@link #finish()}, and no further batches are submitted.
+ *
+ * Instances are meant to be driven by a single producing thread.
+ */
+final class PipelinedBlockWriter implements AutoCloseable {
+    private final BatchWriter batchWriter;
+    private final int blocksPerBatch;
+    private final Executor executor;
+    private final Semaphore batchPermits;
+    private final AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+    private final List<CompletableFuture<Void>> inFlight = new ArrayList<>();
+
+    private List<byte[]> currentBatch;
+    private long firstBlockOfCurrentBatch = 0L;
+    private long nextBlockNumber = 0L;
+
+    PipelinedBlockWriter(BatchWriter batchWriter, int blocksPerBatch, int maxConcurrentBatches, Executor executor) {
+        Preconditions.checkArgument(
+                blocksPerBatch > 0, "Blocks per batch must be positive", SafeArg.of("blocksPerBatch", blocksPerBatch));
+        Preconditions.checkArgument(
+                maxConcurrentBatches > 0,
+                "Maximum concurrent batches must be positive",
+                SafeArg.of("maxConcurrentBatches", maxConcurrentBatches));
+        this.batchWriter = batchWriter;
+        this.blocksPerBatch = blocksPerBatch;
+        this.executor = executor;
+        this.batchPermits = new Semaphore(maxConcurrentBatches);
+        this.currentBatch = new ArrayList<>(blocksPerBatch);
+    }
+
+    /**
+     * Writes the next block of the stream. Blocks are numbered consecutively from zero, in the order they are written.
+     */
+    void write(byte[] block) {
+        throwIfAnyBatchFailed();
+        if (currentBatch.isEmpty()) {
+            firstBlockOfCurrentBatch = nextBlockNumber;
+        }
+        currentBatch.add(block);
+        nextBlockNumber++;
+        if (currentBatch.size() >= blocksPerBatch) {
+            submitCurrentBatch();
+        }
+    }
+
+    /**
+     * Submits any partially filled batch, and waits for all batches to be written.
+     */
+    void finish() {
+        if (!currentBatch.isEmpty()) {
+            submitCurrentBatch();
+        }
+        awaitInFlightBatches();
+        throwIfAnyBatchFailed();
+    }
+
+    /**
+     * Waits for any batches still in flight, without submitting a partially filled batch or rethrowing failures.
+     * Callers abandoning a write should close the writer, so that no blocks are written after they return.
+     */
+    @Override
+    public void close() {
+        currentBatch.clear();
+        awaitInFlightBatches();
+    }
+
+    private void submitCurrentBatch() {
+        batchPermits.acquireUninterruptibly();
+        if (firstFailure.get() != null) {
+            // a batch failed while we were waiting for a permit
+            batchPermits.release();
+            throwIfAnyBatchFailed();
+        }
+        List<byte[]> batch = currentBatch;
+        long firstBlock = firstBlockOfCurrentBatch;
+        currentBatch = new ArrayList<>(blocksPerBatch);
+
+        CompletableFuture<Void> future;
+        try {
+            future = CompletableFuture.runAsync(() -> batchWriter.write(firstBlock, batch), executor);
+        } catch (RejectedExecutionException e) {
+            batchPermits.release();
+            throw e;
+        }
+        inFlight.removeIf(CompletableFuture::isDone);
+        inFlight.add(future.whenComplete((result, failure) -> {
+            if (failure != null) {
+                firstFailure.compareAndSet(null, unwrap(failure));
+            }
+            batchPermits.release();
+        }));
+    }
+
+    private void awaitInFlightBatches() {
+        for (CompletableFuture<Void> future : inFlight) {
+            try {
+                future.join();
+            } catch (RuntimeException e) {
+                // recorded in firstFailure
+            }
+        }
+        inFlight.clear();
+    }
+
+    private void throwIfAnyBatchFailed() {
+        Throwable failure = firstFailure.get();
+        if (failure != null) {
+            throw Throwables.rewrapAndThrowUncheckedException(failure);
+        }
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+
+    interface BatchWriter {
+        void write(long firstBlockNumber, List<byte[]> blocks);
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.stream;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.exceptions.SafeIoException;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
+
+/**
+ * An {@link InputStream} (and {@link ReadableByteChannel}) over stream store blocks that fetches up to
+ * {@code readAheadBatches} batches of blocks ahead of the reader on {@code executor}, so that loading the next batch
+ * overlaps with the caller consuming the current one.
+ *
+ * Batch buffers are recycled once consumed, so a reader allocates at most {@code readAheadBatches + 2} buffers of
+ * {@code blocksPerBatch} blocks over the lifetime of the stream, however long the stream is. This is also the bound on
+ * the memory held by the stream at any time.
+ *
+ * While {@code readAheadAllowed} is false, read-ahead is skipped: only the batch the reader needs next is loaded, on
+ * the calling thread, and nothing is fetched ahead of it.
+ *
+ * Like other streams, instances are not safe for use by multiple reading threads.
+ */
+public final class PrefetchingBlockInputStream extends InputStream implements ReadableByteChannel {
+    private final BlockGetter blockGetter;
+    private final long numBlocks;
+    private final int blocksPerBatch;
+    private final int readAheadBatches;
+    private final Executor executor;
+    private final BooleanSupplier readAheadAllowed;
+
+    private final Deque<CompletableFuture<BatchBuffer>> inFlight = new ArrayDeque<>();
+    private final Deque<BatchBuffer> recycledBuffers = new ArrayDeque<>();
+
+    private long nextBlockToRequest = 0L;
+    private BatchBuffer current = BatchBuffer.EMPTY;
+    private int positionInCurrent = 0;
+    private int buffersAllocated = 0;
+    private boolean closed = false;
+
+    public static PrefetchingBlockInputStream create(
+            BlockGetter blockGetter, long numBlocks, int blocksPerBatch, int readAheadBatches, Executor executor) {
+        return create(blockGetter, numBlocks, blocksPerBatch, readAheadBatches, executor, () -> true);
+    }
+
+    public static PrefetchingBlockInputStream create(
+            BlockGetter blockGetter,
+            long numBlocks,
+            int blocksPerBatch,
+            int readAheadBatches,
+            Executor executor,
+            BooleanSupplier readAheadAllowed) {
+        BlockConsumingInputStream.ensureExpectedArraySizeDoesNotOverflow(blockGetter, blocksPerBatch);
+        Preconditions.checkArgument(
+                readAheadBatches >= 0,
+                "Read-ahead must be non-negative",
+                SafeArg.of("readAheadBatches", readAheadBatches));
+        return new PrefetchingBlockInputStream(
+                blockGetter, numBlocks, blocksPerBatch, readAheadBatches, executor, readAheadAllowed);
+    }
+
+    private PrefetchingBlockInputStream(
+            BlockGetter blockGetter,
+            long numBlocks,
+            int blocksPerBatch,
+            int readAheadBatches,
+            Executor executor,
+            BooleanSupplier readAheadAllowed) {
+        this.blockGetter = blockGetter;
+        this.numBlocks = numBlocks;
+        this.blocksPerBatch = blocksPerBatch;
+        this.readAheadBatches = readAheadBatches;
+        this.executor = executor;
+        this.readAheadAllowed = readAheadAllowed;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!ensureBytesAvailable()) {
+            return -1;
+        }
+        return current.array()[positionInCurrent++] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] bytes, int off, int len) throws IOException {
+        Preconditions.checkNotNull(bytes, "Cannot read into a null array!");
+        if (off < 0 || len < 0 || len > bytes.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (len == 0) {
+            return 0;
+        }
+
+        int bytesRead = 0;
+        while (bytesRead < len && ensureBytesAvailable()) {
+            int bytesToCopy = Math.min(current.length() - positionInCurrent, len - bytesRead);
+            System.arraycopy(current.array(), positionInCurrent, bytes, off + bytesRead, bytesToCopy);
+            positionInCurrent += bytesToCopy;
+            bytesRead += bytesToCopy;
+        }
+        return bytesRead == 0 ? -1 : bytesRead;
+    }
+
+    @Override
+    public int read(ByteBuffer destination) throws IOException {
+        if (closed) {
+            throw new ClosedChannelException();
+        }
+        if (!destination.hasRemaining()) {
+            return 0;
+        }
+
+        int bytesRead = 0;
+        while (destination.hasRemaining() && ensureBytesAvailable()) {
+            int bytesToCopy = Math.min(current.length() - positionInCurrent, destination.remaining());
+            destination.put(current.array(), positionInCurrent, bytesToCopy);
+            positionInCurrent += bytesToCopy;
+            bytesRead += bytesToCopy;
+        }
+        return bytesRead == 0 ? -1 : bytesRead;
+    }
+
+    @Override
+    public int available() {
+        return current.length() - positionInCurrent;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return !closed;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        // Fetches that are already running will complete, but their buffers are simply dropped.
+        inFlight.forEach(future -> future.cancel(false));
+        inFlight.clear();
+        recycledBuffers.clear();
+        current = BatchBuffer.EMPTY;
+        positionInCurrent = 0;
+    }
+
+    @VisibleForTesting
+    int buffersAllocated() {
+        return buffersAllocated;
+    }
+
+    private boolean ensureBytesAvailable() throws IOException {
+        while (positionInCurrent >= current.length()) {
+            if (closed || !advance()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean advance() throws IOException {
+        if (current != BatchBuffer.EMPTY) {
+            current.reset();
+            recycledBuffers.add(current);
+            current = BatchBuffer.EMPTY;
+            positionInCurrent = 0;
+        }
+
+        requestBatches(readAheadAllowed.getAsBoolean());
+        CompletableFuture<BatchBuffer> next = inFlight.poll();
+        if (next == null) {
+            return false;
+        }
+
+        current = await(next);
+        positionInCurrent = 0;
+        if (readAheadAllowed.getAsBoolean()) {
+            requestBatches(true);
+        }
+        return true;
+    }
+
+    /**
+     * Keeps the batch the reader will consume next in flight, plus up to {@code readAheadBatches} further batches if
+     * {@code readAhead} is set. Without read-ahead, the next batch is loaded on the calling thread.
+     */
+    private void requestBatches(boolean readAhead) {
+        int maxInFlight = readAhead ? readAheadBatches + 1 : 1;
+        while (inFlight.size() < maxInFlight && nextBlockToRequest < numBlocks) {
+            long firstBlock = nextBlockToRequest;
+            // since blocksPerBatch is an int, the min is guaranteed to fit in an int
+            int blocksInBatch = (int) Math.min(numBlocks - firstBlock, blocksPerBatch);
+            nextBlockToRequest += blocksInBatch;
+
+            BatchBuffer buffer = nextFreeBuffer(blocksInBatch);
+            inFlight.add(CompletableFuture.supplyAsync(
+                    () -> {
+                        blockGetter.get(firstBlock, blocksInBatch, buffer);
+                        return buffer;
+                    },
+                    readAhead ? executor : Runnable::run));
+        }
+    }
+
+    private BatchBuffer nextFreeBuffer(int blocksInBatch) {
+        BatchBuffer recycled = recycledBuffers.poll();
+        if (recycled != null) {
+            return recycled;
+        }
+        buffersAllocated++;
+        return new BatchBuffer(blockGetter.expectedBlockLength() * blocksInBatch);
+    }
+
+    private static BatchBuffer await(CompletableFuture<BatchBuffer> future) throws IOException {
+        try {
+            return Uninterruptibles.getUninterruptibly(future);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new SafeIoException("Failed to load stream blocks", cause);
+        }
+    }
+
+    /**
+     * Exposes the backing array of a {@link ByteArrayOutputStream}, so that consumed batches can be read in place and
+     * then reset and refilled without copying.
+     */
+    private static final class BatchBuffer extends ByteArrayOutputStream {
+        private static final BatchBuffer EMPTY = new BatchBuffer(0);
+
+        private BatchBuffer(int size) {
+            super(size);
+        }
+
+        private byte[] array() {
+            return buf;
+        }
+
+        private int length() {
+            return count;
+        }
+    }
+}
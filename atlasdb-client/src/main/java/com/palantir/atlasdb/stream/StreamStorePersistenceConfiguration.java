@@ -56,11 +56,61 @@ public interface StreamStorePersistenceConfiguration {
         return 0;
     }
 
+    /**
+     * The number of blocks that a nontransactional storeStream() writes in each transaction. Blocks written in the
+     * same transaction reach the key value service in a single multiPut when it commits.
+     *
+     * This parameter is live reloadable, and takes effect for streams stored after it is reloaded.
+     */
+    @Value.Default
+    default int blocksPerWriteTransaction() {
+        return 1;
+    }
+
+    /**
+     * The maximum number of transactions that a nontransactional storeStream() may have writing blocks at once, on a
+     * shared background executor. If this and blocksPerWriteTransaction are both 1 (the default), blocks are written
+     * on the calling thread, one at a time. Pauses configured by numBlocksToWriteBeforePause and
+     * writePauseDurationMillis still apply, and slow down how fast blocks are handed to the writing transactions.
+     *
+     * This parameter is live reloadable, and takes effect for streams stored after it is reloaded.
+     */
+    @Value.Default
+    default int maxConcurrentWriteTransactions() {
+        return 1;
+    }
+
+    /**
+     * The number of batches of blocks that streams returned by loadStream() fetch ahead of the reader, on a shared
+     * background executor. Each batch holds as many blocks as fit in the store's in-memory threshold. Zero (the
+     * default) disables read-ahead, and blocks are loaded one batch at a time as they are read.
+     *
+     * This parameter is live reloadable, and takes effect for streams loaded after it is reloaded.
+     */
+    @Value.Default
+    default int readAheadBatches() {
+        return 0;
+    }
+
+    /**
+     * An upper bound on the bytes a single stream may hold in batches that have been fetched ahead of the reader.
+     * If readAheadBatches batches would exceed this, fewer batches are fetched ahead.
+     */
+    @Value.Default
+    default long maxReadAheadBytes() {
+        return 64L * 1024 * 1024;
+    }
+
     @Value.Check
     default void check() {
         Preconditions.checkState(
                 numBlocksToWriteBeforePause() > 0, "Number of blocks to write before pausing must be positive");
         Preconditions.checkState(
                 writePauseDurationMillis() >= 0, "Pause duration between batches of writes must be non-negative");
+        Preconditions.checkState(blocksPerWriteTransaction() > 0, "Number of blocks per transaction must be positive");
+        Preconditions.checkState(
+                maxConcurrentWriteTransactions() > 0, "Number of concurrent write transactions must be positive");
+        Preconditions.checkState(readAheadBatches() >= 0, "Number of batches to read ahead must be non-negative");
+        Preconditions.checkState(maxReadAheadBytes() >= 0, "Maximum read-ahead bytes must be non-negative");
     }
 }
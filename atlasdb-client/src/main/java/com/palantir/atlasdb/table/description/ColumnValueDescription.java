@@ -64,7 +64,12 @@ public final class ColumnValueDescription {
 
     public enum Compression {
         SNAPPY,
-        NONE;
+        NONE,
+        /**
+         * LZ4 with a self-describing header. Values written without the header are read back as Snappy, so a table
+         * may be switched from {@link #SNAPPY} to LZ4 without rewriting existing data.
+         */
+        LZ4;
 
         public TableMetadataPersistence.Compression persistToProto() {
             return TableMetadataPersistence.Compression.valueOf(name());
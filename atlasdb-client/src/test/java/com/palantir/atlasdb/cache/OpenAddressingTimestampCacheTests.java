@@ -0,0 +1,140 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codahale.metrics.MetricRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+public final class OpenAddressingTimestampCacheTests {
+    private final AtomicLong size = new AtomicLong(1_000);
+    private final OpenAddressingTimestampCache cache =
+            new OpenAddressingTimestampCache(new MetricRegistry(), size::get, 4);
+
+    @Test
+    public void returnsNullForAbsentEntries() {
+        assertThat(cache.getCommitTimestampIfPresent(1L)).isNull();
+    }
+
+    @Test
+    public void returnsCachedCommitTimestamps() {
+        cache.putAlreadyCommittedTransaction(1L, 3L);
+        cache.putAlreadyCommittedTransaction(2L, 5L);
+
+        assertThat(cache.getCommitTimestampIfPresent(1L)).isEqualTo(3L);
+        assertThat(cache.getCommitTimestampIfPresent(2L)).isEqualTo(5L);
+        assertThat(cache.getCommitTimestampIfPresent(3L)).isNull();
+    }
+
+    @Test
+    public void doesNotCacheNonPositiveStartTimestamps() {
+        cache.putAlreadyCommittedTransaction(0L, 3L);
+        cache.putAlreadyCommittedTransaction(-1L, 3L);
+
+        assertThat(cache.getCommitTimestampIfPresent(0L)).isNull();
+        assertThat(cache.getCommitTimestampIfPresent(-1L)).isNull();
+    }
+
+    @Test
+    public void clearRemovesAllEntries() {
+        LongStream.rangeClosed(1, 100).forEach(ts -> cache.putAlreadyCommittedTransaction(ts, ts + 1));
+
+        cache.clear();
+
+        assertThat(cache.estimatedSize()).isZero();
+        LongStream.rangeClosed(1, 100)
+                .forEach(ts -> assertThat(cache.getCommitTimestampIfPresent(ts)).isNull());
+    }
+
+    @Test
+    public void sizeIsBoundedAndRemainingEntriesAreCorrect() {
+        LongStream.rangeClosed(1, 100_000).forEach(ts -> cache.putAlreadyCommittedTransaction(ts, 2 * ts));
+
+        assertThat(cache.estimatedSize()).isLessThanOrEqualTo(size.get());
+        long present = LongStream.rangeClosed(1, 100_000)
+                .filter(ts -> {
+                    Long commitTs = cache.getCommitTimestampIfPresent(ts);
+                    if (commitTs != null) {
+                        assertThat(commitTs).isEqualTo(2 * ts);
+                        return true;
+                    }
+                    return false;
+                })
+                .count();
+        assertThat(present).isEqualTo(cache.estimatedSize());
+    }
+
+    @Test
+    public void recentlyReadEntriesSurviveEviction() {
+        size.set(4);
+        OpenAddressingTimestampCache smallCache = new OpenAddressingTimestampCache(new MetricRegistry(), size::get, 1);
+        LongStream.rangeClosed(1, 4).forEach(ts -> smallCache.putAlreadyCommittedTransaction(ts, ts));
+
+        smallCache.getCommitTimestampIfPresent(1L);
+        smallCache.putAlreadyCommittedTransaction(5L, 5L);
+
+        assertThat(smallCache.getCommitTimestampIfPresent(1L)).isEqualTo(1L);
+        assertThat(smallCache.getCommitTimestampIfPresent(5L)).isEqualTo(5L);
+        assertThat(smallCache.estimatedSize()).isEqualTo(4);
+    }
+
+    @Test
+    public void respondsToSizeChanges() {
+        LongStream.rangeClosed(1, 1_000).forEach(ts -> cache.putAlreadyCommittedTransaction(ts, ts));
+
+        size.set(10_000);
+        LongStream.rangeClosed(1_001, 10_000).forEach(ts -> cache.putAlreadyCommittedTransaction(ts, ts));
+        assertThat(cache.estimatedSize()).isGreaterThan(1_000).isLessThanOrEqualTo(10_000);
+
+        size.set(100);
+        LongStream.rangeClosed(10_001, 10_100).forEach(ts -> cache.putAlreadyCommittedTransaction(ts, ts));
+        assertThat(cache.estimatedSize()).isLessThanOrEqualTo(100);
+    }
+
+    @Test
+    public void concurrentReadsSeeConsistentValues() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            futures.add(executor.submit(() -> LongStream.rangeClosed(1, 200_000)
+                    .forEach(ts -> cache.putAlreadyCommittedTransaction(ts, ts + 7))));
+            for (int i = 0; i < 3; i++) {
+                futures.add(executor.submit(() -> LongStream.rangeClosed(1, 200_000)
+                        .forEach(ts -> {
+                            Long commitTs = cache.getCommitTimestampIfPresent(ts);
+                            if (commitTs != null) {
+                                assertThat(commitTs).isEqualTo(ts + 7);
+                            }
+                        })));
+            }
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
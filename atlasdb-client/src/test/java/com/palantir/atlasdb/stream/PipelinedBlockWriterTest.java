@@ -0,0 +1,114 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class PipelinedBlockWriterTest {
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+    private final Map<Long, byte[]> writtenBlocks = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> batchSizes = new ConcurrentHashMap<>();
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void writesEveryBlockUnderItsBlockNumber() {
+        try (PipelinedBlockWriter writer = new PipelinedBlockWriter(this::recordBatch, 3, 4, executor)) {
+            for (int i = 0; i < 10; i++) {
+                writer.write(new byte[] {(byte) i});
+            }
+            writer.finish();
+        }
+
+        assertThat(writtenBlocks).hasSize(10);
+        writtenBlocks.forEach((blockNumber, block) -> assertThat(block).containsExactly(blockNumber.byteValue()));
+        assertThat(batchSizes).containsOnlyKeys(0L, 3L, 6L, 9L);
+        assertThat(batchSizes.get(9L)).isEqualTo(1);
+    }
+
+    @Test
+    public void boundsNumberOfBatchesInFlight() {
+        int maxConcurrentBatches = 2;
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxObservedInFlight = new AtomicInteger();
+        PipelinedBlockWriter.BatchWriter slowWriter = (firstBlockNumber, blocks) -> {
+            maxObservedInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Uninterruptibles.sleepUninterruptibly(Duration.ofMillis(5));
+            inFlight.decrementAndGet();
+        };
+
+        try (PipelinedBlockWriter writer = new PipelinedBlockWriter(slowWriter, 1, maxConcurrentBatches, executor)) {
+            for (int i = 0; i < 20; i++) {
+                writer.write(new byte[0]);
+            }
+            writer.finish();
+        }
+
+        assertThat(maxObservedInFlight.get()).isBetween(1, maxConcurrentBatches);
+    }
+
+    @Test
+    public void rethrowsFirstFailedBatch() {
+        PipelinedBlockWriter.BatchWriter failingWriter = (firstBlockNumber, blocks) -> {
+            throw new IllegalStateException("boom");
+        };
+
+        try (PipelinedBlockWriter writer = new PipelinedBlockWriter(failingWriter, 1, 1, executor)) {
+            assertThatThrownBy(() -> {
+                        for (int i = 0; i < 10; i++) {
+                            writer.write(new byte[0]);
+                        }
+                        writer.finish();
+                    })
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("boom");
+        }
+    }
+
+    @Test
+    public void closeDoesNotWritePartialBatch() {
+        try (PipelinedBlockWriter writer = new PipelinedBlockWriter(this::recordBatch, 2, 1, executor)) {
+            writer.write(new byte[0]);
+            writer.write(new byte[0]);
+            writer.write(new byte[0]);
+        }
+
+        assertThat(writtenBlocks).containsOnlyKeys(0L, 1L);
+    }
+
+    private void recordBatch(long firstBlockNumber, List<byte[]> blocks) {
+        batchSizes.put(firstBlockNumber, blocks.size());
+        for (int i = 0; i < blocks.size(); i++) {
+            writtenBlocks.put(firstBlockNumber + i, blocks.get(i));
+        }
+    }
+}
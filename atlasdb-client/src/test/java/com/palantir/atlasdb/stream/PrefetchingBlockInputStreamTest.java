@@ -0,0 +1,201 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class PrefetchingBlockInputStreamTest {
+    private static final int BLOCK_SIZE = 7;
+    private static final int NUM_BLOCKS = 23;
+
+    private final byte[] stored = createData(BLOCK_SIZE * NUM_BLOCKS - 3);
+    private final AtomicLong blocksLoaded = new AtomicLong();
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    private final BlockGetter blockGetter = new BlockGetter() {
+        @Override
+        public void get(long firstBlock, long numBlocks, OutputStream destination) {
+            int start = (int) firstBlock * BLOCK_SIZE;
+            int end = Math.min(stored.length, (int) (firstBlock + numBlocks) * BLOCK_SIZE);
+            try {
+                destination.write(stored, start, end - start);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            blocksLoaded.addAndGet(numBlocks);
+        }
+
+        @Override
+        public int expectedBlockLength() {
+            return BLOCK_SIZE;
+        }
+    };
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void readsEntireStreamByteByByte() throws IOException {
+        try (PrefetchingBlockInputStream stream =
+                PrefetchingBlockInputStream.create(blockGetter, NUM_BLOCKS, 2, 3, executor)) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            int next;
+            while ((next = stream.read()) != -1) {
+                output.write(next);
+            }
+            assertThat(output.toByteArray()).isEqualTo(stored);
+        }
+    }
+
+    @Test
+    public void readsEntireStreamIntoArrays() throws IOException {
+        try (PrefetchingBlockInputStream stream =
+                PrefetchingBlockInputStream.create(blockGetter, NUM_BLOCKS, 3, 2, executor)) {
+            assertThat(stream.readAllBytes()).isEqualTo(stored);
+        }
+        assertThat(blocksLoaded).hasValue(NUM_BLOCKS);
+    }
+
+    @Test
+    public void readsEntireStreamThroughChannel() throws IOException {
+        try (PrefetchingBlockInputStream stream =
+                PrefetchingBlockInputStream.create(blockGetter, NUM_BLOCKS, 4, 1, executor)) {
+            ByteBuffer destination = ByteBuffer.allocateDirect(stored.length);
+            ByteBuffer chunk = ByteBuffer.allocate(5);
+            while (stream.read(chunk) != -1) {
+                chunk.flip();
+                destination.put(chunk);
+                chunk.clear();
+            }
+            destination.flip();
+            assertThat(destination).isEqualTo(ByteBuffer.wrap(stored));
+        }
+    }
+
+    @Test
+    public void worksWithoutReadAhead() throws IOException {
+        try (PrefetchingBlockInputStream stream = PrefetchingBlockInputStream.create(
+                blockGetter, NUM_BLOCKS, 1, 0, MoreExecutors.directExecutor())) {
+            assertThat(stream.readAllBytes()).isEqualTo(stored);
+            assertThat(stream.buffersAllocated()).isLessThanOrEqualTo(2);
+        }
+    }
+
+    @Test
+    public void loadsOnlyTheNextBatchOnCallingThreadWhileReadAheadIsNotAllowed() throws IOException {
+        Executor failingExecutor = command -> {
+            throw new AssertionError("should not read ahead");
+        };
+        try (PrefetchingBlockInputStream stream = PrefetchingBlockInputStream.create(
+                blockGetter, NUM_BLOCKS, 2, 3, failingExecutor, () -> false)) {
+            assertThat(stream.read()).isEqualTo(stored[0]);
+            assertThat(blocksLoaded).hasValue(2);
+
+            stream.readNBytes(2 * BLOCK_SIZE - 1);
+            assertThat(blocksLoaded).hasValue(2);
+
+            assertThat(stream.readAllBytes()).isEqualTo(Arrays.copyOfRange(stored, 2 * BLOCK_SIZE, stored.length));
+            assertThat(stream.buffersAllocated()).isLessThanOrEqualTo(2);
+        }
+        assertThat(blocksLoaded).hasValue(NUM_BLOCKS);
+    }
+
+    @Test
+    public void startsReadingAheadOnceAllowed() throws IOException {
+        AtomicBoolean readAheadAllowed = new AtomicBoolean(false);
+        try (PrefetchingBlockInputStream stream = PrefetchingBlockInputStream.create(
+                blockGetter, NUM_BLOCKS, 1, 3, MoreExecutors.directExecutor(), readAheadAllowed::get)) {
+            assertThat(stream.read()).isEqualTo(stored[0]);
+            assertThat(blocksLoaded).hasValue(1);
+
+            readAheadAllowed.set(true);
+            stream.readNBytes(BLOCK_SIZE - 1);
+            assertThat(stream.read()).isEqualTo(stored[BLOCK_SIZE]);
+            assertThat(blocksLoaded).hasValue(6);
+        }
+    }
+
+    @Test
+    public void recyclesBuffers() throws IOException {
+        int readAheadBatches = 2;
+        try (PrefetchingBlockInputStream stream =
+                PrefetchingBlockInputStream.create(blockGetter, NUM_BLOCKS, 1, readAheadBatches, executor)) {
+            assertThat(stream.readAllBytes()).isEqualTo(stored);
+            assertThat(stream.buffersAllocated()).isLessThanOrEqualTo(readAheadBatches + 2);
+        }
+    }
+
+    @Test
+    public void doesNotLoadAnythingUntilRead() throws IOException {
+        try (PrefetchingBlockInputStream stream =
+                PrefetchingBlockInputStream.create(blockGetter, NUM_BLOCKS, 1, 5, executor)) {
+            assertThat(stream.available()).isZero();
+        }
+        assertThat(blocksLoaded).hasValue(0);
+    }
+
+    @Test
+    public void propagatesFailuresFromBlockGetter() {
+        BlockGetter failing = new BlockGetter() {
+            @Override
+            public void get(long firstBlock, long numBlocks, OutputStream destination) {
+                throw new IllegalStateException("boom");
+            }
+
+            @Override
+            public int expectedBlockLength() {
+                return BLOCK_SIZE;
+            }
+        };
+        PrefetchingBlockInputStream stream = PrefetchingBlockInputStream.create(failing, NUM_BLOCKS, 1, 1, executor);
+        assertThatThrownBy(stream::read).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+    }
+
+    @Test
+    public void cannotReadFromClosedChannel() {
+        PrefetchingBlockInputStream stream =
+                PrefetchingBlockInputStream.create(blockGetter, NUM_BLOCKS, 1, 1, executor);
+        stream.close();
+        assertThat(stream.isOpen()).isFalse();
+        assertThatThrownBy(() -> stream.read(ByteBuffer.allocate(1))).isInstanceOf(ClosedChannelException.class);
+    }
+
+    private static byte[] createData(int length) {
+        byte[] data = new byte[length];
+        Arrays.setAll(data, i -> (byte) i);
+        return data;
+    }
+}
@@ -34,6 +34,7 @@ import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.time.Duration;
 import java.util.concurrent.Callable;
+import java.util.function.UnaryOperator;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.extension.BeforeAllCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -81,10 +82,15 @@ public final class DbKvsPostgresExtension implements BeforeAllCallback, Extensio
     }
 
     public static DbKeyValueServiceConfig getKvsConfig() {
+        return getKvsConfig(UnaryOperator.identity());
+    }
+
+    private static DbKeyValueServiceConfig getKvsConfig(
+            UnaryOperator<ImmutablePostgresDdlConfig.Builder> ddlCustomizer) {
         return ImmutableDbKeyValueServiceConfig.builder()
                 .connection(getConnectionConfig())
-                .ddl(ImmutablePostgresDdlConfig.builder()
-                        .compactInterval(HumanReadableDuration.days(2))
+                .ddl(ddlCustomizer
+                        .apply(ImmutablePostgresDdlConfig.builder().compactInterval(HumanReadableDuration.days(2)))
                         .build())
                 .build();
     }
@@ -113,4 +119,16 @@ public final class DbKvsPostgresExtension implements BeforeAllCallback, Extensio
     public static ConnectionManagerAwareDbKvs createKvs() {
         return ConnectionManagerAwareDbKvs.create(getKvsConfig());
     }
+
+    public static ConnectionManagerAwareDbKvs createArrayBoundKvs() {
+        return ConnectionManagerAwareDbKvs.create(getKvsConfig(ddl -> ddl.bindBatchesAsArrays(true)));
+    }
+
+    public static ConnectionManagerAwareDbKvs createCopyingKvs() {
+        return ConnectionManagerAwareDbKvs.create(getKvsConfig(ddl -> ddl.copyBatchThreshold(1)));
+    }
+
+    public static ConnectionManagerAwareDbKvs createStreamingRangeKvs() {
+        return ConnectionManagerAwareDbKvs.create(getKvsConfig(ddl -> ddl.streamRangeScans(true)));
+    }
 }
@@ -54,6 +54,16 @@ public abstract class DdlConfig {
         return 0;
     }
 
+    /**
+     * The number of threads that serve asynchronous reads such as {@code getAsync}. Each read holds a connection for
+     * as long as it runs, so this bounds how much of the connection pool asynchronous reads can take; further reads
+     * queue in the order they were made.
+     */
+    @Value.Default
+    public int asyncReadPoolSize() {
+        return 16;
+    }
+
     @Value.Default
     public int fetchBatchSize() {
         return 256;
@@ -73,6 +83,7 @@ public abstract class DdlConfig {
     protected final void check() {
         Preconditions.checkState(
                 metadataTable().getNamespace().isEmptyNamespace(), "'metadataTable' should have empty namespace'");
+        Preconditions.checkState(asyncReadPoolSize() > 0, "'asyncReadPoolSize' should be positive");
     }
 
     public interface Visitor<T> {
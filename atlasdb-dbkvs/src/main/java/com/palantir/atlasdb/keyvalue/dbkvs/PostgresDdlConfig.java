@@ -21,6 +21,7 @@ import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.palantir.atlasdb.AtlasDbConstants;
 import com.palantir.atlasdb.keyvalue.api.TableReference;
 import com.palantir.conjure.java.api.config.service.HumanReadableDuration;
+import java.util.Optional;
 import org.immutables.value.Value;
 
 @JsonDeserialize(as = ImmutablePostgresDdlConfig.class)
@@ -50,4 +51,42 @@ public abstract class PostgresDdlConfig extends DdlConfig {
     public HumanReadableDuration compactInterval() {
         return HumanReadableDuration.seconds(0);
     }
+
+    /**
+     * If true, batched reads and writes bind their rows, cells and timestamps as arrays that the query expands with
+     * {@code unnest}, rather than as a group of parameters per entry. The text of these queries then no longer
+     * depends on the size of the batch, so the driver can reuse server-side prepared statements for them and
+     * Postgres does not have to parse and plan each distinct batch size afresh.
+     *
+     * Sentinels are then also written with a single {@code INSERT ... ON CONFLICT DO NOTHING} per batch, which needs
+     * Postgres 9.5 or later.
+     */
+    @Value.Default
+    public boolean bindBatchesAsArrays() {
+        return false;
+    }
+
+    /**
+     * If set, write batches of at least this many cells are streamed to Postgres with a binary {@code COPY} rather
+     * than sent as {@code INSERT} statements. Unset by default. Write batches are bounded by
+     * {@link #mutationBatchCount()} and {@link #mutationBatchSizeBytes()}, so this has no effect if it exceeds them.
+     * Sentinels are never copied, as {@code COPY} cannot skip cells that already exist.
+     */
+    public abstract Optional<Integer> copyBatchThreshold();
+
+    /**
+     * If true, range scans read the whole range with a single query through a server-side cursor, fetching
+     * {@code fetchSize} cells at a time, instead of issuing a new query for each page. This suits long scans over
+     * large tables, but each open range iterator then holds a connection and an open transaction until it is
+     * exhausted or closed.
+     *
+     * That transaction holds back the xmin horizon for its whole lifetime, so while a long scan is open, vacuum cannot
+     * remove tuples deleted or updated after it started in any table of the database, and tables bloat. Scans are also
+     * read in primary key order including versions not yet swept, so heavily overwritten tables transfer more data
+     * than with paged scans. Only enable this where scans are read promptly to the end or closed.
+     */
+    @Value.Default
+    public boolean streamRangeScans() {
+        return false;
+    }
 }
@@ -72,7 +72,10 @@ public abstract class AbstractDbWriteTable implements DbWriteTable {
         put(args);
     }
 
-    private void put(List<Object[]> args) {
+    /**
+     * Inserts cells given as {@code {row_name, col_name, ts, val}} arguments.
+     */
+    protected void put(List<Object[]> args) {
         try {
             String prefixedTableName = prefixedTableNames.get(tableRef, conns);
             conns.get()
@@ -82,11 +85,19 @@ public abstract class AbstractDbWriteTable implements DbWriteTable {
                                     + " VALUES (?, ?, ?, ?) ",
                             args);
         } catch (PalantirSqlException e) {
-            if (ExceptionCheck.isUniqueConstraintViolation(e)) {
-                throw new KeyAlreadyExistsException("primary key violation", e);
-            }
-            throw e;
+            throw translateUniqueConstraintViolation(e);
+        }
+    }
+
+    protected String prefixedTableName() {
+        return prefixedTableNames.get(tableRef, conns);
+    }
+
+    protected static RuntimeException translateUniqueConstraintViolation(PalantirSqlException e) {
+        if (ExceptionCheck.isUniqueConstraintViolation(e)) {
+            return new KeyAlreadyExistsException("primary key violation", e);
         }
+        return e;
     }
 
     @Override
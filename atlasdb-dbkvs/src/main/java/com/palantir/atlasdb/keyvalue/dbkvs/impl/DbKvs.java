@@ -36,6 +36,8 @@ import com.google.common.collect.Sets;
 import com.google.common.util.concurrent.Atomics;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.palantir.async.initializer.AsyncInitializer;
 import com.palantir.atlasdb.AtlasDbConstants;
 import com.palantir.atlasdb.keyvalue.api.BatchColumnRangeSelection;
@@ -159,6 +161,7 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
     private final OverflowValueLoader overflowValueLoader;
     private final DbKvsGetRange getRangeStrategy;
     private final DbKvsGetCandidateCellsForSweeping getCandidateCellsForSweepingStrategy;
+    private final ListeningExecutorService asyncReadExecutor;
     private final InitializingWrapper wrapper = new InitializingWrapper();
 
     public static DbKeyValueService create(DbKeyValueServiceConfig config, SqlConnectionSupplier sqlConnSupplier) {
@@ -219,7 +222,7 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
                 new ParallelTaskRunner(
                         newFixedThreadPool(config.poolSize()), config.fetchBatchSize(), config.poolQosSize()),
                 (conns, tbl, ids) -> Collections.emptyMap(), // no overflow on postgres
-                new PostgresGetRange(prefixedTableNames, connections, tableMetadataCache),
+                new PostgresGetRange(prefixedTableNames, connections, tableMetadataCache, config),
                 new DbKvsGetCandidateCellsForSweeping(cellTsPairLoader));
     }
 
@@ -274,6 +277,8 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
         this.overflowValueLoader = overflowValueLoader;
         this.getRangeStrategy = getRangeStrategy;
         this.getCandidateCellsForSweepingStrategy = getCandidateCellsForSweepingStrategy;
+        this.asyncReadExecutor = MoreExecutors.listeningDecorator(
+                PTExecutors.newFixedThreadPool(config.asyncReadPoolSize(), "Atlas DbKvs async reader"));
     }
 
     private static ExecutorService newFixedThreadPool(int maxPoolSize) {
@@ -307,6 +312,7 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
     @Override
     public void close() {
         super.close();
+        asyncReadExecutor.shutdownNow();
         dbTables.close();
         connections.close();
         batchingQueryRunner.close();
@@ -656,7 +662,7 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
     @Override
     public ClosableIterator<RowResult<Value>> getRange(
             TableReference tableRef, RangeRequest rangeRequest, long timestamp) {
-        return ClosableIterators.wrapWithEmptyClose(getRangeStrategy.getRange(tableRef, rangeRequest, timestamp));
+        return getRangeStrategy.getRange(tableRef, rangeRequest, timestamp);
     }
 
     public void setMaxRangeOfTimestampsBatchSize(long newValue) {
@@ -1255,7 +1261,11 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
 
     @Override
     public ListenableFuture<Map<Cell, Value>> getAsync(TableReference tableRef, Map<Cell, Long> timestampByCell) {
-        return Futures.immediateFuture(get(tableRef, timestampByCell));
+        if (timestampByCell.isEmpty()) {
+            return Futures.immediateFuture(ImmutableMap.of());
+        }
+        Map<Cell, Long> timestamps = ImmutableMap.copyOf(timestampByCell);
+        return asyncReadExecutor.submit(() -> get(tableRef, timestamps));
     }
 
     @Override
@@ -18,12 +18,14 @@ package com.palantir.atlasdb.keyvalue.dbkvs.impl.postgres;
 import com.google.common.collect.AbstractIterator;
 import com.google.common.collect.ImmutableSortedMap;
 import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
 import com.palantir.atlasdb.encoding.PtBytes;
 import com.palantir.atlasdb.keyvalue.api.RangeRequest;
 import com.palantir.atlasdb.keyvalue.api.RangeRequests;
 import com.palantir.atlasdb.keyvalue.api.RowResult;
 import com.palantir.atlasdb.keyvalue.api.TableReference;
 import com.palantir.atlasdb.keyvalue.api.Value;
+import com.palantir.atlasdb.keyvalue.dbkvs.PostgresDdlConfig;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.ConnectionSupplier;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.DbKvs;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.FullQuery;
@@ -41,6 +43,9 @@ import com.palantir.logsafe.Preconditions;
 import com.palantir.nexus.db.DBType;
 import com.palantir.nexus.db.sql.AgnosticLightResultRow;
 import com.palantir.nexus.db.sql.AgnosticLightResultSet;
+import com.palantir.nexus.db.sql.SqlConnection;
+import com.palantir.sql.Connections;
+import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
@@ -124,22 +129,31 @@ public class PostgresGetRange implements DbKvsGetRange {
     private final PostgresPrefixedTableNames prefixedTableNames;
     private final SqlConnectionSupplier connectionPool;
     private final TableMetadataCache tableMetadataCache;
+    private final boolean streamRangeScans;
 
     public PostgresGetRange(
             PostgresPrefixedTableNames prefixedTableNames,
             SqlConnectionSupplier connectionPool,
-            TableMetadataCache tableMetadataCache) {
+            TableMetadataCache tableMetadataCache,
+            PostgresDdlConfig config) {
         this.prefixedTableNames = prefixedTableNames;
         this.connectionPool = connectionPool;
         this.tableMetadataCache = tableMetadataCache;
+        this.streamRangeScans = config.streamRangeScans();
     }
 
     @Override
-    public Iterator<RowResult<Value>> getRange(TableReference tableRef, RangeRequest rangeRequest, long timestamp) {
+    public ClosableIterator<RowResult<Value>> getRange(
+            TableReference tableRef, RangeRequest rangeRequest, long timestamp) {
         int maxRowsPerPage = RangeHelpers.getMaxRowsPerPage(rangeRequest);
         int maxCellsPerPage = DbKvsGetRanges.getMaxCellsPerPage(
                 tableRef, rangeRequest, maxRowsPerPage, connectionPool, tableMetadataCache);
         String tableName = DbKvs.internalTableName(tableRef);
+        if (streamRangeScans) {
+            FullQuery query =
+                    getStreamingRangeQuery(tableName, prefixedTableNames.get(tableRef), timestamp, rangeRequest);
+            return new StreamingRangeIterator(query, maxCellsPerPage);
+        }
         Iterator<Iterator<RowResult<Value>>> pageIterator = new PageIterator(
                 rangeRequest.getStartInclusive(),
                 rangeRequest.getEndExclusive(),
@@ -150,7 +164,126 @@ public class PostgresGetRange implements DbKvsGetRange {
                 maxCellsPerPage,
                 tableName,
                 prefixedTableNames.get(tableRef));
-        return Iterators.concat(pageIterator);
+        return ClosableIterators.wrapWithEmptyClose(Iterators.concat(pageIterator));
+    }
+
+    /**
+     * Unlike the paged query, this reads every version of each cell below {@code ts} in primary key order, without
+     * grouping or sorting, so that Postgres can return the first rows as soon as it reads them from the primary key
+     * index rather than aggregating and sorting the whole range first. The latest version of each cell is picked out
+     * as the results are read. This transfers older versions that have not been swept yet along with the latest.
+     */
+    private static FullQuery getStreamingRangeQuery(
+            String tableName, String prefixedTableName, long ts, RangeRequest rangeRequest) {
+        String direction = rangeRequest.isReverse() ? "DESC" : "ASC";
+        FullQuery.Builder queryBuilder = FullQuery.builder()
+                .append("/* GET_RANGE_STREAMING(")
+                .append(tableName)
+                .append(") */")
+                .append("SELECT row_name, col_name, ts, val")
+                .append("  FROM ")
+                .append(prefixedTableName)
+                .append("  WHERE ts < ? ", ts);
+        RangePredicateHelper.create(rangeRequest.isReverse(), DBType.POSTGRESQL, queryBuilder)
+                .startCellInclusive(rangeRequest.getStartInclusive(), PtBytes.EMPTY_BYTE_ARRAY)
+                .endRowExclusive(rangeRequest.getEndExclusive())
+                .columnSelection(rangeRequest.getColumnNames());
+        queryBuilder
+                .append("  ORDER BY row_name ")
+                .append(direction)
+                .append(", col_name ")
+                .append(direction)
+                .append(", ts ")
+                .append(direction);
+        return queryBuilder.build();
+    }
+
+    /**
+     * Reads the whole range with one query, and returns each atlas row as soon as its cells have been read.
+     *
+     * The driver fetches the results {@code fetchSize} cells at a time through a server-side cursor, so memory use is
+     * bounded by the fetch size and the largest row no matter how large the range is, and the index is traversed once
+     * rather than once per page. Postgres only keeps such a cursor open within a transaction, so the iterator holds a
+     * connection with an open transaction until it is exhausted or closed, and then rolls the transaction back.
+     */
+    private final class StreamingRangeIterator extends AbstractIterator<RowResult<Value>>
+            implements ClosableIterator<RowResult<Value>> {
+        private final ConnectionSupplier conns;
+        private final AgnosticLightResultSet resultSet;
+        private final PeekingIterator<AgnosticLightResultRow> sqlRows;
+        private boolean closed = false;
+
+        StreamingRangeIterator(FullQuery query, int fetchSize) {
+            this.conns = new ConnectionSupplier(connectionPool);
+            SqlConnection connection = conns.get();
+            try {
+                Connections.setAutoCommit(connection.getUnderlyingConnection(), false);
+                this.resultSet = connection.selectLightResultSetUnregisteredQueryWithFetchSize(
+                        query.getQuery(), fetchSize, query.getArgs());
+            } catch (RuntimeException e) {
+                releaseConnection();
+                throw e;
+            }
+            this.sqlRows = Iterators.peekingIterator(resultSet.iterator());
+        }
+
+        @Override
+        protected RowResult<Value> computeNext() {
+            if (closed || !sqlRows.hasNext()) {
+                close();
+                return endOfData();
+            }
+            byte[] rowName = sqlRows.peek().getBytes("row_name");
+            ImmutableSortedMap.Builder<byte[], Value> cells = RangeHelpers.newColumnMap();
+            byte[] currentColName = null;
+            Value latestValue = null;
+            while (sqlRows.hasNext() && Arrays.equals(rowName, sqlRows.peek().getBytes("row_name"))) {
+                AgnosticLightResultRow sqlRow = sqlRows.next();
+                byte[] colName = Preconditions.checkNotNull(
+                        sqlRow.getBytes("col_name"), "received a null col_name from the database");
+                byte[] rawVal = sqlRow.getBytes("val");
+                Value value = Value.create(rawVal, sqlRow.getLong("ts"));
+                // the versions of a cell are read consecutively
+                if (currentColName != null && !Arrays.equals(currentColName, colName)) {
+                    cells.put(currentColName, latestValue);
+                    latestValue = null;
+                }
+                currentColName = colName;
+                if (latestValue == null || value.getTimestamp() > latestValue.getTimestamp()) {
+                    latestValue = value;
+                }
+
+                // Track the bytes read from the DB (ignoring overheads)
+                TraceStatistics.incBytesRead(rowName);
+                TraceStatistics.incBytesRead(colName);
+                TraceStatistics.incBytesRead(rawVal);
+            }
+            cells.put(currentColName, latestValue);
+            return RowResult.create(rowName, cells.buildOrThrow());
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                resultSet.close();
+            } finally {
+                releaseConnection();
+            }
+        }
+
+        private void releaseConnection() {
+            try {
+                Connection connection = conns.get().getUnderlyingConnection();
+                Connections.rollback(connection);
+                Connections.setAutoCommit(connection, true);
+            } finally {
+                conns.close();
+            }
+        }
     }
 
     private class PageIterator extends AbstractIterator<Iterator<RowResult<Value>>> {
@@ -26,9 +26,11 @@ import com.palantir.atlasdb.keyvalue.dbkvs.PostgresDdlConfig;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.AbstractDbQueryFactory;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.FullQuery;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 public class PostgresQueryFactory extends AbstractDbQueryFactory {
     private final String tableName;
@@ -48,11 +50,11 @@ public class PostgresQueryFactory extends AbstractDbQueryFactory {
                 + "    AND m.ts < ? "
                 + (columns.allColumnsSelected()
                         ? ""
-                        : "    AND m.col_name IN " + numParams(Iterables.size(columns.getSelectedColumns())))
+                        : "    AND m.col_name " + inParams(Iterables.size(columns.getSelectedColumns())))
                 + " GROUP BY m.row_name, m.col_name";
         query = wrapQueryWithIncludeValue("GET_LATEST_ROW", query, includeValue);
         FullQuery fullQuery = new FullQuery(query).withArgs(row, ts);
-        return columns.allColumnsSelected() ? fullQuery : fullQuery.withArgs(columns.getSelectedColumns());
+        return columns.allColumnsSelected() ? fullQuery : withByteArrayArgs(fullQuery, columns.getSelectedColumns());
     }
 
     @Override
@@ -60,15 +62,15 @@ public class PostgresQueryFactory extends AbstractDbQueryFactory {
         String query = " /* GET_LATEST_ROWS_INNER (" + tableName + ") */ "
                 + " SELECT m.row_name, m.col_name, max(m.ts) as ts "
                 + "   FROM " + prefixedTableName() + " m "
-                + "  WHERE m.row_name IN " + numParams(Iterables.size(rows))
+                + "  WHERE m.row_name " + inParams(Iterables.size(rows))
                 + "    AND m.ts < ? "
                 + (columns.allColumnsSelected()
                         ? ""
-                        : "    AND m.col_name IN " + numParams(Iterables.size(columns.getSelectedColumns())))
+                        : "    AND m.col_name " + inParams(Iterables.size(columns.getSelectedColumns())))
                 + " GROUP BY m.row_name, m.col_name ";
         query = wrapQueryWithIncludeValue("GET_LATEST_ROW", query, includeValue);
-        FullQuery fullQuery = new FullQuery(query).withArgs(rows).withArg(ts);
-        return columns.allColumnsSelected() ? fullQuery : fullQuery.withArgs(columns.getSelectedColumns());
+        FullQuery fullQuery = withByteArrayArgs(new FullQuery(query), rows).withArg(ts);
+        return columns.allColumnsSelected() ? fullQuery : withByteArrayArgs(fullQuery, columns.getSelectedColumns());
     }
 
     @Override
@@ -77,16 +79,16 @@ public class PostgresQueryFactory extends AbstractDbQueryFactory {
         String query = " /* GET_LATEST_ROWS_INNER (" + tableName + ") */ "
                 + " SELECT m.row_name, m.col_name, max(m.ts) as ts "
                 + "   FROM " + prefixedTableName() + " m,"
-                + "     (VALUES " + groupOfNumParams(2, rows.size()) + ") t(row_name, ts) "
+                + "     " + batchTable(rows.size(), "bytea", "int8") + " t(row_name, ts) "
                 + "  WHERE m.row_name = t.row_name "
                 + "    AND m.ts < t.ts "
                 + (columns.allColumnsSelected()
                         ? ""
-                        : "    AND m.col_name IN " + numParams(Iterables.size(columns.getSelectedColumns())))
+                        : "    AND m.col_name " + inParams(Iterables.size(columns.getSelectedColumns())))
                 + " GROUP BY m.row_name, m.col_name ";
         query = wrapQueryWithIncludeValue("GET_LATEST_ROW", query, includeValue);
         FullQuery fullQuery = addRowTsArgs(new FullQuery(query), rows);
-        return columns.allColumnsSelected() ? fullQuery : fullQuery.withArgs(columns.getSelectedColumns());
+        return columns.allColumnsSelected() ? fullQuery : withByteArrayArgs(fullQuery, columns.getSelectedColumns());
     }
 
     @Override
@@ -98,9 +100,9 @@ public class PostgresQueryFactory extends AbstractDbQueryFactory {
                 + "    AND m.ts < ? "
                 + (columns.allColumnsSelected()
                         ? ""
-                        : "    AND m.col_name IN " + numParams(Iterables.size(columns.getSelectedColumns())));
+                        : "    AND m.col_name " + inParams(Iterables.size(columns.getSelectedColumns())));
         FullQuery fullQuery = new FullQuery(query).withArgs(row, ts);
-        return columns.allColumnsSelected() ? fullQuery : fullQuery.withArgs(columns.getSelectedColumns());
+        return columns.allColumnsSelected() ? fullQuery : withByteArrayArgs(fullQuery, columns.getSelectedColumns());
     }
 
     @Override
@@ -108,13 +110,13 @@ public class PostgresQueryFactory extends AbstractDbQueryFactory {
         String query = " /* GET_ALL_ROWS (" + tableName + ") */ "
                 + " SELECT m.row_name, m.col_name, m.ts" + (includeValue ? ", m.val " : " ")
                 + "   FROM " + prefixedTableName() + " m "
-                + "  WHERE m.row_name IN " + numParams(Iterables.size(rows))
+                + "  WHERE m.row_name " + inParams(Iterables.size(rows))
                 + "    AND m.ts < ? "
                 + (columns.allColumnsSelected()
                         ? ""
-                        : "    AND m.col_name IN " + numParams(Iterables.size(columns.getSelectedColumns())));
-        FullQuery fullQuery = new FullQuery(query).withArgs(rows).withArg(ts);
-        return columns.allColumnsSelected() ? fullQuery : fullQuery.withArgs(columns.getSelectedColumns());
+                        : "    AND m.col_name " + inParams(Iterables.size(columns.getSelectedColumns())));
+        FullQuery fullQuery = withByteArrayArgs(new FullQuery(query), rows).withArg(ts);
+        return columns.allColumnsSelected() ? fullQuery : withByteArrayArgs(fullQuery, columns.getSelectedColumns());
     }
 
     @Override
@@ -123,14 +125,14 @@ public class PostgresQueryFactory extends AbstractDbQueryFactory {
         String query = " /* GET_ALL_ROWS (" + tableName + ") */ "
                 + " SELECT m.row_name, m.col_name, m.ts" + (includeValue ? ", m.val " : " ")
                 + "   FROM " + prefixedTableName() + " m,"
-                + "     (VALUES " + groupOfNumParams(2, rows.size()) + ") t(row_name, ts) "
+                + "     " + batchTable(rows.size(), "bytea", "int8") + " t(row_name, ts) "
                 + "  WHERE m.row_name = t.row_name "
                 + "    AND m.ts < t.ts "
                 + (columns.allColumnsSelected()
                         ? ""
-                        : "    AND m.col_name IN " + numParams(Iterables.size(columns.getSelectedColumns())));
+                        : "    AND m.col_name " + inParams(Iterables.size(columns.getSelectedColumns())));
         FullQuery fullQuery = addRowTsArgs(new FullQuery(query), rows);
-        return columns.allColumnsSelected() ? fullQuery : fullQuery.withArgs(columns.getSelectedColumns());
+        return columns.allColumnsSelected() ? fullQuery : withByteArrayArgs(fullQuery, columns.getSelectedColumns());
     }
 
     @Override
@@ -152,7 +154,7 @@ public class PostgresQueryFactory extends AbstractDbQueryFactory {
         String query = " /* GET_LATEST_CELLS_INNER (" + tableName + ") */ "
                 + " SELECT m.row_name, m.col_name, max(m.ts) as ts "
                 + "   FROM " + prefixedTableName() + " m,"
-                + "    (VALUES " + groupOfNumParams(2, Iterables.size(cells)) + ") t(row_name, col_name) "
+                + "     " + batchTable(Iterables.size(cells), "bytea", "bytea") + " t(row_name, col_name) "
                 + "  WHERE m.row_name = t.row_name "
                 + "    AND m.col_name = t.col_name "
                 + "    AND m.ts < ? "
@@ -166,7 +168,7 @@ public class PostgresQueryFactory extends AbstractDbQueryFactory {
         String query = " /* GET_LATEST_CELLS_INNER (" + tableName + ") */ "
                 + " SELECT m.row_name, m.col_name, max(m.ts) as ts "
                 + "   FROM " + prefixedTableName() + " m,"
-                + "     (VALUES " + groupOfNumParams(3, Iterables.size(cells)) + ") t(row_name, col_name, ts) "
+                + "     " + batchTable(cells.size(), "bytea", "bytea", "int8") + " t(row_name, col_name, ts) "
                 + "  WHERE m.row_name = t.row_name "
                 + "    AND m.col_name = t.col_name "
                 + "    AND m.ts < t.ts "
@@ -191,7 +193,7 @@ public class PostgresQueryFactory extends AbstractDbQueryFactory {
         String query = " /* GET_ALL_CELLS (" + tableName + ") */ "
                 + " SELECT m.row_name, m.col_name, m.ts" + (includeValue ? ", m.val " : " ")
                 + "   FROM " + prefixedTableName() + " m,"
-                + "     (VALUES " + groupOfNumParams(2, Iterables.size(cells)) + ") t(row_name, col_name) "
+                + "     " + batchTable(Iterables.size(cells), "bytea", "bytea") + " t(row_name, col_name) "
                 + "  WHERE m.row_name = t.row_name "
                 + "    AND m.col_name = t.col_name "
                 + "    AND m.ts < ? ";
@@ -203,7 +205,7 @@ public class PostgresQueryFactory extends AbstractDbQueryFactory {
         String query = " /* GET_ALL_CELLS (" + tableName + ") */ "
                 + " SELECT m.row_name, m.col_name, m.ts" + (includeValue ? ", m.val " : " ")
                 + "   FROM " + prefixedTableName() + " m,"
-                + "     (VALUES " + groupOfNumParams(3, Iterables.size(cells)) + ") t(row_name, col_name, ts) "
+                + "     " + batchTable(cells.size(), "bytea", "bytea", "int8") + " t(row_name, col_name, ts) "
                 + "  WHERE m.row_name = t.row_name "
                 + "    AND m.col_name = t.col_name "
                 + "    AND m.ts < t.ts ";
@@ -261,7 +263,46 @@ public class PostgresQueryFactory extends AbstractDbQueryFactory {
                 + "   AND wrap.ts = i.ts ";
     }
 
-    private FullQuery addRowTsArgs(FullQuery fullQuery, Iterable<Map.Entry<byte[], Long>> rows) {
+    /**
+     * The right-hand side of a membership test against the given number of byte array arguments, which are added to
+     * the query by {@link #withByteArrayArgs}.
+     */
+    private String inParams(int numEntries) {
+        return config.bindBatchesAsArrays() ? "= ANY (?::bytea[])" : "IN " + numParams(numEntries);
+    }
+
+    /**
+     * A table of {@code numEntries} rows with columns of the given types, whose values are added to the query by one
+     * of {@link #addRowTsArgs}, {@link #addCellArgs} or {@link #addCellTsArgs}.
+     */
+    private String batchTable(int numEntries, String... columnTypes) {
+        if (!config.bindBatchesAsArrays()) {
+            return "(VALUES " + groupOfNumParams(columnTypes.length, numEntries) + ")";
+        }
+        return Arrays.stream(columnTypes)
+                .map(columnType -> "?::" + columnType + "[]")
+                .collect(Collectors.joining(", ", "unnest(", ")"));
+    }
+
+    private FullQuery withByteArrayArgs(FullQuery fullQuery, Iterable<byte[]> values) {
+        if (config.bindBatchesAsArrays()) {
+            return fullQuery.withArg(Iterables.toArray(values, byte[].class));
+        }
+        return fullQuery.withArgs(values);
+    }
+
+    private FullQuery addRowTsArgs(FullQuery fullQuery, Collection<Map.Entry<byte[], Long>> rows) {
+        if (config.bindBatchesAsArrays()) {
+            byte[][] rowNames = new byte[rows.size()][];
+            long[] timestamps = new long[rows.size()];
+            int index = 0;
+            for (Map.Entry<byte[], Long> entry : rows) {
+                rowNames[index] = entry.getKey();
+                timestamps[index] = entry.getValue();
+                index++;
+            }
+            return fullQuery.withArgs(rowNames, timestamps);
+        }
         for (Map.Entry<byte[], Long> entry : rows) {
             fullQuery.withArgs(entry.getKey(), entry.getValue());
         }
@@ -269,6 +310,18 @@ public class PostgresQueryFactory extends AbstractDbQueryFactory {
     }
 
     private FullQuery addCellArgs(FullQuery fullQuery, Iterable<Cell> cells) {
+        if (config.bindBatchesAsArrays()) {
+            int numCells = Iterables.size(cells);
+            byte[][] rowNames = new byte[numCells][];
+            byte[][] colNames = new byte[numCells][];
+            int index = 0;
+            for (Cell cell : cells) {
+                rowNames[index] = cell.getRowName();
+                colNames[index] = cell.getColumnName();
+                index++;
+            }
+            return fullQuery.withArgs(rowNames, colNames);
+        }
         for (Cell cell : cells) {
             fullQuery.withArgs(cell.getRowName(), cell.getColumnName());
         }
@@ -276,6 +329,19 @@ public class PostgresQueryFactory extends AbstractDbQueryFactory {
     }
 
     private FullQuery addCellTsArgs(FullQuery fullQuery, Collection<Map.Entry<Cell, Long>> cells) {
+        if (config.bindBatchesAsArrays()) {
+            byte[][] rowNames = new byte[cells.size()][];
+            byte[][] colNames = new byte[cells.size()][];
+            long[] timestamps = new long[cells.size()];
+            int index = 0;
+            for (Map.Entry<Cell, Long> entry : cells) {
+                rowNames[index] = entry.getKey().getRowName();
+                colNames[index] = entry.getKey().getColumnName();
+                timestamps[index] = entry.getValue();
+                index++;
+            }
+            return fullQuery.withArgs(rowNames, colNames, timestamps);
+        }
         for (Map.Entry<Cell, Long> entry : cells) {
             Cell cell = entry.getKey();
             fullQuery.withArgs(cell.getRowName(), cell.getColumnName(), entry.getValue());
@@ -293,12 +359,12 @@ public class PostgresQueryFactory extends AbstractDbQueryFactory {
         String query = " /* GET_ROWS_COLUMN_RANGE_COUNT(" + tableName + ") */"
                 + " SELECT m.row_name, COUNT(m.col_name) AS column_count "
                 + "   FROM " + prefixedTableName() + " m "
-                + "  WHERE m.row_name IN " + numParams(Iterables.size(rows))
+                + "  WHERE m.row_name " + inParams(Iterables.size(rows))
                 + "    AND m.ts < ? "
                 + (columnRangeSelection.getStartCol().length > 0 ? " AND m.col_name >= ?" : "")
                 + (columnRangeSelection.getEndCol().length > 0 ? " AND m.col_name < ?" : "")
                 + " GROUP BY m.row_name";
-        FullQuery fullQuery = new FullQuery(query).withArgs(rows).withArg(ts);
+        FullQuery fullQuery = withByteArrayArgs(new FullQuery(query), rows).withArg(ts);
         if (columnRangeSelection.getStartCol().length > 0) {
             fullQuery = fullQuery.withArg(columnRangeSelection.getStartCol());
         }
@@ -339,14 +405,14 @@ public class PostgresQueryFactory extends AbstractDbQueryFactory {
         String query = " /* GET_ROWS_COLUMN_RANGE_FULLY_LOADED_ROW (" + tableName + ") */ "
                 + " SELECT m.row_name, m.col_name, max(m.ts) as ts"
                 + "   FROM " + prefixedTableName() + " m "
-                + "  WHERE m.row_name IN " + numParams(Iterables.size(rows))
+                + "  WHERE m.row_name " + inParams(Iterables.size(rows))
                 + "    AND m.ts < ? "
                 + (columnRangeSelection.getStartCol().length > 0 ? " AND m.col_name >= ?" : "")
                 + (columnRangeSelection.getEndCol().length > 0 ? " AND m.col_name < ?" : "")
                 + " GROUP BY m.row_name, m.col_name"
                 + " ORDER BY m.row_name ASC, m.col_name ASC";
         String wrappedQuery = wrapQueryWithIncludeValue("GET_ROWS_COLUMN_RANGE_FULLY_LOADED_ROW", query, true);
-        FullQuery fullQuery = new FullQuery(wrappedQuery).withArgs(rows).withArg(ts);
+        FullQuery fullQuery = withByteArrayArgs(new FullQuery(wrappedQuery), rows).withArg(ts);
         if (columnRangeSelection.getStartCol().length > 0) {
             fullQuery = fullQuery.withArg(columnRangeSelection.getStartCol());
         }
@@ -15,18 +15,145 @@
  */
 package com.palantir.atlasdb.keyvalue.dbkvs.impl.postgres;
 
+import com.google.common.collect.Ordering;
+import com.palantir.atlasdb.keyvalue.api.Cell;
 import com.palantir.atlasdb.keyvalue.api.TableReference;
-import com.palantir.atlasdb.keyvalue.dbkvs.DdlConfig;
+import com.palantir.atlasdb.keyvalue.api.Value;
+import com.palantir.atlasdb.keyvalue.dbkvs.PostgresDdlConfig;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.AbstractDbWriteTable;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.ConnectionSupplier;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.PrefixedTableNames;
+import com.palantir.exception.PalantirSqlException;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 public class PostgresWriteTable extends AbstractDbWriteTable {
+    private final boolean bindBatchesAsArrays;
+    private final int copyBatchThreshold;
+
     public PostgresWriteTable(
-            DdlConfig config,
+            PostgresDdlConfig config,
             ConnectionSupplier conns,
             TableReference tableRef,
             PrefixedTableNames prefixedTableNames) {
         super(config, conns, tableRef, prefixedTableNames);
+        this.bindBatchesAsArrays = config.bindBatchesAsArrays();
+        this.copyBatchThreshold = config.copyBatchThreshold().orElse(Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void put(Collection<Map.Entry<Cell, byte[]>> data, long ts) {
+        if (data.size() < copyBatchThreshold) {
+            super.put(data, ts);
+            return;
+        }
+        copyInto(prefixedTableName(), writer -> {
+            for (Map.Entry<Cell, byte[]> entry : data) {
+                Cell cell = entry.getKey();
+                writer.writeRow(cell.getRowName(), cell.getColumnName(), ts, entry.getValue());
+            }
+        });
+    }
+
+    @Override
+    public void put(Collection<Map.Entry<Cell, Value>> data) {
+        if (data.size() < copyBatchThreshold) {
+            super.put(data);
+            return;
+        }
+        copyInto(prefixedTableName(), writer -> {
+            for (Map.Entry<Cell, Value> entry : data) {
+                Cell cell = entry.getKey();
+                Value value = entry.getValue();
+                writer.writeRow(cell.getRowName(), cell.getColumnName(), value.getTimestamp(), value.getContents());
+            }
+        });
+    }
+
+    @Override
+    public void putSentinels(Iterable<Cell> cells) {
+        if (!bindBatchesAsArrays) {
+            super.putSentinels(cells);
+            return;
+        }
+        // sorted like the batches of AbstractDbWriteTable#putSentinels, to take row locks in a consistent order
+        List<Cell> sentinels = Ordering.natural().immutableSortedCopy(cells);
+        int numCells = sentinels.size();
+        byte[][] rowNames = new byte[numCells][];
+        byte[][] colNames = new byte[numCells][];
+        for (int i = 0; i < numCells; i++) {
+            rowNames[i] = sentinels.get(i).getRowName();
+            colNames[i] = sentinels.get(i).getColumnName();
+        }
+
+        String prefixedTableName = prefixedTableName();
+        conns.get()
+                .updateUnregisteredQuery(
+                        "/* INSERT_UNNEST_SENTINELS (" + prefixedTableName + ") */"
+                                + " INSERT INTO " + prefixedTableName + " (row_name, col_name, ts, val) "
+                                + " SELECT row_name, col_name, ?::int8, ?::bytea FROM unnest(?::bytea[], ?::bytea[])"
+                                + " AS sentinels (row_name, col_name) "
+                                + " ON CONFLICT DO NOTHING",
+                        Value.INVALID_VALUE_TIMESTAMP,
+                        new byte[0],
+                        rowNames,
+                        colNames);
+    }
+
+    @Override
+    protected void put(List<Object[]> args) {
+        if (!bindBatchesAsArrays) {
+            super.put(args);
+            return;
+        }
+        int numCells = args.size();
+        byte[][] rowNames = new byte[numCells][];
+        byte[][] colNames = new byte[numCells][];
+        long[] timestamps = new long[numCells];
+        byte[][] values = new byte[numCells][];
+        for (int i = 0; i < numCells; i++) {
+            Object[] cellArgs = args.get(i);
+            rowNames[i] = (byte[]) cellArgs[0];
+            colNames[i] = (byte[]) cellArgs[1];
+            timestamps[i] = (Long) cellArgs[2];
+            values[i] = (byte[]) cellArgs[3];
+        }
+
+        try {
+            String prefixedTableName = prefixedTableName();
+            conns.get()
+                    .updateUnregisteredQuery(
+                            "/* INSERT_UNNEST (" + prefixedTableName + ") */"
+                                    + " INSERT INTO " + prefixedTableName + " (row_name, col_name, ts, val) "
+                                    + " SELECT * FROM unnest(?::bytea[], ?::bytea[], ?::int8[], ?::bytea[]) ",
+                            rowNames,
+                            colNames,
+                            timestamps,
+                            values);
+        } catch (PalantirSqlException e) {
+            throw translateUniqueConstraintViolation(e);
+        }
+    }
+
+    private void copyInto(String tableName, CopyRows rows) {
+        try (PostgresBinaryCopyWriter writer =
+                PostgresBinaryCopyWriter.start(conns.get().getUnderlyingConnection(), tableName)) {
+            rows.writeTo(writer);
+            writer.finish();
+        } catch (SQLException e) {
+            throw translateUniqueConstraintViolation(PalantirSqlException.create(e));
+        } catch (IOException e) {
+            // the driver reports failures while streaming rows as IOExceptions wrapping the SQLException
+            throw translateUniqueConstraintViolation(PalantirSqlException.create(
+                    e.getCause() instanceof SQLException ? (SQLException) e.getCause() : new SQLException(e)));
+        }
+    }
+
+    @FunctionalInterface
+    private interface CopyRows {
+        void writeTo(PostgresBinaryCopyWriter writer) throws IOException;
     }
 }
@@ -0,0 +1,416 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.api.cache;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A hash trie with O(1) immutable snapshots, for a single writer that hands out read-only views to other threads.
+ *
+ * Every node records the epoch in which it was created, and taking a snapshot ends the current epoch. The snapshot
+ * shares the trie's nodes; from then on, the writer copies a node the first time it modifies it, as in any persistent
+ * trie. Nodes created during the current epoch are not reachable from any snapshot, so the writer modifies those in
+ * place. Repeated updates between two snapshots therefore copy each node on their path at most once, rather than on
+ * every update as a fully persistent map does. Taking a snapshot when nothing has changed since the last one returns
+ * the same snapshot.
+ *
+ * Branches have a fixed fan-out of 32 and are indexed by successive 5-bit slices of the key's hash; leaves hold up to
+ * eight entries before they split.
+ */
+@NotThreadSafe
+public final class EpochHashTrie<K, V> {
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int BRANCH_WIDTH = 1 << BITS_PER_LEVEL;
+    private static final int BRANCH_MASK = BRANCH_WIDTH - 1;
+    private static final int LEAF_SPLIT_THRESHOLD = 8;
+
+    /**
+     * Branches are only created at shifts up to this one, which consumes the last bits of the hash. Leaves below it
+     * hold all keys whose hashes collide, however many there are.
+     */
+    private static final int MAX_BRANCH_SHIFT = 30;
+
+    @Nullable
+    private Node root;
+
+    private int size;
+    private long epoch;
+
+    @Nullable
+    private Snapshot<K, V> lastSnapshot = Snapshot.empty();
+
+    @Nullable
+    public V get(K key) {
+        return Snapshot.find(root, spread(key.hashCode()), key);
+    }
+
+    /**
+     * Associates the key with the value, and returns the value previously associated with the key, if any.
+     */
+    @Nullable
+    public V put(K key, V value) {
+        int hash = spread(key.hashCode());
+        V previous = Snapshot.find(root, hash, key);
+        if (previous != value) {
+            root = put(root, hash, key, value, 0);
+            lastSnapshot = null;
+        }
+        return previous;
+    }
+
+    /**
+     * Removes the key, and returns the value previously associated with it, if any.
+     */
+    @Nullable
+    public V remove(K key) {
+        int hash = spread(key.hashCode());
+        V previous = Snapshot.find(root, hash, key);
+        if (previous != null) {
+            root = remove(root, hash, key, 0);
+            lastSnapshot = null;
+        }
+        return previous;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        root = null;
+        size = 0;
+        lastSnapshot = Snapshot.empty();
+    }
+
+    /**
+     * Returns an immutable view of the current contents. Later updates to this trie are not visible in the snapshot.
+     */
+    public Snapshot<K, V> snapshot() {
+        if (lastSnapshot == null) {
+            lastSnapshot = new Snapshot<>(root, size);
+            epoch++;
+        }
+        return lastSnapshot;
+    }
+
+    private Node put(@Nullable Node node, int hash, K key, V value, int shift) {
+        if (node == null) {
+            Leaf leaf = new Leaf(epoch, 1);
+            leaf.append(hash, key, value);
+            size++;
+            return leaf;
+        }
+
+        if (node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            int index = leaf.indexOf(hash, key);
+            if (index >= 0) {
+                Leaf editable = editable(leaf, leaf.count);
+                editable.values[index] = value;
+                return editable;
+            }
+            if (leaf.count >= LEAF_SPLIT_THRESHOLD && shift <= MAX_BRANCH_SHIFT) {
+                return put(split(leaf, shift), hash, key, value, shift);
+            }
+            Leaf editable = editable(leaf, leaf.count + 1);
+            editable.append(hash, key, value);
+            size++;
+            return editable;
+        }
+
+        Branch branch = (Branch) node;
+        int index = (hash >>> shift) & BRANCH_MASK;
+        Node child = branch.children[index];
+        Node newChild = put(child, hash, key, value, shift + BITS_PER_LEVEL);
+        if (newChild == child) {
+            return branch;
+        }
+        Branch editable = editable(branch);
+        if (child == null) {
+            editable.childCount++;
+        }
+        editable.children[index] = newChild;
+        return editable;
+    }
+
+    @Nullable
+    private Node remove(@Nullable Node node, int hash, Object key, int shift) {
+        if (node == null) {
+            return null;
+        }
+
+        if (node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            int index = leaf.indexOf(hash, key);
+            if (index < 0) {
+                return leaf;
+            }
+            size--;
+            if (leaf.count == 1) {
+                return null;
+            }
+            Leaf editable = editable(leaf, leaf.count);
+            editable.removeAt(index);
+            return editable;
+        }
+
+        Branch branch = (Branch) node;
+        int index = (hash >>> shift) & BRANCH_MASK;
+        Node child = branch.children[index];
+        Node newChild = remove(child, hash, key, shift + BITS_PER_LEVEL);
+        if (newChild == child) {
+            return branch;
+        }
+        Branch editable = editable(branch);
+        editable.children[index] = newChild;
+        if (newChild == null && --editable.childCount == 0) {
+            return null;
+        }
+        return editable;
+    }
+
+    private Branch split(Leaf leaf, int shift) {
+        Branch branch = new Branch(epoch);
+        for (int i = 0; i < leaf.count; i++) {
+            int hash = leaf.hashes[i];
+            int index = (hash >>> shift) & BRANCH_MASK;
+            Leaf child = (Leaf) branch.children[index];
+            if (child == null) {
+                child = new Leaf(epoch, LEAF_SPLIT_THRESHOLD / 2);
+                branch.children[index] = child;
+                branch.childCount++;
+            } else if (child.count == child.hashes.length) {
+                child.grow(child.count * 2);
+            }
+            child.append(hash, leaf.keys[i], leaf.values[i]);
+        }
+        return branch;
+    }
+
+    private Leaf editable(Leaf leaf, int requiredCapacity) {
+        if (leaf.epoch != epoch) {
+            return leaf.copy(epoch, Math.max(requiredCapacity, Math.min(leaf.count * 2, LEAF_SPLIT_THRESHOLD)));
+        }
+        if (requiredCapacity > leaf.hashes.length) {
+            leaf.grow(Math.max(requiredCapacity, leaf.hashes.length * 2));
+        }
+        return leaf;
+    }
+
+    private Branch editable(Branch branch) {
+        return branch.epoch == epoch ? branch : branch.copy(epoch);
+    }
+
+    private static int spread(int hashCode) {
+        return hashCode ^ (hashCode >>> 16);
+    }
+
+    /**
+     * An immutable view of an {@link EpochHashTrie}, safe to share between threads.
+     */
+    public static final class Snapshot<K, V> {
+        private static final Snapshot<?, ?> EMPTY = new Snapshot<>(null, 0);
+
+        @Nullable
+        private final Node root;
+
+        private final int size;
+
+        private Snapshot(@Nullable Node root, int size) {
+            this.root = root;
+            this.size = size;
+        }
+
+        @SuppressWarnings("unchecked")
+        public static <K, V> Snapshot<K, V> empty() {
+            return (Snapshot<K, V>) EMPTY;
+        }
+
+        public static <K, V> Snapshot<K, V> copyOf(Map<? extends K, ? extends V> map) {
+            EpochHashTrie<K, V> trie = new EpochHashTrie<>();
+            map.forEach(trie::put);
+            return trie.snapshot();
+        }
+
+        @Nullable
+        public V get(K key) {
+            return find(root, spread(key.hashCode()), key);
+        }
+
+        public boolean containsKey(K key) {
+            return get(key) != null;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        public void forEach(BiConsumer<? super K, ? super V> action) {
+            forEach(root, action);
+        }
+
+        public Map<K, V> toJavaMap() {
+            Map<K, V> map = new HashMap<>(size * 2);
+            forEach(map::put);
+            return map;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Snapshot)) {
+                return false;
+            }
+            Snapshot<?, ?> otherSnapshot = (Snapshot<?, ?>) other;
+            return size == otherSnapshot.size && toJavaMap().equals(otherSnapshot.toJavaMap());
+        }
+
+        @Override
+        public int hashCode() {
+            return toJavaMap().hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return toJavaMap().toString();
+        }
+
+        @Nullable
+        @SuppressWarnings("unchecked")
+        private static <V> V find(@Nullable Node node, int hash, Object key) {
+            Node current = node;
+            int shift = 0;
+            while (current instanceof Branch) {
+                current = ((Branch) current).children[(hash >>> shift) & BRANCH_MASK];
+                shift += BITS_PER_LEVEL;
+            }
+            if (current == null) {
+                return null;
+            }
+            Leaf leaf = (Leaf) current;
+            int index = leaf.indexOf(hash, key);
+            return index < 0 ? null : (V) leaf.values[index];
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <K, V> void forEach(@Nullable Node node, BiConsumer<? super K, ? super V> action) {
+            if (node instanceof Leaf) {
+                Leaf leaf = (Leaf) node;
+                for (int i = 0; i < leaf.count; i++) {
+                    action.accept((K) leaf.keys[i], (V) leaf.values[i]);
+                }
+            } else if (node instanceof Branch) {
+                for (Node child : ((Branch) node).children) {
+                    forEach(child, action);
+                }
+            }
+        }
+    }
+
+    private abstract static class Node {
+        final long epoch;
+
+        Node(long epoch) {
+            this.epoch = epoch;
+        }
+    }
+
+    private static final class Branch extends Node {
+        private final Node[] children;
+        private int childCount;
+
+        private Branch(long epoch) {
+            this(epoch, new Node[BRANCH_WIDTH], 0);
+        }
+
+        private Branch(long epoch, Node[] children, int childCount) {
+            super(epoch);
+            this.children = children;
+            this.childCount = childCount;
+        }
+
+        private Branch copy(long newEpoch) {
+            return new Branch(newEpoch, children.clone(), childCount);
+        }
+    }
+
+    private static final class Leaf extends Node {
+        private int[] hashes;
+        private Object[] keys;
+        private Object[] values;
+        private int count;
+
+        private Leaf(long epoch, int capacity) {
+            super(epoch);
+            this.hashes = new int[capacity];
+            this.keys = new Object[capacity];
+            this.values = new Object[capacity];
+        }
+
+        private int indexOf(int hash, Object key) {
+            for (int i = 0; i < count; i++) {
+                if (hashes[i] == hash && key.equals(keys[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private void append(int hash, Object key, Object value) {
+            hashes[count] = hash;
+            keys[count] = key;
+            values[count] = value;
+            count++;
+        }
+
+        private void removeAt(int index) {
+            int last = count - 1;
+            hashes[index] = hashes[last];
+            keys[index] = keys[last];
+            values[index] = values[last];
+            keys[last] = null;
+            values[last] = null;
+            count = last;
+        }
+
+        private void grow(int capacity) {
+            hashes = Arrays.copyOf(hashes, capacity);
+            keys = Arrays.copyOf(keys, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        private Leaf copy(long newEpoch, int capacity) {
+            Leaf copy = new Leaf(newEpoch, 0);
+            copy.hashes = Arrays.copyOf(hashes, capacity);
+            copy.keys = Arrays.copyOf(keys, capacity);
+            copy.values = Arrays.copyOf(values, capacity);
+            copy.count = count;
+            return copy;
+        }
+    }
+}
@@ -20,15 +20,15 @@ import com.google.common.collect.Sets;
 import com.palantir.atlasdb.keyvalue.api.CellReference;
 import com.palantir.atlasdb.keyvalue.api.TableReference;
 import com.palantir.logsafe.Unsafe;
-import io.vavr.collection.Map;
 import io.vavr.collection.Set;
+import java.util.Map;
 import java.util.Optional;
 import org.immutables.value.Value;
 
 @Unsafe
 @Value.Immutable
 public interface ValueCacheSnapshotImpl extends ValueCacheSnapshot {
-    Map<CellReference, CacheEntry> values();
+    EpochHashTrie.Snapshot<CellReference, CacheEntry> values();
 
     Set<TableReference> lockWatchEnabledTables();
 
@@ -41,7 +41,7 @@ public interface ValueCacheSnapshotImpl extends ValueCacheSnapshot {
 
     @Override
     default Optional<CacheEntry> getValue(CellReference tableAndCell) {
-        return values().get(tableAndCell).toJavaOptional();
+        return Optional.ofNullable(values().get(tableAndCell));
     }
 
     @Override
@@ -64,6 +64,13 @@ public interface ValueCacheSnapshotImpl extends ValueCacheSnapshot {
             Map<CellReference, CacheEntry> values,
             Set<TableReference> enabledTables,
             java.util.Set<TableReference> allowedTables) {
+        return of(EpochHashTrie.Snapshot.copyOf(values), enabledTables, allowedTables);
+    }
+
+    static ValueCacheSnapshot of(
+            EpochHashTrie.Snapshot<CellReference, CacheEntry> values,
+            Set<TableReference> enabledTables,
+            java.util.Set<TableReference> allowedTables) {
         return ImmutableValueCacheSnapshotImpl.builder()
                 .values(values)
                 .lockWatchEnabledTables(enabledTables)
@@ -37,7 +37,6 @@ import com.palantir.logsafe.SafeArg;
 import com.palantir.logsafe.UnsafeArg;
 import com.palantir.logsafe.logger.SafeLogger;
 import com.palantir.logsafe.logger.SafeLoggerFactory;
-import io.vavr.collection.HashMap;
 import io.vavr.collection.HashSet;
 import java.util.Optional;
 import java.util.Set;
@@ -56,7 +55,7 @@ final class ValueStoreImpl implements ValueStore {
 
     private static final SafeLogger log = SafeLoggerFactory.get(ValueStoreImpl.class);
 
-    private final StructureHolder<io.vavr.collection.Map<CellReference, CacheEntry>> values;
+    private final EpochHashTrie<CellReference, CacheEntry> values = new EpochHashTrie<>();
     private final StructureHolder<io.vavr.collection.Set<TableReference>> watchedTables;
     private final Set<TableReference> allowedTables;
     private final Cache<CellReference, Integer> loadedValues;
@@ -65,7 +64,6 @@ final class ValueStoreImpl implements ValueStore {
 
     ValueStoreImpl(Set<TableReference> allowedTables, long maxCacheSize, CacheMetrics metrics) {
         this.allowedTables = allowedTables;
-        this.values = StructureHolder.create(HashMap::empty);
         this.watchedTables = StructureHolder.create(HashSet::empty);
         this.loadedValues = Caffeine.newBuilder()
                 .maximumWeight(maxCacheSize)
@@ -73,7 +71,7 @@ final class ValueStoreImpl implements ValueStore {
                 .executor(MoreExecutors.directExecutor())
                 .removalListener((cellReference, value, cause) -> {
                     if (cause.wasEvicted()) {
-                        values.with(map -> map.remove(cellReference));
+                        values.remove(cellReference);
                     }
                     metrics.decreaseCacheSize(EntryWeigher.INSTANCE.weigh(cellReference, value));
                 })
@@ -84,7 +82,7 @@ final class ValueStoreImpl implements ValueStore {
 
     @Override
     public void reset() {
-        values.resetToInitialValue();
+        values.clear();
         watchedTables.resetToInitialValue();
         loadedValues.invalidateAll();
 
@@ -100,7 +98,9 @@ final class ValueStoreImpl implements ValueStore {
 
     @Override
     public void putValue(CellReference cellReference, CacheValue value) {
-        values.with(map -> map.put(cellReference, CacheEntry.unlocked(value), (oldValue, newValue) -> {
+        CacheEntry newValue = CacheEntry.unlocked(value);
+        CacheEntry oldValue = values.get(cellReference);
+        if (oldValue != null) {
             boolean oldValueIsUnlocked = oldValue.status().isUnlocked();
             boolean oldValueEqualToNewValue = oldValue.equals(newValue);
             Preconditions.checkState(
@@ -116,15 +116,15 @@ final class ValueStoreImpl implements ValueStore {
                     SafeArg.of("oldValueEqualToNewValue", oldValueEqualToNewValue));
             metrics.decreaseCacheSize(
                     EntryWeigher.INSTANCE.weigh(cellReference, oldValue.value().size()));
-            return newValue;
-        }));
+        }
+        values.put(cellReference, newValue);
         loadedValues.put(cellReference, value.size());
         metrics.increaseCacheSize(EntryWeigher.INSTANCE.weigh(cellReference, value.size()));
     }
 
     @Override
     public ValueCacheSnapshot getSnapshot() {
-        return ValueCacheSnapshotImpl.of(values.getSnapshot(), watchedTables.getSnapshot(), allowedTables);
+        return ValueCacheSnapshotImpl.of(values.snapshot(), watchedTables.getSnapshot(), allowedTables);
     }
 
     @Override
@@ -134,24 +134,22 @@ final class ValueStoreImpl implements ValueStore {
                 UnsafeArg.of("allowedTables", allowedTables),
                 UnsafeArg.of("loadedValues", ImmutableMap.copyOf(loadedValues.asMap())),
                 UnsafeArg.of("watchedTables", watchedTables.getSnapshot().toJavaSet()),
-                UnsafeArg.of("values", values.getSnapshot().toJavaMap()));
+                UnsafeArg.of("values", values.snapshot().toJavaMap()));
     }
 
     private void putLockedCell(CellReference cellReference) {
-        if (values.apply(map -> map.get(cellReference).toJavaOptional())
-                .filter(CacheEntry::isUnlocked)
-                .isPresent()) {
+        CacheEntry existing = values.get(cellReference);
+        if (existing != null && existing.isUnlocked()) {
             loadedValues.invalidate(cellReference);
         }
-        values.with(map -> map.put(cellReference, CacheEntry.locked()));
+        values.put(cellReference, CacheEntry.locked());
     }
 
     private void clearLockedCell(CellReference cellReference) {
-        values.with(map -> map.get(cellReference)
-                .toJavaOptional()
-                .filter(entry -> !entry.status().isUnlocked())
-                .map(_unused -> map.remove(cellReference))
-                .orElse(map));
+        CacheEntry existing = values.get(cellReference);
+        if (existing != null && !existing.status().isUnlocked()) {
+            values.remove(cellReference);
+        }
     }
 
     private void applyLockedDescriptors(Set<LockDescriptor> lockDescriptors) {
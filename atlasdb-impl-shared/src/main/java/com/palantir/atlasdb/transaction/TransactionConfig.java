@@ -62,6 +62,38 @@ public abstract class TransactionConfig {
         return HumanReadableDuration.minutes(15);
     }
 
+    /**
+     * If true, write transactions overlap commit stages that do not depend on each other: marking the transaction in
+     * progress and writing to the sweep queue run alongside write/write conflict checking, and checking that the
+     * transactional key value service is still valid runs alongside read/write conflict checking. This lowers commit
+     * latency, at the cost of doing that work even for transactions that then fail their conflict checks.
+     */
+    @Value.Default
+    public boolean pipelinedCommit() {
+        return false;
+    }
+
+    /**
+     * The number of threads that serializable transactions use to check at commit time that their reads are
+     * unchanged. Reads are checked in batches, which are spread across the calling thread and the transaction's get
+     * ranges executor; no further batches are started once one has found a conflict. A value of 1 checks all batches
+     * on the calling thread.
+     */
+    @Value.Default
+    public int serializableReadValidationParallelism() {
+        return 1;
+    }
+
+    /**
+     * If true, serializable transactions remember the values they read that are 32 bytes or longer as their SHA-256
+     * hash, rather than in full, and compare hashes at commit time. This reduces the memory held by transactions that
+     * read many large values.
+     */
+    @Value.Default
+    public boolean fingerprintSerializableReads() {
+        return false;
+    }
+
     /**
      * TODO(fdesouza): Remove this once PDS-95791 is resolved.
      * @deprecated Remove this once PDS-95791 is resolved.
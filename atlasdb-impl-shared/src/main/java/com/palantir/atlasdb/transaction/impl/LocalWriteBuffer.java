@@ -39,48 +39,89 @@ import java.util.concurrent.ConcurrentNavigableMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Buffers the writes of a single transaction, and any change metadata attached to them, until commit.
+ *
+ * All state for a table lives in one {@link TableWrites}, which also serves as the lock that makes putting a value
+ * and its metadata atomic, so a put costs a single lookup of the table rather than one per structure. Byte counts are
+ * accumulated per call and published once, rather than once per cell.
+ *
+ * Alongside {@link #getValuesByteCount()}, which only counts cell names and values, the buffer tracks an estimate of
+ * its whole footprint on the heap: the sorted map entries holding the writes, the value arrays, and the change
+ * metadata entries. See {@link #getApproximateMemoryFootprintBytes()}.
+ */
 class LocalWriteBuffer {
     private static final SafeLogger log = SafeLoggerFactory.get(LocalWriteBuffer.class);
 
+    /**
+     * A skip list node (header plus key, value and next references) and, on average, a third of an index node.
+     */
+    private static final long SKIP_LIST_ENTRY_OVERHEAD_BYTES = 32;
+
+    private static final long BYTE_ARRAY_OVERHEAD_BYTES = 16;
+
+    /**
+     * A hash map node, its slot in the table, and the {@link ChangeMetadata} object itself.
+     */
+    private static final long CHANGE_METADATA_ENTRY_OVERHEAD_BYTES = 72;
+
     private final ConcurrentMap<TableReference, ConcurrentNavigableMap<Cell, byte[]>> writesByTable =
             new ConcurrentHashMap<>();
-    private final ConcurrentMap<TableReference, Map<Cell, ChangeMetadata>> metadataByTable = new ConcurrentHashMap<>();
-    private final ConcurrentMap<TableReference, Object> locksByTable = new ConcurrentHashMap<>();
+    private final ConcurrentMap<TableReference, TableWrites> tableWrites = new ConcurrentHashMap<>();
     private final AtomicLong valuesByteCount = new AtomicLong();
+    private final AtomicLong memoryFootprintBytes = new AtomicLong();
 
     public void putLocalWritesAndMetadata(
             TableReference tableRef, Map<Cell, byte[]> values, Map<Cell, ChangeMetadata> metadata) {
-        ConcurrentMap<Cell, byte[]> writes = getLocalWritesForTable(tableRef);
-        Map<Cell, ChangeMetadata> metadataForWrites = getChangeMetadataForTableInternal(tableRef);
+        TableWrites table = getTableWrites(tableRef);
         int numMetadataWritten = 0;
-        synchronized (getLockForTable(tableRef)) {
+        synchronized (table) {
+            long valuesByteDelta = 0;
+            long footprintDelta = 0;
             for (Map.Entry<Cell, byte[]> e : values.entrySet()) {
                 byte[] val = MoreObjects.firstNonNull(e.getValue(), PtBytes.EMPTY_BYTE_ARRAY);
                 Cell cell = e.getKey();
-                byte[] oldVal = writes.put(cell, val);
+                byte[] oldVal = table.writes.put(cell, val);
                 // If we are not writing metadata for a value, we have to remove any previously stored metadata since
                 // it may not be valid for the new value.
-                if (metadata.containsKey(cell)) {
-                    metadataForWrites.put(cell, metadata.get(cell));
+                ChangeMetadata metadataForCell = metadata.get(cell);
+                ChangeMetadata oldMetadata;
+                if (metadataForCell != null) {
+                    oldMetadata = table.metadata.put(cell, metadataForCell);
                     numMetadataWritten++;
+                    if (oldMetadata == null) {
+                        footprintDelta += CHANGE_METADATA_ENTRY_OVERHEAD_BYTES;
+                    }
                 } else {
-                    metadataForWrites.remove(cell);
-                }
-                long toAdd = val.length + Cells.getApproxSizeOfCell(cell);
-                long toSubtract = oldVal != null ? oldVal.length + Cells.getApproxSizeOfCell(cell) : 0;
-                long newByteCount = valuesByteCount.addAndGet(toAdd - toSubtract);
-                if (newByteCount >= TransactionConstants.WARN_LEVEL_FOR_QUEUED_BYTES
-                        && newByteCount - toAdd < TransactionConstants.WARN_LEVEL_FOR_QUEUED_BYTES) {
-                    log.warn(
-                            "A single transaction has put quite a few bytes: {}. "
-                                    + "Enable debug logging for more information",
-                            SafeArg.of("numBytes", newByteCount));
-                    if (log.isDebugEnabled()) {
-                        log.debug(
-                                "This exception and stack trace are provided for debugging purposes.",
-                                new RuntimeException());
+                    oldMetadata = table.metadata.remove(cell);
+                    if (oldMetadata != null) {
+                        footprintDelta -= CHANGE_METADATA_ENTRY_OVERHEAD_BYTES;
                     }
                 }
+
+                if (oldVal == null) {
+                    long cellSize = Cells.getApproxSizeOfCell(cell);
+                    valuesByteDelta += val.length + cellSize;
+                    footprintDelta += SKIP_LIST_ENTRY_OVERHEAD_BYTES + cellSize + arrayFootprint(val);
+                } else {
+                    valuesByteDelta += val.length - oldVal.length;
+                    footprintDelta += arrayFootprint(val) - arrayFootprint(oldVal);
+                }
+            }
+            memoryFootprintBytes.addAndGet(footprintDelta);
+            long newByteCount = valuesByteCount.addAndGet(valuesByteDelta);
+            if (newByteCount >= TransactionConstants.WARN_LEVEL_FOR_QUEUED_BYTES
+                    && newByteCount - valuesByteDelta < TransactionConstants.WARN_LEVEL_FOR_QUEUED_BYTES) {
+                log.warn(
+                        "A single transaction has put quite a few bytes: {}, with an approximate in-memory "
+                                + "footprint of {} bytes. Enable debug logging for more information",
+                        SafeArg.of("numBytes", newByteCount),
+                        SafeArg.of("approximateMemoryFootprintBytes", memoryFootprintBytes.get()));
+                if (log.isDebugEnabled()) {
+                    log.debug(
+                            "This exception and stack trace are provided for debugging purposes.",
+                            new RuntimeException());
+                }
             }
         }
         if (numMetadataWritten != metadata.size()) {
@@ -103,31 +144,56 @@ class LocalWriteBuffer {
      * Returns the local writes for cells of the given table.
      */
     public ConcurrentNavigableMap<Cell, byte[]> getLocalWritesForTable(TableReference tableRef) {
-        return writesByTable.computeIfAbsent(tableRef, unused -> new ConcurrentSkipListMap<>());
+        return getTableWrites(tableRef).writes;
     }
 
     /**
      * Returns an unmodifiable view of the change metadata for cells of the given table.
      */
     public Map<Cell, ChangeMetadata> getChangeMetadataForTable(TableReference tableRef) {
-        return Collections.unmodifiableMap(getChangeMetadataForTableInternal(tableRef));
+        return Collections.unmodifiableMap(getTableWrites(tableRef).metadata);
     }
 
     public long getValuesByteCount() {
         return valuesByteCount.get();
     }
 
+    /**
+     * An estimate of the heap used by everything this buffer holds: unlike {@link #getValuesByteCount()}, this
+     * includes the per-entry overhead of the buffer's own structures and the buffered change metadata.
+     */
+    public long getApproximateMemoryFootprintBytes() {
+        return memoryFootprintBytes.get();
+    }
+
     public long changeMetadataCount() {
-        return metadataByTable.values().stream().mapToLong(Map::size).sum();
+        return tableWrites.values().stream()
+                .mapToLong(table -> table.metadata.size())
+                .sum();
     }
 
-    private Map<Cell, ChangeMetadata> getChangeMetadataForTableInternal(TableReference tableRef) {
-        // No need for concurrency control on the cell level since it is only written to with a lock and
-        // read during commit, which is guaranteed to be single-threaded and exclusive with writing.
-        return metadataByTable.computeIfAbsent(tableRef, unused -> new HashMap<>());
+    private TableWrites getTableWrites(TableReference tableRef) {
+        TableWrites table = tableWrites.get(tableRef);
+        if (table != null) {
+            return table;
+        }
+        return tableWrites.computeIfAbsent(tableRef, unused -> {
+            TableWrites newTable = new TableWrites();
+            writesByTable.put(tableRef, newTable.writes);
+            return newTable;
+        });
+    }
+
+    private static long arrayFootprint(byte[] array) {
+        // The empty array used for deletes is shared.
+        return array.length == 0 ? 0 : BYTE_ARRAY_OVERHEAD_BYTES + array.length;
     }
 
-    private Object getLockForTable(TableReference tableRef) {
-        return locksByTable.computeIfAbsent(tableRef, _unused -> new Object());
+    private static final class TableWrites {
+        private final ConcurrentNavigableMap<Cell, byte[]> writes = new ConcurrentSkipListMap<>();
+
+        // No need for concurrency control on the cell level since it is only written to with a lock and
+        // read during commit, which is guaranteed to be single-threaded and exclusive with writing.
+        private final Map<Cell, ChangeMetadata> metadata = new HashMap<>();
     }
 }
@@ -32,6 +32,8 @@ import com.google.common.collect.Multimaps;
 import com.google.common.collect.Ordering;
 import com.google.common.collect.Sets;
 import com.google.common.collect.Streams;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
 import com.google.common.primitives.UnsignedBytes;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
@@ -42,6 +44,7 @@ import com.palantir.atlasdb.cleaner.NoOpCleaner;
 import com.palantir.atlasdb.cleaner.api.Cleaner;
 import com.palantir.atlasdb.debug.ConflictTracer;
 import com.palantir.atlasdb.encoding.PtBytes;
+import com.palantir.atlasdb.futures.AtlasFutures;
 import com.palantir.atlasdb.keyvalue.api.BatchColumnRangeSelection;
 import com.palantir.atlasdb.keyvalue.api.Cell;
 import com.palantir.atlasdb.keyvalue.api.ColumnRangeSelection;
@@ -89,6 +92,7 @@ import com.palantir.util.Pair;
 import com.palantir.util.result.Result;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -99,16 +103,19 @@ import java.util.NavigableMap;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.Queue;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ConcurrentNavigableMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.LongSupplier;
 import java.util.function.Supplier;
@@ -133,6 +140,8 @@ public class SerializableTransaction extends SnapshotTransaction {
     private static final SafeLogger log = SafeLoggerFactory.get(SerializableTransaction.class);
 
     private static final int BATCH_SIZE = 1000;
+    private static final HashFunction READ_FINGERPRINT = Hashing.sha256();
+    private static final int FINGERPRINT_LENGTH = READ_FINGERPRINT.bits() / Byte.SIZE;
 
     final ConcurrentMap<TableReference, ConcurrentNavigableMap<Cell, byte[]>> readsByTable = new ConcurrentHashMap<>();
     final ConcurrentMap<TableReference, ConcurrentMap<RangeRequest, byte[]>> rangeEndByTable =
@@ -144,6 +153,8 @@ public class SerializableTransaction extends SnapshotTransaction {
     final ConcurrentMap<TableReference, Set<Cell>> cellsRead = new ConcurrentHashMap<>();
     final ConcurrentMap<TableReference, Set<RowRead>> rowsRead = new ConcurrentHashMap<>();
 
+    private final boolean fingerprintReads;
+
     public SerializableTransaction(
             MetricsManager metricsManager,
             TransactionKeyValueService keyValueService,
@@ -202,6 +213,7 @@ public class SerializableTransaction extends SnapshotTransaction {
                 knowledge,
                 commitTimestampLoader,
                 keyValueSnapshotReaderManager);
+        this.fingerprintReads = transactionConfig.get().fingerprintSerializableReads();
     }
 
     @Override
@@ -293,7 +305,7 @@ public class SerializableTransaction extends SnapshotTransaction {
             }
 
             private void markReadUpTo(Cell cell, byte[] value) {
-                readsForTable.put(cell, value);
+                readsForTable.put(cell, toRecordedValue(value));
                 updateRangeEnd(Cell.create(cell.getRowName(), cell.getColumnName()));
             }
 
@@ -505,11 +517,29 @@ public class SerializableTransaction extends SnapshotTransaction {
         return map;
     }
 
+    private Map<Cell, byte[]> toRecordedValues(Map<Cell, byte[]> values) {
+        Map<Cell, byte[]> transformed = transformGetsForTesting(values);
+        return fingerprintReads ? Maps.transformValues(transformed, this::toRecordedValue) : transformed;
+    }
+
+    /**
+     * When fingerprinting reads, values at least as long as a fingerprint are recorded, and compared at commit time, as
+     * their SHA-256 hash rather than in full. This bounds the memory held for each cell read, at the cost of hashing
+     * values as they are read and again when they are validated. Only values shorter than a fingerprint are recorded
+     * as they are, so that a value can never be mistaken for the fingerprint of another.
+     */
+    private byte[] toRecordedValue(byte[] value) {
+        if (!fingerprintReads || value.length < FINGERPRINT_LENGTH) {
+            return value;
+        }
+        return READ_FINGERPRINT.hashBytes(value).asBytes();
+    }
+
     private void markCellsRead(TableReference table, Set<Cell> searched, Map<Cell, byte[]> result) {
         if (!isSerializableTable(table)) {
             return;
         }
-        getReadsForTable(table).putAll(transformGetsForTesting(result));
+        getReadsForTable(table).putAll(toRecordedValues(result));
         Set<Cell> cellsForTable = cellsRead.computeIfAbsent(table, unused -> ConcurrentHashMap.newKeySet());
         cellsForTable.addAll(searched);
     }
@@ -521,8 +551,7 @@ public class SerializableTransaction extends SnapshotTransaction {
         ConcurrentNavigableMap<Cell, byte[]> reads = getReadsForTable(table);
         for (RowResult<byte[]> row : result) {
             Map<Cell, byte[]> map = Maps2.fromEntries(row.getCells());
-            map = transformGetsForTesting(map);
-            reads.putAll(map);
+            reads.putAll(toRecordedValues(map));
         }
         setRangeEnd(table, range, Iterables.getLast(result).getRowName());
     }
@@ -534,7 +563,7 @@ public class SerializableTransaction extends SnapshotTransaction {
         }
         ConcurrentNavigableMap<Cell, byte[]> reads = getReadsForTable(table);
         Map<Cell, byte[]> map = Maps2.fromEntries(result);
-        reads.putAll(transformGetsForTesting(map));
+        reads.putAll(toRecordedValues(map));
         setColumnRangeEnd(table, row, range, Iterables.getLast(result).getKey().getColumnName());
     }
 
@@ -556,7 +585,7 @@ public class SerializableTransaction extends SnapshotTransaction {
         ConcurrentNavigableMap<Cell, byte[]> reads = getReadsForTable(table);
         for (RowResult<byte[]> row : result) {
             Map<Cell, byte[]> map = Maps2.fromEntries(row.getCells());
-            reads.putAll(transformGetsForTesting(map));
+            reads.putAll(toRecordedValues(map));
         }
 
         Set<RowRead> rowReads = rowsRead.computeIfAbsent(table, unused -> ConcurrentHashMap.newKeySet());
@@ -587,14 +616,67 @@ public class SerializableTransaction extends SnapshotTransaction {
     @Override
     protected void throwIfReadWriteConflictForSerializable(long commitTimestamp) {
         Transaction ro = getReadOnlyTransaction(commitTimestamp);
-        verifyRanges(ro);
-        verifyColumnRanges(ro);
-        verifyCells(ro);
-        verifyRows(ro);
-        verifyGetSortedColumns(ro);
+        List<Runnable> verifications = new ArrayList<>();
+        addRangeVerifications(ro, verifications);
+        addColumnRangeVerifications(ro, verifications);
+        addCellVerifications(ro, verifications);
+        addRowVerifications(ro, verifications);
+        addGetSortedColumnsVerifications(ro, verifications);
+        runVerifications(verifications, transactionConfig.get().serializableReadValidationParallelism());
+    }
+
+    /**
+     * Runs the verifications on this thread and on up to {@code parallelism - 1} threads of the get ranges executor.
+     * Each thread takes the next verification not yet started, and none are started once one has found a conflict.
+     * The verifications only read through the read only transaction, which does not itself run tasks on the get
+     * ranges executor, so waiting for them cannot deadlock. Once this thread runs out of verifications, helpers that
+     * have not started yet would find none left, so they are cancelled rather than waited for.
+     */
+    private void runVerifications(List<Runnable> verifications, int parallelism) {
+        if (parallelism <= 1 || verifications.size() <= 1) {
+            verifications.forEach(Runnable::run);
+            return;
+        }
+        Queue<Runnable> remaining = new ConcurrentLinkedQueue<>(verifications);
+        AtomicBoolean failed = new AtomicBoolean();
+        Runnable worker = () -> {
+            Runnable verification;
+            while (!failed.get() && (verification = remaining.poll()) != null) {
+                try {
+                    verification.run();
+                } catch (RuntimeException | Error e) {
+                    failed.set(true);
+                    throw e;
+                }
+            }
+        };
+        List<ListenableFuture<?>> helpers = new ArrayList<>();
+        List<AtomicBoolean> helpersStarted = new ArrayList<>();
+        for (int i = 1; i < Math.min(parallelism, verifications.size()); i++) {
+            AtomicBoolean started = new AtomicBoolean();
+            helpersStarted.add(started);
+            helpers.add(Futures.submit(
+                    () -> {
+                        if (started.compareAndSet(false, true)) {
+                            worker.run();
+                        }
+                    },
+                    getRangesExecutor));
+        }
+        try {
+            worker.run();
+        } finally {
+            for (int i = 0; i < helpers.size(); i++) {
+                if (helpersStarted.get(i).compareAndSet(false, true)) {
+                    helpers.get(i).cancel(false);
+                } else {
+                    AtlasFutures.getUnchecked(helpers.get(i));
+                }
+            }
+        }
     }
 
-    private void verifyRows(Transaction ro) {
+    private void addRowVerifications(Transaction ro, List<Runnable> verifications) {
         for (Map.Entry<TableReference, Set<RowRead>> tableAndRowsEntry : rowsRead.entrySet()) {
             TableReference table = tableAndRowsEntry.getKey();
             Set<RowRead> rows = tableAndRowsEntry.getValue();
@@ -606,7 +688,9 @@ public class SerializableTransaction extends SnapshotTransaction {
                 rowsReadByColumns.putAll(r.cols, r.rows);
             }
             for (ColumnSelection cols : rowsReadByColumns.keySet()) {
-                verifyColumns(ro, table, readsForTable, rowsReadByColumns, cols);
+                for (List<byte[]> batch : Iterables.partition(rowsReadByColumns.get(cols), BATCH_SIZE)) {
+                    verifications.add(() -> verifyColumns(ro, table, readsForTable, batch, cols));
+                }
             }
         }
     }
@@ -615,87 +699,91 @@ public class SerializableTransaction extends SnapshotTransaction {
             Transaction ro,
             TableReference table,
             ConcurrentNavigableMap<Cell, byte[]> readsForTable,
-            Multimap<ColumnSelection, byte[]> rowsReadByColumns,
+            List<byte[]> batch,
             ColumnSelection columns) {
-        for (List<byte[]> batch : Iterables.partition(rowsReadByColumns.get(columns), BATCH_SIZE)) {
-            SortedMap<byte[], RowResult<byte[]>> currentRows = ro.getRows(table, batch, columns);
-            for (byte[] row : batch) {
-                RowResult<byte[]> currentRow = currentRows.get(row);
-                Map<Cell, byte[]> originalReads = readsForTable
-                        .tailMap(Cells.createSmallestCellForRow(row), true)
-                        .headMap(Cells.createLargestCellForRow(row), true);
-
-                // We want to filter out all our reads to just the set that matches our column selection.
-                originalReads = Maps.filterKeys(originalReads, input -> columns.contains(input.getColumnName()));
-
-                if (localWriteBuffer.getLocalWrites().get(table) != null) {
-                    // We don't want to verify any reads that we wrote to cause
-                    // we will just read our own values.
-                    // NB: We filter our write set out here because our normal SI
-                    // checking handles this case to ensure the value hasn't changed.
-                    originalReads = Maps.filterKeys(
-                            originalReads,
-                            Predicates.not(Predicates.in(
-                                    localWriteBuffer.getLocalWrites().get(table).keySet())));
-                }
+        SortedMap<byte[], RowResult<byte[]>> currentRows = ro.getRows(table, batch, columns);
+        for (byte[] row : batch) {
+            RowResult<byte[]> currentRow = currentRows.get(row);
+            Map<Cell, byte[]> originalReads = readsForTable
+                    .tailMap(Cells.createSmallestCellForRow(row), true)
+                    .headMap(Cells.createLargestCellForRow(row), true);
+
+            // We want to filter out all our reads to just the set that matches our column selection.
+            originalReads = Maps.filterKeys(originalReads, input -> columns.contains(input.getColumnName()));
+
+            if (localWriteBuffer.getLocalWrites().get(table) != null) {
+                // We don't want to verify any reads that we wrote to cause
+                // we will just read our own values.
+                // NB: We filter our write set out here because our normal SI
+                // checking handles this case to ensure the value hasn't changed.
+                originalReads = Maps.filterKeys(
+                        originalReads,
+                        Predicates.not(Predicates.in(
+                                localWriteBuffer.getLocalWrites().get(table).keySet())));
+            }
 
-                if (currentRow == null && originalReads.isEmpty()) {
-                    continue;
-                }
+            if (currentRow == null && originalReads.isEmpty()) {
+                continue;
+            }
 
-                if (currentRow == null) {
-                    handleTransactionConflict(table);
-                }
+            if (currentRow == null) {
+                handleTransactionConflict(table);
+            }
 
-                Map<Cell, byte[]> currentCells = Maps2.fromEntries(currentRow.getCells());
-                if (localWriteBuffer.getLocalWrites().get(table) != null) {
-                    // We don't want to verify any reads that we wrote to cause
-                    // we will just read our own values.
-                    // NB: We filter our write set out here because our normal SI
-                    // checking handles this case to ensure the value hasn't changed.
-                    currentCells = Maps.filterKeys(
-                            currentCells,
-                            Predicates.not(Predicates.in(
-                                    localWriteBuffer.getLocalWrites().get(table).keySet())));
-                }
-                if (!ByteArrayUtilities.areMapsEqual(originalReads, currentCells)) {
-                    handleTransactionConflict(table);
-                }
+            Map<Cell, byte[]> currentCells = Maps.transformValues(
+                    Maps2.fromEntries(currentRow.getCells()), this::toRecordedValue);
+            if (localWriteBuffer.getLocalWrites().get(table) != null) {
+                // We don't want to verify any reads that we wrote to cause
+                // we will just read our own values.
+                // NB: We filter our write set out here because our normal SI
+                // checking handles this case to ensure the value hasn't changed.
+                currentCells = Maps.filterKeys(
+                        currentCells,
+                        Predicates.not(Predicates.in(
+                                localWriteBuffer.getLocalWrites().get(table).keySet())));
+            }
+            if (!ByteArrayUtilities.areMapsEqual(originalReads, currentCells)) {
+                handleTransactionConflict(table);
             }
         }
     }
 
-    private void verifyCells(Transaction readOnlyTransaction) {
+    private void addCellVerifications(Transaction readOnlyTransaction, List<Runnable> verifications) {
         for (Map.Entry<TableReference, Set<Cell>> tableAndCellsEntry : cellsRead.entrySet()) {
             TableReference table = tableAndCellsEntry.getKey();
             Set<Cell> cells = tableAndCellsEntry.getValue();
 
             final ConcurrentNavigableMap<Cell, byte[]> readsForTable = getReadsForTable(table);
             for (Iterable<Cell> batch : Iterables.partition(cells, BATCH_SIZE)) {
-                // We don't want to verify any reads that we wrote to cause we will just read our own values.
-                // NB: If the value has changed between read and write, our normal SI checking handles this case
-                Iterable<Cell> batchWithoutWrites =
-                        localWriteBuffer.getLocalWrites().get(table) != null
-                                ? Iterables.filter(
-                                        batch,
-                                        Predicates.not(Predicates.in(localWriteBuffer
-                                                .getLocalWrites()
-                                                .get(table)
-                                                .keySet())))
-                                : batch;
-                ImmutableSet<Cell> batchWithoutWritesSet = ImmutableSet.copyOf(batchWithoutWrites);
-                Map<Cell, byte[]> currentBatch = readOnlyTransaction.get(table, batchWithoutWritesSet);
-                ImmutableMap<Cell, byte[]> originalReads = Maps.toMap(
-                        Sets.intersection(batchWithoutWritesSet, readsForTable.keySet()),
-                        Functions.forMap(readsForTable));
-                if (!ByteArrayUtilities.areMapsEqual(currentBatch, originalReads)) {
-                    handleTransactionConflict(table);
-                }
+                verifications.add(() -> verifyCells(readOnlyTransaction, table, readsForTable, batch));
             }
         }
     }
 
-    private void verifyRanges(Transaction readOnlyTransaction) {
+    private void verifyCells(
+            Transaction readOnlyTransaction,
+            TableReference table,
+            ConcurrentNavigableMap<Cell, byte[]> readsForTable,
+            Iterable<Cell> batch) {
+        // We don't want to verify any reads that we wrote to cause we will just read our own values.
+        // NB: If the value has changed between read and write, our normal SI checking handles this case
+        Iterable<Cell> batchWithoutWrites = localWriteBuffer.getLocalWrites().get(table) != null
+                ? Iterables.filter(
+                        batch,
+                        Predicates.not(Predicates.in(
+                                localWriteBuffer.getLocalWrites().get(table).keySet())))
+                : batch;
+        ImmutableSet<Cell> batchWithoutWritesSet = ImmutableSet.copyOf(batchWithoutWrites);
+        Map<Cell, byte[]> currentBatch = Maps.transformValues(
+                readOnlyTransaction.get(table, batchWithoutWritesSet), this::toRecordedValue);
+        ImmutableMap<Cell, byte[]> originalReads = Maps.toMap(
+                Sets.intersection(batchWithoutWritesSet, readsForTable.keySet()), Functions.forMap(readsForTable));
+        if (!ByteArrayUtilities.areMapsEqual(currentBatch, originalReads)) {
+            handleTransactionConflict(table);
+        }
+    }
+
+    private void addRangeVerifications(Transaction readOnlyTransaction, List<Runnable> verifications) {
         // verify each set of reads to ensure they are the same.
         for (Map.Entry<TableReference, ConcurrentMap<RangeRequest, byte[]>> tableAndRange :
                 rangeEndByTable.entrySet()) {
@@ -712,20 +800,23 @@ public class SerializableTransaction extends SnapshotTransaction {
                             .build();
                 }
 
-                ConcurrentNavigableMap<Cell, byte[]> writes =
-                        localWriteBuffer.getLocalWrites().get(table);
-                BatchingVisitableView<RowResult<byte[]>> bv =
-                        BatchingVisitableView.of(readOnlyTransaction.getRange(table, range));
-                NavigableMap<Cell, ByteBuffer> readsInRange =
-                        Maps.transformValues(getReadsInRange(table, range), ByteBuffer::wrap);
-                if (!bv.transformBatch(input -> filterWritesFromRows(input, writes))
-                        .isEqual(readsInRange.entrySet())) {
-                    handleTransactionConflict(table);
-                }
+                RangeRequest rangeReadSoFar = range;
+                verifications.add(() -> verifyRange(readOnlyTransaction, table, rangeReadSoFar));
             }
         }
     }
 
+    private void verifyRange(Transaction readOnlyTransaction, TableReference table, RangeRequest range) {
+        ConcurrentNavigableMap<Cell, byte[]> writes = localWriteBuffer.getLocalWrites().get(table);
+        BatchingVisitableView<RowResult<byte[]>> bv =
+                BatchingVisitableView.of(readOnlyTransaction.getRange(table, range));
+        NavigableMap<Cell, ByteBuffer> readsInRange =
+                Maps.transformValues(getReadsInRange(table, range), ByteBuffer::wrap);
+        if (!bv.transformBatch(input -> filterWritesFromRows(input, writes)).isEqual(readsInRange.entrySet())) {
+            handleTransactionConflict(table);
+        }
+    }
+
     private NavigableMap<Cell, byte[]> getReadsInColumnRangeSkippingWrites(
             TableReference table, byte[] row, BatchColumnRangeSelection range) {
         NavigableMap<Cell, byte[]> reads = getReadsForTable(table);
@@ -749,7 +840,7 @@ public class SerializableTransaction extends SnapshotTransaction {
         return reads;
     }
 
-    private void verifyColumnRanges(Transaction readOnlyTransaction) {
+    private void addColumnRangeVerifications(Transaction readOnlyTransaction, List<Runnable> verifications) {
         // verify each set of reads to ensure they are the same.
         for (Map.Entry<TableReference, ConcurrentMap<ByteBuffer, ConcurrentMap<BatchColumnRangeSelection, byte[]>>>
                 tableAndColumnRangeEnds : columnRangeEndsByTable.entrySet()) {
@@ -770,70 +861,81 @@ public class SerializableTransaction extends SnapshotTransaction {
             }
 
             TableReference table = tableAndColumnRangeEnds.getKey();
-            rangesToRows.asMap().forEach((columnRange, rows) -> {
-                Map<byte[], BatchingVisitable<Map.Entry<Cell, byte[]>>> result =
-                        readOnlyTransaction.getRowsColumnRange(table, rows, columnRange);
-
-                for (Map.Entry<byte[], BatchingVisitable<Map.Entry<Cell, byte[]>>> cellValuesForRow :
-                        result.entrySet()) {
-                    byte[] row = cellValuesForRow.getKey();
-                    BatchingVisitableView<Map.Entry<Cell, byte[]>> visitable =
-                            BatchingVisitableView.of(cellValuesForRow.getValue());
-                    NavigableMap<Cell, ByteBuffer> readsInRange = Maps.transformValues(
-                            getReadsInColumnRangeSkippingWrites(table, row, columnRange), ByteBuffer::wrap);
-                    boolean isEqual = visitable
-                            .transformBatch(cellValues -> filterWritesFromCells(cellValues, table))
-                            .isEqual(readsInRange.entrySet());
-                    if (!isEqual) {
-                        handleTransactionConflict(table);
-                    }
-                }
-            });
+            rangesToRows.asMap().forEach((columnRange, rows) -> verifications.add(
+                    () -> verifyColumnRange(readOnlyTransaction, table, columnRange, rows)));
+        }
+    }
+
+    private void verifyColumnRange(
+            Transaction readOnlyTransaction,
+            TableReference table,
+            BatchColumnRangeSelection columnRange,
+            Collection<byte[]> rows) {
+        Map<byte[], BatchingVisitable<Map.Entry<Cell, byte[]>>> result =
+                readOnlyTransaction.getRowsColumnRange(table, rows, columnRange);
+
+        for (Map.Entry<byte[], BatchingVisitable<Map.Entry<Cell, byte[]>>> cellValuesForRow : result.entrySet()) {
+            byte[] row = cellValuesForRow.getKey();
+            BatchingVisitableView<Map.Entry<Cell, byte[]>> visitable =
+                    BatchingVisitableView.of(cellValuesForRow.getValue());
+            NavigableMap<Cell, ByteBuffer> readsInRange = Maps.transformValues(
+                    getReadsInColumnRangeSkippingWrites(table, row, columnRange), ByteBuffer::wrap);
+            boolean isEqual = visitable
+                    .transformBatch(cellValues -> filterWritesFromCells(cellValues, table))
+                    .isEqual(readsInRange.entrySet());
+            if (!isEqual) {
+                handleTransactionConflict(table);
+            }
         }
     }
 
-    private void verifyGetSortedColumns(Transaction readOnlyTransaction) {
+    private void addGetSortedColumnsVerifications(Transaction readOnlyTransaction, List<Runnable> verifications) {
         sortedColumnRangeEnds.forEach((request, endOfRangeReference) -> {
             Cell endOfRange = endOfRangeReference.get();
             // no checks required if no data has been read so far
             if (endOfRange == null) {
                 return;
             }
-            BatchColumnRangeSelection range = getBatchColumnRangeSelectionForEntriesReadSoFar(
-                    request.getColumnRangeSelection(), endOfRange.getColumnName());
-            Iterable<byte[]> rows = request.getRows();
-            Comparator<Cell> comparator = columnOrderThenPreserveInputRowOrder(request.getRows());
-            Iterator<Map.Entry<Cell, ByteBuffer>> readValues =
-                    readSortedColumns(request.getTableRef(), rows, range, comparator);
-
-            Iterator<Map.Entry<Cell, byte[]>> storedValues =
-                    readOnlyTransaction.getSortedColumns(request.getTableRef(), rows, range);
-
-            // handles the case where (r1, c), (r2, c) exists and we read only up to (r1, c).
-            Iterator<Map.Entry<Cell, byte[]>> truncatedStoredValues = new AbstractIterator<Map.Entry<Cell, byte[]>>() {
-                @Override
-                protected Map.Entry<Cell, byte[]> computeNext() {
-                    if (!storedValues.hasNext()) {
-                        return endOfData();
-                    }
+            verifications.add(() -> verifyGetSortedColumns(readOnlyTransaction, request, endOfRange));
+        });
+    }
 
-                    Map.Entry<Cell, byte[]> ret = storedValues.next();
-                    if (comparator.compare(ret.getKey(), endOfRange) > 0) {
-                        return endOfData();
-                    }
-                    return ret;
-                }
-            };
+    private void verifyGetSortedColumns(
+            Transaction readOnlyTransaction, GetSortedColumnsRequest request, Cell endOfRange) {
+        BatchColumnRangeSelection range = getBatchColumnRangeSelectionForEntriesReadSoFar(
+                request.getColumnRangeSelection(), endOfRange.getColumnName());
+        Iterable<byte[]> rows = request.getRows();
+        Comparator<Cell> comparator = columnOrderThenPreserveInputRowOrder(request.getRows());
+        Iterator<Map.Entry<Cell, ByteBuffer>> readValues =
+                readSortedColumns(request.getTableRef(), rows, range, comparator);
 
-            List<Map.Entry<Cell, ByteBuffer>> actualReadList =
-                    Streams.stream(readValues).collect(Collectors.toList());
-            List<Map.Entry<Cell, ByteBuffer>> storedValuesWithoutLocalWrites = filterWritesFromCells(
-                    Streams.stream(truncatedStoredValues).collect(Collectors.toList()), request.getTableRef());
+        Iterator<Map.Entry<Cell, byte[]>> storedValues =
+                readOnlyTransaction.getSortedColumns(request.getTableRef(), rows, range);
 
-            if (!actualReadList.equals(storedValuesWithoutLocalWrites)) {
-                handleTransactionConflict(request.getTableRef());
+        // handles the case where (r1, c), (r2, c) exists and we read only up to (r1, c).
+        Iterator<Map.Entry<Cell, byte[]>> truncatedStoredValues = new AbstractIterator<Map.Entry<Cell, byte[]>>() {
+            @Override
+            protected Map.Entry<Cell, byte[]> computeNext() {
+                if (!storedValues.hasNext()) {
+                    return endOfData();
+                }
+
+                Map.Entry<Cell, byte[]> ret = storedValues.next();
+                if (comparator.compare(ret.getKey(), endOfRange) > 0) {
+                    return endOfData();
+                }
+                return ret;
             }
-        });
+        };
+
+        List<Map.Entry<Cell, ByteBuffer>> actualReadList =
+                Streams.stream(readValues).collect(Collectors.toList());
+        List<Map.Entry<Cell, ByteBuffer>> storedValuesWithoutLocalWrites = filterWritesFromCells(
+                Streams.stream(truncatedStoredValues).collect(Collectors.toList()), request.getTableRef());
+
+        if (!actualReadList.equals(storedValuesWithoutLocalWrites)) {
+            handleTransactionConflict(request.getTableRef());
+        }
     }
 
     private Iterator<Map.Entry<Cell, ByteBuffer>> readSortedColumns(
@@ -870,20 +972,21 @@ public class SerializableTransaction extends SnapshotTransaction {
         return filterWritesFromCells(cells, localWriteBuffer.getLocalWrites().get(table));
     }
 
-    private static List<Map.Entry<Cell, ByteBuffer>> filterWritesFromCells(
+    private List<Map.Entry<Cell, ByteBuffer>> filterWritesFromCells(
             Iterable<Map.Entry<Cell, byte[]>> cells, @Nullable Map<Cell, byte[]> writes) {
         List<Map.Entry<Cell, ByteBuffer>> cellsWithoutWrites = new ArrayList<>();
         for (Map.Entry<Cell, byte[]> cell : cells) {
             // NB: We filter our write set out here because our normal SI
             // checking handles this case to ensure the value hasn't changed.
             if (writes == null || !writes.containsKey(cell.getKey())) {
-                cellsWithoutWrites.add(Maps.immutableEntry(cell.getKey(), ByteBuffer.wrap(cell.getValue())));
+                cellsWithoutWrites.add(
+                        Maps.immutableEntry(cell.getKey(), ByteBuffer.wrap(toRecordedValue(cell.getValue()))));
             }
         }
         return cellsWithoutWrites;
     }
 
-    private static List<Map.Entry<Cell, ByteBuffer>> filterWritesFromRows(
+    private List<Map.Entry<Cell, ByteBuffer>> filterWritesFromRows(
             Iterable<RowResult<byte[]>> rows, @Nullable Map<Cell, byte[]> writes) {
         List<Map.Entry<Cell, ByteBuffer>> rowsWithoutWrites = new ArrayList<>();
         for (RowResult<byte[]> row : rows) {
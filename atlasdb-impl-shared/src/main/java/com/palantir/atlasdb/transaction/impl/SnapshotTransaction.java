@@ -43,6 +43,7 @@ import com.google.common.primitives.UnsignedBytes;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.Uninterruptibles;
 import com.google.errorprone.annotations.MustBeClosed;
 import com.google.errorprone.annotations.RestrictedApi;
 import com.palantir.atlasdb.AtlasDbConstants;
@@ -141,6 +142,7 @@ import com.palantir.common.base.ClosableIterator;
 import com.palantir.common.base.ClosableIterators;
 import com.palantir.common.collect.IteratorUtils;
 import com.palantir.common.collect.MapEntries;
+import com.palantir.common.concurrent.PTExecutors;
 import com.palantir.common.streams.KeyedStream;
 import com.palantir.common.streams.MoreStreams;
 import com.palantir.lock.AtlasCellLockDescriptor;
@@ -192,6 +194,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ConcurrentNavigableMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
@@ -233,6 +236,14 @@ public class SnapshotTransaction extends AbstractTransaction
 
     private static final int BATCH_SIZE_GET_FIRST_PAGE = 1000;
     private static final long TXN_LENGTH_THRESHOLD = Duration.ofMinutes(30).toMillis();
+    private static final int MAX_COMMIT_STAGE_THREADS = 32;
+
+    /**
+     * Runs the commit stages that pipelined commit overlaps with the calling thread. These stages never wait on other
+     * tasks of this pool, so a busy pool delays commits rather than deadlocking them.
+     */
+    private static final ExecutorService commitStageExecutor =
+            PTExecutors.newFixedThreadPool(MAX_COMMIT_STAGE_THREADS, "atlas-pipelined-commit-stages");
 
     // TODO (jkong): Remove once this class is no longer responsible for post-filtering
     public static final int MAX_POST_FILTERING_ITERATIONS = 200;
@@ -1992,28 +2003,42 @@ public class SnapshotTransaction extends AbstractTransaction
             // else write underneath us before we proceed (thus missing a write/write conflict).
             // Timing still useful to distinguish bad lock percentiles from user-generated lock requests.
             LockToken commitLocksToken = timedAndTraced("commitAcquireLocks", this::acquireLocksForCommit);
+            boolean pipelined = transactionConfig.get().pipelinedCommit();
             try {
-                // Conflict checking. We can actually do this later without compromising correctness, but there is no
-                // reason to postpone this check - we waste resources writing unnecessarily if these are going to fail.
-                timedAndTraced(
-                        "commitCheckingForConflicts",
-                        () -> throwIfConflictOnCommit(commitLocksToken, transactionService));
-
-                // Before doing any remote writes, we mark that the transaction is in progress. Until this point, all
-                // writes are buffered in memory.
-                timedAndTraced(
-                        "markingTransactionInProgress", () -> transactionService.markInProgress(getStartTimestamp()));
-
                 // Freeze the writes that we will commit. It is possible for writes to be added to the write buffer past
                 // this point (if they had passed the #ensureUncommitted check before committing started), but they will
                 // be discarded silently. This sounds scary, but this is not a regression from previous behaviour
                 // TODO(mdaudali): We should explicitly freeze the write buffer to better surface lost writes in this
                 // edge case.
-                Map<TableReference, ? extends Map<Cell, byte[]>> writes = localWriteBuffer.getLocalWrites();
-
-                // Write to the targeted sweep queue. We must do this before writing to the key value service -
-                // otherwise we may have hanging values that targeted sweep won't know about.
-                timedAndTraced("writingToSweepQueue", () -> sweepQueue.enqueue(writes, getStartTimestamp()));
+                Map<TableReference, ? extends Map<Cell, byte[]>> writes;
+
+                if (pipelined) {
+                    // Marking in progress and writing to the sweep queue do not depend on the outcome of conflict
+                    // checking, so we do them alongside it. If the checks fail, we have marked a transaction that will
+                    // never commit and enqueued writes that are never made, just as when any later stage fails.
+                    writes = localWriteBuffer.getLocalWrites();
+                    ListenableFuture<?> inProgressAndEnqueued = Futures.submit(
+                            () -> markInProgressAndWriteToSweepQueue(transactionService, writes), commitStageExecutor);
+                    try {
+                        timedAndTraced(
+                                "commitCheckingForConflicts",
+                                () -> throwIfConflictOnCommit(commitLocksToken, transactionService));
+                    } catch (RuntimeException | Error e) {
+                        // Do not let the stage outlive the commit, which releases the locks it runs under.
+                        awaitCommitStage(inProgressAndEnqueued, e);
+                        throw e;
+                    }
+                    AtlasFutures.getUnchecked(inProgressAndEnqueued);
+                } else {
+                    // Conflict checking. We can actually do this later without compromising correctness, but there is
+                    // no reason to postpone this check - we waste resources writing unnecessarily if these are going
+                    // to fail.
+                    timedAndTraced(
+                            "commitCheckingForConflicts",
+                            () -> throwIfConflictOnCommit(commitLocksToken, transactionService));
+                    writes = localWriteBuffer.getLocalWrites();
+                    markInProgressAndWriteToSweepQueue(transactionService, writes);
+                }
 
                 // Introduced for txn4 - Prevents sweep from making progress beyond immutableTs before entries were
                 // put into the sweep queue. This ensures that sweep must process writes to the sweep queue done by
@@ -2048,16 +2073,31 @@ public class SnapshotTransaction extends AbstractTransaction
                 // in which the transaction key-value-service is invalid may also affect subsequent checks, and we
                 // would prefer for these to be flagged explicitly as such.
                 // Timed; this may in some implementations end up requiring external RPCs or database calls.
-                timedAndTraced(
+                // With pipelined commit, this instead runs alongside the read/write conflict check below, whose
+                // failures are only surfaced once this check has passed.
+                Runnable transactionKvsValidityCheck = () -> timedAndTraced(
                         "transactionKvsValidityCheck",
                         () -> throwIfTransactionKeyValueServiceNoLongerValid(commitTimestamp));
+                ListenableFuture<?> transactionKvsValid;
+                if (pipelined) {
+                    transactionKvsValid = Futures.submit(transactionKvsValidityCheck, commitStageExecutor);
+                } else {
+                    transactionKvsValidityCheck.run();
+                    transactionKvsValid = Futures.immediateVoidFuture();
+                }
 
                 // Serializable transactions need to check their reads haven't changed, by reading again at
                 // commitTs + 1. This must happen before the lock check for thorough tables, because the lock check
                 // verifies the immutable timestamp hasn't moved forward - thorough sweep might sweep a conflict out
                 // from underneath us.
-                timedAndTraced(
-                        "readWriteConflictCheck", () -> throwIfReadWriteConflictForSerializable(commitTimestamp));
+                // This runs on this thread even when commit is pipelined, as the check may itself read ranges on
+                // the get-ranges executor and so should not hold a thread of the commit stage pool while it waits.
+                try {
+                    timedAndTraced(
+                            "readWriteConflictCheck", () -> throwIfReadWriteConflictForSerializable(commitTimestamp));
+                } finally {
+                    AtlasFutures.getUnchecked(transactionKvsValid);
+                }
 
                 // Verify that our locks and pre-commit conditions are still valid before we actually commit;
                 // this throwIfPreCommitRequirementsNotMet is required by the transaction protocol for correctness.
@@ -2093,6 +2133,29 @@ public class SnapshotTransaction extends AbstractTransaction
         });
     }
 
+    /**
+     * Waits for a pipelined commit stage to finish after the commit has already failed with {@code commitFailure}.
+     * A failure of the stage itself is recorded on {@code commitFailure} rather than thrown.
+     */
+    private static void awaitCommitStage(ListenableFuture<?> stage, Throwable commitFailure) {
+        try {
+            Uninterruptibles.getUninterruptibly(stage);
+        } catch (ExecutionException e) {
+            commitFailure.addSuppressed(e.getCause());
+        }
+    }
+
+    private void markInProgressAndWriteToSweepQueue(
+            TransactionService transactionService, Map<TableReference, ? extends Map<Cell, byte[]>> writes) {
+        // Before doing any remote writes, we mark that the transaction is in progress. Until this point, all
+        // writes are buffered in memory.
+        timedAndTraced("markingTransactionInProgress", () -> transactionService.markInProgress(getStartTimestamp()));
+
+        // Write to the targeted sweep queue. We must do this before writing to the key value service -
+        // otherwise we may have hanging values that targeted sweep won't know about.
+        timedAndTraced("writingToSweepQueue", () -> sweepQueue.enqueue(writes, getStartTimestamp()));
+    }
+
     private void throwIfTransactionKeyValueServiceNoLongerValid(long commitTimestamp) {
         if (!transactionKeyValueService.isValid(commitTimestamp)) {
             throw new SafeTransactionFailedRetriableException(
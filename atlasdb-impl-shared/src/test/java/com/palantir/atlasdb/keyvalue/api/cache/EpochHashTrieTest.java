@@ -0,0 +1,148 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.api.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class EpochHashTrieTest {
+    private final EpochHashTrie<Object, Integer> trie = new EpochHashTrie<>();
+
+    @Test
+    public void putGetAndRemove() {
+        assertThat(trie.put("a", 1)).isNull();
+        assertThat(trie.put("a", 2)).isEqualTo(1);
+        assertThat(trie.get("a")).isEqualTo(2);
+        assertThat(trie.size()).isEqualTo(1);
+
+        assertThat(trie.remove("a")).isEqualTo(2);
+        assertThat(trie.remove("a")).isNull();
+        assertThat(trie.get("a")).isNull();
+        assertThat(trie.size()).isZero();
+    }
+
+    @Test
+    public void snapshotsAreNotAffectedByLaterUpdates() {
+        trie.put("a", 1);
+        trie.put("b", 2);
+        EpochHashTrie.Snapshot<Object, Integer> snapshot = trie.snapshot();
+
+        trie.put("a", 3);
+        trie.remove("b");
+        trie.put("c", 4);
+
+        assertThat(snapshot.toJavaMap()).containsExactlyInAnyOrderEntriesOf(ImmutableMap.of("a", 1, "b", 2));
+        assertThat(trie.snapshot().toJavaMap()).containsExactlyInAnyOrderEntriesOf(ImmutableMap.of("a", 3, "c", 4));
+    }
+
+    @Test
+    public void unchangedTrieReturnsSameSnapshot() {
+        trie.put("a", 1);
+        EpochHashTrie.Snapshot<Object, Integer> snapshot = trie.snapshot();
+        assertThat(trie.snapshot()).isSameAs(snapshot);
+
+        trie.put("a", 1);
+        assertThat(trie.snapshot()).isSameAs(snapshot);
+
+        trie.put("a", 2);
+        assertThat(trie.snapshot()).isNotSameAs(snapshot);
+    }
+
+    @Test
+    public void clearDoesNotAffectSnapshots() {
+        trie.put("a", 1);
+        EpochHashTrie.Snapshot<Object, Integer> snapshot = trie.snapshot();
+
+        trie.clear();
+
+        assertThat(trie.size()).isZero();
+        assertThat(trie.snapshot().isEmpty()).isTrue();
+        assertThat(snapshot.get("a")).isEqualTo(1);
+    }
+
+    @Test
+    public void handlesCollidingHashes() {
+        for (int i = 0; i < 100; i++) {
+            trie.put(new CollidingKey(i), i);
+        }
+        EpochHashTrie.Snapshot<Object, Integer> snapshot = trie.snapshot();
+        for (int i = 0; i < 100; i += 2) {
+            trie.remove(new CollidingKey(i));
+        }
+
+        assertThat(trie.size()).isEqualTo(50);
+        assertThat(snapshot.size()).isEqualTo(100);
+        for (int i = 0; i < 100; i++) {
+            assertThat(trie.get(new CollidingKey(i))).isEqualTo(i % 2 == 0 ? null : i);
+            assertThat(snapshot.get(new CollidingKey(i))).isEqualTo(i);
+        }
+    }
+
+    @Test
+    public void matchesHashMapUnderRandomOperations() {
+        Random random = new Random(0);
+        Map<Object, Integer> expected = new HashMap<>();
+        List<EpochHashTrie.Snapshot<Object, Integer>> snapshots = new ArrayList<>();
+        List<Map<Object, Integer>> expectedSnapshots = new ArrayList<>();
+
+        for (int i = 0; i < 100_000; i++) {
+            Integer key = random.nextInt(5_000);
+            int operation = random.nextInt(10);
+            if (operation < 5) {
+                int value = random.nextInt();
+                assertThat(trie.put(key, value)).isEqualTo(expected.put(key, value));
+            } else if (operation < 8) {
+                assertThat(trie.remove(key)).isEqualTo(expected.remove(key));
+            } else if (operation < 9) {
+                assertThat(trie.get(key)).isEqualTo(expected.get(key));
+            } else if (random.nextInt(100) == 0) {
+                snapshots.add(trie.snapshot());
+                expectedSnapshots.add(new HashMap<>(expected));
+            }
+            assertThat(trie.size()).isEqualTo(expected.size());
+        }
+
+        for (int i = 0; i < snapshots.size(); i++) {
+            assertThat(snapshots.get(i).toJavaMap()).isEqualTo(expectedSnapshots.get(i));
+        }
+    }
+
+    private static final class CollidingKey {
+        private final int value;
+
+        private CollidingKey(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof CollidingKey && ((CollidingKey) other).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+}
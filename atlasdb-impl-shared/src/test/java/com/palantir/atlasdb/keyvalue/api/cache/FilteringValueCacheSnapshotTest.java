@@ -18,13 +18,13 @@ package com.palantir.atlasdb.keyvalue.api.cache;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.palantir.atlasdb.keyvalue.api.Cell;
 import com.palantir.atlasdb.keyvalue.api.CellReference;
 import com.palantir.atlasdb.keyvalue.api.TableReference;
 import com.palantir.lock.AtlasCellLockDescriptor;
 import com.palantir.lock.watch.CommitUpdate;
-import io.vavr.collection.HashMap;
 import io.vavr.collection.HashSet;
 import org.junit.jupiter.api.Test;
 
@@ -38,7 +38,7 @@ public final class FilteringValueCacheSnapshotTest {
     private static final CacheValue VALUE_2 = createValue(20);
 
     private final ValueCacheSnapshot delegate = ValueCacheSnapshotImpl.of(
-            HashMap.of(TABLE_CELL_1, CacheEntry.unlocked(VALUE_1), TABLE_CELL_2, CacheEntry.unlocked(VALUE_2)),
+            ImmutableMap.of(TABLE_CELL_1, CacheEntry.unlocked(VALUE_1), TABLE_CELL_2, CacheEntry.unlocked(VALUE_2)),
             HashSet.of(TABLE),
             ImmutableSet.of(TABLE));
 
@@ -18,6 +18,7 @@ package com.palantir.atlasdb.keyvalue.api.cache;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Streams;
 import com.palantir.atlasdb.keyvalue.api.Cell;
@@ -26,7 +27,6 @@ import com.palantir.atlasdb.keyvalue.api.TableReference;
 import com.palantir.atlasdb.keyvalue.api.watch.Sequence;
 import com.palantir.atlasdb.keyvalue.api.watch.StartTimestamp;
 import com.palantir.atlasdb.util.MetricsManagers;
-import io.vavr.collection.HashMap;
 import io.vavr.collection.HashSet;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -48,7 +48,7 @@ public final class SnapshotStoreImplTest {
     private static final StartTimestamp TIMESTAMP_4 = StartTimestamp.of(10110101L);
     private static final StartTimestamp TIMESTAMP_5 = StartTimestamp.of(500);
     private static final ValueCacheSnapshot SNAPSHOT_1 =
-            ValueCacheSnapshotImpl.of(HashMap.empty(), HashSet.empty(), ImmutableSet.of());
+            ValueCacheSnapshotImpl.of(ImmutableMap.of(), HashSet.empty(), ImmutableSet.of());
     private static final ValueCacheSnapshot SNAPSHOT_2 = createSnapshot(2);
     private static final ValueCacheSnapshot SNAPSHOT_3 = createSnapshot(3);
     private static final ValueCacheSnapshot SNAPSHOT_4 = createSnapshot(4);
@@ -224,12 +224,11 @@ public final class SnapshotStoreImplTest {
     private static ValueCacheSnapshot createSnapshot(int value) {
         byte byteValue = (byte) value;
         return ValueCacheSnapshotImpl.of(
-                HashMap.<CellReference, CacheEntry>empty()
-                        .put(
-                                CellReference.of(
-                                        TableReference.createFromFullyQualifiedName("t.table"),
-                                        Cell.create(new byte[] {byteValue}, new byte[] {byteValue})),
-                                CacheEntry.locked()),
+                ImmutableMap.of(
+                        CellReference.of(
+                                TableReference.createFromFullyQualifiedName("t.table"),
+                                Cell.create(new byte[] {byteValue}, new byte[] {byteValue})),
+                        CacheEntry.locked()),
                 HashSet.empty(),
                 ImmutableSet.of());
     }
@@ -25,7 +25,6 @@ import com.palantir.atlasdb.keyvalue.api.Cell;
 import com.palantir.atlasdb.keyvalue.api.CellReference;
 import com.palantir.atlasdb.keyvalue.api.TableReference;
 import com.palantir.lock.watch.CommitUpdate;
-import io.vavr.collection.HashMap;
 import io.vavr.collection.HashSet;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
@@ -107,7 +106,7 @@ public final class TransactionCacheValueStoreImplTest {
     @Test
     public void valuesNotCachedForUnwatchedTables() {
         TransactionCacheValueStore valueStore = new TransactionCacheValueStoreImpl(
-                ValueCacheSnapshotImpl.of(HashMap.empty(), HashSet.empty(), ImmutableSet.of()));
+                ValueCacheSnapshotImpl.of(ImmutableMap.of(), HashSet.empty(), ImmutableSet.of()));
 
         valueStore.recordRemoteWrite(TABLE, CELL);
         assertCacheIsEmpty(valueStore);
@@ -166,12 +165,12 @@ public final class TransactionCacheValueStoreImplTest {
 
     private static TransactionCacheValueStore emptyCache() {
         return new TransactionCacheValueStoreImpl(
-                ValueCacheSnapshotImpl.of(HashMap.empty(), HashSet.of(TABLE), ImmutableSet.of(TABLE)));
+                ValueCacheSnapshotImpl.of(ImmutableMap.of(), HashSet.of(TABLE), ImmutableSet.of(TABLE)));
     }
 
     private static TransactionCacheValueStore cacheWithSingleValue() {
         return new TransactionCacheValueStoreImpl(ValueCacheSnapshotImpl.of(
-                HashMap.of(TABLE_CELL, CacheEntry.unlocked(VALUE_1)), HashSet.of(TABLE), ImmutableSet.of(TABLE)));
+                ImmutableMap.of(TABLE_CELL, CacheEntry.unlocked(VALUE_1)), HashSet.of(TABLE), ImmutableSet.of(TABLE)));
     }
 
     private static void assertDigestContainsEntries(
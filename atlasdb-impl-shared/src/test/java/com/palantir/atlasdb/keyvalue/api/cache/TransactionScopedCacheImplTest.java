@@ -48,8 +48,6 @@ import com.palantir.atlasdb.transaction.api.TransactionLockWatchFailedException;
 import com.palantir.common.streams.KeyedStream;
 import com.palantir.lock.AtlasCellLockDescriptor;
 import com.palantir.lock.watch.CommitUpdate;
-import io.vavr.Tuple2;
-import io.vavr.collection.HashMap;
 import io.vavr.collection.HashSet;
 import java.util.Arrays;
 import java.util.Map;
@@ -135,7 +133,7 @@ public final class TransactionScopedCacheImplTest {
     public void lockedCellsAreNeverCached() {
         TransactionScopedCache cache = TransactionScopedCacheImpl.create(
                 ValueCacheSnapshotImpl.of(
-                        HashMap.of(CellReference.of(TABLE, CELL_1), CacheEntry.locked()),
+                        ImmutableMap.of(CellReference.of(TABLE, CELL_1), CacheEntry.locked()),
                         HashSet.of(TABLE),
                         ImmutableSet.of(TABLE)),
                 metrics);
@@ -241,11 +239,10 @@ public final class TransactionScopedCacheImplTest {
 
     private TransactionScopedCache createCache(boolean emptyCells, Cell... cells) {
         ValueCacheSnapshot snapshot = ValueCacheSnapshotImpl.of(
-                HashMap.ofAll(
-                        Arrays.stream(cells),
-                        cell -> new Tuple2<>(
-                                CellReference.of(TABLE, cell),
-                                emptyCells
+                Arrays.stream(cells)
+                        .collect(Collectors.toMap(
+                                cell -> CellReference.of(TABLE, cell),
+                                cell -> emptyCells
                                         ? CacheEntry.unlocked(CacheValue.empty())
                                         : CacheEntry.unlocked(createValue(cell)))),
                 HashSet.of(TABLE),
@@ -419,7 +416,7 @@ public final class TransactionScopedCacheImplTest {
 
     private static ValueCacheSnapshot snapshotWithSingleValue() {
         return ValueCacheSnapshotImpl.of(
-                HashMap.of(CellReference.of(TABLE, CELL_1), CacheEntry.unlocked(VALUE_1)),
+                ImmutableMap.of(CellReference.of(TABLE, CELL_1), CacheEntry.unlocked(VALUE_1)),
                 HashSet.of(TABLE),
                 ImmutableSet.of(TABLE));
     }
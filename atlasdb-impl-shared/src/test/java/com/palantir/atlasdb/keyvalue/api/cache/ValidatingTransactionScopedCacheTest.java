@@ -40,7 +40,6 @@ import com.palantir.atlasdb.keyvalue.api.TableReference;
 import com.palantir.atlasdb.transaction.api.TransactionLockWatchFailedException;
 import com.palantir.common.streams.KeyedStream;
 import com.palantir.lock.watch.CommitUpdate;
-import io.vavr.collection.HashMap;
 import io.vavr.collection.HashSet;
 import java.util.Map;
 import java.util.NavigableMap;
@@ -140,7 +139,7 @@ public final class ValidatingTransactionScopedCacheTest {
     @Test
     public void getRowsReadsRemotelyOnceWhenValidating() {
         ValueCacheSnapshot snapshot = ValueCacheSnapshotImpl.of(
-                HashMap.of(CellReference.of(TABLE, createCell(1, 1)), CacheEntry.unlocked(VALUE_1)),
+                ImmutableMap.of(CellReference.of(TABLE, createCell(1, 1)), CacheEntry.unlocked(VALUE_1)),
                 HashSet.of(TABLE),
                 ImmutableSet.of(TABLE));
         TransactionScopedCache delegate = TransactionScopedCacheImpl.create(snapshot, metrics);
@@ -169,7 +168,7 @@ public final class ValidatingTransactionScopedCacheTest {
     @Test
     public void getRowsValidates() {
         ValueCacheSnapshot snapshot = ValueCacheSnapshotImpl.of(
-                HashMap.of(CellReference.of(TABLE, createCell(1, 1)), CacheEntry.unlocked(VALUE_1)),
+                ImmutableMap.of(CellReference.of(TABLE, createCell(1, 1)), CacheEntry.unlocked(VALUE_1)),
                 HashSet.of(TABLE),
                 ImmutableSet.of(TABLE));
         TransactionScopedCache delegate = TransactionScopedCacheImpl.create(snapshot, metrics);
@@ -193,7 +192,7 @@ public final class ValidatingTransactionScopedCacheTest {
 
     private static ValueCacheSnapshot snapshotWithSingleValue() {
         return ValueCacheSnapshotImpl.of(
-                HashMap.of(CellReference.of(TABLE, CELL_1), CacheEntry.unlocked(VALUE_1)),
+                ImmutableMap.of(CellReference.of(TABLE, CELL_1), CacheEntry.unlocked(VALUE_1)),
                 HashSet.of(TABLE),
                 ImmutableSet.of(TABLE));
     }
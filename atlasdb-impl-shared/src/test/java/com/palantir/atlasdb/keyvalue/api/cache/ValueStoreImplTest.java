@@ -162,7 +162,8 @@ public final class ValueStoreImplTest {
         verify(metrics).decreaseCacheSize(EXPECTED_SIZE);
 
         // Caffeine explicitly does *not* implement simple LRU, so we cannot reason on the actual entries here.
-        assertThat(((ValueCacheSnapshotImpl) valueStore.getSnapshot()).values()).hasSize(2);
+        assertThat(((ValueCacheSnapshotImpl) valueStore.getSnapshot()).values().size())
+                .isEqualTo(2);
     }
 
     @Test
@@ -264,6 +264,43 @@ public class LocalWriteBufferTest {
         assertThat(buffer.changeMetadataCount()).isEqualTo(2);
     }
 
+    @Test
+    public void memoryFootprintIncludesMoreThanValuesByteCount() {
+        buffer.putLocalWritesAndMetadata(TABLE, ImmutableMap.of(CELL_1, VALUE_1), ImmutableMap.of());
+
+        assertThat(buffer.getApproximateMemoryFootprintBytes()).isGreaterThan(buffer.getValuesByteCount());
+    }
+
+    @Test
+    public void memoryFootprintAccountsForChangeMetadata() {
+        buffer.putLocalWritesAndMetadata(TABLE, ImmutableMap.of(CELL_1, VALUE_1), ImmutableMap.of());
+        long footprintWithoutMetadata = buffer.getApproximateMemoryFootprintBytes();
+
+        buffer.putLocalWritesAndMetadata(TABLE, ImmutableMap.of(CELL_1, VALUE_1), ImmutableMap.of(CELL_1, METADATA_1));
+        assertThat(buffer.getApproximateMemoryFootprintBytes()).isGreaterThan(footprintWithoutMetadata);
+
+        buffer.putLocalWritesAndMetadata(TABLE, ImmutableMap.of(CELL_1, VALUE_1), ImmutableMap.of());
+        assertThat(buffer.getApproximateMemoryFootprintBytes()).isEqualTo(footprintWithoutMetadata);
+    }
+
+    @Test
+    public void memoryFootprintShrinksWhenValueIsDeleted() {
+        buffer.putLocalWritesAndMetadata(TABLE, ImmutableMap.of(CELL_1, VALUE_1), ImmutableMap.of());
+        long footprintWithValue = buffer.getApproximateMemoryFootprintBytes();
+
+        buffer.putLocalWritesAndMetadata(TABLE, ImmutableMap.of(CELL_1, new byte[0]), ImmutableMap.of());
+        assertThat(buffer.getApproximateMemoryFootprintBytes()).isLessThan(footprintWithValue);
+        assertThat(buffer.getApproximateMemoryFootprintBytes()).isGreaterThan(buffer.getValuesByteCount());
+    }
+
+    @Test
+    public void readingTableWritesExposesThemInLocalWrites() {
+        assertThat(buffer.getLocalWritesForTable(TABLE)).isEmpty();
+        buffer.putLocalWritesAndMetadata(TABLE, ImmutableMap.of(CELL_1, VALUE_1), ImmutableMap.of());
+
+        assertThat(buffer.getLocalWrites().get(TABLE)).isSameAs(buffer.getLocalWritesForTable(TABLE));
+    }
+
     private void assertThatPutThrowsForAllMetadataDueToMissingWrite(
             Map<Cell, byte[]> values, Map<Cell, ChangeMetadata> metadata) {
         assertThatLoggableExceptionThrownBy(() -> buffer.putLocalWritesAndMetadata(TABLE, values, metadata))
@@ -17,6 +17,7 @@ package com.palantir.atlasdb.performance.backend;
 
 import com.palantir.atlasdb.keyvalue.dbkvs.ImmutableDbKeyValueServiceConfig;
 import com.palantir.atlasdb.keyvalue.dbkvs.ImmutablePostgresDdlConfig;
+import com.palantir.atlasdb.keyvalue.dbkvs.PostgresDdlConfig;
 import com.palantir.atlasdb.spi.KeyValueServiceConfig;
 import com.palantir.atlasdb.spi.KeyValueServiceRuntimeConfig;
 import com.palantir.nexus.db.pool.config.ImmutableMaskedValue;
@@ -33,11 +34,15 @@ public class PostgresKeyValueServiceInstrumentation extends KeyValueServiceInstr
     @Override
     public KeyValueServiceConfig getKeyValueServiceConfig(InetSocketAddress addr) {
         return ImmutableDbKeyValueServiceConfig.builder()
-                .ddl(ImmutablePostgresDdlConfig.builder().build())
+                .ddl(getDdlConfig())
                 .connection(getImmutablePostgresConnectionConfig(addr))
                 .build();
     }
 
+    protected PostgresDdlConfig getDdlConfig() {
+        return ImmutablePostgresDdlConfig.builder().build();
+    }
+
     @Override
     public Optional<KeyValueServiceRuntimeConfig> getKeyValueServiceRuntimeConfig(InetSocketAddress addr) {
         return Optional.empty();
@@ -0,0 +1,120 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.performance.benchmarks;
+
+import com.palantir.atlasdb.timelock.lock.AsyncLock;
+import com.palantir.atlasdb.timelock.lock.AsyncResult;
+import com.palantir.atlasdb.timelock.lock.ExclusiveLock;
+import com.palantir.atlasdb.timelock.lock.LockFreeExclusiveLock;
+import com.palantir.lock.LockDescriptor;
+import com.palantir.lock.StringLockDescriptor;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Many threads repeatedly locking and unlocking a small number of hot locks, comparing the monitor-based
+ * {@link ExclusiveLock} with {@link LockFreeExclusiveLock}.
+ */
+@Measurement(iterations = 10, time = 2)
+@Warmup(iterations = 6, time = 1)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ExclusiveLockContentionBenchmark {
+
+    @Param({"SYNCHRONIZED", "LOCK_FREE"})
+    public LockImplementation implementation;
+
+    @Param({"1", "8"})
+    public int numHotLocks;
+
+    private AsyncLock[] locks;
+
+    @Setup
+    public void setup() {
+        locks = new AsyncLock[numHotLocks];
+        for (int i = 0; i < numHotLocks; i++) {
+            locks[i] = implementation.factory.apply(StringLockDescriptor.of("hot-row-" + i));
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean fewThreadsLockAndUnlock() {
+        return lockAndUnlock();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public boolean manyThreadsLockAndUnlock() {
+        return lockAndUnlock();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public boolean manyThreadsWaitUntilAvailable() {
+        AsyncLock lock = randomLock();
+        AsyncResult<Void> result = lock.waitUntilAvailable(UUID.randomUUID());
+        awaitCompletion(result);
+        return result.isCompletedSuccessfully();
+    }
+
+    private boolean lockAndUnlock() {
+        AsyncLock lock = randomLock();
+        UUID requestId = UUID.randomUUID();
+        AsyncResult<Void> result = lock.lock(requestId);
+        awaitCompletion(result);
+        lock.unlock(requestId);
+        return result.isCompletedSuccessfully();
+    }
+
+    private AsyncLock randomLock() {
+        return locks[ThreadLocalRandom.current().nextInt(locks.length)];
+    }
+
+    private static void awaitCompletion(AsyncResult<Void> result) {
+        while (!result.isComplete()) {
+            Thread.onSpinWait();
+        }
+    }
+
+    public enum LockImplementation {
+        SYNCHRONIZED(ExclusiveLock::new),
+        LOCK_FREE(LockFreeExclusiveLock::new);
+
+        private final Function<LockDescriptor, AsyncLock> factory;
+
+        LockImplementation(Function<LockDescriptor, AsyncLock> factory) {
+            this.factory = factory;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.performance.benchmarks;
+
+import com.google.common.collect.ImmutableSet;
+import com.palantir.atlasdb.encoding.PtBytes;
+import com.palantir.atlasdb.keyvalue.api.TableReference;
+import com.palantir.atlasdb.keyvalue.api.watch.LockWatchReferenceUtils;
+import com.palantir.atlasdb.timelock.api.LockWatchRequest;
+import com.palantir.atlasdb.timelock.lock.HeldLocksCollection;
+import com.palantir.atlasdb.timelock.lock.LeaderClock;
+import com.palantir.atlasdb.timelock.lock.watch.LockWatchingService;
+import com.palantir.atlasdb.timelock.lock.watch.LockWatchingServiceImpl;
+import com.palantir.atlasdb.timelock.lockwatches.BufferMetrics;
+import com.palantir.atlasdb.util.MetricsManagers;
+import com.palantir.lock.AtlasRowLockDescriptor;
+import com.palantir.lock.LockDescriptor;
+import com.palantir.lock.v2.LeadershipId;
+import com.palantir.lock.v2.LockToken;
+import com.palantir.lock.watch.LockWatchStateUpdate;
+import com.palantir.lock.watch.LockWatchVersion;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A storm of locks and unlocks on a watched table, logged to the lock event log, mixed with clients asking for the
+ * events since the version they last saw, both directly (as when fetching commit timestamps) and around a task (as
+ * when starting transactions). Each client keeps up with the log, so nearly all of its requests are served as diffs
+ * rather than snapshots.
+ */
+@Measurement(iterations = 10, time = 2)
+@Warmup(iterations = 6, time = 1)
+@Fork(value = 1)
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LockEventLogBenchmark {
+    private static final TableReference TABLE = TableReference.createFromFullyQualifiedName("benchmark.table");
+    private static final LockToken TOKEN = LockToken.of(UUID.randomUUID());
+
+    @Param({"1024"})
+    public int distinctLocks;
+
+    private final AtomicLong timestamp = new AtomicLong();
+
+    private LockWatchingService lockWatchingService;
+    private Set<LockDescriptor>[] locks;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        lockWatchingService = new LockWatchingServiceImpl(
+                HeldLocksCollection.create(LeaderClock.create()),
+                LeadershipId.random(),
+                BufferMetrics.of(MetricsManagers.createForTests().getTaggedRegistry()));
+        lockWatchingService.startWatching(
+                LockWatchRequest.of(ImmutableSet.of(LockWatchReferenceUtils.entireTable(TABLE))));
+        locks = new Set[distinctLocks];
+        for (int i = 0; i < distinctLocks; i++) {
+            locks[i] = ImmutableSet.of(AtlasRowLockDescriptor.of(TABLE.getQualifiedName(), PtBytes.toBytes(i)));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+        private Optional<LockWatchVersion> lastKnownVersion = Optional.empty();
+
+        LockWatchStateUpdate update(LockWatchStateUpdate update) {
+            long version = update.accept(new LockWatchStateUpdate.Visitor<Long>() {
+                @Override
+                public Long visit(LockWatchStateUpdate.Success success) {
+                    return success.lastKnownVersion();
+                }
+
+                @Override
+                public Long visit(LockWatchStateUpdate.Snapshot snapshot) {
+                    return snapshot.lastKnownVersion();
+                }
+            });
+            lastKnownVersion = Optional.of(LockWatchVersion.of(update.logId(), version));
+            return update;
+        }
+    }
+
+    @Benchmark
+    @Group("lockStormWithDiffs")
+    @GroupThreads(4)
+    public void lockAndUnlock() {
+        Set<LockDescriptor> lock = locks[ThreadLocalRandom.current().nextInt(distinctLocks)];
+        lockWatchingService.registerLock(lock, TOKEN, Optional.empty());
+        lockWatchingService.registerUnlock(lock);
+    }
+
+    @Benchmark
+    @Group("lockStormWithDiffs")
+    @GroupThreads(8)
+    public LockWatchStateUpdate getLogDiff(Client client) {
+        return client.update(lockWatchingService.getWatchStateUpdate(client.lastKnownVersion));
+    }
+
+    @Benchmark
+    @Group("lockStormWithDiffs")
+    @GroupThreads(8)
+    public LockWatchStateUpdate runTask(Client client) {
+        return client.update(lockWatchingService
+                .runTask(client.lastKnownVersion, timestamp::incrementAndGet)
+                .lockWatchStateUpdate());
+    }
+}
@@ -20,22 +20,45 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.palantir.atlasdb.performance.benchmarks.table.StreamingTable;
 import com.palantir.atlasdb.performance.schema.generated.StreamTestTableFactory;
 import com.palantir.atlasdb.performance.schema.generated.ValueStreamStore;
+import com.palantir.atlasdb.stream.ImmutableStreamStorePersistenceConfiguration;
+import com.palantir.atlasdb.stream.StreamStorePersistenceConfiguration;
 import com.palantir.atlasdb.transaction.api.TransactionManager;
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.Random;
 import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.annotations.Warmup;
 
 @State(Scope.Benchmark)
 public class StreamStoreBenchmarks {
+    private static final StreamStorePersistenceConfiguration READ_AHEAD_CONFIG =
+            ImmutableStreamStorePersistenceConfiguration.builder()
+                    .readAheadBatches(4)
+                    .build();
+    private static final StreamStorePersistenceConfiguration PIPELINED_WRITE_CONFIG =
+            ImmutableStreamStorePersistenceConfiguration.builder()
+                    .blocksPerWriteTransaction(4)
+                    .maxConcurrentWriteTransactions(4)
+                    .build();
+
+    private byte[] dataToStore;
+
+    @Setup
+    public void setup() {
+        dataToStore = new byte[6_000_000];
+        new Random(0).nextBytes(dataToStore);
+    }
 
     @Benchmark
     @Threads(1)
@@ -88,4 +111,51 @@ public class StreamStoreBenchmarks {
             assertThat(firstBytes).isEqualTo(table.getVeryLargeStreamFirstBytes());
         }
     }
+
+    @Benchmark
+    @Threads(1)
+    @Warmup(time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(time = 30, timeUnit = TimeUnit.SECONDS)
+    public long readVeryLargeStreamFully(StreamingTable table) throws IOException {
+        TransactionManager transactionManager = table.getTransactionManager();
+        ValueStreamStore store = ValueStreamStore.of(transactionManager, StreamTestTableFactory.of());
+        return readFully(transactionManager, store, table.getVeryLargeStreamId());
+    }
+
+    @Benchmark
+    @Threads(1)
+    @Warmup(time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(time = 30, timeUnit = TimeUnit.SECONDS)
+    public long readVeryLargeStreamFullyWithReadAhead(StreamingTable table) throws IOException {
+        TransactionManager transactionManager = table.getTransactionManager();
+        ValueStreamStore store =
+                ValueStreamStore.of(transactionManager, StreamTestTableFactory.of(), () -> READ_AHEAD_CONFIG);
+        return readFully(transactionManager, store, table.getVeryLargeStreamId());
+    }
+
+    private static long readFully(TransactionManager transactionManager, ValueStreamStore store, long id)
+            throws IOException {
+        try (InputStream inputStream = transactionManager.runTaskThrowOnConflict(txn -> store.loadStream(txn, id))) {
+            return inputStream.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    @Warmup(time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(time = 30, timeUnit = TimeUnit.SECONDS)
+    public long storeLargeStream(StreamingTable table) {
+        ValueStreamStore store = ValueStreamStore.of(table.getTransactionManager(), StreamTestTableFactory.of());
+        return store.storeStream(new ByteArrayInputStream(dataToStore)).getLhSide();
+    }
+
+    @Benchmark
+    @Threads(1)
+    @Warmup(time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(time = 30, timeUnit = TimeUnit.SECONDS)
+    public long storeLargeStreamPipelined(StreamingTable table) {
+        ValueStreamStore store = ValueStreamStore.of(
+                table.getTransactionManager(), StreamTestTableFactory.of(), () -> PIPELINED_WRITE_CONFIG);
+        return store.storeStream(new ByteArrayInputStream(dataToStore)).getLhSide();
+    }
 }
@@ -0,0 +1,105 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.performance.benchmarks;
+
+import com.codahale.metrics.MetricRegistry;
+import com.palantir.atlasdb.cache.DefaultTimestampCache;
+import com.palantir.atlasdb.cache.OpenAddressingTimestampCache;
+import com.palantir.atlasdb.cache.TimestampCache;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the Caffeine-backed {@link DefaultTimestampCache} with {@link OpenAddressingTimestampCache} on a
+ * read-heavy workload over a cache that has been filled to capacity. Run with {@code -prof gc} to compare allocation.
+ */
+@Measurement(iterations = 10, time = 2)
+@Warmup(iterations = 6, time = 1)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TimestampCacheBenchmark {
+    private static final long COMMIT_OFFSET = 17;
+
+    @Param({"DEFAULT", "OPEN_ADDRESSING"})
+    public CacheImplementation implementation;
+
+    @Param({"1000000"})
+    public long cacheSize;
+
+    private TimestampCache cache;
+
+    @Setup
+    public void setup() {
+        cache = implementation.create(cacheSize);
+        for (long startTs = 1; startTs <= cacheSize; startTs++) {
+            cache.putAlreadyCommittedTransaction(startTs, startTs + COMMIT_OFFSET);
+        }
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Long readHit() {
+        return cache.getCommitTimestampIfPresent(randomStartTimestamp(cacheSize));
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Long readMostlyWithChurn() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (random.nextInt(10) == 0) {
+            long startTs = randomStartTimestamp(2 * cacheSize);
+            cache.putAlreadyCommittedTransaction(startTs, startTs + COMMIT_OFFSET);
+            return startTs;
+        }
+        return cache.getCommitTimestampIfPresent(randomStartTimestamp(2 * cacheSize));
+    }
+
+    private static long randomStartTimestamp(long bound) {
+        return 1 + ThreadLocalRandom.current().nextLong(bound);
+    }
+
+    public enum CacheImplementation {
+        DEFAULT {
+            @Override
+            TimestampCache create(long size) {
+                return new DefaultTimestampCache(new MetricRegistry(), () -> size);
+            }
+        },
+        OPEN_ADDRESSING {
+            @Override
+            TimestampCache create(long size) {
+                return new OpenAddressingTimestampCache(new MetricRegistry(), () -> size);
+            }
+        };
+
+        abstract TimestampCache create(long size);
+    }
+}
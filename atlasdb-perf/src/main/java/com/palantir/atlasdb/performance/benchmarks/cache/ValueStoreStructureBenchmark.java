@@ -0,0 +1,173 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.performance.benchmarks.cache;
+
+import com.palantir.atlasdb.keyvalue.api.Cell;
+import com.palantir.atlasdb.keyvalue.api.CellReference;
+import com.palantir.atlasdb.keyvalue.api.TableReference;
+import com.palantir.atlasdb.keyvalue.api.cache.CacheEntry;
+import com.palantir.atlasdb.keyvalue.api.cache.CacheValue;
+import com.palantir.atlasdb.keyvalue.api.cache.EpochHashTrie;
+import io.vavr.collection.HashMap;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the structures that have backed the lock watch value cache's central store, on the mix of operations that
+ * store sees: values being cached after reads, lock events marking cells as locked, unlock events removing them, and
+ * a snapshot taken for each new transaction, which is then read from. Each invocation processes one batch of
+ * {@code operationsPerSnapshot} updates followed by a snapshot and a round of reads. Run with {@code -prof gc} to
+ * compare allocation.
+ */
+@Measurement(iterations = 10, time = 2)
+@Warmup(iterations = 6, time = 1)
+@Fork(value = 1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ValueStoreStructureBenchmark {
+    private static final TableReference TABLE = TableReference.createFromFullyQualifiedName("benchmark.table");
+    private static final CacheEntry LOCKED = CacheEntry.locked();
+    private static final int READS_PER_SNAPSHOT = 16;
+
+    @Param({"VAVR_HASH_MAP", "EPOCH_HASH_TRIE"})
+    public StructureType structureType;
+
+    @Param({"100000"})
+    public int distinctCells;
+
+    @Param({"8", "64"})
+    public int operationsPerSnapshot;
+
+    private final Random random = new Random(0);
+
+    private CellReference[] cells;
+    private CacheEntry[] unlockedEntries;
+    private Structure structure;
+
+    @Setup
+    public void setup() {
+        cells = new CellReference[distinctCells];
+        unlockedEntries = new CacheEntry[distinctCells];
+        for (int i = 0; i < distinctCells; i++) {
+            byte[] row = Integer.toString(i).getBytes(StandardCharsets.UTF_8);
+            cells[i] = CellReference.of(TABLE, Cell.create(row, row));
+            unlockedEntries[i] = CacheEntry.unlocked(CacheValue.of(row));
+        }
+        structure = structureType.create();
+        for (int i = 0; i < distinctCells / 2; i++) {
+            structure.put(cells[i], unlockedEntries[i]);
+        }
+    }
+
+    @Benchmark
+    public int processEventsAndSnapshot() {
+        for (int i = 0; i < operationsPerSnapshot; i++) {
+            int cell = random.nextInt(distinctCells);
+            int operation = random.nextInt(10);
+            if (operation < 8) {
+                structure.put(cells[cell], unlockedEntries[cell]);
+            } else if (operation < 9) {
+                structure.put(cells[cell], LOCKED);
+            } else {
+                structure.remove(cells[cell]);
+            }
+        }
+
+        Function<CellReference, CacheEntry> snapshot = structure.snapshot();
+        int hits = 0;
+        for (int i = 0; i < READS_PER_SNAPSHOT; i++) {
+            if (snapshot.apply(cells[random.nextInt(distinctCells)]) != null) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    private interface Structure {
+        void put(CellReference cell, CacheEntry entry);
+
+        void remove(CellReference cell);
+
+        Function<CellReference, CacheEntry> snapshot();
+    }
+
+    public enum StructureType {
+        VAVR_HASH_MAP {
+            @Override
+            Structure create() {
+                return new Structure() {
+                    private HashMap<CellReference, CacheEntry> values = HashMap.empty();
+
+                    @Override
+                    public void put(CellReference cell, CacheEntry entry) {
+                        values = values.put(cell, entry);
+                    }
+
+                    @Override
+                    public void remove(CellReference cell) {
+                        values = values.remove(cell);
+                    }
+
+                    @Override
+                    public Function<CellReference, CacheEntry> snapshot() {
+                        HashMap<CellReference, CacheEntry> snapshot = values;
+                        return cell -> snapshot.get(cell).getOrNull();
+                    }
+                };
+            }
+        },
+        EPOCH_HASH_TRIE {
+            @Override
+            Structure create() {
+                return new Structure() {
+                    private final EpochHashTrie<CellReference, CacheEntry> values = new EpochHashTrie<>();
+
+                    @Override
+                    public void put(CellReference cell, CacheEntry entry) {
+                        values.put(cell, entry);
+                    }
+
+                    @Override
+                    public void remove(CellReference cell) {
+                        values.remove(cell);
+                    }
+
+                    @Override
+                    public Function<CellReference, CacheEntry> snapshot() {
+                        return values.snapshot()::get;
+                    }
+                };
+            }
+        };
+
+        abstract Structure create();
+    }
+}
@@ -35,6 +35,7 @@ import com.google.common.collect.Streams;
 import com.google.common.primitives.UnsignedBytes;
 import com.palantir.atlasdb.AtlasDbConstants;
 import com.palantir.atlasdb.encoding.PtBytes;
+import com.palantir.atlasdb.futures.AtlasFutures;
 import com.palantir.atlasdb.keyvalue.api.BatchColumnRangeSelection;
 import com.palantir.atlasdb.keyvalue.api.Cell;
 import com.palantir.atlasdb.keyvalue.api.CheckAndSetException;
@@ -597,6 +598,14 @@ public abstract class AbstractKeyValueServiceTest {
                 .containsEntry(TEST_CELL, Value.create(val(0, 7), TEST_TIMESTAMP + 1));
     }
 
+    @Test
+    public void testGetAsyncWithMultipleVersions() {
+        putTestDataForMultipleTimestamps();
+        Map<Cell, Value> values = AtlasFutures.getUnchecked(
+                keyValueService.getAsync(TEST_TABLE, ImmutableMap.of(TEST_CELL, TEST_TIMESTAMP + 2)));
+        assertThat(values).hasSize(1).containsEntry(TEST_CELL, Value.create(val(0, 7), TEST_TIMESTAMP + 1));
+    }
+
     @Test
     public void testGetAllTableNames() {
         final TableReference anotherTable = TableReference.createWithEmptyNamespace("AnotherTable");
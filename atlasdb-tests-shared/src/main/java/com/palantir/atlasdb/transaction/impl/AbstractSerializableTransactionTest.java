@@ -39,9 +39,11 @@ import com.google.common.collect.Iterators;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Ordering;
 import com.google.common.collect.Streams;
+import com.google.common.hash.Hashing;
 import com.google.common.primitives.UnsignedBytes;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.Uninterruptibles;
 import com.palantir.atlasdb.AtlasDbConstants;
 import com.palantir.atlasdb.cleaner.NoOpCleaner;
 import com.palantir.atlasdb.debug.ConflictTracer;
@@ -49,6 +51,7 @@ import com.palantir.atlasdb.encoding.PtBytes;
 import com.palantir.atlasdb.keyvalue.api.BatchColumnRangeSelection;
 import com.palantir.atlasdb.keyvalue.api.Cell;
 import com.palantir.atlasdb.keyvalue.api.ColumnRangeSelection;
+import com.palantir.atlasdb.keyvalue.api.ColumnSelection;
 import com.palantir.atlasdb.keyvalue.api.RangeRequest;
 import com.palantir.atlasdb.keyvalue.api.RangeRequests;
 import com.palantir.atlasdb.keyvalue.api.RowResult;
@@ -59,6 +62,7 @@ import com.palantir.atlasdb.keyvalue.impl.KvsManager;
 import com.palantir.atlasdb.keyvalue.impl.TransactionManagerManager;
 import com.palantir.atlasdb.sweep.queue.MultiTableSweepQueueWriter;
 import com.palantir.atlasdb.table.description.ValueType;
+import com.palantir.atlasdb.transaction.ImmutableTransactionConfig;
 import com.palantir.atlasdb.transaction.api.AtlasDbConstraintCheckingMode;
 import com.palantir.atlasdb.transaction.api.ConflictHandler;
 import com.palantir.atlasdb.transaction.api.PreCommitCondition;
@@ -88,6 +92,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.BrokenBarrierException;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -97,6 +102,7 @@ import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 import org.mockito.ArgumentCaptor;
 
 @SuppressWarnings("CheckReturnValue")
@@ -169,7 +175,7 @@ public abstract class AbstractSerializableTransactionTest extends AbstractTransa
                 TransactionReadSentinelBehavior.THROW_EXCEPTION,
                 true,
                 timestampCache,
-                AbstractTransactionTest.GET_RANGES_EXECUTOR,
+                options.getRangesExecutor,
                 AbstractTransactionTest.DEFAULT_GET_RANGES_CONCURRENCY,
                 getSweepQueueWriterInitialized(),
                 new DefaultDeleteExecutor(
@@ -193,6 +199,7 @@ public abstract class AbstractSerializableTransactionTest extends AbstractTransa
     private static final class TransactionOptions {
         private PreCommitCondition condition = PreCommitConditions.NO_OP;
         private Optional<LockToken> immutableLockToken = Optional.empty();
+        private ExecutorService getRangesExecutor = AbstractTransactionTest.GET_RANGES_EXECUTOR;
 
         public TransactionOptions withCondition(PreCommitCondition newCondition) {
             this.condition = Preconditions.checkNotNull(newCondition, "newCondition");
@@ -204,6 +211,11 @@ public abstract class AbstractSerializableTransactionTest extends AbstractTransa
                     Optional.of(Preconditions.checkNotNull(newImmutableLockToken, "newImmutableLockToken"));
             return this;
         }
+
+        public TransactionOptions withGetRangesExecutor(ExecutorService newGetRangesExecutor) {
+            this.getRangesExecutor = Preconditions.checkNotNull(newGetRangesExecutor, "newGetRangesExecutor");
+            return this;
+        }
     }
 
     protected MultiTableSweepQueueWriter getSweepQueueWriterUninitialized() {
@@ -1488,6 +1500,170 @@ public abstract class AbstractSerializableTransactionTest extends AbstractTransa
         });
     }
 
+    @Test
+    public void parallelReadValidationDetectsConflictInAnyBatch() {
+        transactionConfigSupplier = () -> ImmutableTransactionConfig.builder()
+                .serializableReadValidationParallelism(4)
+                .build();
+        Transaction t0 = startTransaction();
+        for (int i = 0; i < 10; i++) {
+            put(t0, "row" + i, "col1", "100");
+        }
+        t0.commit();
+
+        Transaction t1 = startTransaction();
+        for (int i = 0; i < 10; i++) {
+            get(t1, TEST_TABLE_SERIALIZABLE, "row" + i, "col1");
+        }
+        BatchingVisitables.copyToList(t1.getRange(TEST_TABLE_SERIALIZABLE, RangeRequest.all()));
+        put(t1, "row10", "col1", "100");
+
+        Transaction t2 = startTransaction();
+        put(t2, "row7", "col1", "200");
+        t2.commit();
+
+        assertThatThrownBy(t1::commit).isInstanceOf(TransactionSerializableConflictException.class);
+    }
+
+    @Test
+    public void parallelReadValidationCommitsWithoutConflicts() {
+        transactionConfigSupplier = () -> ImmutableTransactionConfig.builder()
+                .serializableReadValidationParallelism(4)
+                .build();
+        Transaction t0 = startTransaction();
+        for (int i = 0; i < 10; i++) {
+            put(t0, "row" + i, "col1", "100");
+        }
+        t0.commit();
+
+        Transaction t1 = startTransaction();
+        for (int i = 0; i < 10; i++) {
+            get(t1, TEST_TABLE_SERIALIZABLE, "row" + i, "col1");
+        }
+        BatchingVisitables.copyToList(t1.getRange(TEST_TABLE_SERIALIZABLE, RangeRequest.all()));
+        put(t1, "row10", "col1", "100");
+
+        assertThatCode(t1::commit).doesNotThrowAnyException();
+    }
+
+    @Test
+    @Timeout(30)
+    public void parallelReadValidationDoesNotWaitForHelpersQueuedBehindOtherTasks() {
+        transactionConfigSupplier = () -> ImmutableTransactionConfig.builder()
+                .serializableReadValidationParallelism(4)
+                .build();
+        ExecutorService busyExecutor = PTExecutors.newFixedThreadPool(1);
+        CountDownLatch otherTaskDone = new CountDownLatch(1);
+        busyExecutor.execute(() -> Uninterruptibles.awaitUninterruptibly(otherTaskDone));
+        try {
+            Transaction t0 = startTransaction();
+            for (int i = 0; i < 10; i++) {
+                put(t0, "row" + i, "col1", "100");
+            }
+            t0.commit();
+
+            Transaction t1 = startTransactionWithOptions(new TransactionOptions().withGetRangesExecutor(busyExecutor));
+            for (int i = 0; i < 10; i++) {
+                get(t1, "row" + i, "col1");
+            }
+            t1.getRows(TEST_TABLE, ImmutableList.of(PtBytes.toBytes("row0")), ColumnSelection.all());
+            put(t1, "row10", "col1", "100");
+
+            assertThatCode(t1::commit).doesNotThrowAnyException();
+        } finally {
+            otherTaskDone.countDown();
+            busyExecutor.shutdown();
+        }
+    }
+
+    @Test
+    public void fingerprintedReadsDetectChangesToLargeValues() {
+        transactionConfigSupplier = () -> ImmutableTransactionConfig.builder()
+                .fingerprintSerializableReads(true)
+                .build();
+        String largeValue = "a".repeat(100);
+        Transaction t0 = startTransaction();
+        put(t0, "row1", "col1", largeValue);
+        put(t0, "row2", "col1", largeValue);
+        t0.commit();
+
+        Transaction t1 = startTransaction();
+        assertThat(get(t1, TEST_TABLE_SERIALIZABLE, "row1", "col1")).isEqualTo(largeValue);
+        BatchingVisitables.copyToList(t1.getRange(TEST_TABLE_SERIALIZABLE, RangeRequest.all()));
+        put(t1, "row3", "col1", largeValue);
+
+        Transaction t2 = startTransaction();
+        put(t2, "row2", "col1", "b".repeat(100));
+        t2.commit();
+
+        assertThatThrownBy(t1::commit).isInstanceOf(TransactionSerializableConflictException.class);
+    }
+
+    @Test
+    public void fingerprintedReadsCommitIfLargeValuesAreUnchanged() {
+        transactionConfigSupplier = () -> ImmutableTransactionConfig.builder()
+                .fingerprintSerializableReads(true)
+                .build();
+        String largeValue = "a".repeat(100);
+        Transaction t0 = startTransaction();
+        put(t0, "row1", "col1", largeValue);
+        put(t0, "row2", "col1", "small");
+        t0.commit();
+
+        Transaction t1 = startTransaction();
+        assertThat(get(t1, TEST_TABLE_SERIALIZABLE, "row1", "col1")).isEqualTo(largeValue);
+        BatchingVisitables.copyToList(t1.getRange(TEST_TABLE_SERIALIZABLE, RangeRequest.all()));
+        put(t1, "row3", "col1", largeValue);
+
+        assertThatCode(t1::commit).doesNotThrowAnyException();
+    }
+
+    @Test
+    public void fingerprintedReadsDetectValueReplacedByItsOwnFingerprint() {
+        transactionConfigSupplier = () -> ImmutableTransactionConfig.builder()
+                .fingerprintSerializableReads(true)
+                .build();
+        Cell cell = Cell.create(PtBytes.toBytes("row1"), PtBytes.toBytes("col1"));
+        byte[] largeValue = PtBytes.toBytes("a".repeat(100));
+        byte[] fingerprint = Hashing.sha256().hashBytes(largeValue).asBytes();
+        Transaction t0 = startTransaction();
+        t0.put(TEST_TABLE_SERIALIZABLE, ImmutableMap.of(cell, largeValue));
+        t0.commit();
+
+        Transaction t1 = startTransaction();
+        assertThat(t1.get(TEST_TABLE_SERIALIZABLE, ImmutableSet.of(cell))).containsEntry(cell, largeValue);
+        put(t1, "row2", "col1", "100");
+
+        Transaction t2 = startTransaction();
+        t2.put(TEST_TABLE_SERIALIZABLE, ImmutableMap.of(cell, fingerprint));
+        t2.commit();
+
+        assertThatThrownBy(t1::commit).isInstanceOf(TransactionSerializableConflictException.class);
+    }
+
+    @Test
+    public void fingerprintedReadsDetectChangesToValuesOfFingerprintLength() {
+        transactionConfigSupplier = () -> ImmutableTransactionConfig.builder()
+                .fingerprintSerializableReads(true)
+                .build();
+        for (int length : new int[] {31, 32, 33}) {
+            String row = "row" + length;
+            Transaction t0 = startTransaction();
+            put(t0, row, "col1", "a".repeat(length));
+            t0.commit();
+
+            Transaction t1 = startTransaction();
+            assertThat(get(t1, TEST_TABLE_SERIALIZABLE, row, "col1")).isEqualTo("a".repeat(length));
+            put(t1, "other", "col1", "100");
+
+            Transaction t2 = startTransaction();
+            put(t2, row, "col1", "b".repeat(length));
+            t2.commit();
+
+            assertThatThrownBy(t1::commit).isInstanceOf(TransactionSerializableConflictException.class);
+        }
+    }
+
     @Test
     public void testChecksIfTablesAreSerializable() {
         createManager().runTaskThrowOnConflict(tx -> {
@@ -16,8 +16,11 @@
 package com.palantir.atlasdb.compress;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.palantir.atlasdb.table.description.ColumnValueDescription.Compression;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
@@ -69,4 +72,71 @@ public class CompressionUtilsTest {
         }
         assertThat(threwIllegalArgumentException).isTrue();
     }
+
+    @Test
+    public void testCompressAndDecompressWithLz4() {
+        byte[] original = "the quick brown fox jumps over the lazy dog, again and again and again"
+                .repeat(20)
+                .getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = CompressionUtils.compress(original, Compression.LZ4);
+        assertThat(compressed.length).isLessThan(original.length);
+        assertThat(CompressionUtils.decompress(compressed, Compression.LZ4)).isEqualTo(original);
+    }
+
+    @Test
+    public void testCompressAndDecompressEmptyValueWithLz4() {
+        byte[] compressed = CompressionUtils.compress(new byte[0], Compression.LZ4);
+        assertThat(CompressionUtils.decompress(compressed, Compression.LZ4)).isEmpty();
+    }
+
+    @Test
+    public void testLz4CanReadValuesWrittenWithSnappy() {
+        byte[] original = new byte[1024];
+        byte[] compressedWithSnappy = CompressionUtils.compress(original, Compression.SNAPPY);
+        assertThat(CompressionUtils.decompress(compressedWithSnappy, Compression.LZ4)).isEqualTo(original);
+    }
+
+    @Test
+    public void testCompressAndDecompressByteBuffersWithoutMovingPosition() {
+        byte[] original = new byte[2048];
+        Arrays.fill(original, 512, 1024, (byte) 7);
+        ByteBuffer direct = ByteBuffer.allocateDirect(original.length + 16);
+        direct.position(16);
+        direct.put(original);
+        direct.position(16);
+
+        for (Compression compression : Compression.values()) {
+            ByteBuffer compressed = CompressionUtils.compress(direct, compression);
+            assertThat(direct.position()).isEqualTo(16);
+            ByteBuffer decompressed = CompressionUtils.decompress(compressed, compression);
+            assertThat(decompressed).isEqualTo(ByteBuffer.wrap(original));
+        }
+    }
+
+    @Test
+    public void testDecompressExceptionWithLz4() {
+        byte[] compressed = new byte[] {1, 2, 3}; // invalid
+        boolean threwIllegalArgumentException = false;
+        try {
+            CompressionUtils.decompress(compressed, Compression.LZ4);
+        } catch (IllegalArgumentException e) {
+            threwIllegalArgumentException = true;
+        }
+        assertThat(threwIllegalArgumentException).isTrue();
+    }
+
+    @Test
+    public void testDecompressExceptionWithCorruptLz4() {
+        byte[] original = "the quick brown fox jumps over the lazy dog".repeat(20).getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = CompressionUtils.compress(original, Compression.LZ4);
+
+        byte[] truncated = Arrays.copyOf(compressed, compressed.length - 4);
+        assertThatThrownBy(() -> CompressionUtils.decompress(truncated, Compression.LZ4))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        byte[] overstatedLength = compressed.clone();
+        ByteBuffer.wrap(overstatedLength).putInt(Integer.BYTES, original.length + 100);
+        assertThatThrownBy(() -> CompressionUtils.decompress(overstatedLength, Compression.LZ4))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
 }
@@ -26,6 +26,7 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -918,6 +919,57 @@ public abstract class AbstractSnapshotTransactionTest extends AtlasDbTestCase {
         assertThatThrownBy(t2::commit).isInstanceOf(TransactionConflictException.class);
     }
 
+    @Test
+    public void pipelinedCommitWritesValues() {
+        setTransactionConfig(ImmutableTransactionConfig.builder().pipelinedCommit(true).build());
+        Transaction txn = getSnapshotTransactionWith(
+                timelockService, ImmutableMap.of(TABLE, ConflictHandler.RETRY_ON_WRITE_WRITE));
+        txn.put(TABLE, ImmutableMap.of(TEST_CELL, TEST_VALUE));
+        txn.commit();
+
+        Transaction reader = txManager.createNewTransaction();
+        assertThat(reader.get(TABLE, ImmutableSet.of(TEST_CELL)).get(TEST_CELL)).isEqualTo(TEST_VALUE);
+    }
+
+    @Test
+    public void pipelinedCommitDetectsWriteWriteConflicts() {
+        setTransactionConfig(ImmutableTransactionConfig.builder().pipelinedCommit(true).build());
+        Transaction t1 = txManager.createNewTransaction();
+        Transaction t2 = getSnapshotTransactionWith(
+                timelockService, ImmutableMap.of(TABLE, ConflictHandler.RETRY_ON_WRITE_WRITE));
+        t1.put(TABLE, ImmutableMap.of(TEST_CELL, PtBytes.toBytes("first")));
+        t2.put(TABLE, ImmutableMap.of(TEST_CELL, PtBytes.toBytes("second")));
+        t1.commit();
+
+        assertThatThrownBy(t2::commit).isInstanceOf(TransactionConflictException.class);
+        Transaction reader = txManager.createNewTransaction();
+        assertThat(reader.get(TABLE, ImmutableSet.of(TEST_CELL)).get(TEST_CELL)).isEqualTo(PtBytes.toBytes("first"));
+    }
+
+    @Test
+    public void pipelinedCommitFinishesMarkingInProgressBeforeFailingOnConflict() {
+        setTransactionConfig(ImmutableTransactionConfig.builder().pipelinedCommit(true).build());
+        Transaction t1 = txManager.createNewTransaction();
+        Transaction t2 = getSnapshotTransactionWith(
+                timelockService, ImmutableMap.of(TABLE, ConflictHandler.RETRY_ON_WRITE_WRITE));
+        t1.put(TABLE, ImmutableMap.of(TEST_CELL, PtBytes.toBytes("first")));
+        t2.put(TABLE, ImmutableMap.of(TEST_CELL, PtBytes.toBytes("second")));
+        t1.commit();
+
+        AtomicBoolean markedInProgress = new AtomicBoolean();
+        doAnswer(invocation -> {
+                    Thread.sleep(200);
+                    invocation.callRealMethod();
+                    markedInProgress.set(true);
+                    return null;
+                })
+                .when(transactionService)
+                .markInProgress(anyLong());
+
+        assertThatThrownBy(t2::commit).isInstanceOf(TransactionConflictException.class);
+        assertThat(markedInProgress).isTrue();
+    }
+
     @Test
     public void disallowPutOnEmptyObject() {
         Transaction t1 = txManager.createNewTransaction();
@@ -1805,7 +1857,7 @@ public abstract class AbstractSnapshotTransactionTest extends AtlasDbTestCase {
         CacheMetrics metrics = mock(CacheMetrics.class);
         TransactionScopedCache emptyCache = TransactionScopedCacheImpl.create(
                 ValueCacheSnapshotImpl.of(
-                        io.vavr.collection.HashMap.empty(),
+                        ImmutableMap.of(),
                         io.vavr.collection.HashSet.of(TABLE_SWEPT_THOROUGH),
                         ImmutableSet.of(TABLE_SWEPT_THOROUGH)),
                 metrics);
@@ -2083,10 +2135,10 @@ public abstract class AbstractSnapshotTransactionTest extends AtlasDbTestCase {
         CacheMetrics metrics = mock(CacheMetrics.class);
         return TransactionScopedCacheImpl.create(
                 ValueCacheSnapshotImpl.of(
-                        io.vavr.collection.HashMap.ofAll(EntryStream.of(values)
+                        EntryStream.of(values)
                                 .mapKeys(cell -> CellReference.of(table, cell))
                                 .mapValues(value -> CacheEntry.unlocked(CacheValue.of(value)))
-                                .toMap()),
+                                .toMap(),
                         io.vavr.collection.HashSet.of(table),
                         ImmutableSet.of(table)),
                 metrics);
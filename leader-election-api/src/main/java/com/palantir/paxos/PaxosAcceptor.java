@@ -56,6 +56,24 @@ public interface PaxosAcceptor {
     @Timed
     BooleanPaxosResponse accept(@PathParam("seq") long seq, PaxosProposal proposal);
 
+    /**
+     * The acceptor accepts a given proposal if and only if it has promised exactly that proposal's id for the given
+     * sequence number, and if it accepts, also promises the same id for the next sequence number provided it knows
+     * nothing of that sequence yet. This allows a stable proposer to skip phase one for consecutive sequence numbers
+     * (Multi-Paxos): once a quorum has accepted a proposal, that proposal's id may be used to propose the next value
+     * directly, and the acceptors will accept it only if nothing has happened at that sequence number since.
+     * <p>
+     * Acceptors that do not support this reject every proposal, in which case proposers must fall back to
+     * {@link #prepare(long, PaxosProposalId)} and {@link #accept(long, PaxosProposal)}.
+     *
+     * @param seq the number identifying this instance of paxos
+     * @param proposal the proposal in question
+     * @return a paxos message indicating if the proposal was accepted or rejected
+     */
+    default BooleanPaxosResponse acceptAndPromiseNext(long seq, PaxosProposal proposal) {
+        return new BooleanPaxosResponse(false);
+    }
+
     /**
      * Gets the sequence number of the acceptor's most recent known round.
      *
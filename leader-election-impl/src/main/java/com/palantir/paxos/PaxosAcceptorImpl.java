@@ -118,6 +118,45 @@ public final class PaxosAcceptorImpl implements PaxosAcceptor {
         }
     }
 
+    @Override
+    public BooleanPaxosResponse acceptAndPromiseNext(long seq, PaxosProposal proposal) {
+        try {
+            checkLogIfNeeded(seq);
+            checkLogIfNeeded(seq + 1);
+        } catch (Exception e) {
+            log.error("Log read failed for request at sequence {}", SafeArg.of("sequence", seq), e);
+            return new BooleanPaxosResponse(false); // nack
+        }
+
+        for (; ; ) {
+            PaxosAcceptorState oldState = state.get(seq);
+
+            // nack unless we promised exactly this proposal, as the proposer may not have run phase one against us
+            if (oldState == null || proposal.id.compareTo(oldState.lastPromisedId) != 0) {
+                return new BooleanPaxosResponse(false);
+            }
+
+            // ack
+            PaxosAcceptorState newState = oldState.withState(proposal.id, proposal.id, proposal.val);
+            if (state.replace(seq, oldState, newState)) {
+                acceptorStateLog.writeRound(seq, newState);
+                promiseIfAbsent(seq + 1, proposal.id);
+                return new BooleanPaxosResponse(true);
+            }
+        }
+    }
+
+    /**
+     * Promises the given proposal id for the given sequence number, provided nothing is known of that sequence number.
+     * Any accepted value would have been preceded by a promise, so the proposer does not need to learn of one.
+     */
+    private void promiseIfAbsent(long seq, PaxosProposalId pid) {
+        PaxosAcceptorState newState = PaxosAcceptorState.newState(pid);
+        if (state.putIfAbsent(seq, newState) == null) {
+            acceptorStateLog.writeRound(seq, newState);
+        }
+    }
+
     @Override
     public long getLatestSequencePreparedOrAccepted() {
         if (state.isEmpty()) {
@@ -16,6 +16,7 @@
 
 package com.palantir.paxos;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 
@@ -45,6 +46,20 @@ public interface PaxosAcceptorNetworkClient {
      */
     PaxosResponses<BooleanPaxosResponse> accept(long seq, PaxosProposal proposal);
 
+    /**
+     * The acceptors accept a given proposal if they promised exactly that proposal's id for the given sequence
+     * number, and then promise the same id for the next sequence number; see
+     * {@link PaxosAcceptor#acceptAndPromiseNext(long, PaxosProposal)}. By default no acceptor is contacted, and the
+     * proposal is not accepted.
+     *
+     * @param seq the number identifying this instance of paxos
+     * @param proposal the proposal in question
+     * @return paxos messages indicating whether the cluster accepted or rejected the proposal
+     */
+    default PaxosResponses<BooleanPaxosResponse> acceptAndPromiseNext(long seq, PaxosProposal proposal) {
+        return PaxosResponses.of(1, ImmutableList.of());
+    }
+
     /**
      * The acceptors return the sequence number of their most recent known round.
      *
@@ -18,11 +18,20 @@ package com.palantir.paxos;
 import java.util.Collections;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import javax.annotation.Nullable;
+import org.immutables.value.Value;
 
 /**
  * Implementation of a paxos proposer than can be a designated proposer (leader) and designated
  * learner (informer).
+ * <p>
+ * If Multi-Paxos is enabled, a proposer whose proposal was accepted by a quorum at some sequence number proposes its
+ * next value, at the following sequence number, with the same proposal id and without running phase one; see
+ * {@link PaxosAcceptor#acceptAndPromiseNext(long, PaxosProposal)}. If that is rejected, because another proposer has
+ * since prepared that sequence number or because the acceptors do not support it, the proposer runs both phases as
+ * usual.
  *
  * @author rullman
  */
@@ -32,22 +41,42 @@ public final class PaxosProposerImpl implements PaxosProposer {
     private final PaxosLearnerNetworkClient learnerClient;
     private final String uuid;
     private final AtomicLong proposalNumber;
+    private final Supplier<Boolean> useMultiPaxos;
+    private final AtomicReference<PromisedSequence> promisedSequence = new AtomicReference<>();
 
     public static PaxosProposer newProposer(
             PaxosAcceptorNetworkClient acceptorClient, PaxosLearnerNetworkClient learnerClient, UUID leaderUuid) {
-        return new PaxosProposerImpl(acceptorClient, learnerClient, leaderUuid);
+        return newProposer(acceptorClient, learnerClient, leaderUuid, () -> false);
+    }
+
+    public static PaxosProposer newProposer(
+            PaxosAcceptorNetworkClient acceptorClient,
+            PaxosLearnerNetworkClient learnerClient,
+            UUID leaderUuid,
+            Supplier<Boolean> useMultiPaxos) {
+        return new PaxosProposerImpl(acceptorClient, learnerClient, leaderUuid, useMultiPaxos);
     }
 
     private PaxosProposerImpl(
-            PaxosAcceptorNetworkClient acceptorClient, PaxosLearnerNetworkClient learnerClient, UUID leaderUuid) {
+            PaxosAcceptorNetworkClient acceptorClient,
+            PaxosLearnerNetworkClient learnerClient,
+            UUID leaderUuid,
+            Supplier<Boolean> useMultiPaxos) {
         this.acceptorClient = acceptorClient;
         this.learnerClient = learnerClient;
         this.uuid = leaderUuid.toString();
         this.proposalNumber = new AtomicLong();
+        this.useMultiPaxos = useMultiPaxos;
     }
 
     @Override
     public byte[] propose(final long seq, @Nullable byte[] bytes) throws PaxosRoundFailureException {
+        if (bytes != null && useMultiPaxos.get()) {
+            PaxosValue accepted = proposeWithoutPhaseOne(seq, bytes);
+            if (accepted != null) {
+                return accepted.getData();
+            }
+        }
         return proposeWithId(uuid, seq, bytes);
     }
 
@@ -65,13 +94,55 @@ public final class PaxosProposerImpl implements PaxosProposer {
         final PaxosValue finalValue = phaseOne(seq, proposalId, toPropose);
 
         // paxos phase two (accept request and accepted)
-        phaseTwo(seq, proposalId, finalValue);
+        phaseTwo(seq, proposalId, finalValue, uuidToProposeWith.equals(uuid) && useMultiPaxos.get());
 
         learnerClient.learn(seq, finalValue);
 
         return finalValue.getData();
     }
 
+    /**
+     * Proposes a value, skipping phase one of paxos, using the proposal id that a quorum of acceptors was asked to
+     * promise for this sequence number when they accepted the previous one. That quorum did not necessarily promise
+     * it: an acceptor that already has state for this sequence number acks the previous proposal without promising
+     * anything. This is still safe, as an acceptor accepts the proposal only if it promised exactly this id, so the
+     * proposal is accepted by a quorum only if a quorum did promise it; otherwise this returns null and the caller runs
+     * a full round. The id is used at most once, so that this proposer never proposes two different values with it.
+     *
+     * @param seq the number identifying this instance of paxos
+     * @param bytes the value to propose
+     * @return the value accepted by the quorum, or null if it is not known that a quorum has accepted a value
+     */
+    @Nullable
+    private PaxosValue proposeWithoutPhaseOne(long seq, byte[] bytes) {
+        PaxosProposalId proposalId = takePromisedProposalId(seq);
+        if (proposalId == null) {
+            return null;
+        }
+
+        PaxosValue toPropose = new PaxosValue(uuid, seq, bytes);
+        if (!acceptAndPromiseNext(seq, new PaxosProposal(proposalId, toPropose))) {
+            return null;
+        }
+
+        learnerClient.learn(seq, toPropose);
+        return toPropose;
+    }
+
+    @Nullable
+    private PaxosProposalId takePromisedProposalId(long seq) {
+        PromisedSequence promised = promisedSequence.getAndSet(null);
+        return promised != null && promised.seq() == seq ? promised.proposalId() : null;
+    }
+
+    private boolean acceptAndPromiseNext(long seq, PaxosProposal proposal) {
+        if (!acceptorClient.acceptAndPromiseNext(seq, proposal).hasQuorum()) {
+            return false;
+        }
+        promisedSequence.set(ImmutablePromisedSequence.of(seq + 1, proposal.id));
+        return true;
+    }
+
     /**
      * Executes phase one of paxos (see http://en.wikipedia.org/wiki/Paxos_(computer_science)#Basic_Paxos).
      *
@@ -110,11 +181,15 @@ public final class PaxosProposerImpl implements PaxosProposer {
      * @param seq the number identifying this instance of paxos
      * @param proposalId the id of the proposal currently being considered
      * @param proposalValue the value agree on in phase one of paxos
+     * @param promiseNext whether to ask acceptors to also promise this proposal id for the next sequence number
      * @throws PaxosRoundFailureException if quorum cannot be reached in this phase
      */
-    private void phaseTwo(final long seq, PaxosProposalId proposalId, PaxosValue proposalValue)
+    private void phaseTwo(final long seq, PaxosProposalId proposalId, PaxosValue proposalValue, boolean promiseNext)
             throws PaxosRoundFailureException {
         final PaxosProposal proposal = new PaxosProposal(proposalId, proposalValue);
+        if (promiseNext && acceptAndPromiseNext(seq, proposal)) {
+            return;
+        }
 
         PaxosResponses<BooleanPaxosResponse> responses = acceptorClient.accept(seq, proposal);
         if (!responses.hasQuorum()) {
@@ -126,4 +201,13 @@ public final class PaxosProposerImpl implements PaxosProposer {
     public String getUuid() {
         return uuid;
     }
+
+    @Value.Immutable
+    interface PromisedSequence {
+        @Value.Parameter
+        long seq();
+
+        @Value.Parameter
+        PaxosProposalId proposalId();
+    }
 }
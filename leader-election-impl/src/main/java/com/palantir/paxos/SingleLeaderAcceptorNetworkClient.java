@@ -79,6 +79,18 @@ public class SingleLeaderAcceptorNetworkClient implements PaxosAcceptorNetworkCl
                 .withoutRemotes();
     }
 
+    @Override
+    public PaxosResponses<BooleanPaxosResponse> acceptAndPromiseNext(long seq, PaxosProposal proposal) {
+        return PaxosQuorumChecker.collectQuorumResponses(
+                        acceptors,
+                        acceptor -> acceptor.acceptAndPromiseNext(seq, proposal),
+                        quorumSize,
+                        executors,
+                        PaxosQuorumChecker.DEFAULT_REMOTE_REQUESTS_TIMEOUT,
+                        cancelRemainingCalls)
+                .withoutRemotes();
+    }
+
     @Override
     public PaxosResponses<PaxosLong> getLatestSequencePreparedOrAccepted() {
         return PaxosQuorumChecker.<PaxosAcceptor, PaxosLong>collectQuorumResponses(
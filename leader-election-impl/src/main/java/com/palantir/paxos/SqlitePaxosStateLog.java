@@ -17,6 +17,7 @@
 package com.palantir.paxos;
 
 import com.palantir.common.persist.Persistable;
+import java.util.List;
 import java.util.Optional;
 import java.util.OptionalLong;
 import java.util.function.Function;
@@ -36,29 +37,43 @@ public class SqlitePaxosStateLog<V extends Persistable & Versionable> implements
     private final Client namespace;
     private final String useCase;
     private final Jdbi jdbi;
+    private final SqlitePaxosStateLogGroupCommitter groupCommitter;
 
-    private SqlitePaxosStateLog(NamespaceAndUseCase namespaceAndUseCase, Jdbi jdbi) {
+    private SqlitePaxosStateLog(
+            NamespaceAndUseCase namespaceAndUseCase, Jdbi jdbi, SqlitePaxosStateLogGroupCommitter groupCommitter) {
         this.namespace = namespaceAndUseCase.namespace();
         this.useCase = namespaceAndUseCase.useCase();
         this.jdbi = jdbi;
+        this.groupCommitter = groupCommitter;
     }
 
     public static <V extends Persistable & Versionable> PaxosStateLog<V> create(
             NamespaceAndUseCase namespaceAndUseCase, DataSource dataSource) {
-        Jdbi jdbi = Jdbi.create(dataSource).installPlugin(new SqlObjectPlugin());
-        jdbi.getConfig(JdbiImmutables.class).registerImmutable(Client.class, PaxosRound.class);
-        SqlitePaxosStateLog<V> log = new SqlitePaxosStateLog<>(namespaceAndUseCase, jdbi);
+        SqlitePaxosStateLog<V> log = new SqlitePaxosStateLog<>(
+                namespaceAndUseCase,
+                createJdbi(dataSource),
+                SqlitePaxosStateLogGroupCommitter.forDataSource(dataSource));
         log.initialize();
         return log;
     }
 
+    static Jdbi createJdbi(DataSource dataSource) {
+        Jdbi jdbi = Jdbi.create(dataSource).installPlugin(new SqlObjectPlugin());
+        jdbi.getConfig(JdbiImmutables.class).registerImmutable(Client.class, PaxosRound.class);
+        return jdbi;
+    }
+
     private void initialize() {
         execute(Queries::createTable);
     }
 
+    /**
+     * Writes are committed together with concurrent writes to other logs on the same data source; see
+     * {@link SqlitePaxosStateLogGroupCommitter}.
+     */
     @Override
     public void writeRound(long seq, V round) {
-        execute(dao -> dao.writeRound(namespace, useCase, seq, round.persistToBytes()));
+        groupCommitter.writeRound(namespace, useCase, seq, round.persistToBytes());
     }
 
     @Override
@@ -138,6 +153,14 @@ public class SqlitePaxosStateLog<V extends Persistable & Versionable> implements
                 @Bind("useCase") String useCase,
                 @BindPojo("round") Iterable<PaxosRound<V>> rounds);
 
+        @SqlBatch("INSERT OR REPLACE INTO paxosLog (namespace, useCase, seq, val) VALUES ("
+                + ":namespace, :useCase, :seq, :value)")
+        boolean[] writeRounds(
+                @Bind("namespace") List<String> namespaces,
+                @Bind("useCase") List<String> useCases,
+                @Bind("seq") List<Long> seqs,
+                @Bind("value") List<byte[]> values);
+
         // This is performant as long as the query plan is SEARCH.
         @SqlQuery("SELECT MIN(namespace) FROM paxosLog WHERE namespace > :maybeLastReadNamespace")
         Optional<String> getNextLexicographicallySmallestNamespace(
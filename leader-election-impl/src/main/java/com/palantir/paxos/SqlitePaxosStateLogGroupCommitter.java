@@ -0,0 +1,108 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.paxos;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.google.common.annotations.VisibleForTesting;
+import com.palantir.atlasdb.autobatch.Autobatchers;
+import com.palantir.atlasdb.autobatch.BatchElement;
+import com.palantir.atlasdb.autobatch.DisruptorAutobatcher;
+import com.palantir.atlasdb.futures.AtlasFutures;
+import com.palantir.common.concurrent.NamedThreadFactory;
+import java.lang.ref.Cleaner;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import org.immutables.value.Value;
+import org.jdbi.v3.core.Jdbi;
+
+/**
+ * Writes paxos rounds for any namespace and use case to a SQLite database, committing all the rounds that are waiting
+ * to be written when a batch starts in a single transaction. SQLite syncs its log to disk once per transaction, so
+ * under load this replaces a sync per round with a sync per batch. Each writer returns only once the transaction
+ * containing its round has committed.
+ * <p>
+ * There is one committer per data source, shared by every {@link SqlitePaxosStateLog} on that data source, and kept
+ * for as long as any of them is. Once none is, the committer's autobatcher is closed. The sizes of batches, and the
+ * time that writes spend waiting for and in a batch, are recorded by the autobatcher.
+ */
+final class SqlitePaxosStateLogGroupCommitter {
+    private static final Cleaner autobatcherCloser =
+            Cleaner.create(new NamedThreadFactory("sqlite-paxos-state-log-committer-cleaner", true));
+    private static final LoadingCache<DataSource, SqlitePaxosStateLogGroupCommitter> COMMITTERS = Caffeine.newBuilder()
+            .weakKeys()
+            .weakValues()
+            .build(dataSource -> create(SqlitePaxosStateLog.createJdbi(dataSource)));
+
+    private final DisruptorAutobatcher<PendingRound, Void> autobatcher;
+
+    private SqlitePaxosStateLogGroupCommitter(DisruptorAutobatcher<PendingRound, Void> autobatcher) {
+        this.autobatcher = autobatcher;
+    }
+
+    static SqlitePaxosStateLogGroupCommitter forDataSource(DataSource dataSource) {
+        return COMMITTERS.get(dataSource);
+    }
+
+    @VisibleForTesting
+    static SqlitePaxosStateLogGroupCommitter create(Jdbi jdbi) {
+        // neither the autobatcher nor its handler may refer to the committer, or it would never become unreachable
+        DisruptorAutobatcher<PendingRound, Void> autobatcher = Autobatchers.<PendingRound, Void>independent(
+                        batch -> commit(jdbi, batch))
+                .safeLoggablePurpose("sqlite-paxos-state-log-writes")
+                .sharedHandlerExecutor()
+                .build();
+        SqlitePaxosStateLogGroupCommitter committer = new SqlitePaxosStateLogGroupCommitter(autobatcher);
+        autobatcherCloser.register(committer, autobatcher::close);
+        return committer;
+    }
+
+    void writeRound(Client namespace, String useCase, long seq, byte[] value) {
+        AtlasFutures.getUnchecked(autobatcher.apply(ImmutablePendingRound.of(namespace.value(), useCase, seq, value)));
+    }
+
+    private static void commit(Jdbi jdbi, List<BatchElement<PendingRound, Void>> batch) {
+        List<PendingRound> rounds = batch.stream().map(BatchElement::argument).collect(Collectors.toList());
+        jdbi.useExtension(SqlitePaxosStateLog.Queries.class, dao -> dao.writeRounds(
+                project(rounds, PendingRound::namespace),
+                project(rounds, PendingRound::useCase),
+                project(rounds, PendingRound::seq),
+                project(rounds, PendingRound::value)));
+        batch.forEach(element -> element.result().set(null));
+    }
+
+    private static <T> List<T> project(List<PendingRound> rounds, Function<PendingRound, T> property) {
+        return rounds.stream().map(property).collect(Collectors.toList());
+    }
+
+    @Value.Immutable
+    interface PendingRound {
+        @Value.Parameter
+        String namespace();
+
+        @Value.Parameter
+        String useCase();
+
+        @Value.Parameter
+        long seq();
+
+        @Value.Parameter
+        byte[] value();
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.paxos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PaxosAcceptorImplTest {
+    private static final long SEQ = 5;
+    private static final PaxosProposalId PROPOSAL_ID = new PaxosProposalId(10, "leader");
+    private static final PaxosProposalId OTHER_PROPOSAL_ID = new PaxosProposalId(20, "other");
+    private static final PaxosValue VALUE = PaxosStateLogTestUtils.valueForRound(SEQ);
+    private static final PaxosValue NEXT_VALUE = PaxosStateLogTestUtils.valueForRound(SEQ + 1);
+
+    @TempDir
+    public File logDirectory;
+
+    private PaxosAcceptor acceptor;
+
+    @BeforeEach
+    public void setUp() {
+        acceptor = PaxosAcceptorImpl.newAcceptor(logDirectory.getPath());
+    }
+
+    @Test
+    public void acceptAndPromiseNextRejectsProposalIfNothingWasPromised() {
+        assertThat(acceptAndPromiseNext(acceptor, SEQ, PROPOSAL_ID, VALUE)).isFalse();
+    }
+
+    @Test
+    public void acceptAndPromiseNextRejectsProposalIfAnotherIdWasPromised() {
+        assertThat(acceptor.prepare(SEQ, OTHER_PROPOSAL_ID).isSuccessful()).isTrue();
+
+        assertThat(acceptAndPromiseNext(acceptor, SEQ, PROPOSAL_ID, VALUE)).isFalse();
+        assertThat(acceptor.prepare(SEQ, OTHER_PROPOSAL_ID).getLastAcceptedValue()).isNull();
+    }
+
+    @Test
+    public void acceptAndPromiseNextPromisesSameIdForNextSequence() {
+        assertThat(acceptor.prepare(SEQ, PROPOSAL_ID).isSuccessful()).isTrue();
+        assertThat(acceptAndPromiseNext(acceptor, SEQ, PROPOSAL_ID, VALUE)).isTrue();
+
+        assertThat(acceptAndPromiseNext(acceptor, SEQ + 1, PROPOSAL_ID, NEXT_VALUE)).isTrue();
+        assertThat(acceptor.getLatestSequencePreparedOrAccepted()).isEqualTo(SEQ + 2);
+    }
+
+    @Test
+    public void acceptAndPromiseNextDoesNotOverwriteStateOfNextSequence() {
+        assertThat(acceptor.prepare(SEQ + 1, OTHER_PROPOSAL_ID).isSuccessful()).isTrue();
+        assertThat(accept(acceptor, SEQ + 1, OTHER_PROPOSAL_ID, NEXT_VALUE)).isTrue();
+        assertThat(acceptor.prepare(SEQ, PROPOSAL_ID).isSuccessful()).isTrue();
+
+        assertThat(acceptAndPromiseNext(acceptor, SEQ, PROPOSAL_ID, VALUE)).isTrue();
+
+        PaxosPromise promise = acceptor.prepare(SEQ + 1, OTHER_PROPOSAL_ID);
+        assertThat(promise.getPromisedId()).isEqualTo(OTHER_PROPOSAL_ID);
+        assertThat(promise.getLastAcceptedId()).isEqualTo(OTHER_PROPOSAL_ID);
+        assertThat(promise.getLastAcceptedValue()).isEqualTo(NEXT_VALUE);
+        assertThat(acceptAndPromiseNext(acceptor, SEQ + 1, PROPOSAL_ID, VALUE)).isFalse();
+    }
+
+    @Test
+    public void promiseForNextSequenceSurvivesRestart() {
+        assertThat(acceptor.prepare(SEQ, PROPOSAL_ID).isSuccessful()).isTrue();
+        assertThat(acceptAndPromiseNext(acceptor, SEQ, PROPOSAL_ID, VALUE)).isTrue();
+
+        PaxosAcceptor restarted = PaxosAcceptorImpl.newAcceptor(logDirectory.getPath());
+
+        PaxosPromise rejection = restarted.prepare(SEQ + 1, new PaxosProposalId(5, "stale"));
+        assertThat(rejection.isSuccessful()).isFalse();
+        assertThat(rejection.getPromisedId()).isEqualTo(PROPOSAL_ID);
+        assertThat(acceptAndPromiseNext(restarted, SEQ + 1, PROPOSAL_ID, NEXT_VALUE)).isTrue();
+    }
+
+    @Test
+    public void higherPrepareForNextSequenceOverridesPromise() {
+        assertThat(acceptor.prepare(SEQ, PROPOSAL_ID).isSuccessful()).isTrue();
+        assertThat(acceptAndPromiseNext(acceptor, SEQ, PROPOSAL_ID, VALUE)).isTrue();
+
+        assertThat(acceptor.prepare(SEQ + 1, OTHER_PROPOSAL_ID).isSuccessful()).isTrue();
+
+        assertThat(acceptAndPromiseNext(acceptor, SEQ + 1, PROPOSAL_ID, NEXT_VALUE)).isFalse();
+        assertThat(accept(acceptor, SEQ + 1, PROPOSAL_ID, NEXT_VALUE)).isFalse();
+        assertThat(accept(acceptor, SEQ + 1, OTHER_PROPOSAL_ID, NEXT_VALUE)).isTrue();
+    }
+
+    private static boolean accept(PaxosAcceptor acceptor, long seq, PaxosProposalId id, PaxosValue value) {
+        return acceptor.accept(seq, new PaxosProposal(id, value)).isSuccessful();
+    }
+
+    private static boolean acceptAndPromiseNext(
+            PaxosAcceptor acceptor, long seq, PaxosProposalId id, PaxosValue value) {
+        return acceptor.acceptAndPromiseNext(seq, new PaxosProposal(id, value)).isSuccessful();
+    }
+}
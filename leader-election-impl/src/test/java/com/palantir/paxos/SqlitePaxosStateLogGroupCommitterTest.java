@@ -0,0 +1,117 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.paxos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.palantir.common.concurrent.PTExecutors;
+import java.io.File;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class SqlitePaxosStateLogGroupCommitterTest {
+    private static final Client CLIENT = Client.of("client");
+    private static final String USE_CASE = "useCase";
+    private static final int WRITERS_IN_FAILED_BATCH = 10;
+
+    @TempDir
+    public File tempFolder;
+
+    private final ExecutorService executor = PTExecutors.newCachedThreadPool();
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void writtenRoundsCanBeRead() throws Exception {
+        DataSource dataSource = SqliteConnections.getDefaultConfiguredPooledDataSource(tempFolder.toPath());
+        PaxosStateLog<PaxosValue> log =
+                SqlitePaxosStateLog.create(PaxosStateLogTestUtils.wrap(CLIENT, USE_CASE), dataSource);
+
+        SqlitePaxosStateLogGroupCommitter.forDataSource(dataSource)
+                .writeRound(CLIENT, USE_CASE, 3L, PaxosStateLogTestUtils.valueForRound(3L).persistToBytes());
+
+        assertThat(PaxosValue.BYTES_HYDRATOR.hydrateFromBytes(log.readRound(3L)))
+                .isEqualTo(PaxosStateLogTestUtils.valueForRound(3L));
+    }
+
+    @Test
+    public void everyWriterInFailedBatchGetsTheFailure() throws Exception {
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch firstBatchReleased = new CountDownLatch(1);
+        AtomicBoolean firstBatch = new AtomicBoolean(true);
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenAnswer(invocation -> {
+            if (firstBatch.getAndSet(false)) {
+                firstBatchStarted.countDown();
+                Uninterruptibles.awaitUninterruptibly(firstBatchReleased);
+            }
+            throw new SQLException("unavailable");
+        });
+        SqlitePaxosStateLogGroupCommitter committer =
+                SqlitePaxosStateLogGroupCommitter.create(SqlitePaxosStateLog.createJdbi(dataSource));
+
+        Future<?> firstWriter = executor.submit(() -> writeRound(committer, 0));
+        firstBatchStarted.await();
+
+        // queue the remaining writes behind the first batch, so that they are all committed in the next one
+        List<Thread> waitingWriters = new CopyOnWriteArrayList<>();
+        List<Future<?>> writers = IntStream.rangeClosed(1, WRITERS_IN_FAILED_BATCH)
+                .mapToObj(seq -> executor.submit(() -> {
+                    waitingWriters.add(Thread.currentThread());
+                    writeRound(committer, seq);
+                }))
+                .collect(Collectors.toList());
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> waitingWriters.size() == WRITERS_IN_FAILED_BATCH
+                        && waitingWriters.stream().allMatch(thread -> thread.getState() == Thread.State.WAITING));
+        firstBatchReleased.countDown();
+
+        assertThatThrownBy(firstWriter::get).hasRootCauseInstanceOf(SQLException.class);
+        for (Future<?> writer : writers) {
+            assertThatThrownBy(writer::get)
+                    .hasRootCauseInstanceOf(SQLException.class)
+                    .hasRootCauseMessage("unavailable");
+        }
+        verify(dataSource, times(2)).getConnection();
+    }
+
+    private static void writeRound(SqlitePaxosStateLogGroupCommitter committer, long seq) {
+        committer.writeRound(CLIENT, USE_CASE, seq, PaxosStateLogTestUtils.valueForRound(seq).persistToBytes());
+    }
+}
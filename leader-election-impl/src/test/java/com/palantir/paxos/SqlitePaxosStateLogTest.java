@@ -238,6 +238,29 @@ public class SqlitePaxosStateLogTest {
                 future -> assertThatCode(() -> Futures.getUnchecked(future)).doesNotThrowAnyException());
     }
 
+    @Test
+    public void concurrentWritesToDifferentNamespacesAreAllPersisted() {
+        int numNamespaces = 50;
+        ExecutorService executor = PTExecutors.newFixedThreadPool(numNamespaces);
+        List<PaxosStateLog<PaxosValue>> logs = IntStream.range(0, numNamespaces)
+                .mapToObj(index -> SqlitePaxosStateLog.<PaxosValue>create(
+                        wrap(Client.of("client" + index), USE_CASE_1), dataSource))
+                .collect(Collectors.toList());
+        List<Future<?>> futures = logs.stream()
+                .map(log -> executor.submit(() -> {
+                    for (int i = 0; i < 20; i++) {
+                        log.writeRound(i, valueForRound(i));
+                    }
+                }))
+                .collect(Collectors.toList());
+        futures.forEach(Futures::getUnchecked);
+
+        for (PaxosStateLog<PaxosValue> log : logs) {
+            assertThat(log.getLeastLogEntry()).isEqualTo(0L);
+            assertThat(log.getGreatestLogEntry()).isEqualTo(19L);
+        }
+    }
+
     private PaxosValue writeValueForRound(long round) {
         PaxosValue paxosValue = valueForRound(round);
         stateLog.writeRound(round, paxosValue);
@@ -17,6 +17,7 @@ package com.palantir.lock.client;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableSet;
+import com.palantir.atlasdb.autobatch.AdaptiveBatchingParameters;
 import com.palantir.common.base.Throwables;
 import com.palantir.common.concurrent.NamedThreadFactory;
 import com.palantir.common.concurrent.PTExecutors;
@@ -73,6 +74,20 @@ public class TimeLockClient implements AutoCloseable, TimelockService {
                 asyncUnlocker);
     }
 
+    /**
+     * As {@link #createDefault(TimelockService)}, but fresh timestamp requests are batched adaptively. This is off by
+     * default; it is intended for clients whose fresh timestamp load is bursty enough that holding back partial batches
+     * pays for the added linger.
+     */
+    public static TimeLockClient createWithAdaptiveTimestampBatching(
+            TimelockService timelockService, AdaptiveBatchingParameters parameters) {
+        AsyncTimeLockUnlocker asyncUnlocker = AsyncTimeLockUnlocker.create(timelockService);
+        RequestBatchingTimestampService timestampService = RequestBatchingTimestampService.createWithAdaptiveBatching(
+                new TimelockServiceErrorDecorator(timelockService), parameters);
+        return new TimeLockClient(
+                timelockService, timestampService, createLockRefresher(timelockService), asyncUnlocker);
+    }
+
     public static TimeLockClient withSynchronousUnlocker(TimelockService timelockService) {
         CloseableTimestampService timestampService = new TimelockServiceErrorDecorator(timelockService);
         return new TimeLockClient(
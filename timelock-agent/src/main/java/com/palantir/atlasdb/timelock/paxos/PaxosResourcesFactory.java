@@ -235,8 +235,11 @@ public final class PaxosResourcesFactory {
                 .addAllCloseables(singleLeaderClientFactories.closeables())
                 .build();
 
-        NetworkClientFactories.Factory<PaxosProposer> proposerFactory =
-                getPaxosProposerFactory(timelockMetrics, combinedNetworkClientFactories);
+        Supplier<Boolean> useMultiPaxosForTimestamps =
+                Suppliers.compose(runtime -> runtime.timestampPaxos().useMultiPaxos(), paxosRuntime::get);
+
+        NetworkClientFactories.Factory<PaxosProposer> proposerFactory = getPaxosProposerFactory(
+                timelockMetrics, combinedNetworkClientFactories, useMultiPaxosForTimestamps);
 
         NetworkClientFactories.Factory<ManagedTimestampService> timestampFactory = client -> {
             // TODO (jkong): live reload ping
@@ -265,15 +268,17 @@ public final class PaxosResourcesFactory {
 
     @VisibleForTesting
     static NetworkClientFactories.Factory<PaxosProposer> getPaxosProposerFactory(
-            TimelockPaxosMetrics timelockMetrics, NetworkClientFactories combinedNetworkClientFactories) {
+            TimelockPaxosMetrics timelockMetrics,
+            NetworkClientFactories combinedNetworkClientFactories,
+            Supplier<Boolean> useMultiPaxos) {
         return client -> {
             PaxosAcceptorNetworkClient acceptorNetworkClient =
                     combinedNetworkClientFactories.acceptor().create(client);
             PaxosLearnerNetworkClient learnerNetworkClient =
                     combinedNetworkClientFactories.learner().create(client);
 
-            PaxosProposer paxosProposer =
-                    PaxosProposerImpl.newProposer(acceptorNetworkClient, learnerNetworkClient, UUID.randomUUID());
+            PaxosProposer paxosProposer = PaxosProposerImpl.newProposer(
+                    acceptorNetworkClient, learnerNetworkClient, UUID.randomUUID(), useMultiPaxos);
 
             return timelockMetrics.instrument(PaxosProposer.class, paxosProposer, client);
         };
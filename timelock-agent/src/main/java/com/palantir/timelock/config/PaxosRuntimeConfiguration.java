@@ -108,6 +108,18 @@ public interface PaxosRuntimeConfiguration {
             return false;
         }
 
+        /**
+         * If true, a timestamp bound store that keeps proposing bounds skips the prepare phase of Paxos for each new
+         * bound after the first, reusing the proposal id that acceptors promised when accepting the previous bound.
+         * This halves the number of round trips needed to agree on each new bound. It has no effect when batch Paxos
+         * is used; nodes that do not support it reject such proposals, which are then retried with both phases.
+         */
+        @Value.Default
+        @JsonProperty("use-multi-paxos")
+        default boolean useMultiPaxos() {
+            return false;
+        }
+
         static TimestampPaxosConfig defaultConfig() {
             return ImmutableTimestampPaxosConfig.builder().build();
         }
@@ -45,6 +45,11 @@ public final class TimelockPaxosAcceptorAdapter implements PaxosAcceptor {
         return timelockPaxosAcceptorRpcClient.accept(paxosUseCase, client, seq, proposal);
     }
 
+    @Override
+    public BooleanPaxosResponse acceptAndPromiseNext(long seq, PaxosProposal proposal) {
+        return timelockPaxosAcceptorRpcClient.acceptAndPromiseNext(paxosUseCase, client, seq, proposal);
+    }
+
     @Override
     public long getLatestSequencePreparedOrAccepted() {
         return timelockPaxosAcceptorRpcClient.getLatestSequencePreparedOrAccepted(paxosUseCase, client);
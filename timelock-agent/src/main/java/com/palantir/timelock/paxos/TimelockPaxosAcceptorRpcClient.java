@@ -58,6 +58,16 @@ public interface TimelockPaxosAcceptorRpcClient {
             @PathParam("seq") long seq,
             PaxosProposal proposal);
 
+    @POST
+    @Path("accept-and-promise-next/{seq}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Consumes(MediaType.APPLICATION_JSON)
+    BooleanPaxosResponse acceptAndPromiseNext(
+            @PathParam("useCase") PaxosUseCase paxosUseCase,
+            @PathParam("client") String client,
+            @PathParam("seq") long seq,
+            PaxosProposal proposal);
+
     @POST
     @Path("latest-sequence-prepared-or-accepted")
     @Produces(MediaType.APPLICATION_JSON)
@@ -16,16 +16,23 @@
 package com.palantir.atlasdb.timelock.lock;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+import com.google.common.collect.RangeSet;
 import com.google.common.collect.Sets;
 import com.palantir.common.time.NanoTime;
 import com.palantir.leader.NotCurrentLeaderException;
+import com.palantir.lock.LockDescriptor;
 import com.palantir.lock.v2.LeaderTime;
 import com.palantir.lock.v2.Lease;
 import com.palantir.lock.v2.LockToken;
+import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -34,6 +41,14 @@ public class HeldLocksCollection {
     @VisibleForTesting
     final ConcurrentMap<UUID, AsyncResult<HeldLocks>> heldLocksById = new ConcurrentHashMap<>();
 
+    /**
+     * The number of successfully acquired requests in {@link #heldLocksById} holding each lock descriptor, sorted by
+     * descriptor so that the held locks in a range can be found without walking every request. A request is counted
+     * when it completes and uncounted when it is removed, which may happen in either order, so counts may briefly be
+     * negative; only descriptors with a positive count are held.
+     */
+    private final ConcurrentNavigableMap<LockDescriptor, Integer> heldDescriptorCounts = new ConcurrentSkipListMap<>();
+
     private final LeaderClock leaderClock;
 
     @VisibleForTesting
@@ -48,14 +63,21 @@ public class HeldLocksCollection {
     public AsyncResult<Leased<LockToken>> getExistingOrAcquire(
             UUID requestId, Supplier<AsyncResult<HeldLocks>> lockAcquirer) {
         return heldLocksById
-                .computeIfAbsent(requestId, ignored -> lockAcquirer.get())
+                .computeIfAbsent(requestId, ignored -> {
+                    AsyncResult<HeldLocks> result = lockAcquirer.get();
+                    result.onComplete(() -> updateDescriptorCounts(result, 1));
+                    return result;
+                })
                 .map(this::createLeasableLockToken);
     }
 
     public Set<LockToken> unlock(Set<LockToken> tokens) {
         Set<LockToken> unlocked = filter(tokens, HeldLocks::unlockExplicitly);
         for (LockToken token : unlocked) {
-            heldLocksById.remove(token.getRequestId());
+            AsyncResult<HeldLocks> removed = heldLocksById.remove(token.getRequestId());
+            if (removed != null) {
+                updateDescriptorCounts(removed, -1);
+            }
         }
         return unlocked;
     }
@@ -66,7 +88,11 @@ public class HeldLocksCollection {
     }
 
     public void removeExpired() {
-        heldLocksById.values().removeIf(this::shouldRemove);
+        heldLocksById.forEach((requestId, result) -> {
+            if (shouldRemove(result) && heldLocksById.remove(requestId, result)) {
+                updateDescriptorCounts(result, -1);
+            }
+        });
     }
 
     public void failAllOutstandingRequestsWithNotCurrentLeaderException() {
@@ -81,6 +107,49 @@ public class HeldLocksCollection {
                 .collect(Collectors.toSet());
     }
 
+    /**
+     * Returns the descriptors of currently held locks that are in any of the given ranges. This takes time
+     * proportional to the number of such locks, rather than to the number of locks held.
+     * <p>
+     * As with {@link #locksHeld()}, the set of held locks can be modified during the execution of this method, so it
+     * is NOT guaranteed to return a consistent snapshot of the world.
+     */
+    public Set<LockDescriptor> lockDescriptorsHeldIn(RangeSet<LockDescriptor> ranges) {
+        Set<LockDescriptor> held = new HashSet<>();
+        for (Range<LockDescriptor> range : ranges.asRanges()) {
+            subMap(range).forEach((descriptor, count) -> {
+                if (count > 0) {
+                    held.add(descriptor);
+                }
+            });
+        }
+        return held;
+    }
+
+    private ConcurrentNavigableMap<LockDescriptor, Integer> subMap(Range<LockDescriptor> range) {
+        ConcurrentNavigableMap<LockDescriptor, Integer> subMap = heldDescriptorCounts;
+        if (range.hasLowerBound()) {
+            subMap = subMap.tailMap(range.lowerEndpoint(), range.lowerBoundType() == BoundType.CLOSED);
+        }
+        if (range.hasUpperBound()) {
+            subMap = subMap.headMap(range.upperEndpoint(), range.upperBoundType() == BoundType.CLOSED);
+        }
+        return subMap;
+    }
+
+    private void updateDescriptorCounts(AsyncResult<HeldLocks> result, int delta) {
+        // Failed and timed out requests never held any locks, and are neither counted nor uncounted
+        if (!result.isCompletedSuccessfully()) {
+            return;
+        }
+        for (AsyncLock lock : result.get().getLocks()) {
+            heldDescriptorCounts.compute(lock.getDescriptor(), (descriptor, count) -> {
+                int updated = (count == null ? 0 : count) + delta;
+                return updated == 0 ? null : updated;
+            });
+        }
+    }
+
     private Leased<LockToken> createLeasableLockToken(HeldLocks heldLocks) {
         return Leased.of(heldLocks.getToken(), leaseWithStart(heldLocks.lastRefreshTime()));
     }
@@ -15,41 +15,84 @@
  */
 package com.palantir.atlasdb.timelock.lock;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
-import com.google.common.collect.Lists;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
 import com.palantir.lock.LockDescriptor;
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Set;
 
+/**
+ * Maps lock descriptors to their {@link AsyncLock}s.
+ *
+ * Locks are tracked in two tiers. The weak-valued tier is the source of truth: a lock that is held or has queued
+ * requests is strongly reachable from those requests, so it can never be dropped and recreated while in use. In
+ * front of it sits a bounded, strongly-held tier that keeps recently used locks alive, so that recurring descriptors
+ * do not have their locks repeatedly collected and rebuilt under steady load. Evicting from the strong tier (by size
+ * or idle time) only drops that strong reference; it never breaks mutual exclusion.
+ */
 public class LockCollection {
+    private static final long DEFAULT_MAXIMUM_RETAINED_LOCKS = 100_000;
+    private static final Duration DEFAULT_IDLE_RETENTION = Duration.ofMinutes(1);
 
     private final LoadingCache<LockDescriptor, AsyncLock> locksById;
+    private final Cache<LockDescriptor, AsyncLock> recentlyUsedLocks;
 
     public LockCollection() {
-        locksById = Caffeine.newBuilder().weakValues().build(ExclusiveLock::new);
+        this(DEFAULT_MAXIMUM_RETAINED_LOCKS, DEFAULT_IDLE_RETENTION, Ticker.systemTicker());
+    }
+
+    @VisibleForTesting
+    LockCollection(long maximumRetainedLocks, Duration idleRetention, Ticker ticker) {
+        locksById = Caffeine.newBuilder().weakValues().build(LockFreeExclusiveLock::new);
+        recentlyUsedLocks = Caffeine.newBuilder()
+                .maximumSize(maximumRetainedLocks)
+                .expireAfterAccess(idleRetention)
+                .ticker(ticker)
+                .build();
     }
 
     public OrderedLocks getAll(Set<LockDescriptor> descriptors) {
-        List<LockDescriptor> orderedDescriptors = sort(descriptors);
+        if (descriptors.size() == 1) {
+            return OrderedLocks.fromSingleLock(getLock(descriptors.iterator().next()));
+        }
 
-        List<AsyncLock> locks = Lists.newArrayListWithExpectedSize(descriptors.size());
+        LockDescriptor[] orderedDescriptors = sort(descriptors);
+
+        ImmutableList.Builder<AsyncLock> locks = ImmutableList.builderWithExpectedSize(orderedDescriptors.length);
         for (LockDescriptor descriptor : orderedDescriptors) {
             locks.add(getLock(descriptor));
         }
 
-        return OrderedLocks.fromOrderedList(locks);
+        return OrderedLocks.fromOrderedList(locks.build());
+    }
+
+    @VisibleForTesting
+    void cleanUp() {
+        recentlyUsedLocks.cleanUp();
+        locksById.cleanUp();
+    }
+
+    @VisibleForTesting
+    long retainedLockCount() {
+        return recentlyUsedLocks.estimatedSize();
     }
 
-    private static List<LockDescriptor> sort(Set<LockDescriptor> descriptors) {
-        List<LockDescriptor> orderedDescriptors = new ArrayList<>(descriptors);
-        orderedDescriptors.sort(Comparator.naturalOrder());
+    /**
+     * {@link LockDescriptor#compareTo} is an unsigned lexicographic comparison over the descriptors' backing arrays,
+     * which is the primitive byte order we want; sorting a presized array avoids the intermediate list copy.
+     */
+    private static LockDescriptor[] sort(Set<LockDescriptor> descriptors) {
+        LockDescriptor[] orderedDescriptors = descriptors.toArray(new LockDescriptor[0]);
+        Arrays.sort(orderedDescriptors);
         return orderedDescriptors;
     }
 
     private AsyncLock getLock(LockDescriptor descriptor) {
-        return locksById.get(descriptor);
+        return recentlyUsedLocks.get(descriptor, locksById::get);
     }
 }
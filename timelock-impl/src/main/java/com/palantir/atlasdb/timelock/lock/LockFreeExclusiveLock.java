@@ -0,0 +1,154 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.atlasdb.timelock.lock;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.palantir.atlasdb.timelock.util.LoggableIllegalStateException;
+import com.palantir.lock.LockDescriptor;
+import com.palantir.logsafe.SafeArg;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * An {@link AsyncLock} with the same semantics as {@link ExclusiveLock}, but which never takes a monitor.
+ *
+ * Waiters are appended to a lock-free FIFO queue, and the lock is handed out by a drain loop that at most one thread
+ * runs at a time (whoever moves {@code drainsRequested} away from zero). Every thread that enqueues a request or
+ * releases the lock requests a drain; if a drain is already in progress, the running drainer is guaranteed to pick up
+ * the new work before it exits, so no request is ever stranded in the queue while the lock is free.
+ *
+ * Timeouts and duplicate detection go through {@code queuedRequestsById}. A queued request is completed exactly once:
+ * either by the drainer granting it, or by {@link #timeout(UUID)}, whichever first claims it.
+ */
+@ThreadSafe
+public class LockFreeExclusiveLock implements AsyncLock {
+
+    private final LockDescriptor descriptor;
+
+    private final Queue<LockRequest> waiters = new ConcurrentLinkedQueue<>();
+    private final ConcurrentMap<UUID, LockRequest> queuedRequestsById = new ConcurrentHashMap<>();
+    private final AtomicReference<UUID> currentHolder = new AtomicReference<>();
+    private final AtomicInteger drainsRequested = new AtomicInteger();
+
+    public LockFreeExclusiveLock(LockDescriptor descriptor) {
+        this.descriptor = descriptor;
+    }
+
+    @Override
+    public AsyncResult<Void> lock(UUID requestId) {
+        return submit(new LockRequest(requestId, false));
+    }
+
+    @Override
+    public AsyncResult<Void> waitUntilAvailable(UUID requestId) {
+        return submit(new LockRequest(requestId, true));
+    }
+
+    @Override
+    public void unlock(UUID requestId) {
+        // Request ids arrive deserialized, so compare by value before CASing on the instance we actually stored.
+        UUID holder = currentHolder.get();
+        if (holder != null && holder.equals(requestId) && currentHolder.compareAndSet(holder, null)) {
+            drain();
+        }
+    }
+
+    @Override
+    public void timeout(UUID requestId) {
+        LockRequest request = queuedRequestsById.remove(requestId);
+        if (request != null && request.tryClaim()) {
+            request.result.timeout();
+        }
+    }
+
+    @Override
+    public LockDescriptor getDescriptor() {
+        return descriptor;
+    }
+
+    @VisibleForTesting
+    UUID getCurrentHolder() {
+        return currentHolder.get();
+    }
+
+    private AsyncResult<Void> submit(LockRequest request) {
+        LockRequest existingRequest = queuedRequestsById.putIfAbsent(request.requestId, request);
+        if (existingRequest != null) {
+            throw new LoggableIllegalStateException(
+                    "Cannot enqueue the same request id twice.", SafeArg.of("requestId", request.requestId));
+        }
+        waiters.add(request);
+        drain();
+
+        return request.result;
+    }
+
+    private void drain() {
+        if (drainsRequested.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missedDrains = 1;
+        do {
+            grantWhileAvailable();
+            missedDrains = drainsRequested.addAndGet(-missedDrains);
+        } while (missedDrains != 0);
+    }
+
+    private void grantWhileAvailable() {
+        while (currentHolder.get() == null) {
+            LockRequest head = waiters.poll();
+            if (head == null) {
+                return;
+            }
+
+            queuedRequestsById.remove(head.requestId, head);
+            if (!head.tryClaim()) {
+                // timed out while queued
+                continue;
+            }
+
+            if (!head.releaseImmediately) {
+                currentHolder.set(head.requestId);
+            }
+
+            head.result.complete(null);
+        }
+    }
+
+    private static final class LockRequest {
+        private final AsyncResult<Void> result = new AsyncResult<>();
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private final UUID requestId;
+        private final boolean releaseImmediately;
+
+        LockRequest(UUID requestId, boolean releaseImmediately) {
+            this.requestId = requestId;
+            this.releaseImmediately = releaseImmediately;
+        }
+
+        boolean tryClaim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+}
@@ -29,13 +29,17 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
-import javax.annotation.concurrent.NotThreadSafe;
 
-@NotThreadSafe
+/**
+ * Events must be added by one thread at a time, but may be read concurrently with each other and with events being
+ * added. An event is only visible to readers once {@link #lastVersion()} has been advanced past it, and readers check
+ * the sequence of each event they read, so that they notice if it has been overwritten while they were reading.
+ */
 public class ArrayLockEventSlidingWindow {
     private final LockWatchEvent[] buffer;
     private final int maxSize;
     private long nextSequence = 0;
+    private volatile long lastVersion = -1;
     private final Counter changeMetadataCounter;
     private final Counter eventsWithMetadataCounter;
 
@@ -47,7 +51,7 @@ public class ArrayLockEventSlidingWindow {
     }
 
     long lastVersion() {
-        return nextSequence - 1;
+        return lastVersion;
     }
 
     // This method is only for one-off diagnostics purposes.
@@ -66,7 +70,7 @@ public class ArrayLockEventSlidingWindow {
         event.accept(LockWatchEventMetadataVisitor.INSTANCE).ifPresent(this::incrementMetadataCounters);
 
         buffer[index] = event;
-        nextSequence++;
+        lastVersion = nextSequence++;
     }
 
     private void incrementMetadataCounters(LockRequestMetadata metadata) {
@@ -80,15 +84,29 @@ public class ArrayLockEventSlidingWindow {
     }
 
     public Optional<List<LockWatchEvent>> getNextEvents(long version) {
-        if (versionInTheFuture(version) || versionTooOld(version)) {
+        return getNextEvents(version, lastVersion());
+    }
+
+    /**
+     * Returns the events after {@code version} up to and including {@code lastVersion}, which must not be later than
+     * {@link #lastVersion()}. Returns empty if any of those events are no longer in the window, including if they are
+     * overwritten while being read.
+     */
+    public Optional<List<LockWatchEvent>> getNextEvents(long version, long lastVersion) {
+        if (version > lastVersion || lastVersion - version > maxSize) {
             return Optional.empty();
         }
         int startIndex = LongMath.mod(version + 1, maxSize);
-        int windowSize = Ints.saturatedCast(lastVersion() - version);
+        int windowSize = Ints.saturatedCast(lastVersion - version);
         List<LockWatchEvent> events = new ArrayList<>(windowSize);
 
+        long expectedSequence = version + 1;
         for (int i = startIndex; events.size() < windowSize; i = incrementAndMod(i)) {
-            events.add(buffer[i]);
+            LockWatchEvent event = buffer[i];
+            if (event.sequence() != expectedSequence++) {
+                return Optional.empty();
+            }
+            events.add(event);
         }
 
         return Optional.of(events);
@@ -99,14 +117,6 @@ public class ArrayLockEventSlidingWindow {
         return num >= maxSize ? num % maxSize : num;
     }
 
-    private boolean versionInTheFuture(long version) {
-        return version > lastVersion();
-    }
-
-    private boolean versionTooOld(long version) {
-        return lastVersion() - version > maxSize;
-    }
-
     private enum LockWatchEventMetadataVisitor implements LockWatchEvent.Visitor<Optional<LockRequestMetadata>> {
         INSTANCE;
 
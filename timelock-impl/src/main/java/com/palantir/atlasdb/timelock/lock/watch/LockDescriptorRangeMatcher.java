@@ -0,0 +1,106 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.timelock.lock.watch;
+
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+import com.google.common.collect.RangeSet;
+import com.palantir.lock.LockDescriptor;
+import java.util.Set;
+
+/**
+ * An immutable copy of a set of watched ranges, laid out in flat arrays so that checking whether a lock descriptor
+ * is watched is a binary search that allocates nothing. {@link RangeSet#contains} on a
+ * {@link com.google.common.collect.TreeRangeSet} allocates a cut and walks a tree map on every call, and locks and
+ * unlocks are checked against the watched ranges far more often than the watches change.
+ */
+@SuppressWarnings("UnstableApiUsage")
+final class LockDescriptorRangeMatcher {
+    // Ranges in a range set are disjoint and not connected, so their lower bounds are strictly increasing.
+    // A null bound is unbounded.
+    private final LockDescriptor[] lowerBounds;
+    private final boolean[] lowerBoundsClosed;
+    private final LockDescriptor[] upperBounds;
+    private final boolean[] upperBoundsClosed;
+
+    private LockDescriptorRangeMatcher(Set<Range<LockDescriptor>> ranges) {
+        int size = ranges.size();
+        this.lowerBounds = new LockDescriptor[size];
+        this.lowerBoundsClosed = new boolean[size];
+        this.upperBounds = new LockDescriptor[size];
+        this.upperBoundsClosed = new boolean[size];
+
+        int index = 0;
+        for (Range<LockDescriptor> range : ranges) {
+            if (range.hasLowerBound()) {
+                lowerBounds[index] = range.lowerEndpoint();
+                lowerBoundsClosed[index] = range.lowerBoundType() == BoundType.CLOSED;
+            }
+            if (range.hasUpperBound()) {
+                upperBounds[index] = range.upperEndpoint();
+                upperBoundsClosed[index] = range.upperBoundType() == BoundType.CLOSED;
+            }
+            index++;
+        }
+    }
+
+    static LockDescriptorRangeMatcher compile(RangeSet<LockDescriptor> ranges) {
+        return new LockDescriptorRangeMatcher(ranges.asRanges());
+    }
+
+    boolean isEmpty() {
+        return lowerBounds.length == 0;
+    }
+
+    /**
+     * Equivalent to {@link RangeSet#contains} on the range set this was compiled from.
+     */
+    boolean contains(LockDescriptor descriptor) {
+        // find the last range whose lower bound is below the descriptor
+        int candidate = -1;
+        int low = 0;
+        int high = lowerBounds.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (isAboveLowerBound(mid, descriptor)) {
+                candidate = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return candidate >= 0 && isBelowUpperBound(candidate, descriptor);
+    }
+
+    private boolean isAboveLowerBound(int index, LockDescriptor descriptor) {
+        LockDescriptor bound = lowerBounds[index];
+        if (bound == null) {
+            return true;
+        }
+        int comparison = descriptor.compareTo(bound);
+        return comparison > 0 || (comparison == 0 && lowerBoundsClosed[index]);
+    }
+
+    private boolean isBelowUpperBound(int index, LockDescriptor descriptor) {
+        LockDescriptor bound = upperBounds[index];
+        if (bound == null) {
+            return true;
+        }
+        int comparison = descriptor.compareTo(bound);
+        return comparison < 0 || (comparison == 0 && upperBoundsClosed[index]);
+    }
+}
@@ -25,6 +25,7 @@ import com.palantir.lock.v2.LockToken;
 import com.palantir.lock.watch.LockEvent;
 import com.palantir.lock.watch.LockRequestMetadata;
 import com.palantir.lock.watch.LockWatchCreatedEvent;
+import com.palantir.lock.watch.LockWatchEvent;
 import com.palantir.lock.watch.LockWatchReferences.LockWatchReference;
 import com.palantir.lock.watch.LockWatchStateUpdate;
 import com.palantir.lock.watch.LockWatchVersion;
@@ -39,9 +40,22 @@ import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+/**
+ * Note on concurrency: events are added to the sliding window under a write lock, so there is only ever one writer.
+ * Diffs are read from the sliding window without any lock, up to the version that was last published when the read
+ * started; if the events needed are overwritten while they are being read, the diff is no longer available and a
+ * snapshot is returned instead, as if the version requested had been too old to begin with.
+ *
+ * Snapshots and {@link #runTask} take the read lock. Snapshots need the log not to advance while the currently open
+ * locks are calculated. Tasks need the version of the update returned to be the version as of when the task
+ * finished: an event logged after the task must not be included, because the caller may then assume that it
+ * happened before the task.
+ */
 public class LockEventLogImpl implements LockEventLog {
     private static final SafeLogger log = SafeLoggerFactory.get(LockEventLogImpl.class);
 
@@ -54,6 +68,7 @@ public class LockEventLogImpl implements LockEventLog {
     private final ArrayLockEventSlidingWindow slidingWindow;
     private final Supplier<LockWatches> watchesSupplier;
     private final HeldLocksCollection heldLocksCollection;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock(true);
 
     LockEventLogImpl(
             UUID logId,
@@ -67,34 +82,50 @@ public class LockEventLogImpl implements LockEventLog {
     }
 
     @Override
-    public synchronized LockWatchStateUpdate getLogDiff(Optional<LockWatchVersion> fromVersion) {
-        return tryGetNextEvents(fromVersion).orElseGet(this::calculateSnapshot);
+    public LockWatchStateUpdate getLogDiff(Optional<LockWatchVersion> fromVersion) {
+        return tryGetNextEvents(fromVersion, slidingWindow.lastVersion()).orElseGet(() -> {
+            lock.readLock().lock();
+            try {
+                return calculateSnapshot();
+            } finally {
+                lock.readLock().unlock();
+            }
+        });
     }
 
     @Override
-    public synchronized <T> ValueAndLockWatchStateUpdate<T> runTask(
-            Optional<LockWatchVersion> lastKnownVersion, Supplier<T> task) {
-        T t = task.get();
-        LockWatchStateUpdate logDiff = getLogDiff(lastKnownVersion);
-        return ValueAndLockWatchStateUpdate.of(logDiff, t);
+    public <T> ValueAndLockWatchStateUpdate<T> runTask(Optional<LockWatchVersion> lastKnownVersion, Supplier<T> task) {
+        lock.readLock().lock();
+        try {
+            T t = task.get();
+            LockWatchStateUpdate logDiff = tryGetNextEvents(lastKnownVersion, slidingWindow.lastVersion())
+                    .orElseGet(this::calculateSnapshot);
+            return ValueAndLockWatchStateUpdate.of(logDiff, t);
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
-    public synchronized void logLock(
+    public void logLock(
             Set<LockDescriptor> locksTakenOut, LockToken lockToken, Optional<LockRequestMetadata> metadata) {
-
-        slidingWindow.add(LockEvent.builder(locksTakenOut, lockToken, metadata));
+        addEvent(LockEvent.builder(locksTakenOut, lockToken, metadata));
     }
 
     @Override
-    public synchronized void logUnlock(Set<LockDescriptor> locksUnlocked) {
-        slidingWindow.add(UnlockEvent.builder(locksUnlocked));
+    public void logUnlock(Set<LockDescriptor> locksUnlocked) {
+        addEvent(UnlockEvent.builder(locksUnlocked));
     }
 
     @Override
-    public synchronized void logLockWatchCreated(LockWatches newWatches) {
-        Set<LockDescriptor> openLocks = calculateOpenLocks(newWatches.ranges());
-        slidingWindow.add(LockWatchCreatedEvent.builder(newWatches.references(), openLocks));
+    public void logLockWatchCreated(LockWatches newWatches) {
+        lock.writeLock().lock();
+        try {
+            Set<LockDescriptor> openLocks = calculateOpenLocks(newWatches.ranges());
+            slidingWindow.add(LockWatchCreatedEvent.builder(newWatches.references(), openLocks));
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     @Override
@@ -110,14 +141,23 @@ public class LockEventLogImpl implements LockEventLog {
         });
     }
 
-    private Optional<LockWatchStateUpdate> tryGetNextEvents(Optional<LockWatchVersion> fromVersion) {
+    private void addEvent(LockWatchEvent.Builder eventBuilder) {
+        lock.writeLock().lock();
+        try {
+            slidingWindow.add(eventBuilder);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Optional<LockWatchStateUpdate> tryGetNextEvents(Optional<LockWatchVersion> fromVersion, long lastVersion) {
         if (!fromVersion.isPresent() || !fromVersion.get().id().equals(logId)) {
             return Optional.empty();
         }
 
         return slidingWindow
-                .getNextEvents(fromVersion.get().version())
-                .map(events -> LockWatchStateUpdate.success(logId, slidingWindow.lastVersion(), events));
+                .getNextEvents(fromVersion.get().version(), lastVersion)
+                .map(events -> LockWatchStateUpdate.success(logId, lastVersion, events));
     }
 
     @Unsafe
@@ -130,16 +170,14 @@ public class LockEventLogImpl implements LockEventLog {
     }
 
     /**
-     * Iterates through all currently held locks and returns the set of all locks matching the watched ranges.
+     * Returns the set of all currently held locks matching the watched ranges, looking up each range in the held locks
+     * collection's index of held lock descriptors.
      * <p>
      * Note that the set of held locks can be modified during the execution of this method. Therefore, this method is
      * NOT guaranteed to return a consistent snapshot of the world.
      */
     private Set<LockDescriptor> calculateOpenLocks(RangeSet<LockDescriptor> watchedRanges) {
-        return heldLocksCollection.locksHeld().stream()
-                .flatMap(locksHeld -> locksHeld.getLocks().stream().map(AsyncLock::getDescriptor))
-                .filter(watchedRanges::contains)
-                .collect(Collectors.toSet());
+        return heldLocksCollection.lockDescriptorsHeldIn(watchedRanges);
     }
 
     /**
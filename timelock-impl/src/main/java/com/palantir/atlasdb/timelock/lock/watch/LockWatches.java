@@ -33,6 +33,14 @@ interface LockWatches {
     @Value.Parameter
     RangeSet<LockDescriptor> ranges();
 
+    /**
+     * The watched ranges, compiled once for the many checks of locks and unlocks against them.
+     */
+    @Value.Lazy
+    default LockDescriptorRangeMatcher matcher() {
+        return LockDescriptorRangeMatcher.compile(ranges());
+    }
+
     static LockWatches create() {
         return ImmutableLockWatches.of(new HashSet<>(), TreeRangeSet.create());
     }
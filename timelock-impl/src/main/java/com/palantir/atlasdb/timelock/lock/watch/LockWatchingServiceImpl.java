@@ -48,7 +48,6 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 /**
  * Note on concurrency: We use a fair read write lock mechanism and synchronisation as follows:
@@ -173,12 +172,32 @@ public class LockWatchingServiceImpl implements LockWatchingService {
             BiConsumer<Set<LockDescriptor>, Optional<LockRequestMetadata>> biConsumer) {
         watchesLock.readLock().lock();
         try {
-            RangeSet<LockDescriptor> ranges = watches.get().ranges();
-            Set<LockDescriptor> filteredLocks =
-                    unfilteredLocks.stream().filter(ranges::contains).collect(Collectors.toSet());
-            if (filteredLocks.isEmpty()) {
+            LockDescriptorRangeMatcher matcher = watches.get().matcher();
+            if (matcher.isEmpty()) {
                 return;
             }
+            int matchingLocks = 0;
+            for (LockDescriptor lock : unfilteredLocks) {
+                if (matcher.contains(lock)) {
+                    matchingLocks++;
+                }
+            }
+            if (matchingLocks == 0) {
+                return;
+            }
+            if (matchingLocks == unfilteredLocks.size()) {
+                // Nothing to filter out, from either the locks or their metadata
+                biConsumer.accept(
+                        unfilteredLocks,
+                        unfilteredMetadata.filter(metadata -> !metadata.lockDescriptorToChangeMetadata().isEmpty()));
+                return;
+            }
+            Set<LockDescriptor> filteredLocks = new HashSet<>(matchingLocks);
+            for (LockDescriptor lock : unfilteredLocks) {
+                if (matcher.contains(lock)) {
+                    filteredLocks.add(lock);
+                }
+            }
             // Filtering metadata after deciding if we should even proceed might save us some computation
             biConsumer.accept(
                     filteredLocks,
@@ -80,6 +80,23 @@ public final class TimestampPaxosAcceptorResource {
         return getAcceptor(client).accept(seq, proposal);
     }
 
+    @POST
+    @Path("accept-and-promise-next/{seq}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Timed
+    @Handle(
+            method = HttpMethod.POST,
+            path = "/" + PaxosTimeLockConstants.INTERNAL_NAMESPACE
+                    + "/" + PaxosTimeLockConstants.CLIENT_PAXOS_NAMESPACE
+                    + "/{client}/acceptor/accept-and-promise-next/{seq}")
+    public BooleanPaxosResponse acceptAndPromiseNext(
+            @PathParam("client") @Handle.PathParam String client,
+            @PathParam("seq") @Handle.PathParam long seq,
+            @Handle.Body PaxosProposal proposal) {
+        return getAcceptor(client).acceptAndPromiseNext(seq, proposal);
+    }
+
     @POST // This is marked as a POST because we cannot accept stale or cached results for this method.
     @Path("latest-sequence-prepared-or-accepted")
     @Produces(MediaType.APPLICATION_JSON)
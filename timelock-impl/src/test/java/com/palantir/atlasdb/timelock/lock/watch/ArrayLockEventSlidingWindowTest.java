@@ -94,6 +94,21 @@ public class ArrayLockEventSlidingWindowTest {
         assertContainsNextEventsInOrder(10, 11, 14);
     }
 
+    @Test
+    public void returnEventsUpToGivenLastVersion() {
+        whenLogContainsEvents5to14();
+        assertThat(slidingWindow.getNextEvents(8, 11).get())
+                .extracting(LockWatchEvent::sequence)
+                .containsExactly(9L, 10L, 11L);
+    }
+
+    @Test
+    public void whenEventsUpToGivenLastVersionHaveBeenOverwrittenReturnEmpty() {
+        // a reader that saw version 12 may read slots that have since been overwritten by events 13 and 14
+        whenLogContainsEvents5to14();
+        assertThat(slidingWindow.getNextEvents(3, 12)).isEmpty();
+    }
+
     @Test
     public void countsMetadataCorrectlyStartingFromEmptyBuffer() {
         LockRequestMetadata metadata = LockRequestMetadata.of(ImmutableMap.of(
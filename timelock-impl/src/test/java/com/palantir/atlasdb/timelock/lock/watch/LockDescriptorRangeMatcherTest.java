@@ -0,0 +1,108 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.timelock.lock.watch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.Range;
+import com.google.common.collect.RangeSet;
+import com.google.common.collect.TreeRangeSet;
+import com.palantir.atlasdb.encoding.PtBytes;
+import com.palantir.lock.AtlasCellLockDescriptor;
+import com.palantir.lock.AtlasLockDescriptorRanges;
+import com.palantir.lock.AtlasRowLockDescriptor;
+import com.palantir.lock.LockDescriptor;
+import com.palantir.lock.StringLockDescriptor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("UnstableApiUsage")
+public class LockDescriptorRangeMatcherTest {
+    private static final String TABLE = "test.table";
+    private static final String OTHER_TABLE = "test.other";
+
+    @Test
+    public void emptyRangeSetMatchesNothing() {
+        LockDescriptorRangeMatcher matcher = LockDescriptorRangeMatcher.compile(TreeRangeSet.create());
+
+        assertThat(matcher.isEmpty()).isTrue();
+        assertThat(matcher.contains(row(TABLE, "a"))).isFalse();
+    }
+
+    @Test
+    public void matchesWatchedTablesAndRows() {
+        RangeSet<LockDescriptor> ranges = TreeRangeSet.create();
+        ranges.add(AtlasLockDescriptorRanges.fullTable(TABLE));
+        ranges.add(AtlasLockDescriptorRanges.exactRow(OTHER_TABLE, PtBytes.toBytes("watched")));
+        LockDescriptorRangeMatcher matcher = LockDescriptorRangeMatcher.compile(ranges);
+
+        assertThat(matcher.contains(row(TABLE, "a"))).isTrue();
+        assertThat(matcher.contains(AtlasCellLockDescriptor.of(TABLE, PtBytes.toBytes("a"), PtBytes.toBytes("b"))))
+                .isTrue();
+        assertThat(matcher.contains(row(OTHER_TABLE, "watched"))).isTrue();
+        assertThat(matcher.contains(row(OTHER_TABLE, "watched2"))).isFalse();
+        assertThat(matcher.contains(row(OTHER_TABLE, "a"))).isFalse();
+        assertThat(matcher.contains(StringLockDescriptor.of("test"))).isFalse();
+    }
+
+    @Test
+    public void agreesWithRangeSetOnEveryBoundType() {
+        Random random = new Random(0);
+        for (int iteration = 0; iteration < 100; iteration++) {
+            RangeSet<LockDescriptor> ranges = TreeRangeSet.create();
+            for (int i = 0; i < 10; i++) {
+                ranges.add(randomRange(random));
+            }
+            LockDescriptorRangeMatcher matcher = LockDescriptorRangeMatcher.compile(ranges);
+
+            for (int i = 0; i < 256; i++) {
+                LockDescriptor descriptor = descriptor(i);
+                assertThat(matcher.contains(descriptor))
+                        .as("%s in %s", descriptor, ranges)
+                        .isEqualTo(ranges.contains(descriptor));
+            }
+        }
+    }
+
+    private static Range<LockDescriptor> randomRange(Random random) {
+        int first = random.nextInt(256);
+        int second = random.nextInt(256);
+        LockDescriptor lower = descriptor(Math.min(first, second));
+        LockDescriptor upper = descriptor(Math.max(first, second));
+        List<Range<LockDescriptor>> candidates = new ArrayList<>();
+        candidates.add(Range.closed(lower, upper));
+        candidates.add(Range.closedOpen(lower, upper));
+        candidates.add(Range.atLeast(lower));
+        candidates.add(Range.lessThan(upper));
+        candidates.add(Range.singleton(lower));
+        if (first != second) {
+            candidates.add(Range.open(lower, upper));
+            candidates.add(Range.openClosed(lower, upper));
+        }
+        return candidates.get(random.nextInt(candidates.size()));
+    }
+
+    private static LockDescriptor descriptor(int value) {
+        return row(TABLE, String.format("%03d", value));
+    }
+
+    private static LockDescriptor row(String table, String row) {
+        return AtlasRowLockDescriptor.of(table, PtBytes.toBytes(row));
+    }
+}
@@ -17,6 +17,7 @@
 package com.palantir.atlasdb.timelock.lock.watch;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -80,6 +81,13 @@ public class LockEventLogImplTest {
         when(heldLocks.getLocks()).thenReturn(ImmutableSet.of(LOCK_2, LOCK_3));
         when(heldLocks.getToken()).thenReturn(TOKEN);
         when(heldLocksCollection.locksHeld()).thenReturn(ImmutableSet.of(heldLocks));
+        when(heldLocksCollection.lockDescriptorsHeldIn(any())).thenAnswer(invocation -> {
+            RangeSet<LockDescriptor> ranges = invocation.getArgument(0);
+            return heldLocks.getLocks().stream()
+                    .map(AsyncLock::getDescriptor)
+                    .filter(ranges::contains)
+                    .collect(Collectors.toSet());
+        });
     }
 
     @Test
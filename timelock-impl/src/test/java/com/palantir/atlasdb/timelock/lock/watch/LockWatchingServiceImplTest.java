@@ -18,11 +18,13 @@ package com.palantir.atlasdb.timelock.lock.watch;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.RangeSet;
 import com.google.common.util.concurrent.Uninterruptibles;
 import com.palantir.atlasdb.encoding.PtBytes;
 import com.palantir.atlasdb.keyvalue.api.Cell;
@@ -58,6 +60,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -89,6 +92,13 @@ public class LockWatchingServiceImplTest {
         when(heldLocks.getLocks()).thenReturn(ImmutableList.of(LOCK, LOCK_2));
         when(heldLocks.getToken()).thenReturn(TOKEN);
         when(locks.locksHeld()).thenReturn(ImmutableSet.of(heldLocks));
+        when(locks.lockDescriptorsHeldIn(any())).thenAnswer(invocation -> {
+            RangeSet<LockDescriptor> ranges = invocation.getArgument(0);
+            return heldLocks.getLocks().stream()
+                    .map(AsyncLock::getDescriptor)
+                    .filter(ranges::contains)
+                    .collect(Collectors.toSet());
+        });
     }
 
     @Test
@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -58,6 +59,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import javax.annotation.Nullable;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -326,6 +328,46 @@ public class PaxosTimestampBoundStoreTest {
         verify(wrapper, times(2)).propose(anyLong(), any(byte[].class));
     }
 
+    @ParameterizedTest
+    @MethodSource("useBatches")
+    public void multiPaxosProposerCanStoreConsecutiveUpperLimits(boolean useBatch) {
+        setup(useBatch);
+        store = createPaxosTimestampBoundStore(0, createMultiPaxosProposer(0));
+        store.storeUpperLimit(TIMESTAMP_1);
+        store.storeUpperLimit(TIMESTAMP_2);
+        store.storeUpperLimit(TIMESTAMP_3);
+        assertThat(store.getUpperLimit()).isGreaterThanOrEqualTo(TIMESTAMP_3);
+    }
+
+    @Test
+    public void multiPaxosProposerOnlyPreparesFirstOfConsecutiveUpperLimits() {
+        setup(UNBATCHED);
+        acceptorClient = spy(acceptorClient);
+        store = createPaxosTimestampBoundStore(0, createMultiPaxosProposer(0));
+        store.storeUpperLimit(TIMESTAMP_1);
+        store.storeUpperLimit(TIMESTAMP_2);
+        store.storeUpperLimit(TIMESTAMP_3);
+
+        verify(acceptorClient, times(1)).prepare(anyLong(), any());
+        verify(acceptorClient, times(3)).acceptAndPromiseNext(anyLong(), any());
+        verify(acceptorClient, never()).accept(anyLong(), any());
+    }
+
+    @Test
+    public void multiPaxosProposerThrowsSuspectedNotCurrentLeaderExceptionIfBoundChangedUnderUs() {
+        setup(UNBATCHED);
+        store = createPaxosTimestampBoundStore(0, createMultiPaxosProposer(0));
+        store.storeUpperLimit(TIMESTAMP_1);
+
+        PaxosTimestampBoundStore additionalStore = createPaxosTimestampBoundStore(1);
+        assertThat(additionalStore.getUpperLimit()).isGreaterThanOrEqualTo(TIMESTAMP_1);
+        additionalStore.storeUpperLimit(TIMESTAMP_2);
+
+        assertThatThrownBy(() -> store.storeUpperLimit(TIMESTAMP_3))
+                .isInstanceOf(SuspectedNotCurrentLeaderException.class);
+        assertThat(additionalStore.getUpperLimit()).isEqualTo(TIMESTAMP_2);
+    }
+
     public void setup(boolean useBatch) {
         List<PaxosAcceptor> acceptors = new ArrayList<>();
         List<BatchPaxosAcceptor> batchPaxosAcceptors = new ArrayList<>();
@@ -428,6 +470,11 @@ public class PaxosTimestampBoundStoreTest {
         return PaxosProposerImpl.newProposer(acceptorClient, learnerClientsByNode.get(nodeIndex), UUID.randomUUID());
     }
 
+    private PaxosProposer createMultiPaxosProposer(int nodeIndex) {
+        return PaxosProposerImpl.newProposer(
+                acceptorClient, learnerClientsByNode.get(nodeIndex), UUID.randomUUID(), () -> true);
+    }
+
     private static class OnceFailingPaxosProposer implements PaxosProposer {
         private final PaxosProposer delegate;
         private boolean hasFailed = false;
@@ -20,8 +20,18 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.palantir.lock.LockDescriptor;
 import com.palantir.lock.StringLockDescriptor;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
-import org.junit.jupiter.api.Test;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
 
 public class ExclusiveLockTests {
 
@@ -31,211 +41,340 @@ public class ExclusiveLockTests {
 
     private static final LockDescriptor LOCK_DESCRIPTOR = StringLockDescriptor.of("foo");
 
-    private final ExclusiveLock lock = new ExclusiveLock(LOCK_DESCRIPTOR);
+    static Stream<LockUnderTest> locks() {
+        ExclusiveLock exclusiveLock = new ExclusiveLock(LOCK_DESCRIPTOR);
+        LockFreeExclusiveLock lockFreeLock = new LockFreeExclusiveLock(LOCK_DESCRIPTOR);
+        return Stream.of(
+                new LockUnderTest("ExclusiveLock", exclusiveLock, exclusiveLock::getCurrentHolder),
+                new LockUnderTest("LockFreeExclusiveLock", lockFreeLock, lockFreeLock::getCurrentHolder));
+    }
 
-    @Test
-    public void canLockAndUnlock() {
-        lockSynchronously(REQUEST_1);
+    @ParameterizedTest
+    @MethodSource("locks")
+    public void canLockAndUnlock(LockUnderTest lock) {
+        lockSynchronously(lock, REQUEST_1);
         lock.unlock(REQUEST_1);
     }
 
-    @Test
-    public void lockIsExclusive() {
-        lockSynchronously(REQUEST_1);
+    @ParameterizedTest
+    @MethodSource("locks")
+    public void lockIsExclusive(LockUnderTest lock) {
+        lockSynchronously(lock, REQUEST_1);
 
-        AsyncResult<Void> result = lockAsync(REQUEST_2);
+        AsyncResult<Void> result = lockAsync(lock, REQUEST_2);
         assertThat(result.isComplete()).isFalse();
     }
 
-    @Test
-    public void lockCanBeObtainedAfterBeingUnlocked() {
-        lockSynchronously(REQUEST_1);
+    @ParameterizedTest
+    @MethodSource("locks")
+    public void lockCanBeObtainedAfterBeingUnlocked(LockUnderTest lock) {
+        lockSynchronously(lock, REQUEST_1);
         lock.unlock(REQUEST_1);
 
-        lockSynchronously(REQUEST_2);
+        lockSynchronously(lock, REQUEST_2);
     }
 
-    @Test
-    public void queuedRequestObtainsLockAfterBeingUnlocked() {
-        lockSynchronously(REQUEST_1);
-        AsyncResult<Void> result = lockAsync(REQUEST_2);
+    @ParameterizedTest
+    @MethodSource("locks")
+    public void queuedRequestObtainsLockAfterBeingUnlocked(LockUnderTest lock) {
+        lockSynchronously(lock, REQUEST_1);
+        AsyncResult<Void> result = lockAsync(lock, REQUEST_2);
 
-        unlock(REQUEST_1);
+        unlock(lock, REQUEST_1);
 
         assertThat(result.isCompletedSuccessfully()).isTrue();
     }
 
-    @Test
-    public void multipleQueuedRequestsCanObtainLock() {
-        lockSynchronously(REQUEST_1);
-        AsyncResult<Void> result2 = lockAsync(REQUEST_2);
-        AsyncResult<Void> result3 = lockAsync(REQUEST_3);
+    @ParameterizedTest
+    @MethodSource("locks")
+    public void multipleQueuedRequestsCanObtainLock(LockUnderTest lock) {
+        lockSynchronously(lock, REQUEST_1);
+        AsyncResult<Void> result2 = lockAsync(lock, REQUEST_2);
+        AsyncResult<Void> result3 = lockAsync(lock, REQUEST_3);
 
-        unlock(REQUEST_1);
+        unlock(lock, REQUEST_1);
 
         assertThat(result2.isCompletedSuccessfully()).isTrue();
         assertThat(result3.isComplete()).isFalse();
 
-        unlock(REQUEST_2);
+        unlock(lock, REQUEST_2);
 
         assertThat(result3.isCompletedSuccessfully()).isTrue();
     }
 
-    @Test
-    public void unlockByNonHolderNoOps() {
-        lockSynchronously(REQUEST_1);
+    @ParameterizedTest
+    @MethodSource("locks")
+    public void unlockByNonHolderNoOps(LockUnderTest lock) {
+        lockSynchronously(lock, REQUEST_1);
 
-        unlock(UUID.randomUUID());
+        unlock(lock, UUID.randomUUID());
         assertThat(lock.getCurrentHolder()).isEqualTo(REQUEST_1);
     }
 
-    @Test
-    public void unlockByWaiterNoOps() {
-        lockSynchronously(REQUEST_1);
+    @ParameterizedTest
+    @MethodSource("locks")
+    public void unlockByWaiterNoOps(LockUnderTest lock) {
+        lockSynchronously(lock, REQUEST_1);
 
-        AsyncResult<Void> request2 = lockAsync(REQUEST_2);
-        unlock(REQUEST_2);
+        AsyncResult<Void> request2 = lockAsync(lock, REQUEST_2);
+        unlock(lock, REQUEST_2);
 
         assertThat(lock.getCurrentHolder()).isEqualTo(REQUEST_1);
         assertThat(request2.isComplete()).isFalse();
 
         // request2 should still get the lock when it's available
-        unlock(REQUEST_1);
+        unlock(lock, REQUEST_1);
         assertThat(request2.isCompletedSuccessfully()).isTrue();
     }
 
-    @Test
-    public void lockIsAcquiredSynchronouslyIfAvailable() {
+    @ParameterizedTest
+    @MethodSource("locks")
+    public void lockIsAcquiredSynchronouslyIfAvailable(LockUnderTest lock) {
         AsyncResult<Void> result = lock.lock(REQUEST_1);
         assertThat(result.isComplete()).isTrue();
     }
 
-    @Test
-    public void waitUntilAvailableCompletesSynchronouslyIfAvailable() {
+    @ParameterizedTest
+    @MethodSource("locks")
+    public void waitUntilAvailableCompletesSynchronouslyIfAvailable(LockUnderTest lock) {
         AsyncResult<Void> result = lock.waitUntilAvailable(REQUEST_1);
         assertThat(result.isComplete()).isTrue();
     }
 
-    @Test
-    public void waitUntilAvailableWantsUntilLockIsFree() {
-        lockSynchronously(REQUEST_1);
-        AsyncResult<Void> result = waitUntilAvailableAsync(REQUEST_2);
+    @ParameterizedTest
+    @MethodSource("locks")
+    public void waitUntilAvailableWantsUntilLockIsFree(LockUnderTest lock) {
+        lockSynchronously(lock, REQUEST_1);
+        AsyncResult<Void> result = waitUntilAvailableAsync(lock, REQUEST_2);
 
         assertThat(result.isComplete()).isFalse();
 
-        unlock(REQUEST_1);
+        unlock(lock, REQUEST_1);
 
         assertThat(result.isCompletedSuccessfully()).isTrue();
     }
 
-    @Test
-    public void waitUntilAvailableDoesNotBlockLockRequests() {
-        lockSynchronously(REQUEST_1);
-        waitUntilAvailableAsync(REQUEST_2);
-        AsyncResult<Void> lockRequest = lockAsync(REQUEST_3);
+    @ParameterizedTest
+    @MethodSource("locks")
+    public void waitUntilAvailableDoesNotBlockLockRequests(LockUnderTest lock) {
+        lockSynchronously(lock, REQUEST_1);
+        waitUntilAvailableAsync(lock, REQUEST_2);
+        AsyncResult<Void> lockRequest = lockAsync(lock, REQUEST_3);
 
         assertThat(lockRequest.isComplete()).isFalse();
 
-        unlock(REQUEST_1);
+        unlock(lock, REQUEST_1);
 
         assertThat(lockRequest.isCompletedSuccessfully()).isTrue();
     }
 
-    @Test
-    public void multipleWaitUntilAvailableRequestsAllCompleteWhenLockIsFree() {
-        lockSynchronously(REQUEST_1);
-        AsyncResult<Void> request2 = waitUntilAvailableAsync(REQUEST_2);
+    @ParameterizedTest
+    @MethodSource("locks")
+    public void multipleWaitUntilAvailableRequestsAllCompleteWhenLockIsFree(LockUnderTest lock) {
+        lockSynchronously(lock, REQUEST_1);
+        AsyncResult<Void> request2 = waitUntilAvailableAsync(lock, REQUEST_2);
         AsyncResult<Void> request3 = lock.waitUntilAvailable(REQUEST_3);
 
-        unlock(REQUEST_1);
+        unlock(lock, REQUEST_1);
 
         assertThat(request2.isCompletedSuccessfully()).isTrue();
         assertThat(request3.isCompletedSuccessfully()).isTrue();
     }
 
-    @Test
-    public void resultIsTimedOutWhenTimeOutIsCalled() {
-        lockSynchronously(REQUEST_1);
-        AsyncResult<Void> request2 = lockAsync(REQUEST_2);
+    @ParameterizedTest
+    @MethodSource("locks")
+    public void resultIsTimedOutWhenTimeOutIsCalled(LockUnderTest lock) {
+        lockSynchronously(lock, REQUEST_1);
+        AsyncResult<Void> request2 = lockAsync(lock, REQUEST_2);
 
         lock.timeout(REQUEST_2);
 
         assertThat(request2.isTimedOut()).isTrue();
     }
 
-    @Test
-    public void waitRequestIsTimedOutAfterDeadline() {
-        lockSynchronously(REQUEST_1);
-        AsyncResult<Void> request2 = waitUntilAvailableAsync(REQUEST_1);
+    @ParameterizedTest
+    @MethodSource("locks")
+    public void waitRequestIsTimedOutAfterDeadline(LockUnderTest lock) {
+        lockSynchronously(lock, REQUEST_1);
+        AsyncResult<Void> request2 = waitUntilAvailableAsync(lock, REQUEST_1);
 
         lock.timeout(REQUEST_1);
 
         assertThat(request2.isTimedOut()).isTrue();
     }
 
-    @Test
-    public void timedOutLockRequestDoesNotGetTheLock() {
-        lockSynchronously(REQUEST_1);
-        AsyncResult<Void> request2 = lockAsync(REQUEST_2);
+    @ParameterizedTest
+    @MethodSource("locks")
+    public void timedOutLockRequestDoesNotGetTheLock(LockUnderTest lock) {
+        lockSynchronously(lock, REQUEST_1);
+        AsyncResult<Void> request2 = lockAsync(lock, REQUEST_2);
 
         lock.timeout(REQUEST_2);
-        unlock(REQUEST_1);
+        unlock(lock, REQUEST_1);
 
         assertThat(lock.getCurrentHolder()).isNull();
-        lockSynchronously(REQUEST_1);
+        lockSynchronously(lock, REQUEST_1);
     }
 
-    @Test
-    public void timeoutDoesNothingIfLockIsAlreadyAcquired() {
-        lockSynchronously(REQUEST_1);
+    @ParameterizedTest
+    @MethodSource("locks")
+    public void timeoutDoesNothingIfLockIsAlreadyAcquired(LockUnderTest lock) {
+        lockSynchronously(lock, REQUEST_1);
 
         lock.timeout(REQUEST_1);
 
         // lock should still be locked, and able to be unlocked
-        AsyncResult<Void> request2 = lockAsync(REQUEST_2);
+        AsyncResult<Void> request2 = lockAsync(lock, REQUEST_2);
         assertThat(request2.isComplete()).isFalse();
-        unlock(REQUEST_1);
+        unlock(lock, REQUEST_1);
         assertThat(request2.isCompletedSuccessfully()).isTrue();
     }
 
-    @Test
-    public void timeoutDoesNothingIfLockWasAlreadyAvailable() {
-        waitUntilAvailableSynchronously(REQUEST_1);
+    @ParameterizedTest
+    @MethodSource("locks")
+    public void timeoutDoesNothingIfLockWasAlreadyAvailable(LockUnderTest lock) {
+        waitUntilAvailableSynchronously(lock, REQUEST_1);
 
         lock.timeout(REQUEST_1);
 
-        waitUntilAvailableSynchronously(REQUEST_2);
+        waitUntilAvailableSynchronously(lock, REQUEST_2);
     }
 
-    @Test
-    public void enqueueingSameRequestIdTwiceThrowsAndDoesNotAffectState() {
-        lockSynchronously(REQUEST_1);
-        AsyncResult<Void> request2 = lockAsync(REQUEST_2);
+    @ParameterizedTest
+    @MethodSource("locks")
+    public void enqueueingSameRequestIdTwiceThrowsAndDoesNotAffectState(LockUnderTest lock) {
+        lockSynchronously(lock, REQUEST_1);
+        AsyncResult<Void> request2 = lockAsync(lock, REQUEST_2);
 
-        assertThatThrownBy(() -> lockAsync(REQUEST_2)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> lockAsync(lock, REQUEST_2)).isInstanceOf(IllegalStateException.class);
 
         // request 2 should still get the lock when available
-        unlock(REQUEST_1);
+        unlock(lock, REQUEST_1);
         assertThat(request2.isCompletedSuccessfully()).isTrue();
     }
 
-    private AsyncResult<Void> waitUntilAvailableAsync(UUID request) {
+    @ParameterizedTest
+    @MethodSource("locks")
+    public void unlockComparesRequestIdsByValue(LockUnderTest lock) {
+        lockSynchronously(lock, REQUEST_1);
+
+        unlock(lock, new UUID(REQUEST_1.getMostSignificantBits(), REQUEST_1.getLeastSignificantBits()));
+
+        assertThat(lock.getCurrentHolder()).isNull();
+    }
+
+    @ParameterizedTest
+    @MethodSource("locks")
+    public void queuedRequestsAreGrantedInFifoOrder(LockUnderTest lock) {
+        lockSynchronously(lock, REQUEST_1);
+        List<UUID> requests = new ArrayList<>();
+        List<AsyncResult<Void>> results = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            UUID requestId = UUID.randomUUID();
+            requests.add(requestId);
+            results.add(lockAsync(lock, requestId));
+        }
+
+        unlock(lock, REQUEST_1);
+        for (int i = 0; i < requests.size(); i++) {
+            assertThat(lock.getCurrentHolder()).isEqualTo(requests.get(i));
+            assertThat(results.get(i).isCompletedSuccessfully()).isTrue();
+            unlock(lock, requests.get(i));
+        }
+        assertThat(lock.getCurrentHolder()).isNull();
+    }
+
+    @ParameterizedTest
+    @MethodSource("locks")
+    public void lockIsMutuallyExclusiveUnderContention(LockUnderTest lock) throws Exception {
+        int numThreads = 8;
+        int iterationsPerThread = 2_000;
+        AtomicInteger concurrentHolders = new AtomicInteger();
+        AtomicInteger violations = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < numThreads; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < iterationsPerThread; i++) {
+                        UUID requestId = UUID.randomUUID();
+                        AsyncResult<Void> result = lock.lock(requestId);
+                        while (!result.isComplete()) {
+                            Thread.onSpinWait();
+                        }
+                        if (concurrentHolders.incrementAndGet() != 1) {
+                            violations.incrementAndGet();
+                        }
+                        concurrentHolders.decrementAndGet();
+                        lock.unlock(requestId);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(violations).hasValue(0);
+        assertThat(lock.getCurrentHolder()).isNull();
+    }
+
+    private static AsyncResult<Void> waitUntilAvailableAsync(LockUnderTest lock, UUID request) {
         return lock.waitUntilAvailable(request);
     }
 
-    private void waitUntilAvailableSynchronously(UUID requestId) {
-        waitUntilAvailableAsync(requestId).get();
+    private static void waitUntilAvailableSynchronously(LockUnderTest lock, UUID requestId) {
+        waitUntilAvailableAsync(lock, requestId).get();
     }
 
-    private void lockSynchronously(UUID requestId) {
+    private static void lockSynchronously(LockUnderTest lock, UUID requestId) {
         lock.lock(requestId).get();
     }
 
-    private AsyncResult<Void> lockAsync(UUID requestId) {
+    private static AsyncResult<Void> lockAsync(LockUnderTest lock, UUID requestId) {
         return lock.lock(requestId);
     }
 
-    private void unlock(UUID requestId) {
+    private static void unlock(LockUnderTest lock, UUID requestId) {
         lock.unlock(requestId);
     }
+
+    private static final class LockUnderTest {
+        private final String name;
+        private final AsyncLock delegate;
+        private final Supplier<UUID> currentHolder;
+
+        private LockUnderTest(String name, AsyncLock delegate, Supplier<UUID> currentHolder) {
+            this.name = name;
+            this.delegate = delegate;
+            this.currentHolder = currentHolder;
+        }
+
+        AsyncResult<Void> lock(UUID requestId) {
+            return delegate.lock(requestId);
+        }
+
+        AsyncResult<Void> waitUntilAvailable(UUID requestId) {
+            return delegate.waitUntilAvailable(requestId);
+        }
+
+        void unlock(UUID requestId) {
+            delegate.unlock(requestId);
+        }
+
+        void timeout(UUID requestId) {
+            delegate.timeout(requestId);
+        }
+
+        UUID getCurrentHolder() {
+            return currentHolder.get();
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
 }
@@ -24,6 +24,9 @@ import static org.mockito.Mockito.when;
 import com.codahale.metrics.MetricRegistry;
 import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Range;
+import com.google.common.collect.RangeSet;
+import com.google.common.collect.TreeRangeSet;
 import com.palantir.atlasdb.timelock.lock.watch.LockWatchingService;
 import com.palantir.common.time.NanoTime;
 import com.palantir.lock.LockDescriptor;
@@ -252,6 +255,37 @@ public class HeldLocksCollectionTest {
         assertThat(heldLocksCollection.heldLocksById).isEmpty();
     }
 
+    @Test
+    public void indexesDescriptorsOfHeldLocksUntilTheyAreUnlocked() {
+        RangeSet<LockDescriptor> ranges = TreeRangeSet.create();
+        ranges.add(Range.closed(LOCK_DESCRIPTOR, LOCK_DESCRIPTOR));
+        AsyncResult<HeldLocks> pending = new AsyncResult<>();
+        heldLocksCollection.getExistingOrAcquire(REQUEST_ID, () -> pending);
+
+        assertThat(heldLocksCollection.lockDescriptorsHeldIn(ranges)).isEmpty();
+
+        pending.complete(heldLocksForId(REQUEST_ID));
+        assertThat(heldLocksCollection.lockDescriptorsHeldIn(ranges)).containsExactly(LOCK_DESCRIPTOR);
+        assertThat(heldLocksCollection.lockDescriptorsHeldIn(TreeRangeSet.create())).isEmpty();
+
+        heldLocksCollection.unlock(ImmutableSet.of(LockToken.of(REQUEST_ID)));
+        assertThat(heldLocksCollection.lockDescriptorsHeldIn(ranges)).isEmpty();
+    }
+
+    @Test
+    public void stopsIndexingDescriptorsOfReapedLocks() {
+        RangeSet<LockDescriptor> allDescriptors = TreeRangeSet.create();
+        allDescriptors.add(Range.all());
+        setTime(123);
+        lockSync(REQUEST_ID);
+        assertThat(heldLocksCollection.lockDescriptorsHeldIn(allDescriptors)).containsExactly(LOCK_DESCRIPTOR);
+
+        advance(LockLeaseContract.SERVER_LEASE_TIMEOUT.plus(Duration.ofNanos(1)));
+        heldLocksCollection.removeExpired();
+
+        assertThat(heldLocksCollection.lockDescriptorsHeldIn(allDescriptors)).isEmpty();
+    }
+
     private LockToken lockSync(UUID requestId) {
         AsyncResult<HeldLocks> result = new AsyncResult<>();
         AsyncResult<Leased<LockToken>> acquireResult =
@@ -20,10 +20,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.google.common.collect.ImmutableSet;
 import com.palantir.lock.LockDescriptor;
 import com.palantir.lock.StringLockDescriptor;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
@@ -70,6 +73,35 @@ public class LockCollectionTest {
         assertThat(actualOrder).containsExactlyElementsOf(expectedOrder);
     }
 
+    @Test
+    public void lockInUseIsPreservedAfterEvictionFromRecentlyUsedLocks() {
+        AtomicLong nanos = new AtomicLong();
+        LockCollection boundedCollection = new LockCollection(1, Duration.ofSeconds(1), nanos::get);
+        UUID requestId = UUID.randomUUID();
+
+        AsyncLock heldLock = boundedCollection.getAll(descriptors("foo")).get().get(0);
+        heldLock.lock(requestId).get();
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        boundedCollection.getAll(descriptors("bar", "baz"));
+        boundedCollection.cleanUp();
+
+        assertThat(boundedCollection.getAll(descriptors("foo")).get()).containsExactly(heldLock);
+        assertThat(heldLock.lock(UUID.randomUUID()).isComplete()).isFalse();
+    }
+
+    @Test
+    public void recentlyUsedLocksAreBounded() {
+        LockCollection boundedCollection = new LockCollection(5, Duration.ofMinutes(1), System::nanoTime);
+
+        IntStream.range(0, 100)
+                .mapToObj(i -> descriptors("lock-" + i))
+                .forEach(boundedCollection::getAll);
+        boundedCollection.cleanUp();
+
+        assertThat(boundedCollection.retainedLockCount()).isLessThanOrEqualTo(5);
+    }
+
     private static Set<LockDescriptor> descriptors(String... names) {
         return Arrays.stream(names).map(StringLockDescriptor::of).collect(Collectors.toSet());
     }
@@ -19,7 +19,9 @@ package com.palantir.timestamp;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.primitives.Ints;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.palantir.atlasdb.autobatch.AdaptiveBatchingParameters;
 import com.palantir.atlasdb.autobatch.Autobatchers;
+import com.palantir.atlasdb.autobatch.Autobatchers.AutobatcherBuilder;
 import com.palantir.atlasdb.autobatch.BatchElement;
 import com.palantir.atlasdb.autobatch.DisruptorAutobatcher;
 import com.palantir.common.base.Throwables;
@@ -28,6 +30,7 @@ import com.palantir.logsafe.Preconditions;
 import com.palantir.util.jmx.OperationTimer;
 import com.palantir.util.timer.LoggingOperationTimer;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Consumer;
 import javax.annotation.concurrent.ThreadSafe;
@@ -82,11 +85,25 @@ public final class RequestBatchingTimestampService implements CloseableTimestamp
     }
 
     public static RequestBatchingTimestampService create(TimestampService untimedDelegate) {
+        return create(untimedDelegate, Optional.empty());
+    }
+
+    /**
+     * As {@link #create(TimestampService)}, but sizes batches adaptively; see
+     * {@link AutobatcherBuilder#adaptiveBatching(AdaptiveBatchingParameters)} for when this is worthwhile.
+     */
+    public static RequestBatchingTimestampService createWithAdaptiveBatching(
+            TimestampService untimedDelegate, AdaptiveBatchingParameters parameters) {
+        return create(untimedDelegate, Optional.of(parameters));
+    }
+
+    private static RequestBatchingTimestampService create(
+            TimestampService untimedDelegate, Optional<AdaptiveBatchingParameters> adaptiveBatching) {
         TimestampService delegate = TimingProxy.newProxyInstance(TimestampService.class, untimedDelegate, timer);
-        DisruptorAutobatcher<Integer, TimestampRange> autobatcher = Autobatchers.independent(consumer(delegate))
-                .safeLoggablePurpose("request-batching-timestamp-service")
-                .build();
-        return new RequestBatchingTimestampService(delegate, autobatcher);
+        AutobatcherBuilder<Integer, TimestampRange> builder =
+                Autobatchers.independent(consumer(delegate)).safeLoggablePurpose("request-batching-timestamp-service");
+        adaptiveBatching.ifPresent(builder::adaptiveBatching);
+        return new RequestBatchingTimestampService(delegate, builder.build());
     }
 
     @VisibleForTesting
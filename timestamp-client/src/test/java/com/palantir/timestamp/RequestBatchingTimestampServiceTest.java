@@ -26,6 +26,7 @@ import static org.mockito.Mockito.when;
 
 import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.Futures;
+import com.palantir.atlasdb.autobatch.AdaptiveBatchingParameters;
 import com.palantir.atlasdb.autobatch.AutobatcherTelemetryComponents;
 import com.palantir.atlasdb.autobatch.BatchElement;
 import com.palantir.atlasdb.autobatch.DisruptorAutobatcher;
@@ -79,6 +80,18 @@ public final class RequestBatchingTimestampServiceTest {
                 .hasMessage("Must not request zero or negative timestamps");
     }
 
+    @Test
+    public void handsOutDistinctTimestampsWithAdaptiveBatching() {
+        try (RequestBatchingTimestampService service = RequestBatchingTimestampService.createWithAdaptiveBatching(
+                unbatchedDelegate, AdaptiveBatchingParameters.defaults())) {
+            long first = service.getFreshTimestamp();
+            TimestampRange range = service.getFreshTimestamps(5);
+            assertThat(range.getLowerBound()).isGreaterThan(first);
+            assertThat(range.size()).isEqualTo(5);
+            assertThat(service.getFreshTimestamp()).isGreaterThan(range.getUpperBound());
+        }
+    }
+
     @Test
     public void coalescesRequestsTogether() {
         assertThat(requestBatches(1, 2, 3)).containsExactly(single(1), range(2, 4), range(4, 7));